@@ -0,0 +1,135 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.WebhookReceiver;
+import com.smartsheet.api.WebhookReceiverBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local load generator for the webhook receiver: several client threads post signed callbacks, each with its own
+ * nonce, to a receiver on the loopback interface whose handler only counts them, and the throughput of acknowledged
+ * callbacks is measured.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="WebhookReceiverBenchmark -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class WebhookReceiverBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+
+    /**
+     * More distinct callbacks than the receiver remembers nonces, so cycling through them never looks like a retry.
+     */
+    private static final int CALLBACKS = 1 << 15;
+
+    @Param({"4"})
+    public int httpThreads;
+
+    @Param({"1", "100"})
+    public int maxBatchSize;
+
+    private WebhookReceiver receiver;
+
+    private HttpClient client;
+
+    private HttpRequest[] requests;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SmartsheetException, GeneralSecurityException {
+        receiver = new WebhookReceiverBuilder(callbacks -> handled.addAndGet(callbacks.size()))
+                .addSharedSecret(SECRET)
+                .setBindAddress(InetAddress.getLoopbackAddress())
+                .setHttpThreads(httpThreads)
+                .setMaxBatchSize(maxBatchSize)
+                .build();
+        receiver.start();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        URI uri = URI.create("http://127.0.0.1:" + receiver.getPort() + "/");
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        requests = new HttpRequest[CALLBACKS];
+        for (int i = 0; i < CALLBACKS; i++) {
+            String body = "{\"nonce\":\"nonce-" + i + "\",\"timestamp\":\"2023-01-05T14:02:07Z\",\"webhookId\":7,"
+                    + "\"scope\":\"sheet\",\"scopeObjectId\":11,\"events\":[{\"objectType\":\"row\","
+                    + "\"eventType\":\"updated\",\"id\":" + i + ",\"userId\":5,"
+                    + "\"timestamp\":\"2023-01-05T14:02:06Z\"}]}";
+            StringBuilder signature = new StringBuilder();
+            for (byte b : mac.doFinal(body.getBytes(StandardCharsets.UTF_8))) {
+                signature.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            requests[i] = HttpRequest.newBuilder(uri)
+                    .header(WebhookReceiverImpl.SIGNATURE_HEADER, signature.toString())
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        receiver.close();
+        receiver.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public int postCallback() throws IOException, InterruptedException {
+        HttpRequest request = requests[next.getAndIncrement() & (CALLBACKS - 1)];
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
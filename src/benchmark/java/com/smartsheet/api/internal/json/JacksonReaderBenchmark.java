@@ -0,0 +1,113 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.smartsheet.api.models.Contact;
+import com.smartsheet.api.models.PagedResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call cost of de-serializing a paged list response with a freshly resolved JavaType (what
+ * JacksonJsonSerializer used to do on every call) against a pre-built ObjectReader, and through the serializer itself.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="JacksonReaderBenchmark -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonReaderBenchmark {
+
+    @Param({"1", "100"})
+    public int pageSize;
+
+    private byte[] json;
+
+    private ObjectMapper mapper;
+
+    private ObjectReader reader;
+
+    private JacksonJsonSerializer serializer;
+
+    @Setup
+    public void setUp() throws JSONSerializerException {
+        serializer = new JacksonJsonSerializer();
+
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            Contact contact = new Contact();
+            contact.setName("Contact " + i);
+            contact.setEmail("contact" + i + "@example.com");
+            contacts.add(contact);
+        }
+        PagedResult<Contact> page = new PagedResult<>();
+        page.setPageNumber(1);
+        page.setPageSize(pageSize);
+        page.setTotalCount(pageSize);
+        page.setTotalPages(1);
+        page.setData(contacts);
+        json = serializer.serialize(page).getBytes();
+
+        mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        reader = mapper.readerFor(
+                mapper.getTypeFactory().constructParametrizedType(PagedResult.class, PagedResult.class, Contact.class));
+    }
+
+    @Benchmark
+    public PagedResult<Contact> resolveTypePerCall() throws IOException {
+        JavaType type = mapper.getTypeFactory().constructParametrizedType(PagedResult.class, PagedResult.class,
+                Contact.class);
+        return mapper.readValue(new ByteArrayInputStream(json), type);
+    }
+
+    @Benchmark
+    public PagedResult<Contact> cachedReader() throws IOException {
+        return reader.readValue(new ByteArrayInputStream(json));
+    }
+
+    @Benchmark
+    public PagedResult<Contact> serializer() throws JSONSerializerException {
+        return serializer.deserializeDataWrapper(Contact.class, new ByteArrayInputStream(json));
+    }
+}
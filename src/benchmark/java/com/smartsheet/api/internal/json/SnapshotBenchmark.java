@@ -0,0 +1,136 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.format.Format;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing and reading a sheet snapshot as JSON text against the Smile binary format, through serializers
+ * that share the SDK's model mappings.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="SnapshotBenchmark -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    private static final int COLUMNS = 10;
+
+    @Param({"1000"})
+    public int rows;
+
+    private JacksonJsonSerializer json;
+
+    private JacksonJsonSerializer smile;
+
+    private Sheet sheet;
+
+    private byte[] jsonSnapshot;
+
+    private byte[] smileSnapshot;
+
+    @Setup
+    public void setUp() throws JSONSerializerException {
+        json = new JacksonJsonSerializerBuilder().build();
+        smile = new JacksonJsonSerializerBuilder().setJsonFactory(new SmileFactory()).build();
+
+        List<Column> columns = new ArrayList<>();
+        for (int c = 0; c < COLUMNS; c++) {
+            columns.add(new Column(1000L + c).setTitle("Column " + c).setIndex(c));
+        }
+        Format format = Format.valueOf(",,1,,,,,,,,,,,,,,");
+        List<Row> sheetRows = new ArrayList<>();
+        for (int r = 0; r < rows; r++) {
+            List<Cell> cells = new ArrayList<>();
+            for (int c = 0; c < COLUMNS; c++) {
+                Cell cell = new Cell(1000L + c);
+                cell.setValue(c % 2 == 0 ? (Object) (r * 1.5) : "Value " + (r % 20));
+                cell.setDisplayValue(String.valueOf(cell.getValue()));
+                if (c == 0) {
+                    cell.setFormat(format);
+                }
+                cells.add(cell);
+            }
+            Row row = new Row(5000L + r).setRowNumber(r + 1).setCells(cells);
+            row.setModifiedAt(new Date(1_600_000_000_000L + r));
+            sheetRows.add(row);
+        }
+        sheet = new Sheet(1L).setColumns(columns).setRows(sheetRows);
+        sheet.setName("Snapshot");
+
+        jsonSnapshot = write(json).toByteArray();
+        smileSnapshot = write(smile).toByteArray();
+    }
+
+    private ByteArrayOutputStream write(JacksonJsonSerializer serializer) throws JSONSerializerException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(1 << 20);
+        serializer.serialize(sheet, output);
+        return output;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeJson() throws JSONSerializerException {
+        return write(json);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeSmile() throws JSONSerializerException {
+        return write(smile);
+    }
+
+    @Benchmark
+    public Sheet readJson() throws IOException {
+        return json.deserialize(Sheet.class, new ByteArrayInputStream(jsonSnapshot));
+    }
+
+    @Benchmark
+    public Sheet readSmile() throws IOException {
+        return smile.deserialize(Sheet.class, new ByteArrayInputStream(smileSnapshot));
+    }
+}
@@ -0,0 +1,117 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.BulkRowWriteReport;
+import com.smartsheet.api.models.Row;
+
+import java.util.stream.Stream;
+
+/**
+ * <p>Writes any number of rows to one sheet, splitting them into batches that stay within the API's per-request row
+ * and payload limits and sending several batches at once.</p>
+ *
+ * <p>Rows are buffered until a batch is full (by row count or by serialized size), then the batch is handed to a
+ * background thread while the caller goes on writing. At most the configured number of batches are in flight; after
+ * that {@link #write(Row)} blocks until one completes, so a long stream of rows never piles up in memory. Batches that
+ * fail with a transient error (rate limiting, server timeout, service unavailable, I/O errors) are retried with
+ * exponential backoff. Added batches are not retried after an I/O error, since the server may have added the rows
+ * before the connection failed; they are reported as failed instead.</p>
+ *
+ * <p>Failures do not stop the writer: rows rejected by the API (with partial success) and rows of batches that
+ * failed for good are collected, together with the rows returned by the API, into the {@link BulkRowWriteReport}
+ * returned by {@link #finish()}. Indexes in the report count the rows in the order they were written, starting at
+ * 0.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface BulkRowWriter extends AutoCloseable {
+
+    /**
+     * <p>The row operation a writer performs.</p>
+     */
+    enum Operation {
+        /** add the rows to the sheet ({@code POST /sheets/{sheetId}/rows}) */
+        ADD,
+        /** update the rows of the sheet ({@code PUT /sheets/{sheetId}/rows}) */
+        UPDATE
+    }
+
+    /**
+     * <p>Write a row. The row is sent once its batch is full, or on {@link #flush()} or {@link #finish()}.</p>
+     *
+     * @param row the row
+     * @throws IllegalStateException if the writer has been finished
+     * @throws UncheckedSmartsheetException if the row can not be serialized, or the thread is interrupted while
+     * waiting for a batch to complete
+     */
+    void write(Row row);
+
+    /**
+     * <p>Write rows, in order.</p>
+     *
+     * @param rows the rows
+     * @see #write(Row)
+     */
+    void writeAll(Iterable<? extends Row> rows);
+
+    /**
+     * <p>Write the rows of a stream, in encounter order.</p>
+     *
+     * @param rows the rows
+     * @see #write(Row)
+     */
+    void writeAll(Stream<? extends Row> rows);
+
+    /**
+     * <p>Send the rows buffered so far and wait until every batch in flight has completed.</p>
+     */
+    void flush();
+
+    /**
+     * <p>Send the rows buffered so far, wait until every batch has completed and return the report. After this the
+     * writer accepts no more rows; calling it again returns the same report.</p>
+     *
+     * @return the report
+     */
+    BulkRowWriteReport finish();
+
+    /**
+     * <p>Same as {@link #finish()}, ignoring the report.</p>
+     */
+    @Override
+    void close();
+
+    /**
+     * <p>Return the id of the sheet the rows are written to.</p>
+     *
+     * @return the sheet id
+     */
+    long getSheetId();
+
+    /**
+     * <p>Return the operation the rows are written with.</p>
+     *
+     * @return the operation
+     */
+    Operation getOperation();
+}
@@ -0,0 +1,236 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.BulkRowWriterImpl;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+
+import java.util.concurrent.Executor;
+
+/**
+ * <p>A convenience class to help create a {@link BulkRowWriter} instance with the appropriate fields, e.g.
+ * {@code new BulkRowWriterBuilder(smartsheet.sheetResources().rowResources(), sheetId).build()}.</p>
+ *
+ * <p>Thread Safety: This class is not thread safe since it's mutable, one builder instance is NOT expected to be used in
+ * multiple threads.</p>
+ */
+public class BulkRowWriterBuilder {
+    /**
+     * <p>Represents the default maximum number of rows per batch.</p>
+     */
+    public static final int DEFAULT_MAX_ROWS_PER_BATCH = 500;
+
+    /**
+     * <p>Represents the default maximum serialized size of a batch, in bytes.</p>
+     */
+    public static final int DEFAULT_MAX_BATCH_BYTES = 1024 * 1024;
+
+    /**
+     * <p>Represents the default number of batches in flight.</p>
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 2;
+
+    /**
+     * <p>Represents the default number of times a batch is retried after a transient error.</p>
+     */
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    /**
+     * <p>Represents the default delay before the first retry of a batch, in milliseconds.</p>
+     */
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = 1000;
+
+    private final SheetRowResources rowResources;
+
+    private final long sheetId;
+
+    private BulkRowWriter.Operation operation = BulkRowWriter.Operation.ADD;
+
+    private boolean allowPartialSuccess = true;
+
+    private int maxRowsPerBatch = DEFAULT_MAX_ROWS_PER_BATCH;
+
+    private int maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+
+    private long retryDelayMillis = DEFAULT_RETRY_DELAY_MILLIS;
+
+    private boolean keepRows = true;
+
+    private JsonSerializer jsonSerializer;
+
+    private Executor executor;
+
+    private TokenBucket rateLimiter;
+
+    /**
+     * Constructor.
+     *
+     * @param rowResources the row resources of the client to write with
+     * @param sheetId the id of the sheet to write to
+     */
+    public BulkRowWriterBuilder(SheetRowResources rowResources, long sheetId) {
+        this.rowResources = Util.throwIfNull(rowResources);
+        this.sheetId = sheetId;
+    }
+
+    /**
+     * <p>Set whether the rows are added (the default) or updated.</p>
+     *
+     * @param operation the operation
+     * @return the bulk row writer builder
+     */
+    public BulkRowWriterBuilder setOperation(BulkRowWriter.Operation operation) {
+        this.operation = Util.throwIfNull(operation);
+        return this;
+    }
+
+    /**
+     * <p>Set whether batches are sent with partial success allowed (the default), so that the API rejects only the
+     * invalid rows of a batch rather than the whole batch.</p>
+     *
+     * @param allowPartialSuccess false to reject a batch as a whole if one of its rows is invalid
+     * @return the bulk row writer builder
+     */
+    public BulkRowWriterBuilder setAllowPartialSuccess(boolean allowPartialSuccess) {
+        this.allowPartialSuccess = allowPartialSuccess;
+        return this;
+    }
+
+    /**
+     * <p>Set the maximum number of rows per batch.</p>
+     *
+     * @param maxRowsPerBatch the maximum number of rows
+     * @return the bulk row writer builder
+     */
+    public BulkRowWriterBuilder setMaxRowsPerBatch(int maxRowsPerBatch) {
+        this.maxRowsPerBatch = maxRowsPerBatch;
+        return this;
+    }
+
+    /**
+     * <p>Set the maximum serialized size of a batch, in bytes. A row that is larger on its own is sent in a batch of
+     * its own.</p>
+     *
+     * @param maxBatchBytes the maximum size
+     * @return the bulk row writer builder
+     */
+    public BulkRowWriterBuilder setMaxBatchBytes(int maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes;
+        return this;
+    }
+
+    /**
+     * <p>Set the maximum number of batches in flight. The API serializes writes to one sheet, so a few batches are
+     * enough to hide the round trip; more mostly adds retries.</p>
+     *
+     * @param maxInFlight the maximum number of batches in flight
+     * @return the bulk row writer builder
+     */
+    public BulkRowWriterBuilder setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of times a batch is sent again after a transient error, with the delay doubling each time.</p>
+     *
+     * @param maxRetries the number of retries, 0 for none
+     * @param retryDelayMillis the delay before the first retry
+     * @return the bulk row writer builder
+     */
+    public BulkRowWriterBuilder setRetries(int maxRetries, long retryDelayMillis) {
+        this.maxRetries = maxRetries;
+        this.retryDelayMillis = retryDelayMillis;
+        return this;
+    }
+
+    /**
+     * <p>Set whether the rows returned by the API are kept for the report (the default). Turn it off for loads too
+     * large to hold in memory when the returned rows are not needed.</p>
+     *
+     * @param keepRows false to drop the returned rows
+     * @return the bulk row writer builder
+     */
+    public BulkRowWriterBuilder setKeepRows(boolean keepRows) {
+        this.keepRows = keepRows;
+        return this;
+    }
+
+    /**
+     * <p>Set the serializer used to measure the size of rows. It should match the one the client sends them with; if
+     * it is not set a default {@link JacksonJsonSerializer} is used.</p>
+     *
+     * @param jsonSerializer the serializer
+     * @return the bulk row writer builder
+     */
+    public BulkRowWriterBuilder setJsonSerializer(JsonSerializer jsonSerializer) {
+        this.jsonSerializer = jsonSerializer;
+        return this;
+    }
+
+    /**
+     * <p>Set a request budget that every batch request takes a permit from, waiting while it is exhausted.</p>
+     *
+     * @param rateLimiter the budget, null for none (the default)
+     * @return the bulk row writer builder
+     */
+    public BulkRowWriterBuilder setRateLimiter(TokenBucket rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * <p>Set the executor that sends the batches. If it is not set a shared pool of daemon threads is used.</p>
+     *
+     * @param executor the executor
+     * @return the bulk row writer builder
+     */
+    public BulkRowWriterBuilder setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * <p>Build the BulkRowWriter instance.</p>
+     *
+     * @return the BulkRowWriter instance
+     * @throws IllegalArgumentException if a limit is out of range
+     */
+    public BulkRowWriter build() {
+        if (maxRowsPerBatch < 1 || maxBatchBytes < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("maxRowsPerBatch, maxBatchBytes and maxInFlight must be positive");
+        }
+        if (maxRetries < 0 || retryDelayMillis < 0) {
+            throw new IllegalArgumentException("maxRetries and retryDelayMillis must not be negative");
+        }
+        return new BulkRowWriterImpl(rowResources, sheetId, operation, allowPartialSuccess, maxRowsPerBatch,
+                maxBatchBytes, maxInFlight, maxRetries, retryDelayMillis, keepRows,
+                jsonSerializer == null ? new JacksonJsonSerializer() : jsonSerializer, executor, rateLimiter);
+    }
+}
@@ -0,0 +1,50 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+/**
+ * <p>Persists the position an {@link EventStream} has consumed up to, so a stream picks up where it left off after a
+ * restart.</p>
+ *
+ * <p>{@link com.smartsheet.api.internal.InMemoryEventCheckpointStore} keeps the position on the heap and
+ * {@link com.smartsheet.api.internal.FileEventCheckpointStore} keeps it in a file.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface EventCheckpointStore {
+
+    /**
+     * <p>Return the saved stream position.</p>
+     *
+     * @return the position, or null if none has been saved
+     * @throws SmartsheetException if the position can not be read
+     */
+    String load() throws SmartsheetException;
+
+    /**
+     * <p>Save a stream position, replacing the previous one.</p>
+     *
+     * @param streamPosition the position (the nextStreamPosition of the last batch handled)
+     * @throws SmartsheetException if the position can not be written
+     */
+    void save(String streamPosition) throws SmartsheetException;
+}
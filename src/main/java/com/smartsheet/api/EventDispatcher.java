@@ -0,0 +1,109 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Event;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Hands the events of an {@link EventStream} to a handler on several worker lanes at once.</p>
+ *
+ * <p>Each event goes to the lane picked by hashing its {@code objectType} and {@code objectId}, and each lane handles
+ * its events one at a time in stream order, so the events of one object (a sheet, a user...) are handled in order
+ * while different objects are handled in parallel. Every lane has a bounded queue; once a lane is full, reading from
+ * the stream waits for it.</p>
+ *
+ * <p>The stream position is saved only once every event of a batch and of all batches before it has been handled,
+ * so after a restart no event is lost, and the events handled past the saved position are handled again.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface EventDispatcher extends AutoCloseable {
+
+    /**
+     * <p>Handles the dispatched events. It is called from the lane threads, concurrently for different objects.</p>
+     */
+    interface Handler {
+        /**
+         * Handle an event.
+         *
+         * @param event the event
+         * @throws SmartsheetException if the event can not be handled; it is counted as failed and passed to
+         * {@link #failed}, and the dispatcher moves on
+         */
+        void handle(Event event) throws SmartsheetException;
+
+        /**
+         * An event could not be handled.
+         *
+         * @param event the event
+         * @param error the exception thrown by {@link #handle}
+         */
+        default void failed(Event event, Exception error) {
+        }
+    }
+
+    /**
+     * <p>Start the lanes and subscribe to the stream.</p>
+     *
+     * @throws IllegalStateException if the dispatcher was already started or closed
+     */
+    void start();
+
+    /**
+     * <p>Return the number of events handled so far, including the failed ones.</p>
+     *
+     * @return the number of events
+     */
+    long getEventsHandled();
+
+    /**
+     * <p>Return the number of events the handler failed on so far.</p>
+     *
+     * @return the number of events
+     */
+    long getEventsFailed();
+
+    /**
+     * <p>Return the error that ended the stream.</p>
+     *
+     * @return the error, or null if the stream has not failed
+     */
+    Throwable getError();
+
+    /**
+     * <p>Wait for the lanes to finish after the stream has ended (closed or failed).</p>
+     *
+     * @param timeout the longest wait
+     * @param unit the unit of the wait
+     * @return true if the lanes have finished (or were never started)
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * <p>Close the stream. The lanes finish the events already queued and then stop.</p>
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,115 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.EventDispatcherImpl;
+import com.smartsheet.api.internal.util.Util;
+
+import java.util.concurrent.Executor;
+
+/**
+ * <p>A convenience class to help create an {@link EventDispatcher} instance with the appropriate fields, e.g.
+ * {@code new EventDispatcherBuilder(stream, handler).setLanes(16).build()}.</p>
+ *
+ * <p>Thread Safety: This class is not thread safe since it's mutable, one builder instance is NOT expected to be used in
+ * multiple threads.</p>
+ */
+public class EventDispatcherBuilder {
+    /**
+     * <p>Represents the default number of lanes.</p>
+     */
+    public static final int DEFAULT_LANES = 8;
+
+    /**
+     * <p>Represents the default number of events queued per lane.</p>
+     */
+    public static final int DEFAULT_LANE_CAPACITY = 1000;
+
+    private final EventStream stream;
+
+    private final EventDispatcher.Handler handler;
+
+    private int lanes = DEFAULT_LANES;
+
+    private int laneCapacity = DEFAULT_LANE_CAPACITY;
+
+    private Executor executor;
+
+    /**
+     * Constructor.
+     *
+     * @param stream the stream to read, not yet subscribed; its positions are saved through
+     * {@link EventStream#checkpoint(String)}
+     * @param handler the handler
+     */
+    public EventDispatcherBuilder(EventStream stream, EventDispatcher.Handler handler) {
+        this.stream = Util.throwIfNull(stream);
+        this.handler = Util.throwIfNull(handler);
+    }
+
+    /**
+     * <p>Set the number of lanes, i.e. the number of events handled at once.</p>
+     *
+     * @param lanes the number of lanes
+     * @return the event dispatcher builder
+     */
+    public EventDispatcherBuilder setLanes(int lanes) {
+        this.lanes = lanes;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of events queued per lane before reading from the stream waits.</p>
+     *
+     * @param laneCapacity the number of events
+     * @return the event dispatcher builder
+     */
+    public EventDispatcherBuilder setLaneCapacity(int laneCapacity) {
+        this.laneCapacity = laneCapacity;
+        return this;
+    }
+
+    /**
+     * <p>Set the executor that runs the lanes, one long running task each, so it needs a thread per lane. If it is
+     * not set a shared pool of daemon threads is used.</p>
+     *
+     * @param executor the executor
+     * @return the event dispatcher builder
+     */
+    public EventDispatcherBuilder setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * <p>Build the EventDispatcher instance.</p>
+     *
+     * @return the EventDispatcher instance
+     * @throws IllegalArgumentException if the number of lanes or the lane capacity is not positive
+     */
+    public EventDispatcher build() {
+        if (lanes < 1 || laneCapacity < 1) {
+            throw new IllegalArgumentException("lanes and laneCapacity must be positive");
+        }
+        return new EventDispatcherImpl(stream, handler, lanes, laneCapacity, executor);
+    }
+}
@@ -0,0 +1,82 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Event;
+import com.smartsheet.api.models.EventResult;
+
+import java.util.concurrent.Flow;
+
+/**
+ * <p>A continuous stream of the events of an organization, read with {@link EventResources#listEvents}.</p>
+ *
+ * <p>Once subscribed, the stream keeps reading batches of events, following {@code nextStreamPosition}, and waits
+ * for the poll interval whenever the API reports that no more events are available. Batches are fetched ahead of
+ * the one being handled, up to the prefetch limit, so the next batch is usually ready when the subscriber is done
+ * with the current one. Fetching stops while the prefetched batches wait for demand, so a slow subscriber holds the
+ * stream back rather than filling memory.</p>
+ *
+ * <p>After all events of a batch have been passed to {@code onNext}, the batch's {@code nextStreamPosition} is saved
+ * to the {@link EventCheckpointStore}, and a stream built with the same store resumes from there. Events are
+ * therefore delivered at least once: a subscriber that hands events off asynchronously may see events again after a
+ * crash.</p>
+ *
+ * <p>A stream has a single subscriber. Transient errors (rate limiting, server timeouts, I/O errors) are retried with
+ * exponential backoff; any other error is passed to {@code onError} after the batches fetched before it.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface EventStream extends Flow.Publisher<Event>, AutoCloseable {
+
+    /**
+     * <p>Subscribe to whole batches instead of single events, e.g. to hand them to workers. Demand is counted in
+     * batches and the stream saves no checkpoints by itself: the subscriber calls {@link #checkpoint(String)} with a
+     * batch's {@code nextStreamPosition} once the batch and all batches before it have been handled.</p>
+     *
+     * <p>This takes the place of {@link #subscribe}, a stream still has a single subscriber.</p>
+     *
+     * @param subscriber the subscriber
+     */
+    void subscribeBatches(Flow.Subscriber<? super EventResult> subscriber);
+
+    /**
+     * <p>Save a stream position to the checkpoint store.</p>
+     *
+     * @param streamPosition the position
+     * @throws SmartsheetException if the position can not be saved
+     */
+    void checkpoint(String streamPosition) throws SmartsheetException;
+
+    /**
+     * <p>Return the position saved last.</p>
+     *
+     * @return the position, or null if no position has been saved and no checkpoint was loaded
+     */
+    String getStreamPosition();
+
+    /**
+     * <p>Stop the stream. Fetching stops, the subscriber receives {@code onComplete} after the event in progress, and
+     * batches not fully delivered are read again by the next stream built with the same checkpoint store.</p>
+     */
+    @Override
+    void close();
+}
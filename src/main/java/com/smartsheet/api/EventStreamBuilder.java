@@ -0,0 +1,210 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.EventStreamImpl;
+import com.smartsheet.api.internal.InMemoryEventCheckpointStore;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+
+import java.util.Date;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A convenience class to help create an {@link EventStream} instance with the appropriate fields, e.g.
+ * {@code new EventStreamBuilder(smartsheet.eventResources()).setCheckpointStore(store).build()}.</p>
+ *
+ * <p>Thread Safety: This class is not thread safe since it's mutable, one builder instance is NOT expected to be used in
+ * multiple threads.</p>
+ */
+public class EventStreamBuilder {
+    /**
+     * <p>Represents the default number of events requested per call.</p>
+     */
+    public static final int DEFAULT_MAX_COUNT = 1000;
+
+    /**
+     * <p>Represents the default number of batches fetched ahead of the one being delivered.</p>
+     */
+    public static final int DEFAULT_PREFETCH = 2;
+
+    /**
+     * <p>Represents the default wait, in milliseconds, after the API reports that no more events are available.</p>
+     */
+    public static final long DEFAULT_POLL_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    /**
+     * <p>Represents the default wait, in milliseconds, before the first retry of a transient error.</p>
+     */
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = 1000;
+
+    /**
+     * <p>Represents the default longest wait, in milliseconds, between retries of a transient error.</p>
+     */
+    public static final long DEFAULT_MAX_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final EventResources eventResources;
+
+    private EventCheckpointStore checkpointStore;
+
+    private Date since;
+
+    private int maxCount = DEFAULT_MAX_COUNT;
+
+    private int prefetch = DEFAULT_PREFETCH;
+
+    private long pollIntervalMillis = DEFAULT_POLL_INTERVAL_MILLIS;
+
+    private long retryDelayMillis = DEFAULT_RETRY_DELAY_MILLIS;
+
+    private long maxRetryDelayMillis = DEFAULT_MAX_RETRY_DELAY_MILLIS;
+
+    private TokenBucket rateLimiter;
+
+    private Executor executor;
+
+    /**
+     * Constructor.
+     *
+     * @param eventResources the event resources of the client to read with
+     */
+    public EventStreamBuilder(EventResources eventResources) {
+        this.eventResources = Util.throwIfNull(eventResources);
+    }
+
+    /**
+     * <p>Set the store the stream position is loaded from and saved to. If it is not set an
+     * {@link InMemoryEventCheckpointStore} is used.</p>
+     *
+     * @param checkpointStore the store
+     * @return the event stream builder
+     */
+    public EventStreamBuilder setCheckpointStore(EventCheckpointStore checkpointStore) {
+        this.checkpointStore = checkpointStore;
+        return this;
+    }
+
+    /**
+     * <p>Set the time to read events from when the checkpoint store holds no position. If it is not set the stream
+     * starts at the time it is subscribed.</p>
+     *
+     * @param since the starting time
+     * @return the event stream builder
+     */
+    public EventStreamBuilder setSince(Date since) {
+        this.since = since;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of events requested per call (1 to 10,000).</p>
+     *
+     * @param maxCount the number of events
+     * @return the event stream builder
+     */
+    public EventStreamBuilder setMaxCount(int maxCount) {
+        this.maxCount = maxCount;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of batches fetched ahead of the one being delivered.</p>
+     *
+     * @param prefetch the number of batches, 0 to fetch a batch only once the previous one is delivered
+     * @return the event stream builder
+     */
+    public EventStreamBuilder setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    /**
+     * <p>Set the wait after the API reports that no more events are available.</p>
+     *
+     * @param interval the wait
+     * @param unit the unit of the wait
+     * @return the event stream builder
+     */
+    public EventStreamBuilder setPollInterval(long interval, TimeUnit unit) {
+        Util.throwIfNull(unit);
+        this.pollIntervalMillis = unit.toMillis(interval);
+        return this;
+    }
+
+    /**
+     * <p>Set the backoff of transient errors: the first retry waits {@code delay}, and each further one twice as long
+     * as the previous one, up to {@code maxDelay}. Transient errors are retried until the stream is closed.</p>
+     *
+     * @param delay the wait before the first retry
+     * @param maxDelay the longest wait
+     * @param unit the unit of the waits
+     * @return the event stream builder
+     */
+    public EventStreamBuilder setRetryDelay(long delay, long maxDelay, TimeUnit unit) {
+        Util.throwIfNull(unit);
+        this.retryDelayMillis = unit.toMillis(delay);
+        this.maxRetryDelayMillis = unit.toMillis(maxDelay);
+        return this;
+    }
+
+    /**
+     * <p>Set a request budget that every call takes a permit from, waiting while it is exhausted.</p>
+     *
+     * @param rateLimiter the budget, null for none (the default)
+     * @return the event stream builder
+     */
+    public EventStreamBuilder setRateLimiter(TokenBucket rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * <p>Set the executor that runs the fetching and delivery of a subscribed stream (two long running tasks). If it
+     * is not set a shared pool of daemon threads is used.</p>
+     *
+     * @param executor the executor
+     * @return the event stream builder
+     */
+    public EventStreamBuilder setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * <p>Build the EventStream instance. Nothing is fetched until it is subscribed.</p>
+     *
+     * @return the EventStream instance
+     * @throws IllegalArgumentException if the count, prefetch, interval or delays are out of range
+     */
+    public EventStream build() {
+        if (maxCount < 1 || maxCount > 10000) {
+            throw new IllegalArgumentException("maxCount must be between 1 and 10000");
+        }
+        if (prefetch < 0 || pollIntervalMillis < 0 || retryDelayMillis < 0 || maxRetryDelayMillis < retryDelayMillis) {
+            throw new IllegalArgumentException("prefetch, intervals and delays must not be negative");
+        }
+        return new EventStreamImpl(eventResources,
+                checkpointStore == null ? new InMemoryEventCheckpointStore() : checkpointStore, since, maxCount,
+                prefetch, pollIntervalMillis, retryDelayMillis, maxRetryDelayMillis, rateLimiter, executor);
+    }
+}
@@ -0,0 +1,96 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+import java.util.stream.Stream;
+
+/**
+ * <p>The items of a paged list endpoint as one sequence, fetching the pages as they are needed.</p>
+ *
+ * <p>Any {@code list*} method that takes {@link PaginationParameters} and returns a {@link PagedResult} can be
+ * paginated, e.g. {@code new PaginatorBuilder<User>(page -> smartsheet.userResources().listUsers(null, page))}.
+ * While the caller works through one page, the next pages (up to the configured lookahead) are already being fetched
+ * in the background, so a scan is bound by throughput rather than by the round trip of each page.</p>
+ *
+ * <p>For crawls where order does not matter, an unordered paginator fans out over the remaining pages once the first
+ * page has reported how many there are, and hands out each page as soon as it arrives; a shared
+ * {@link com.smartsheet.api.internal.util.TokenBucket} can keep the requests within the API's rate limit.</p>
+ *
+ * <p>Every iteration starts again from the first page. Pages are requested by number, so items added or removed while
+ * a scan runs may be skipped or seen twice, as with a hand-written page loop. Errors while fetching a page are thrown
+ * from the iterator as {@link UncheckedSmartsheetException}.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe; each iterator is meant for one thread.</p>
+ *
+ * @param <T> the item type
+ */
+public interface Paginator<T> extends Iterable<T> {
+
+    /**
+     * <p>Fetches one page of a paged list endpoint.</p>
+     *
+     * @param <T> the item type
+     */
+    @FunctionalInterface
+    interface PageFetcher<T> {
+        /**
+         * Fetch a page.
+         *
+         * @param pagination the page number and page size to fetch (never includeAll)
+         * @return the page
+         * @throws SmartsheetException if the page can not be fetched
+         */
+        PagedResult<T> fetch(PaginationParameters pagination) throws SmartsheetException;
+    }
+
+    /**
+     * <p>Return a sequential stream over the items. Closing the stream cancels the pages still being fetched.</p>
+     *
+     * @return the stream
+     */
+    Stream<T> stream();
+
+    /**
+     * <p>Return the number of items fetched per page.</p>
+     *
+     * @return the page size
+     */
+    int getPageSize();
+
+    /**
+     * <p>Return the number of pages fetched ahead of the page being consumed, which is also the number of pages
+     * fetched concurrently.</p>
+     *
+     * @return the lookahead
+     */
+    int getLookahead();
+
+    /**
+     * <p>Return whether the items are handed out in list order. If not, the pages after the first are handed out in
+     * the order they arrive, as long as the endpoint reports the number of pages.</p>
+     *
+     * @return true if the items are in list order
+     */
+    boolean isOrdered();
+}
@@ -0,0 +1,150 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.PaginatorImpl;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+
+import java.util.concurrent.Executor;
+
+/**
+ * <p>A convenience class to help create a {@link Paginator} instance with the appropriate fields.</p>
+ *
+ * <p>Thread Safety: This class is not thread safe since it's mutable, one builder instance is NOT expected to be used in
+ * multiple threads.</p>
+ *
+ * @param <T> the item type
+ */
+public class PaginatorBuilder<T> {
+    /**
+     * <p>Represents the default page size.</p>
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * <p>Represents the default number of pages fetched ahead of the page being consumed.</p>
+     */
+    public static final int DEFAULT_LOOKAHEAD = 1;
+
+    /**
+     * <p>Represents the largest page size the Smartsheet API accepts.</p>
+     */
+    public static final int MAX_PAGE_SIZE = 10000;
+
+    private final Paginator.PageFetcher<T> fetcher;
+
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
+    private int lookahead = DEFAULT_LOOKAHEAD;
+
+    private boolean ordered = true;
+
+    private Executor executor;
+
+    private TokenBucket rateLimiter;
+
+    /**
+     * Constructor.
+     *
+     * @param fetcher fetches one page of the endpoint
+     */
+    public PaginatorBuilder(Paginator.PageFetcher<T> fetcher) {
+        this.fetcher = Util.throwIfNull(fetcher);
+    }
+
+    /**
+     * <p>Set the number of items fetched per page.</p>
+     *
+     * @param pageSize the page size, from 1 to {@link #MAX_PAGE_SIZE}
+     * @return the paginator builder
+     */
+    public PaginatorBuilder<T> setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of pages fetched ahead of the page being consumed. The pages ahead are fetched concurrently,
+     * so this also bounds the parallelism of a scan. With 0 each page is fetched on the iterating thread when it is
+     * reached.</p>
+     *
+     * @param lookahead the lookahead
+     * @return the paginator builder
+     */
+    public PaginatorBuilder<T> setLookahead(int lookahead) {
+        this.lookahead = lookahead;
+        return this;
+    }
+
+    /**
+     * <p>Set whether the items are handed out in list order (the default). If not, once the first page has reported
+     * the number of pages, the pages in flight are handed out in the order they arrive, so a slow page doesn't hold
+     * up the others.</p>
+     *
+     * @param ordered false to hand out pages as they arrive
+     * @return the paginator builder
+     */
+    public PaginatorBuilder<T> setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * <p>Set a request budget that every page request takes a permit from, waiting while it is exhausted. Share one
+     * bucket between the paginators (and other callers) that use the same access token, e.g.
+     * {@code new TokenBucket(300, 1, TimeUnit.MINUTES)}.</p>
+     *
+     * @param rateLimiter the budget, null for none (the default)
+     * @return the paginator builder
+     */
+    public PaginatorBuilder<T> setRateLimiter(TokenBucket rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * <p>Set the executor that fetches pages ahead. If it is not set a shared pool of daemon threads is used.</p>
+     *
+     * @param executor the executor
+     * @return the paginator builder
+     */
+    public PaginatorBuilder<T> setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * <p>Build the Paginator instance.</p>
+     *
+     * @return the Paginator instance
+     * @throws IllegalArgumentException if the page size or lookahead is out of range
+     */
+    public Paginator<T> build() {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("pageSize must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (lookahead < 0) {
+            throw new IllegalArgumentException("lookahead must not be negative");
+        }
+        return new PaginatorImpl<>(fetcher, pageSize, lookahead, ordered, executor, rateLimiter);
+    }
+}
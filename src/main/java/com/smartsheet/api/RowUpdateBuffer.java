@@ -0,0 +1,89 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Row;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>Collects row updates for one sheet and sends them together, so that many small updates cost one request.</p>
+ *
+ * <p>Updates wait in the buffer for a short window after the first of them arrives, or until the configured number
+ * of rows is pending, and are then sent as one {@code PUT /sheets/{sheetId}/rows}. Updates to the same row are merged
+ * while they wait: the cells are merged by column and the last value written to a cell wins, as do the row attributes
+ * (position, format, expanded, locked) last set. Each update gets a future that completes with the row returned for
+ * it once its request completes, or exceptionally with the {@link SmartsheetException} that failed it.</p>
+ *
+ * <p>Requests of one buffer are sent one at a time, in the order the updates arrived, so a later write to a cell
+ * never lands before an earlier one.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface RowUpdateBuffer extends AutoCloseable {
+
+    /**
+     * <p>Add an update of a row.</p>
+     *
+     * @param row the row, with its id and the cells (each with a column id) and attributes to update
+     * @return a future that completes with the updated row
+     * @throws IllegalArgumentException if the row has no id or a cell has no column id
+     * @throws IllegalStateException if the buffer has been closed
+     */
+    CompletableFuture<Row> update(Row row);
+
+    /**
+     * <p>Add an update of one cell.</p>
+     *
+     * @param rowId the row id
+     * @param columnId the column id
+     * @param value the new value
+     * @return a future that completes with the updated row
+     * @throws IllegalStateException if the buffer has been closed
+     */
+    CompletableFuture<Row> updateCell(long rowId, long columnId, Object value);
+
+    /**
+     * <p>Send the pending updates now and wait until they (and the requests before them) have completed.</p>
+     */
+    void flush();
+
+    /**
+     * <p>Flush the pending updates and stop accepting new ones.</p>
+     */
+    @Override
+    void close();
+
+    /**
+     * <p>Return the number of rows with updates waiting to be sent.</p>
+     *
+     * @return the number of pending rows
+     */
+    int getPendingRows();
+
+    /**
+     * <p>Return the id of the sheet the updates are sent to.</p>
+     *
+     * @return the sheet id
+     */
+    long getSheetId();
+}
@@ -0,0 +1,144 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.RowUpdateBufferImpl;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+
+import java.util.concurrent.Executor;
+
+/**
+ * <p>A convenience class to help create a {@link RowUpdateBuffer} instance with the appropriate fields, e.g.
+ * {@code new RowUpdateBufferBuilder(smartsheet.sheetResources().rowResources(), sheetId).build()}.</p>
+ *
+ * <p>Thread Safety: This class is not thread safe since it's mutable, one builder instance is NOT expected to be used in
+ * multiple threads.</p>
+ */
+public class RowUpdateBufferBuilder {
+    /**
+     * <p>Represents the default time updates wait for others to join them, in milliseconds.</p>
+     */
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 100;
+
+    /**
+     * <p>Represents the default number of pending rows that triggers a request.</p>
+     */
+    public static final int DEFAULT_MAX_ROWS = 500;
+
+    private final SheetRowResources rowResources;
+
+    private final long sheetId;
+
+    private long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+
+    private int maxRows = DEFAULT_MAX_ROWS;
+
+    private boolean allowPartialSuccess;
+
+    private TokenBucket rateLimiter;
+
+    private Executor executor;
+
+    /**
+     * Constructor.
+     *
+     * @param rowResources the row resources of the client to write with
+     * @param sheetId the id of the sheet to update
+     */
+    public RowUpdateBufferBuilder(SheetRowResources rowResources, long sheetId) {
+        this.rowResources = Util.throwIfNull(rowResources);
+        this.sheetId = sheetId;
+    }
+
+    /**
+     * <p>Set how long the first pending update waits for others before they are sent.</p>
+     *
+     * @param maxDelayMillis the delay in milliseconds, 0 to send on the next opportunity
+     * @return the row update buffer builder
+     */
+    public RowUpdateBufferBuilder setMaxDelayMillis(long maxDelayMillis) {
+        this.maxDelayMillis = maxDelayMillis;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of pending rows that are sent without waiting for the delay, which is also the largest
+     * number of rows sent in one request.</p>
+     *
+     * @param maxRows the number of rows
+     * @return the row update buffer builder
+     */
+    public RowUpdateBufferBuilder setMaxRows(int maxRows) {
+        this.maxRows = maxRows;
+        return this;
+    }
+
+    /**
+     * <p>Set whether the updates are sent with partial success allowed, so that an invalid update fails only its own
+     * futures instead of every update sent with it. Off by default.</p>
+     *
+     * @param allowPartialSuccess true to allow partial success
+     * @return the row update buffer builder
+     */
+    public RowUpdateBufferBuilder setAllowPartialSuccess(boolean allowPartialSuccess) {
+        this.allowPartialSuccess = allowPartialSuccess;
+        return this;
+    }
+
+    /**
+     * <p>Set a request budget that every request takes a permit from, waiting while it is exhausted.</p>
+     *
+     * @param rateLimiter the budget, null for none (the default)
+     * @return the row update buffer builder
+     */
+    public RowUpdateBufferBuilder setRateLimiter(TokenBucket rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * <p>Set the executor that sends the requests and completes the futures. If it is not set a shared pool of daemon
+     * threads is used.</p>
+     *
+     * @param executor the executor
+     * @return the row update buffer builder
+     */
+    public RowUpdateBufferBuilder setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * <p>Build the RowUpdateBuffer instance.</p>
+     *
+     * @return the RowUpdateBuffer instance
+     * @throws IllegalArgumentException if the delay is negative or maxRows is not positive
+     */
+    public RowUpdateBuffer build() {
+        if (maxDelayMillis < 0 || maxRows < 1) {
+            throw new IllegalArgumentException("maxDelayMillis must not be negative and maxRows must be positive");
+        }
+        return new RowUpdateBufferImpl(rowResources, sheetId, maxDelayMillis, maxRows, allowPartialSuccess,
+                rateLimiter, executor);
+    }
+}
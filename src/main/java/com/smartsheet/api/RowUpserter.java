@@ -0,0 +1,81 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.SheetDiff;
+import com.smartsheet.api.models.UpsertReport;
+
+/**
+ * <p>Reconciles a sheet with a set of desired rows, sending only what differs.</p>
+ *
+ * <p>Desired rows are matched to the rows of the sheet by the value of a key column (typically the primary column)
+ * or by row id, through a hash index built once per sheet, so a diff is linear in the size of the sheet and of the
+ * desired rows. For each matched row only the cells whose value or formula differs are sent, built with
+ * {@link com.smartsheet.api.models.Cell.UpdateRowCellsBuilder}; rows without changes are not sent at all. This keeps
+ * request bodies small and leaves cells that didn't change (and the automations watching them) alone. Desired rows
+ * that match nothing are added, and rows of the sheet that no desired row matches can optionally be deleted.</p>
+ *
+ * <p>Only the columns of the cells given in the desired rows are compared. Values are compared the way the API
+ * returns them: an empty string equals no value, and numbers equal numbers or numeric text of the same value.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface RowUpserter {
+
+    /**
+     * <p>Compute the changes that bring the sheet in line with the desired rows, without sending anything.</p>
+     *
+     * @param sheet the current sheet, with its columns and rows
+     * @param rows the desired rows
+     * @return the diff
+     * @throws IllegalArgumentException if the key column is not in the sheet, a desired cell has no column id, or two
+     * desired rows have the same key
+     */
+    SheetDiff diff(Sheet sheet, Iterable<? extends Row> rows);
+
+    /**
+     * <p>Send a diff to a sheet: the updates first, then the additions, then the deletions.</p>
+     *
+     * <p>Updates and additions are sent with a {@link BulkRowWriter}, so failed rows are reported rather than
+     * thrown.</p>
+     *
+     * @param sheetId the id of the sheet the diff was computed for
+     * @param diff the diff
+     * @return the report
+     * @throws SmartsheetException if the rows can not be deleted
+     */
+    UpsertReport apply(long sheetId, SheetDiff diff) throws SmartsheetException;
+
+    /**
+     * <p>Compute the diff against the sheet and send it.</p>
+     *
+     * @param sheet the current sheet, with its columns and rows
+     * @param rows the desired rows
+     * @return the report
+     * @throws SmartsheetException if the rows can not be deleted
+     * @see #diff(Sheet, Iterable)
+     * @see #apply(long, SheetDiff)
+     */
+    UpsertReport upsert(Sheet sheet, Iterable<? extends Row> rows) throws SmartsheetException;
+}
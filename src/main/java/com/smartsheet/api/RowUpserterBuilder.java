@@ -0,0 +1,146 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.RowUpserterImpl;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+
+/**
+ * <p>A convenience class to help create a {@link RowUpserter} instance with the appropriate fields. By default rows
+ * are matched by the value of the sheet's primary column and missing rows are kept.</p>
+ *
+ * <p>Thread Safety: This class is not thread safe since it's mutable, one builder instance is NOT expected to be used in
+ * multiple threads.</p>
+ */
+public class RowUpserterBuilder {
+
+    private final SheetRowResources rowResources;
+
+    private Long keyColumnId;
+
+    private String keyColumnTitle;
+
+    private boolean matchByRowId;
+
+    private boolean deleteMissing;
+
+    private int maxInFlight = BulkRowWriterBuilder.DEFAULT_MAX_IN_FLIGHT;
+
+    private TokenBucket rateLimiter;
+
+    /**
+     * Constructor.
+     *
+     * @param rowResources the row resources of the client to write with
+     */
+    public RowUpserterBuilder(SheetRowResources rowResources) {
+        this.rowResources = Util.throwIfNull(rowResources);
+    }
+
+    /**
+     * <p>Match rows by the value of the column with the given id.</p>
+     *
+     * @param keyColumnId the column id
+     * @return the row upserter builder
+     */
+    public RowUpserterBuilder setKeyColumnId(long keyColumnId) {
+        this.keyColumnId = keyColumnId;
+        this.keyColumnTitle = null;
+        this.matchByRowId = false;
+        return this;
+    }
+
+    /**
+     * <p>Match rows by the value of the column with the given title.</p>
+     *
+     * @param keyColumnTitle the column title
+     * @return the row upserter builder
+     */
+    public RowUpserterBuilder setKeyColumnTitle(String keyColumnTitle) {
+        this.keyColumnTitle = Util.throwIfNull(keyColumnTitle);
+        this.keyColumnId = null;
+        this.matchByRowId = false;
+        return this;
+    }
+
+    /**
+     * <p>Match rows by row id. Desired rows without an id are added; desired rows with an id that is not in the sheet
+     * are left out and reported as unmatched.</p>
+     *
+     * @return the row upserter builder
+     */
+    public RowUpserterBuilder setMatchByRowId() {
+        this.matchByRowId = true;
+        this.keyColumnId = null;
+        this.keyColumnTitle = null;
+        return this;
+    }
+
+    /**
+     * <p>Set whether the rows of the sheet that no desired row matches are deleted.</p>
+     *
+     * @param deleteMissing true to delete missing rows
+     * @return the row upserter builder
+     */
+    public RowUpserterBuilder setDeleteMissing(boolean deleteMissing) {
+        this.deleteMissing = deleteMissing;
+        return this;
+    }
+
+    /**
+     * <p>Set the maximum number of requests in flight while a diff is applied.</p>
+     *
+     * @param maxInFlight the maximum number of requests in flight
+     * @return the row upserter builder
+     * @see BulkRowWriterBuilder#setMaxInFlight(int)
+     */
+    public RowUpserterBuilder setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * <p>Set a request budget that every update and add request takes a permit from.</p>
+     *
+     * @param rateLimiter the budget, null for none (the default)
+     * @return the row upserter builder
+     */
+    public RowUpserterBuilder setRateLimiter(TokenBucket rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * <p>Build the RowUpserter instance.</p>
+     *
+     * @return the RowUpserter instance
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     */
+    public RowUpserter build() {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        return new RowUpserterImpl(rowResources, keyColumnId, keyColumnTitle, matchByRowId, deleteMissing,
+                maxInFlight, rateLimiter);
+    }
+}
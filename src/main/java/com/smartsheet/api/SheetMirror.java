@@ -0,0 +1,121 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Sheet;
+
+import java.util.Set;
+
+/**
+ * <p>Keeps local copies of a set of sheets up to date, fetching a sheet again only when its version has moved.</p>
+ *
+ * <p>Each tracked sheet is polled with {@link SheetResources#getSheetVersion(long)}, which costs one small request.
+ * When the version has moved the mirror asks for the rows modified since the stored copy
+ * ({@link SheetResources#getSheetRowsModifiedSince}, guarded with {@code ifVersionAfter}) and merges them into the
+ * copy. If the change can't be merged safely, because rows were added, deleted or moved, or the columns
+ * changed, the sheet is fetched again in full. API usage therefore follows the number of changes rather than the
+ * number and size of the sheets.</p>
+ *
+ * <p>The polling interval adapts to each sheet: it is halved (down to the minimum) every time the sheet has changed
+ * and grows by half (up to the maximum) every time it hasn't, so busy sheets are polled often and idle sheets
+ * rarely.</p>
+ *
+ * <p>The copies live in a pluggable {@link SheetStore}. A mirror polls in the background once started; the
+ * {@link #sync(long)} method can also be called directly, e.g. when a webhook or the event stream reports a change.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface SheetMirror extends AutoCloseable {
+
+    /**
+     * <p>Receives the outcome of background polls.</p>
+     */
+    interface Listener {
+        /**
+         * A sheet's copy has been replaced with a newer version.
+         *
+         * @param sheet the new copy
+         * @param incremental true if only the modified rows were fetched
+         */
+        void sheetChanged(Sheet sheet, boolean incremental);
+
+        /**
+         * A background poll failed; the sheet stays tracked and is polled again later.
+         *
+         * @param sheetId the sheet id
+         * @param error the error
+         */
+        default void syncFailed(long sheetId, SmartsheetException error) {
+        }
+    }
+
+    /**
+     * <p>Start tracking a sheet. If the store holds no copy yet, it is fetched on the next poll.</p>
+     *
+     * @param sheetId the sheet id
+     */
+    void track(long sheetId);
+
+    /**
+     * <p>Stop tracking a sheet. Its copy stays in the store.</p>
+     *
+     * @param sheetId the sheet id
+     */
+    void untrack(long sheetId);
+
+    /**
+     * <p>Return the ids of the tracked sheets.</p>
+     *
+     * @return the sheet ids
+     */
+    Set<Long> getTrackedSheets();
+
+    /**
+     * <p>Return the stored copy of a sheet.</p>
+     *
+     * @param sheetId the sheet id
+     * @return the copy, or null if there is none yet
+     * @throws SmartsheetException if the store can not be read
+     */
+    Sheet get(long sheetId) throws SmartsheetException;
+
+    /**
+     * <p>Bring the copy of a tracked sheet up to date now, on the calling thread.</p>
+     *
+     * @param sheetId the sheet id
+     * @return true if the copy changed
+     * @throws IllegalArgumentException if the sheet is not tracked
+     * @throws SmartsheetException if the sheet can not be fetched or stored
+     */
+    boolean sync(long sheetId) throws SmartsheetException;
+
+    /**
+     * <p>Start polling the tracked sheets in the background.</p>
+     */
+    void start();
+
+    /**
+     * <p>Stop polling. The polls in progress are allowed to finish.</p>
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,186 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.InMemorySheetStore;
+import com.smartsheet.api.internal.SheetMirrorImpl;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.enums.SheetInclusion;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A convenience class to help create a {@link SheetMirror} instance with the appropriate fields, e.g.
+ * {@code new SheetMirrorBuilder(smartsheet.sheetResources()).setStore(new FileSheetStore(dir)).build()}.</p>
+ *
+ * <p>Thread Safety: This class is not thread safe since it's mutable, one builder instance is NOT expected to be used in
+ * multiple threads.</p>
+ */
+public class SheetMirrorBuilder {
+    /**
+     * <p>Represents the default shortest polling interval, in milliseconds.</p>
+     */
+    public static final long DEFAULT_MIN_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(15);
+
+    /**
+     * <p>Represents the default longest polling interval, in milliseconds.</p>
+     */
+    public static final long DEFAULT_MAX_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    /**
+     * <p>Represents the default number of sheets polled at once.</p>
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    /**
+     * <p>Represents the default number of incremental updates of a sheet after which it is fetched in full again.</p>
+     */
+    public static final int DEFAULT_FULL_REFRESH_INTERVAL = 20;
+
+    private final SheetResources sheetResources;
+
+    private SheetStore store;
+
+    private EnumSet<SheetInclusion> includes;
+
+    private long minIntervalMillis = DEFAULT_MIN_INTERVAL_MILLIS;
+
+    private long maxIntervalMillis = DEFAULT_MAX_INTERVAL_MILLIS;
+
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    private int fullRefreshInterval = DEFAULT_FULL_REFRESH_INTERVAL;
+
+    private TokenBucket rateLimiter;
+
+    private SheetMirror.Listener listener;
+
+    /**
+     * Constructor.
+     *
+     * @param sheetResources the sheet resources of the client to fetch with
+     */
+    public SheetMirrorBuilder(SheetResources sheetResources) {
+        this.sheetResources = Util.throwIfNull(sheetResources);
+    }
+
+    /**
+     * <p>Set the store the copies are kept in. If it is not set an {@link InMemorySheetStore} is used.</p>
+     *
+     * @param store the store
+     * @return the sheet mirror builder
+     */
+    public SheetMirrorBuilder setStore(SheetStore store) {
+        this.store = store;
+        return this;
+    }
+
+    /**
+     * <p>Set the optional objects fetched with each sheet (e.g. formats or discussions).</p>
+     *
+     * @param includes the includes
+     * @return the sheet mirror builder
+     */
+    public SheetMirrorBuilder setIncludes(EnumSet<SheetInclusion> includes) {
+        this.includes = includes;
+        return this;
+    }
+
+    /**
+     * <p>Set the range the polling interval of each sheet adapts within.</p>
+     *
+     * @param min the shortest interval, used for sheets that keep changing
+     * @param max the longest interval, reached by sheets that don't change
+     * @param unit the unit of the intervals
+     * @return the sheet mirror builder
+     */
+    public SheetMirrorBuilder setPollInterval(long min, long max, TimeUnit unit) {
+        Util.throwIfNull(unit);
+        this.minIntervalMillis = unit.toMillis(min);
+        this.maxIntervalMillis = unit.toMillis(max);
+        return this;
+    }
+
+    /**
+     * <p>Set the number of sheets polled at once in the background.</p>
+     *
+     * @param maxConcurrency the number of sheets
+     * @return the sheet mirror builder
+     */
+    public SheetMirrorBuilder setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of incremental updates of a sheet after which the next change is fetched in full, as a safety
+     * net for changes the row timestamps don't show. 0 fetches every change in full.</p>
+     *
+     * @param fullRefreshInterval the number of incremental updates
+     * @return the sheet mirror builder
+     */
+    public SheetMirrorBuilder setFullRefreshInterval(int fullRefreshInterval) {
+        this.fullRefreshInterval = fullRefreshInterval;
+        return this;
+    }
+
+    /**
+     * <p>Set a request budget that every request takes a permit from, waiting while it is exhausted.</p>
+     *
+     * @param rateLimiter the budget, null for none (the default)
+     * @return the sheet mirror builder
+     */
+    public SheetMirrorBuilder setRateLimiter(TokenBucket rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * <p>Set the listener told about background changes and failures.</p>
+     *
+     * @param listener the listener, null for none
+     * @return the sheet mirror builder
+     */
+    public SheetMirrorBuilder setListener(SheetMirror.Listener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * <p>Build the SheetMirror instance.</p>
+     *
+     * @return the SheetMirror instance
+     * @throws IllegalArgumentException if an interval, the concurrency or the refresh interval is out of range
+     */
+    public SheetMirror build() {
+        if (minIntervalMillis < 1 || maxIntervalMillis < minIntervalMillis) {
+            throw new IllegalArgumentException("the poll interval must be positive and min must not exceed max");
+        }
+        if (maxConcurrency < 1 || fullRefreshInterval < 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive and fullRefreshInterval not negative");
+        }
+        return new SheetMirrorImpl(sheetResources, store == null ? new InMemorySheetStore() : store, includes,
+                minIntervalMillis, maxIntervalMillis, maxConcurrency, fullRefreshInterval, rateLimiter, listener);
+    }
+}
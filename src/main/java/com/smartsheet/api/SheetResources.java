@@ -22,11 +22,13 @@ package com.smartsheet.api;
 
 
 import com.smartsheet.api.models.ContainerDestination;
+import com.smartsheet.api.models.LazySheet;
 import com.smartsheet.api.models.MultiRowEmail;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.Sheet;
 import com.smartsheet.api.models.SheetEmail;
+import com.smartsheet.api.models.SheetFrame;
 import com.smartsheet.api.models.SheetPublish;
 import com.smartsheet.api.models.SortSpecifier;
 import com.smartsheet.api.models.UpdateRequest;
@@ -202,6 +204,126 @@ public interface SheetResources {
                           Integer ifVersionAfter,
                           Integer level) throws SmartsheetException;
 
+    /**
+     * <p>Get a sheet, reading its rows one at a time.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @return the sheet stream, which must be closed
+     * @throws SmartsheetException if there is any error during the operation
+     * @see #streamSheet(long, EnumSet, EnumSet, Set, Set, Set, Integer, Integer, Integer, Integer)
+     */
+    SheetStream streamSheet(long id) throws SmartsheetException;
+
+    /**
+     * <p>Get a sheet, reading its rows one at a time.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * <p>Unlike {@link #getSheet(long, EnumSet, EnumSet, Set, Set, Set, Integer, Integer, Integer, Integer)} the rows
+     * are not collected into the sheet. The sheet attributes and columns are available as soon as this method
+     * returns and each row is read from the response as it is iterated, so memory use does not grow with the size
+     * of the sheet.</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param ifVersionAfter only fetch Sheet if more recent version available
+     * @param level compatibility level
+     * @return the sheet stream, which must be closed
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    SheetStream streamSheet(long id,
+                            EnumSet<SheetInclusion> includes,
+                            EnumSet<ObjectExclusion> excludes,
+                            Set<Long> rowIds,
+                            Set<Integer> rowNumbers,
+                            Set<Long> columnIds,
+                            Integer pageSize,
+                            Integer page,
+                            Integer ifVersionAfter,
+                            Integer level) throws SmartsheetException;
+
+    /**
+     * <p>Get a sheet as a {@link SheetFrame}, a compact column-oriented copy of its cell values.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @return the frame
+     * @throws SmartsheetException if there is any error during the operation
+     * @see #getSheetFrame(long, EnumSet, Set)
+     */
+    SheetFrame getSheetFrame(long id) throws SmartsheetException;
+
+    /**
+     * <p>Get a sheet as a {@link SheetFrame}, a compact column-oriented copy of its cell values.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * <p>The rows are read from the response straight into the frame's column arrays, without creating Row or Cell
+     * objects for them.</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include (e.g. FORMAT for cell formats)
+     * @param columnIds the column ids, null for all columns
+     * @return the frame
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    SheetFrame getSheetFrame(long id, EnumSet<SheetInclusion> includes, Set<Long> columnIds) throws SmartsheetException;
+
+    /**
+     * <p>Get a sheet whose rows are mapped only when they are accessed.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @return the sheet
+     * @throws SmartsheetException if there is any error during the operation
+     * @see #getLazySheet(long, EnumSet, EnumSet, Set)
+     */
+    LazySheet getLazySheet(long id) throws SmartsheetException;
+
+    /**
+     * <p>Get a sheet whose rows are mapped only when they are accessed.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * <p>The sheet attributes and columns are mapped right away, but only the id and row number of each row are
+     * parsed; the rest of the row is kept as raw JSON and mapped to a Row the first time it is looked up
+     * (see {@link LazySheet}). This suits code that reads a few rows of a large sheet by id or row number.</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param columnIds the column ids, null for all columns
+     * @return the sheet
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    LazySheet getLazySheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                           Set<Long> columnIds) throws SmartsheetException;
+
     /**
      * <p>Get a sheet as an Excel file.</p>
      *
@@ -525,6 +647,32 @@ public interface SheetResources {
      */
     int getSheetVersion(long id) throws SmartsheetException;
 
+    /**
+     * <p>Get a sheet with only the rows modified since the given time, unless the sheet is not newer than the given
+     * version.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}?rowsModifiedSince={date}</p>
+     *
+     * <p>The sheet attributes and columns are returned in full. Rows that were deleted, and rows that only moved
+     * because others were inserted or deleted, are not returned; compare {@code totalRowCount} and the row numbers
+     * with a full copy to tell. If the sheet is not newer than {@code ifVersionAfter}, only its id and version are
+     * returned.</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include
+     * @param rowsModifiedSince the time rows must have been modified at or after
+     * @param ifVersionAfter only fetch the sheet if a more recent version is available (optional)
+     * @return the sheet with the modified rows
+     * @throws IllegalArgumentException if rowsModifiedSince is null
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    Sheet getSheetRowsModifiedSince(long id, EnumSet<SheetInclusion> includes, Date rowsModifiedSince,
+                                    Integer ifVersionAfter) throws SmartsheetException;
+
     /**
      * <p>Send a sheet as a PDF attachment via email to the designated recipients.</p>
      *
@@ -35,6 +35,8 @@ import com.smartsheet.api.models.enums.RowMoveInclusion;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * This interface provides methods to access row resources that are associated to a sheet object.
@@ -205,6 +207,11 @@ public interface SheetRowResources {
      *
      * <p>It mirrors to the following Smartsheet REST API method: DELETE /sheets/{sheetId}/rows/{rowId}</p>
      *
+     * <p>The ids are split into as many requests as it takes to keep each URL short enough for servers and proxies
+     * to accept, sent one after another. If a request fails no more are sent and its exception is thrown; the rows
+     * deleted by the earlier requests stay deleted. Use {@link #deleteRows(long, Set, boolean, int)} to send several
+     * requests at once.</p>
+     *
      * Exceptions:
      *   InvalidRequestException : if there is any problem with the REST API request
      *   AuthorizationException : if there is any problem with the REST API authorization(access token)
@@ -221,6 +228,49 @@ public interface SheetRowResources {
      */
     List<Long> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) throws SmartsheetException;
 
+    /**
+     * <p>Deletes one or more row(s) from the Sheet specified in the URL, sending up to maxConcurrency requests at
+     * once.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: DELETE /sheets/{sheetId}/rows?ids={rowIds}</p>
+     *
+     * <p>The ids are split into as many requests as it takes to keep each URL short enough for servers and proxies
+     * to accept. If a request fails no more are sent and its exception is thrown once the requests in flight have
+     * completed; the rows deleted by the other requests stay deleted.</p>
+     *
+     * @param sheetId the sheet id
+     * @param rowIds the row ids
+     * @param ignoreRowsNotFound boolean for ignoring row ids not found
+     * @param maxConcurrency the maximum number of requests in flight
+     * @return a list of deleted rows
+     * @throws IllegalArgumentException if maxConcurrency is not positive
+     * @throws SmartsheetException the smartsheet exception
+     */
+    List<Long> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound, int maxConcurrency)
+            throws SmartsheetException;
+
+    /**
+     * <p>Deletes the rows of a stream of row ids, for purges too large to collect the ids or the result in memory.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: DELETE /sheets/{sheetId}/rows?ids={rowIds}</p>
+     *
+     * <p>The ids are read from the stream a request at a time, and the ids deleted by each request are handed to the
+     * consumer on the calling thread, in the order of the stream, as the requests complete. Failures are handled as by
+     * {@link #deleteRows(long, Set, boolean, int)}; the consumer has seen every deleted id by the time the exception
+     * is thrown.</p>
+     *
+     * @param sheetId the sheet id
+     * @param rowIds the row ids
+     * @param ignoreRowsNotFound boolean for ignoring row ids not found
+     * @param maxConcurrency the maximum number of requests in flight
+     * @param deletedRowIds receives the ids deleted by each request (may be null)
+     * @return the number of rows deleted
+     * @throws IllegalArgumentException if maxConcurrency is not positive
+     * @throws SmartsheetException the smartsheet exception
+     */
+    long deleteRows(long sheetId, Stream<Long> rowIds, boolean ignoreRowsNotFound, int maxConcurrency,
+                    Consumer<? super List<Long>> deletedRowIds) throws SmartsheetException;
+
     /**
      * <p>Update rows.</p>
      *
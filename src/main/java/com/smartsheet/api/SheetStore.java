@@ -0,0 +1,72 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Sheet;
+
+import java.util.Set;
+
+/**
+ * <p>Holds the local copies of the sheets kept by a {@link SheetMirror}.</p>
+ *
+ * <p>{@link com.smartsheet.api.internal.InMemorySheetStore} keeps them on the heap and
+ * {@link com.smartsheet.api.internal.FileSheetStore} keeps one file per sheet in a directory, so a mirror can pick up
+ * where it left off after a restart.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface SheetStore {
+
+    /**
+     * <p>Return the stored copy of a sheet.</p>
+     *
+     * @param sheetId the sheet id
+     * @return the sheet, or null if none is stored
+     * @throws SmartsheetException if the sheet can not be read
+     */
+    Sheet load(long sheetId) throws SmartsheetException;
+
+    /**
+     * <p>Store a copy of a sheet, replacing the previous one. The store may keep the given instance, so it must not be
+     * changed afterwards.</p>
+     *
+     * @param sheet the sheet, with its id and version
+     * @throws SmartsheetException if the sheet can not be written
+     */
+    void save(Sheet sheet) throws SmartsheetException;
+
+    /**
+     * <p>Remove the stored copy of a sheet, if any.</p>
+     *
+     * @param sheetId the sheet id
+     * @throws SmartsheetException if the sheet can not be removed
+     */
+    void remove(long sheetId) throws SmartsheetException;
+
+    /**
+     * <p>Return the ids of the stored sheets.</p>
+     *
+     * @return the sheet ids
+     * @throws SmartsheetException if the store can not be read
+     */
+    Set<Long> getSheetIds() throws SmartsheetException;
+}
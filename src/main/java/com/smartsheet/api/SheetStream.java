@@ -0,0 +1,78 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * <p>A sheet whose rows are read one at a time from the response, so only the row being processed is held in
+ * memory.</p>
+ *
+ * <p>The sheet attributes and columns that the API sends before the rows are available from {@link #getSheet()} as
+ * soon as the stream is opened. Attributes that come after the rows are added to the same object once every row has
+ * been read. The rows themselves are never added to the sheet.</p>
+ *
+ * <p>Like {@link java.nio.file.DirectoryStream}, a sheet stream can only be iterated once, and it holds an HTTP
+ * connection until it is closed (which happens automatically after the last row), so it should be used in a
+ * try-with-resources statement.</p>
+ *
+ * <p>Errors while reading rows are thrown as {@link java.io.UncheckedIOException}.</p>
+ *
+ * <p>Thread Safety: Implementations of this interface are not thread safe.</p>
+ */
+public interface SheetStream extends Iterable<Row>, Closeable {
+
+    /**
+     * <p>Return the sheet, without its rows.</p>
+     *
+     * @return the sheet
+     */
+    Sheet getSheet();
+
+    /**
+     * <p>Return an iterator over the rows of the sheet.</p>
+     *
+     * @return the iterator (empty if the stream was closed before the rows were read)
+     * @throws IllegalStateException if called more than once
+     */
+    @Override
+    Iterator<Row> iterator();
+
+    /**
+     * <p>Return the rows of the sheet as a sequential stream. Closing the returned stream closes this sheet stream.</p>
+     *
+     * @return the stream
+     * @throws IllegalStateException if the rows were already iterated
+     */
+    Stream<Row> stream();
+
+    /**
+     * <p>Release the connection, abandoning any rows that have not been read.</p>
+     */
+    @Override
+    void close();
+}
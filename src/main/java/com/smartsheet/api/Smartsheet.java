@@ -72,6 +72,28 @@ public interface Smartsheet {
      */
     void setUserAgent(String userAgent);
 
+    /**
+     * <p>Return a view of this client that acts on behalf of the given user.</p>
+     *
+     * <p>The view shares the HttpClient and JsonSerializer of this client but carries its own Assume-User header and
+     * copies of the current access token, user agent and change agent, so it is cheap to create per call and changing
+     * it does not affect this client or other views (nor does changing this client affect the view).</p>
+     *
+     * @param assumedUser the email of the user to assume (null means no user is assumed)
+     * @return the view
+     */
+    Smartsheet as(String assumedUser);
+
+    /**
+     * <p>Return a view of this client that acts on behalf of the given user with the given change agent.</p>
+     *
+     * @param assumedUser the email of the user to assume (null means no user is assumed)
+     * @param changeAgent the change agent identifier (null means no change agent)
+     * @return the view
+     * @see #as(String)
+     */
+    Smartsheet as(String assumedUser, String changeAgent);
+
     /**
      * <p>Sets the max retry time if the HttpClient is an instance of DefaultHttpClient</p>
      *
@@ -23,6 +23,8 @@ package com.smartsheet.api;
 
 import com.smartsheet.api.internal.SmartsheetImpl;
 
+import java.util.Arrays;
+
 public class SmartsheetFactory {
     /**
      * <p>Represents the default base URI of the Smartsheet REST API.</p>
@@ -94,4 +96,24 @@ public class SmartsheetFactory {
     public static SmartsheetBuilder custom() {
         return new SmartsheetBuilder();
     }
+
+    /**
+     * <p>Creates a pool of Smartsheet clients, one per access token, sharing a single transport and serializer.</p>
+     *
+     * @param accessTokens the access tokens to pool
+     *
+     * @return the Smartsheet client pool
+     */
+    public static SmartsheetPool createDefaultPool(String... accessTokens) {
+        return new SmartsheetPoolBuilder().addAccessTokens(Arrays.asList(accessTokens)).build();
+    }
+
+    /**
+     * <p>Returns a builder to allow the caller to create a custom pool of Smartsheet clients.</p>
+     *
+     * @return the SmartsheetPoolBuilder
+     */
+    public static SmartsheetPoolBuilder customPool() {
+        return new SmartsheetPoolBuilder();
+    }
 }
@@ -0,0 +1,106 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * <p>A pool of Smartsheet clients, one per access token, that share a single HttpClient and JsonSerializer.</p>
+ *
+ * <p>Each call is routed to the least-loaded healthy token that still has request budget left. When a token is
+ * rate limited it is put on a cool-down and the call fails over to another token; when a token turns out to be
+ * invalid or expired it is taken out of rotation; when a token is not authorized for the requested object the call is
+ * retried with the remaining tokens. Aggregate throughput therefore scales with the number of tokens in the pool.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface SmartsheetPool extends Closeable {
+
+    /**
+     * <p>A unit of work to run against one of the pooled clients.</p>
+     *
+     * <p>The client passed in must only be used for the duration of the call, and its shared state (access token,
+     * assumed user, ...) must not be changed. Each call is charged as one request against the token's budget, so a
+     * call should make a single API request.</p>
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    interface Call<T> {
+        T call(Smartsheet smartsheet) throws SmartsheetException;
+    }
+
+    /**
+     * <p>A point-in-time view of one pooled token. The token value itself is never exposed.</p>
+     */
+    interface TokenStatus {
+        /**
+         * @return the position of the token in the pool (the order in which it was added)
+         */
+        int getIndex();
+
+        /**
+         * @return the number of calls currently running on the token
+         */
+        int getInFlight();
+
+        /**
+         * @return the number of requests the token can make right now without exceeding its budget
+         */
+        int getAvailablePermits();
+
+        /**
+         * @return true if the token is on a rate limiting cool-down
+         */
+        boolean isThrottled();
+
+        /**
+         * @return true if the token was rejected as invalid or expired and is no longer used
+         */
+        boolean isExpired();
+
+        /**
+         * @return the number of calls made with the token so far
+         */
+        long getCallCount();
+    }
+
+    /**
+     * <p>Run a call on the least-loaded healthy token, failing over to other tokens as needed.</p>
+     *
+     * @param call the call to make
+     * @param <T> the result type
+     * @return the result of the call
+     * @throws AuthorizationException if no token in the pool is authorized to make the call
+     * @throws SmartsheetException if the call fails on every usable token, or fails for a reason unrelated to the
+     * token used
+     */
+    <T> T execute(Call<T> call) throws SmartsheetException;
+
+    /**
+     * <p>Returns the status of each token in the pool.</p>
+     *
+     * @return the token statuses, in the order the tokens were added
+     */
+    List<TokenStatus> getTokenStatuses();
+}
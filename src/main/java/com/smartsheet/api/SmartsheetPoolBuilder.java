@@ -0,0 +1,225 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.SmartsheetPoolImpl;
+import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.json.JsonSerializer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>A convenience class to help create a {@link SmartsheetPool} instance with the appropriate fields.</p>
+ *
+ * <p>Thread Safety: This class is not thread safe since it's mutable, one builder instance is NOT expected to be used in
+ * multiple threads.</p>
+ */
+public class SmartsheetPoolBuilder {
+    /**
+     * <p>Represents the default per-token request budget, the number of requests the Smartsheet API allows each
+     * access token to make per minute.</p>
+     */
+    public static final int DEFAULT_REQUESTS_PER_MINUTE = 300;
+
+    /**
+     * <p>Represents the default time a rate limited token is kept out of rotation.</p>
+     */
+    public static final long DEFAULT_THROTTLE_COOLDOWN_MILLIS = 60000;
+
+    /**
+     * <p>Represents the shared HttpClient.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private HttpClient httpClient;
+
+    /**
+     * <p>Represents the shared JsonSerializer.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private JsonSerializer jsonSerializer;
+
+    /**
+     * <p>Represents the base URI.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private String baseURI;
+
+    /**
+     * <p>Represents the pooled access tokens.</p>
+     */
+    private final List<String> accessTokens = new ArrayList<>();
+
+    /**
+     * <p>Represents the per-token request budget.</p>
+     */
+    private int requestsPerMinute = DEFAULT_REQUESTS_PER_MINUTE;
+
+    /**
+     * <p>Represents the time a rate limited token is kept out of rotation.</p>
+     */
+    private long throttleCooldownMillis = DEFAULT_THROTTLE_COOLDOWN_MILLIS;
+
+    /**
+     * <p>Represents the maximum number of attempts made for one call.</p>
+     */
+    private Integer maxAttempts;
+
+    /**
+     * Constructor.
+     */
+    public SmartsheetPoolBuilder() {
+    }
+
+    /**
+     * <p>Set the HttpClient shared by all tokens.</p>
+     *
+     * <p>If it is not set, the pool creates a DefaultHttpClient with its own retry loop disabled, so that rate
+     * limited calls fail over to another token instead of sleeping on the throttled one. Its connection pool is sized
+     * to the number of tokens, so a custom client should allow enough connections per route for all of them.</p>
+     *
+     * @param httpClient the http client
+     * @return the pool builder
+     */
+    public SmartsheetPoolBuilder setHttpClient(HttpClient httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    /**
+     * <p>Set the JsonSerializer shared by all tokens.</p>
+     *
+     * @param jsonSerializer the JsonSerializer
+     * @return the pool builder
+     */
+    public SmartsheetPoolBuilder setJsonSerializer(JsonSerializer jsonSerializer) {
+        this.jsonSerializer = jsonSerializer;
+        return this;
+    }
+
+    /**
+     * <p>Set the base URI.</p>
+     *
+     * @param baseURI the base uri
+     * @return the pool builder
+     */
+    public SmartsheetPoolBuilder setBaseURI(String baseURI) {
+        this.baseURI = baseURI;
+        return this;
+    }
+
+    /**
+     * <p>Add an access token to the pool.</p>
+     *
+     * @param accessToken the access token
+     * @return the pool builder
+     */
+    public SmartsheetPoolBuilder addAccessToken(String accessToken) {
+        this.accessTokens.add(accessToken);
+        return this;
+    }
+
+    /**
+     * <p>Add access tokens to the pool.</p>
+     *
+     * @param accessTokens the access tokens
+     * @return the pool builder
+     */
+    public SmartsheetPoolBuilder addAccessTokens(Collection<String> accessTokens) {
+        this.accessTokens.addAll(accessTokens);
+        return this;
+    }
+
+    /**
+     * <p>Set the number of requests each token may make per minute.</p>
+     *
+     * @param requestsPerMinute the per-token budget
+     * @return the pool builder
+     */
+    public SmartsheetPoolBuilder setRequestsPerMinute(int requestsPerMinute) {
+        this.requestsPerMinute = requestsPerMinute;
+        return this;
+    }
+
+    /**
+     * <p>Set how long a rate limited token is kept out of rotation.</p>
+     *
+     * @param throttleCooldownMillis the cool-down in milliseconds
+     * @return the pool builder
+     */
+    public SmartsheetPoolBuilder setThrottleCooldownMillis(long throttleCooldownMillis) {
+        this.throttleCooldownMillis = throttleCooldownMillis;
+        return this;
+    }
+
+    /**
+     * <p>Set the maximum number of attempts made for a single call (defaults to twice the number of tokens).</p>
+     *
+     * @param maxAttempts the maximum number of attempts
+     * @return the pool builder
+     */
+    public SmartsheetPoolBuilder setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * <p>Gets the access tokens.</p>
+     *
+     * @return the access tokens
+     */
+    public List<String> getAccessTokens() {
+        return accessTokens;
+    }
+
+    /**
+     * <p>Gets the base uri.</p>
+     *
+     * @return the base uri
+     */
+    public String getBaseURI() {
+        return baseURI;
+    }
+
+    /**
+     * <p>Build the SmartsheetPool instance.</p>
+     *
+     * @return the SmartsheetPool instance
+     * @throws IllegalStateException if no access token was added
+     */
+    public SmartsheetPool build() {
+        if (accessTokens.isEmpty()) {
+            throw new IllegalStateException("at least one access token is required");
+        }
+        if (baseURI == null) {
+            baseURI = SmartsheetBuilder.DEFAULT_BASE_URI;
+        }
+        int attempts = maxAttempts == null ? accessTokens.size() * 2 : maxAttempts;
+
+        return new SmartsheetPoolImpl(baseURI, accessTokens, httpClient, jsonSerializer, requestsPerMinute,
+                throttleCooldownMillis, attempts);
+    }
+}
@@ -0,0 +1,128 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.WebhookCallback;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>An embedded HTTP endpoint (on the JDK's {@code com.sun.net.httpserver}) that receives the callbacks of
+ * webhooks.</p>
+ *
+ * <p>The receiver answers the verification challenge Smartsheet sends when a webhook is enabled, checks the
+ * {@code Smartsheet-Hmac-SHA256} signature of every other callback against the webhooks' shared secrets (in constant
+ * time), and acknowledges a callback as soon as it is queued; callbacks with an invalid signature are refused with
+ * 401. A callback whose nonce was seen recently is a retry of one already queued, it is acknowledged without being
+ * queued again.</p>
+ *
+ * <p>Callbacks are queued in a bounded queue and handed to the handler in batches of whatever has accumulated, up to
+ * the batch size, so a slow handler gets larger batches instead of holding up the responses. When the queue is full
+ * callbacks are refused with 503, and Smartsheet retries them later.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface WebhookReceiver extends AutoCloseable {
+
+    /**
+     * <p>Handles batches of callbacks. It is called from the dispatch threads.</p>
+     */
+    interface Handler {
+        /**
+         * Handle a batch of callbacks, in the order they were received.
+         *
+         * @param callbacks the callbacks
+         * @throws SmartsheetException if the callbacks can not be handled; they are passed to {@link #failed} and
+         * the receiver moves on (Smartsheet does not send them again, they have been acknowledged)
+         */
+        void handle(List<WebhookCallback> callbacks) throws SmartsheetException;
+
+        /**
+         * A batch of callbacks could not be handled.
+         *
+         * @param callbacks the callbacks
+         * @param error the exception thrown by {@link #handle}
+         */
+        default void failed(List<WebhookCallback> callbacks, Exception error) {
+        }
+    }
+
+    /**
+     * <p>Bind the port and start receiving.</p>
+     *
+     * @throws SmartsheetException if the port can not be bound
+     * @throws IllegalStateException if the receiver was already started or closed
+     */
+    void start() throws SmartsheetException;
+
+    /**
+     * <p>Return the port the receiver listens on, useful when it was built with port 0.</p>
+     *
+     * @return the port, or -1 if not started
+     */
+    int getPort();
+
+    /**
+     * <p>Return the number of callbacks queued so far.</p>
+     *
+     * @return the number of callbacks
+     */
+    long getCallbacksReceived();
+
+    /**
+     * <p>Return the number of retried callbacks acknowledged without being queued again.</p>
+     *
+     * @return the number of callbacks
+     */
+    long getDuplicates();
+
+    /**
+     * <p>Return the number of requests refused for an invalid signature or body.</p>
+     *
+     * @return the number of requests
+     */
+    long getRejected();
+
+    /**
+     * <p>Return the number of callbacks handed to the handler so far, including those it failed on.</p>
+     *
+     * @return the number of callbacks
+     */
+    long getCallbacksDispatched();
+
+    /**
+     * <p>Wait for the queued callbacks to be dispatched after the receiver was closed.</p>
+     *
+     * @param timeout the longest wait
+     * @param unit the unit of the wait
+     * @return true if dispatching has finished (or never started)
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * <p>Stop receiving. The callbacks already queued are still dispatched.</p>
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,258 @@
+package com.smartsheet.api;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.WebhookReceiverImpl;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.Util;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>A convenience class to help create a {@link WebhookReceiver} instance with the appropriate fields, e.g.
+ * {@code new WebhookReceiverBuilder(handler).setPort(8443).addSharedSecret(webhook.getSharedSecret()).build()}.</p>
+ *
+ * <p>Thread Safety: This class is not thread safe since it's mutable, one builder instance is NOT expected to be used in
+ * multiple threads.</p>
+ */
+public class WebhookReceiverBuilder {
+    /**
+     * <p>Represents the default path callbacks are received on.</p>
+     */
+    public static final String DEFAULT_PATH = "/";
+
+    /**
+     * <p>Represents the default number of threads answering requests.</p>
+     */
+    public static final int DEFAULT_HTTP_THREADS = 4;
+
+    /**
+     * <p>Represents the default number of callbacks queued for dispatch.</p>
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+    /**
+     * <p>Represents the default largest number of callbacks handed to the handler at once.</p>
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    /**
+     * <p>Represents the default number of threads calling the handler.</p>
+     */
+    public static final int DEFAULT_DISPATCH_THREADS = 1;
+
+    /**
+     * <p>Represents the default number of recent nonces remembered to recognize retried callbacks.</p>
+     */
+    public static final int DEFAULT_DEDUP_CAPACITY = 10000;
+
+    /**
+     * <p>Represents the default largest callback body accepted, in bytes.</p>
+     */
+    public static final int DEFAULT_MAX_BODY_BYTES = 1024 * 1024;
+
+    private final WebhookReceiver.Handler handler;
+
+    private final List<String> sharedSecrets = new ArrayList<>();
+
+    private InetAddress bindAddress;
+
+    private int port;
+
+    private String path = DEFAULT_PATH;
+
+    private int httpThreads = DEFAULT_HTTP_THREADS;
+
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    private int dispatchThreads = DEFAULT_DISPATCH_THREADS;
+
+    private int dedupCapacity = DEFAULT_DEDUP_CAPACITY;
+
+    private int maxBodyBytes = DEFAULT_MAX_BODY_BYTES;
+
+    private JsonSerializer jsonSerializer;
+
+    /**
+     * Constructor.
+     *
+     * @param handler the handler of the callbacks
+     */
+    public WebhookReceiverBuilder(WebhookReceiver.Handler handler) {
+        this.handler = Util.throwIfNull(handler);
+    }
+
+    /**
+     * <p>Add the shared secret of a webhook whose callbacks are received. A callback is accepted if it is signed with
+     * any of the secrets, so a secret can be rotated with {@link WebhookResources#resetSharedSecret} by adding the
+     * new one before the old one is dropped.</p>
+     *
+     * @param sharedSecret the shared secret
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder addSharedSecret(String sharedSecret) {
+        Util.throwIfNull(sharedSecret);
+        Util.throwIfEmpty(sharedSecret);
+        sharedSecrets.add(sharedSecret);
+        return this;
+    }
+
+    /**
+     * <p>Set the address to listen on. If it is not set the receiver listens on all addresses.</p>
+     *
+     * @param bindAddress the address
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder setBindAddress(InetAddress bindAddress) {
+        this.bindAddress = bindAddress;
+        return this;
+    }
+
+    /**
+     * <p>Set the port to listen on.</p>
+     *
+     * @param port the port, 0 (the default) for any free port
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder setPort(int port) {
+        this.port = port;
+        return this;
+    }
+
+    /**
+     * <p>Set the path callbacks are received on (and every path below it).</p>
+     *
+     * @param path the path
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder setPath(String path) {
+        this.path = path;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of threads answering requests.</p>
+     *
+     * @param httpThreads the number of threads
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder setHttpThreads(int httpThreads) {
+        this.httpThreads = httpThreads;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of callbacks queued for dispatch before further callbacks are refused.</p>
+     *
+     * @param queueCapacity the number of callbacks
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * <p>Set the largest number of callbacks handed to the handler at once.</p>
+     *
+     * @param maxBatchSize the number of callbacks
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of threads calling the handler. With more than one, batches may be handled out of order.</p>
+     *
+     * @param dispatchThreads the number of threads
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder setDispatchThreads(int dispatchThreads) {
+        this.dispatchThreads = dispatchThreads;
+        return this;
+    }
+
+    /**
+     * <p>Set the number of recent nonces remembered to recognize retried callbacks.</p>
+     *
+     * @param dedupCapacity the number of nonces, 0 to queue every callback
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder setDedupCapacity(int dedupCapacity) {
+        this.dedupCapacity = dedupCapacity;
+        return this;
+    }
+
+    /**
+     * <p>Set the largest callback body accepted; larger ones are refused with 413.</p>
+     *
+     * @param maxBodyBytes the number of bytes
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder setMaxBodyBytes(int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+        return this;
+    }
+
+    /**
+     * <p>Set the serializer the callbacks are read with. If it is not set a default {@link JacksonJsonSerializer} is
+     * used.</p>
+     *
+     * @param jsonSerializer the serializer
+     * @return the webhook receiver builder
+     */
+    public WebhookReceiverBuilder setJsonSerializer(JsonSerializer jsonSerializer) {
+        this.jsonSerializer = jsonSerializer;
+        return this;
+    }
+
+    /**
+     * <p>Build the WebhookReceiver instance. Nothing is bound until it is started.</p>
+     *
+     * @return the WebhookReceiver instance
+     * @throws IllegalArgumentException if no shared secret was added, the path is not absolute or a size is out of
+     * range
+     */
+    public WebhookReceiver build() {
+        if (sharedSecrets.isEmpty()) {
+            throw new IllegalArgumentException("at least one shared secret is required to verify callbacks");
+        }
+        if (path == null || !path.startsWith("/")) {
+            throw new IllegalArgumentException("the path must start with /");
+        }
+        if (port < 0 || httpThreads < 1 || queueCapacity < 1 || maxBatchSize < 1 || dispatchThreads < 1
+                || dedupCapacity < 0 || maxBodyBytes < 1) {
+            throw new IllegalArgumentException("port and dedupCapacity must not be negative, the other sizes must be "
+                    + "positive");
+        }
+        return new WebhookReceiverImpl(handler, sharedSecrets, bindAddress, port, path, httpThreads, queueCapacity,
+                maxBatchSize, dispatchThreads, dedupCapacity, maxBodyBytes,
+                jsonSerializer == null ? new JacksonJsonSerializer() : jsonSerializer);
+    }
+}
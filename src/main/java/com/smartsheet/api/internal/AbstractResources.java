@@ -211,7 +211,7 @@ public abstract class AbstractResources {
             throw new ResourceNotFoundException(error);
         }
 
-        HttpRequest  request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        HttpRequest  request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.GET);
 
         T obj = null;
         String content = null;
@@ -273,7 +273,7 @@ public abstract class AbstractResources {
         Util.throwIfNull(path, object, objectClass);
         Util.throwIfEmpty(path);
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.POST);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
@@ -341,7 +341,7 @@ public abstract class AbstractResources {
         HttpRequest request;
         final String boundary = "----" + System.currentTimeMillis() ;
         CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpPost uploadFile = createHttpPost(this.getSmartsheet().getBaseURI().resolve(path));
+        HttpPost uploadFile = createHttpPost(this.getSmartsheet().resolveURI(path));
 
         try {
             uploadFile.setHeader("Content-Type", "multipart/form-data; boundary=" + boundary);
@@ -395,7 +395,7 @@ public abstract class AbstractResources {
         Util.throwIfEmpty(path);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
+        request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.PUT);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
@@ -446,7 +446,7 @@ public abstract class AbstractResources {
         Util.throwIfEmpty(path);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.GET);
 
 
         List<T> obj = null;
@@ -488,7 +488,7 @@ public abstract class AbstractResources {
         Util.throwIfEmpty(path);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.GET);
 
 
         PagedResult<T> obj = null;
@@ -531,7 +531,7 @@ public abstract class AbstractResources {
         Util.throwIfEmpty(path);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
+        request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.DELETE);
 
         try {
             HttpResponse response = this.smartsheet.getHttpClient().request(request);
@@ -572,7 +572,7 @@ public abstract class AbstractResources {
 
         Result<List<T>> obj = null;
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
+        request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.DELETE);
         try {
             HttpResponse response = this.smartsheet.getHttpClient().request(request);
             switch (response.getStatusCode()) {
@@ -617,7 +617,7 @@ public abstract class AbstractResources {
         Util.throwIfNull(path, objectToPost, objectClassToReceive);
         Util.throwIfEmpty(path);
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.POST);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(objectToPost, objectBytesStream);
@@ -670,7 +670,7 @@ public abstract class AbstractResources {
         Util.throwIfNull(path, objectToPost);
         Util.throwIfEmpty(path);
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.POST);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(objectToPost, objectBytesStream);
@@ -723,7 +723,7 @@ public abstract class AbstractResources {
         Util.throwIfNull(path, objectToPut, objectClassToReceive);
         Util.throwIfEmpty(path);
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
+        HttpRequest request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.PUT);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(objectToPut, objectBytesStream);
@@ -768,16 +768,15 @@ public abstract class AbstractResources {
         request.setUri(uri);
         request.setMethod(method);
 
-        // Set authorization header
-        request.setHeaders(createHeaders());
+        // Set authorization header (the shared map is copied if the request's headers are modified)
+        request.setSharedHeaders(smartsheet.getBaseHeaders());
 
         return request;
     }
 
     protected HttpPost createHttpPost(URI uri) {
         HttpPost httpPost = new HttpPost(uri);
-        Map<String, String> headers = createHeaders();
-        for (Map.Entry<String, String> entry : headers.entrySet()) {
+        for (Map.Entry<String, String> entry : smartsheet.getBaseHeaders().entrySet()) {
             httpPost.addHeader(entry.getKey(), entry.getValue());
         }
         return httpPost;
@@ -785,8 +784,8 @@ public abstract class AbstractResources {
     public Attachment attachFile(String url, InputStream inputStream, String contentType, long contentLength, String attachmentName)
             throws SmartsheetException {
         Util.throwIfNull(inputStream, contentType);
-        HttpRequest request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(url), HttpMethod.POST);
-        request.getHeaders().put("Content-Disposition", "attachment; filename=\"" + URLEncoder.encode(attachmentName, StandardCharsets.UTF_8) + "\"");
+        HttpRequest request = createHttpRequest(this.getSmartsheet().resolveURI(url), HttpMethod.POST);
+        request.addHeader("Content-Disposition", "attachment; filename=\"" + URLEncoder.encode(attachmentName, StandardCharsets.UTF_8) + "\"");
         HttpEntity entity = new HttpEntity();
         entity.setContentType(contentType);
         entity.setContent(new LengthEnforcingInputStream(inputStream, contentLength));
@@ -829,7 +828,7 @@ public abstract class AbstractResources {
         final String boundary = "----" + System.currentTimeMillis() ;
 
         CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpPost uploadFile = createHttpPost(this.getSmartsheet().getBaseURI().resolve(url));
+        HttpPost uploadFile = createHttpPost(this.getSmartsheet().resolveURI(url));
 
         try {
             uploadFile.setHeader("Content-Type", "multipart/form-data; boundary=" + boundary);
@@ -927,8 +926,8 @@ public abstract class AbstractResources {
         Util.throwIfNull(outputStream, fileType);
 
         HttpRequest request;
-        request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(path), HttpMethod.GET);
-        request.getHeaders().put("Accept", fileType);
+        request = createHttpRequest(this.getSmartsheet().resolveURI(path), HttpMethod.GET);
+        request.addHeader("Accept", fileType);
 
         try {
             HttpResponse response = getSmartsheet().getHttpClient().request(request);
@@ -976,24 +975,11 @@ public abstract class AbstractResources {
 
 
     /**
-     * @return a map of headers to be used when making requests.
+     * @return a map of headers to be used when making requests (a copy of the precomputed base headers which the
+     * caller may add to).
      */
-     Map<String,String> createHeaders() {
-        Map<String, String> headers = new HashMap<>();
-        headers.put("Authorization", "Bearer " + smartsheet.getAccessToken());
-        headers.put("Content-Type", "application/json");
-
-        // Set assumed user
-        if (smartsheet.getAssumedUser() != null) {
-            headers.put("Assume-User", URLEncoder.encode(smartsheet.getAssumedUser(), StandardCharsets.UTF_8));
-        }
-         if (smartsheet.getChangeAgent() != null) {
-             headers.put("Smartsheet-Change-Agent", URLEncoder.encode(smartsheet.getChangeAgent(), StandardCharsets.UTF_8));
-         }
-         if (smartsheet.getUserAgent() != null) {
-             headers.put("User-Agent", smartsheet.getUserAgent());
-         }
-        return headers;
+    Map<String,String> createHeaders() {
+        return new HashMap<>(smartsheet.getBaseHeaders());
     }
 
     int getResponseLogLength() {
@@ -0,0 +1,427 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.BulkRowWriter;
+import com.smartsheet.api.SheetRowResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.UncheckedSmartsheetException;
+import com.smartsheet.api.internal.http.HttpClientException;
+import com.smartsheet.api.internal.json.JSONSerializerException;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.DaemonThreadFactory;
+import com.smartsheet.api.internal.util.ErrorUtil;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.BulkRowFailedItem;
+import com.smartsheet.api.models.BulkRowWriteReport;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * This is the implementation of the BulkRowWriter interface.
+ *
+ * Each written row is serialized once to measure its size, so that a batch is cut before it would exceed either the
+ * row or the byte limit. Full batches are sent on the executor; a semaphore with one permit per batch in flight is
+ * taken before a batch is handed over and given back when it completes, which is what blocks the writing thread once
+ * the limit is reached. Results are merged under their own lock, keyed by the index of the first row of each batch so
+ * the report lists rows in the order they were written however the batches complete.
+ *
+ * Thread Safety: This class is thread safe, the batch being filled is guarded by the instance monitor and the results
+ * by their own lock.
+ */
+public class BulkRowWriterImpl implements BulkRowWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkRowWriterImpl.class);
+
+    private final SheetRowResources rowResources;
+
+    private final long sheetId;
+
+    private final Operation operation;
+
+    private final boolean allowPartialSuccess;
+
+    private final int maxRowsPerBatch;
+
+    private final int maxBatchBytes;
+
+    private final int maxInFlight;
+
+    private final int maxRetries;
+
+    private final long retryDelayMillis;
+
+    private final boolean keepRows;
+
+    private final JsonSerializer jsonSerializer;
+
+    private final Executor executor;
+
+    private final TokenBucket rateLimiter;
+
+    /**
+     * One permit per batch that may be in flight.
+     */
+    private final Semaphore inFlight;
+
+    /**
+     * The rows of the batch being filled.
+     */
+    private List<Row> batch = new ArrayList<>();
+
+    /**
+     * The serialized size of the batch being filled, counting the brackets and commas of the JSON array.
+     */
+    private long batchBytes = 1;
+
+    /**
+     * The number of rows written so far, which is also the index of the next row.
+     */
+    private int rowsWritten;
+
+    private BulkRowWriteReport report;
+
+    private final Object resultLock = new Object();
+
+    /**
+     * The rows returned by the API, by the index of the first row of their batch.
+     */
+    private final Map<Integer, List<Row>> returnedRows = new TreeMap<>();
+
+    private final List<BulkRowFailedItem> failedItems = new ArrayList<>();
+
+    private int batches;
+
+    private int retries;
+
+    /**
+     * Constructor.
+     *
+     * @param rowResources the row resources to write with
+     * @param sheetId the sheet id
+     * @param operation add or update
+     * @param allowPartialSuccess true to send the batches with partial success allowed
+     * @param maxRowsPerBatch the maximum number of rows per batch
+     * @param maxBatchBytes the maximum serialized size of a batch
+     * @param maxInFlight the maximum number of batches in flight
+     * @param maxRetries the number of times a batch is retried after a transient error
+     * @param retryDelayMillis the delay before the first retry, doubling with each retry
+     * @param keepRows true to keep the rows returned by the API for the report
+     * @param jsonSerializer the serializer used to measure rows
+     * @param executor the executor that sends the batches, null for the shared pool
+     * @param rateLimiter the budget each request takes a permit from, null for none
+     */
+    public BulkRowWriterImpl(SheetRowResources rowResources, long sheetId, Operation operation,
+                             boolean allowPartialSuccess, int maxRowsPerBatch, int maxBatchBytes, int maxInFlight,
+                             int maxRetries, long retryDelayMillis, boolean keepRows, JsonSerializer jsonSerializer,
+                             Executor executor, TokenBucket rateLimiter) {
+        this.rowResources = rowResources;
+        this.sheetId = sheetId;
+        this.operation = operation;
+        this.allowPartialSuccess = allowPartialSuccess;
+        this.maxRowsPerBatch = maxRowsPerBatch;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxInFlight = maxInFlight;
+        this.maxRetries = maxRetries;
+        this.retryDelayMillis = retryDelayMillis;
+        this.keepRows = keepRows;
+        this.jsonSerializer = jsonSerializer;
+        this.executor = executor != null ? executor : SharedExecutor.INSTANCE;
+        this.rateLimiter = rateLimiter;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public synchronized void write(Row row) {
+        Util.throwIfNull(row);
+        if (report != null) {
+            throw new IllegalStateException("the writer has been finished");
+        }
+        long size = sizeOf(row);
+        if (!batch.isEmpty() && batchBytes + size + 1 > maxBatchBytes) {
+            send();
+        }
+        batch.add(row);
+        batchBytes += size + 1;
+        rowsWritten++;
+        if (batch.size() >= maxRowsPerBatch) {
+            send();
+        }
+    }
+
+    @Override
+    public void writeAll(Iterable<? extends Row> rows) {
+        for (Row row : rows) {
+            write(row);
+        }
+    }
+
+    @Override
+    public void writeAll(Stream<? extends Row> rows) {
+        rows.forEachOrdered(this::write);
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (!batch.isEmpty()) {
+            send();
+        }
+        awaitBatches();
+    }
+
+    @Override
+    public synchronized BulkRowWriteReport finish() {
+        if (report == null) {
+            flush();
+            synchronized (resultLock) {
+                List<Row> rows = new ArrayList<>();
+                for (List<Row> batchRows : returnedRows.values()) {
+                    rows.addAll(batchRows);
+                }
+                List<BulkRowFailedItem> failed = new ArrayList<>(failedItems);
+                failed.sort(Comparator.comparingInt(BulkRowFailedItem::getIndex));
+                report = new BulkRowWriteReport(rowsWritten, batches, retries, rows, failed);
+            }
+        }
+        return report;
+    }
+
+    @Override
+    public void close() {
+        finish();
+    }
+
+    @Override
+    public long getSheetId() {
+        return sheetId;
+    }
+
+    @Override
+    public Operation getOperation() {
+        return operation;
+    }
+
+    private long sizeOf(Row row) {
+        CountingOutputStream out = new CountingOutputStream();
+        try {
+            jsonSerializer.serialize(row, out);
+        } catch (JSONSerializerException e) {
+            throw new UncheckedSmartsheetException(e);
+        }
+        return out.count;
+    }
+
+    /**
+     * Hand the batch being filled to the executor, waiting for a batch in flight to complete if necessary.
+     */
+    private void send() {
+        List<Row> rows = batch;
+        int start = rowsWritten - rows.size();
+        batch = new ArrayList<>();
+        batchBytes = 1;
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordFailure(start, rows, new SmartsheetException("interrupted before the batch was sent", e));
+            throw new UncheckedSmartsheetException(new SmartsheetException("interrupted while waiting for a batch", e));
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    sendBatch(start, rows);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            recordFailure(start, rows, new SmartsheetException("the executor rejected the batch", e));
+        }
+    }
+
+    private void awaitBatches() {
+        try {
+            inFlight.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedSmartsheetException(new SmartsheetException("interrupted while waiting for a batch", e));
+        }
+        inFlight.release(maxInFlight);
+    }
+
+    /**
+     * Send a batch, retrying it after transient errors, and record the outcome.
+     */
+    private void sendBatch(int start, List<Row> rows) {
+        int attempt = 0;
+        while (true) {
+            try {
+                if (rateLimiter != null) {
+                    rateLimiter.acquire();
+                }
+                record(start, rows, call(rows), attempt);
+                return;
+            } catch (SmartsheetException e) {
+                if (attempt >= maxRetries || !isRetryable(e)) {
+                    recordFailure(start, rows, e, attempt);
+                    return;
+                }
+                long delay = retryDelayMillis << Math.min(attempt, 20);
+                attempt++;
+                log.info("Writing rows {} to {} of sheet {} failed ({}), retrying in {} milliseconds", start,
+                        start + rows.size() - 1, sheetId, e.getMessage(), delay);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    recordFailure(start, rows, e, attempt);
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recordFailure(start, rows, new SmartsheetException("interrupted while waiting for the request budget",
+                        e), attempt);
+                return;
+            } catch (RuntimeException e) {
+                recordFailure(start, rows, new SmartsheetException(e), attempt);
+                return;
+            }
+        }
+    }
+
+    private PartialRowUpdateResult call(List<Row> rows) throws SmartsheetException {
+        if (allowPartialSuccess) {
+            return operation == Operation.ADD
+                    ? rowResources.addRowsAllowPartialSuccess(sheetId, rows)
+                    : rowResources.updateRowsAllowPartialSuccess(sheetId, rows);
+        }
+        PartialRowUpdateResult result = new PartialRowUpdateResult();
+        result.setResult(operation == Operation.ADD
+                ? rowResources.addRows(sheetId, rows)
+                : rowResources.updateRows(sheetId, rows));
+        return result;
+    }
+
+    /**
+     * An added batch that failed with an I/O error may still have been applied by the server, so sending it again could
+     * add its rows twice; it is recorded as failed instead. Updates are idempotent and are retried.
+     */
+    private boolean isRetryable(SmartsheetException e) {
+        if (operation == Operation.ADD && e instanceof HttpClientException) {
+            return false;
+        }
+        return ErrorUtil.isTransient(e);
+    }
+
+    private void record(int start, List<Row> rows, PartialRowUpdateResult result, int attempts) {
+        synchronized (resultLock) {
+            batches += attempts + 1;
+            retries += attempts;
+            if (keepRows && result.getResult() != null) {
+                returnedRows.put(start, result.getResult());
+            }
+            if (result.getFailedItems() != null) {
+                for (BulkRowFailedItem item : result.getFailedItems()) {
+                    Long rowId = item.getRowId();
+                    if (rowId == null && item.getIndex() >= 0 && item.getIndex() < rows.size()) {
+                        rowId = rows.get(item.getIndex()).getId();
+                    }
+                    failedItems.add(new BulkRowFailedItem()
+                            .setIndex(start + item.getIndex())
+                            .setRowId(rowId)
+                            .setError(item.getError()));
+                }
+            }
+        }
+    }
+
+    private void recordFailure(int start, List<Row> rows, SmartsheetException e, int attempts) {
+        synchronized (resultLock) {
+            batches += attempts + 1;
+            retries += attempts;
+        }
+        recordFailure(start, rows, e);
+    }
+
+    private void recordFailure(int start, List<Row> rows, SmartsheetException e) {
+        Error error = new Error().setMessage(e.getMessage());
+        if (e instanceof SmartsheetRestException) {
+            SmartsheetRestException restException = (SmartsheetRestException) e;
+            error.setErrorCode(restException.getErrorCode())
+                    .setRefId(restException.getRefId())
+                    .setDetail(restException.getDetail());
+        }
+        synchronized (resultLock) {
+            for (int i = 0; i < rows.size(); i++) {
+                failedItems.add(new BulkRowFailedItem()
+                        .setIndex(start + i)
+                        .setRowId(rows.get(i).getId())
+                        .setError(error));
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes written to it and drops them.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    /**
+     * The pool that sends batches when no executor was given.
+     */
+    private static final class SharedExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(new DaemonThreadFactory("smartsheet-bulk-writer-"));
+    }
+}
@@ -0,0 +1,331 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.EventDispatcher;
+import com.smartsheet.api.EventStream;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.DaemonThreadFactory;
+import com.smartsheet.api.models.Event;
+import com.smartsheet.api.models.EventResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is the implementation of the EventDispatcher interface.
+ *
+ * The dispatcher subscribes to the stream's batches. Each batch gets a tracker counting its events still to be
+ * handled, and the trackers are kept in stream order; whenever a batch is done, the trackers done at the head are
+ * removed and the position of the last one is saved, so the saved position never passes an event still queued or
+ * being handled. The next batch is requested once all events of the current one are queued.
+ *
+ * Thread Safety: This class is thread safe, the trackers are guarded by their deque's monitor (which also orders the
+ * checkpoints) and the lifecycle by the instance monitor.
+ */
+public class EventDispatcherImpl implements EventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EventDispatcherImpl.class);
+
+    /**
+     * Tells a lane to stop once the events before it are handled.
+     */
+    private static final Task STOP = new Task(null, null);
+
+    private final EventStream stream;
+
+    private final Handler handler;
+
+    private final Executor executor;
+
+    private final List<BlockingQueue<Task>> lanes;
+
+    private final CountDownLatch terminated;
+
+    /**
+     * The batches not fully handled yet, in stream order.
+     */
+    private final ArrayDeque<Batch> pending = new ArrayDeque<>();
+
+    private final AtomicLong handled = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile Throwable error;
+
+    /**
+     * Whether the dispatcher was started or closed, guarded by this.
+     */
+    private boolean started;
+
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param stream the stream, not yet subscribed
+     * @param handler the handler
+     * @param lanes the number of lanes
+     * @param laneCapacity the number of events queued per lane
+     * @param executor the executor running the lanes, null for the shared pool
+     */
+    public EventDispatcherImpl(EventStream stream, Handler handler, int lanes, int laneCapacity, Executor executor) {
+        this.stream = stream;
+        this.handler = handler;
+        this.executor = executor != null ? executor : SharedExecutor.INSTANCE;
+        List<BlockingQueue<Task>> queues = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            queues.add(new ArrayBlockingQueue<>(laneCapacity));
+        }
+        this.lanes = queues;
+        this.terminated = new CountDownLatch(lanes);
+    }
+
+    @Override
+    public void start() {
+        synchronized (this) {
+            if (started || closed) {
+                throw new IllegalStateException("the dispatcher was already started or closed");
+            }
+            started = true;
+        }
+        for (BlockingQueue<Task> lane : lanes) {
+            executor.execute(() -> run(lane));
+        }
+        stream.subscribeBatches(new BatchSubscriber());
+    }
+
+    @Override
+    public long getEventsHandled() {
+        return handled.get();
+    }
+
+    @Override
+    public long getEventsFailed() {
+        return failed.get();
+    }
+
+    @Override
+    public Throwable getError() {
+        return error;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        synchronized (this) {
+            if (!started) {
+                return true;
+            }
+        }
+        return terminated.await(timeout, unit);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        stream.close();
+    }
+
+    /**
+     * Pick the lane of an event, the same one for every event of an object. Numeric ids hash alike whatever their
+     * boxed type, since small ids are read as integers and large ones as longs.
+     *
+     * @param event the event
+     * @param lanes the number of lanes
+     * @return the lane index
+     */
+    static int laneOf(Event event, int lanes) {
+        Object id = event.getObjectId();
+        String key = event.getObjectType() + ":" + (id instanceof Number ? Long.toString(((Number) id).longValue()) : id);
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes);
+    }
+
+    private void run(BlockingQueue<Task> lane) {
+        try {
+            while (true) {
+                Task task = lane.take();
+                if (task == STOP) {
+                    return;
+                }
+                handle(task.event);
+                if (task.batch.remaining.decrementAndGet() == 0) {
+                    advance();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    private void handle(Event event) {
+        try {
+            handler.handle(event);
+        } catch (SmartsheetException | RuntimeException e) {
+            failed.incrementAndGet();
+            log.warn("Failed to handle event {}", event.getEventId(), e);
+            try {
+                handler.failed(event, e);
+            } catch (RuntimeException callbackError) {
+                log.warn("Failure callback failed on event {}", event.getEventId(), callbackError);
+            }
+        } finally {
+            handled.incrementAndGet();
+        }
+    }
+
+    /**
+     * Remove the handled batches at the head and save the position of the last one.
+     */
+    private void advance() {
+        synchronized (pending) {
+            String position = null;
+            while (!pending.isEmpty() && pending.peek().remaining.get() == 0) {
+                Batch batch = pending.poll();
+                if (batch.position != null) {
+                    position = batch.position;
+                }
+            }
+            if (position != null) {
+                try {
+                    stream.checkpoint(position);
+                } catch (SmartsheetException e) {
+                    // a later batch saves a later position
+                    log.warn("Failed to save the event stream position {}", position, e);
+                }
+            }
+        }
+    }
+
+    private void stopLanes() {
+        try {
+            for (BlockingQueue<Task> lane : lanes) {
+                lane.put(STOP);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues the events of each batch on their lanes.
+     */
+    private final class BatchSubscriber implements Flow.Subscriber<EventResult> {
+
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(EventResult result) {
+            List<Event> events = result.getData() != null ? result.getData() : Collections.emptyList();
+            Batch batch = new Batch(result.getNextStreamPosition(), events.size());
+            synchronized (pending) {
+                pending.add(batch);
+            }
+            try {
+                for (Event event : events) {
+                    lanes.get(laneOf(event, lanes.size())).put(new Task(event, batch));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                subscription.cancel();
+                onError(e);
+                return;
+            }
+            if (events.isEmpty()) {
+                advance();
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            log.warn("Event stream failed, stopping the dispatcher", throwable);
+            stopLanes();
+        }
+
+        @Override
+        public void onComplete() {
+            stopLanes();
+        }
+    }
+
+    /**
+     * A batch and the number of its events still to be handled.
+     */
+    private static final class Batch {
+        private final String position;
+
+        private final AtomicInteger remaining;
+
+        Batch(String position, int events) {
+            this.position = position;
+            this.remaining = new AtomicInteger(events);
+        }
+    }
+
+    /**
+     * An event queued on a lane.
+     */
+    private static final class Task {
+        private final Event event;
+
+        private final Batch batch;
+
+        Task(Event event, Batch batch) {
+            this.event = event;
+            this.batch = batch;
+        }
+    }
+
+    /**
+     * Lazily created pool shared by all dispatchers that are not given an executor.
+     */
+    private static final class SharedExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(new DaemonThreadFactory("smartsheet-event-dispatch-"));
+    }
+}
@@ -30,10 +30,10 @@ import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.util.DateTimeUtil;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.models.EventResult;
 
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -84,7 +84,7 @@ public class EventResourcesImpl extends AbstractResources implements EventResour
 
         Map<String, Object> parameters = new HashMap<>();
         if(since instanceof Date) {
-            String isoDate = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(since);
+            String isoDate = DateTimeUtil.formatInstant((Date) since);
             parameters.put("since", isoDate);
         }
         else {
@@ -97,7 +97,7 @@ public class EventResourcesImpl extends AbstractResources implements EventResour
         path += QueryUtil.generateUrl(null, parameters);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.GET);
 
         EventResult obj = null;
         try {
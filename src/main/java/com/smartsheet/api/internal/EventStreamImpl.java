@@ -0,0 +1,549 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.EventCheckpointStore;
+import com.smartsheet.api.EventResources;
+import com.smartsheet.api.EventStream;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.DaemonThreadFactory;
+import com.smartsheet.api.internal.util.ErrorUtil;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Event;
+import com.smartsheet.api.models.EventResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This is the implementation of the EventStream interface.
+ *
+ * A subscription runs two tasks: the fetcher reads batches into a buffer holding the batch being delivered plus the
+ * prefetched ones, and waits while the buffer is full; the deliverer passes the events of the oldest batch to the
+ * subscriber as demand allows, saves the checkpoint once the batch is done and removes it from the buffer. The
+ * buffer, the demand and the terminal state are guarded by one lock, so request, cancel and close only have to
+ * signal it.
+ *
+ * Thread Safety: This class is thread safe, the subscription state is guarded by its lock.
+ */
+public class EventStreamImpl implements EventStream {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStreamImpl.class);
+
+    private final EventResources eventResources;
+
+    private final EventCheckpointStore checkpointStore;
+
+    private final Date since;
+
+    private final int maxCount;
+
+    private final int prefetch;
+
+    private final long pollIntervalMillis;
+
+    private final long retryDelayMillis;
+
+    private final long maxRetryDelayMillis;
+
+    private final TokenBucket rateLimiter;
+
+    private final Executor executor;
+
+    /**
+     * The subscription, null until subscribed, guarded by this.
+     */
+    private StreamSubscription subscription;
+
+    /**
+     * Whether the stream has been closed, guarded by this.
+     */
+    private boolean closed;
+
+    private volatile String streamPosition;
+
+    /**
+     * Constructor.
+     *
+     * @param eventResources the event resources to read with
+     * @param checkpointStore the store of the stream position
+     * @param since the time to start from without a saved position, null for the time of subscription
+     * @param maxCount the number of events requested per call
+     * @param prefetch the number of batches fetched ahead of the one being delivered
+     * @param pollIntervalMillis the wait after the API reports that no more events are available
+     * @param retryDelayMillis the wait before the first retry of a transient error
+     * @param maxRetryDelayMillis the longest wait between retries
+     * @param rateLimiter the budget each call takes a permit from, null for none
+     * @param executor the executor running the fetcher and deliverer, null for the shared pool
+     */
+    public EventStreamImpl(EventResources eventResources, EventCheckpointStore checkpointStore, Date since,
+                           int maxCount, int prefetch, long pollIntervalMillis, long retryDelayMillis,
+                           long maxRetryDelayMillis, TokenBucket rateLimiter, Executor executor) {
+        this.eventResources = eventResources;
+        this.checkpointStore = checkpointStore;
+        this.since = since;
+        this.maxCount = maxCount;
+        this.prefetch = prefetch;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.retryDelayMillis = retryDelayMillis;
+        this.maxRetryDelayMillis = maxRetryDelayMillis;
+        this.rateLimiter = rateLimiter;
+        this.executor = executor != null ? executor : SharedExecutor.INSTANCE;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Event> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscribe(subscriber, new StreamSubscription(subscriber, null));
+    }
+
+    @Override
+    public void subscribeBatches(Flow.Subscriber<? super EventResult> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscribe(subscriber, new StreamSubscription(null, subscriber));
+    }
+
+    private void subscribe(Flow.Subscriber<?> subscriber, StreamSubscription created) {
+        synchronized (this) {
+            if (closed || subscription != null) {
+                reject(subscriber, new IllegalStateException(closed
+                        ? "the event stream has been closed" : "an event stream can only be subscribed once"));
+                return;
+            }
+            subscription = created;
+        }
+        String position;
+        try {
+            position = checkpointStore.load();
+        } catch (SmartsheetException e) {
+            reject(subscriber, e);
+            return;
+        }
+        streamPosition = position;
+        subscriber.onSubscribe(created);
+        created.start(position, since != null ? since : new Date());
+    }
+
+    @Override
+    public String getStreamPosition() {
+        return streamPosition;
+    }
+
+    @Override
+    public synchronized void checkpoint(String streamPosition) throws SmartsheetException {
+        Util.throwIfNull(streamPosition);
+        checkpointStore.save(streamPosition);
+        this.streamPosition = streamPosition;
+    }
+
+    @Override
+    public void close() {
+        StreamSubscription current;
+        synchronized (this) {
+            closed = true;
+            current = subscription;
+        }
+        if (current != null) {
+            current.complete();
+        }
+    }
+
+    private static void reject(Flow.Subscriber<?> subscriber, Throwable error) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscriber.onError(error);
+    }
+
+    private void acquire() throws InterruptedException {
+        if (rateLimiter != null) {
+            rateLimiter.acquire();
+        }
+    }
+
+    /**
+     * The subscription of the stream's subscriber.
+     */
+    private final class StreamSubscription implements Flow.Subscription {
+
+        /**
+         * The subscriber of events, null for a batch subscription.
+         */
+        private final Flow.Subscriber<? super Event> eventSubscriber;
+
+        /**
+         * The subscriber of batches, null for an event subscription.
+         */
+        private final Flow.Subscriber<? super EventResult> batchSubscriber;
+
+        private final Flow.Subscriber<?> subscriber;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * Signalled when a batch, demand or a terminal state arrives.
+         */
+        private final Condition ready = lock.newCondition();
+
+        /**
+         * Signalled when a batch leaves the buffer or the subscription ends.
+         */
+        private final Condition space = lock.newCondition();
+
+        /**
+         * The batch being delivered followed by the prefetched ones.
+         */
+        private final ArrayDeque<EventResult> buffer = new ArrayDeque<>();
+
+        private long demand;
+
+        /**
+         * The error that ended fetching, delivered after the buffered batches.
+         */
+        private Throwable error;
+
+        /**
+         * Whether close asked for onComplete.
+         */
+        private boolean completing;
+
+        /**
+         * Whether the subscription has ended (cancelled, completed or failed); no signal is sent afterwards.
+         */
+        private boolean done;
+
+        StreamSubscription(Flow.Subscriber<? super Event> eventSubscriber,
+                           Flow.Subscriber<? super EventResult> batchSubscriber) {
+            this.eventSubscriber = eventSubscriber;
+            this.batchSubscriber = batchSubscriber;
+            this.subscriber = eventSubscriber != null ? eventSubscriber : batchSubscriber;
+        }
+
+        void start(String position, Date start) {
+            try {
+                executor.execute(() -> fetch(position, start));
+                executor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                fail(e);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (n <= 0) {
+                    if (error == null) {
+                        error = new IllegalArgumentException("non-positive subscription request: " + n);
+                        buffer.clear();
+                    }
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+                ready.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            end();
+        }
+
+        void complete() {
+            lock.lock();
+            try {
+                completing = true;
+                ready.signalAll();
+                space.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void fail(Throwable e) {
+            lock.lock();
+            try {
+                if (error == null) {
+                    error = e;
+                }
+                ready.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void end() {
+            lock.lock();
+            try {
+                done = true;
+                ready.signalAll();
+                space.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return whether fetching should stop, i.e. the subscription ended, is completing or failed
+         */
+        private boolean stopped() {
+            return done || completing || error != null;
+        }
+
+        /**
+         * @return whether an error has discarded the buffered batches, so the one being delivered is abandoned
+         */
+        private boolean aborted() {
+            return error != null && buffer.isEmpty();
+        }
+
+        private void fetch(String position, Date start) {
+            long delay = retryDelayMillis;
+            try {
+                while (true) {
+                    lock.lock();
+                    try {
+                        while (!stopped() && buffer.size() > prefetch) {
+                            space.await();
+                        }
+                        if (stopped()) {
+                            return;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    EventResult result;
+                    try {
+                        acquire();
+                        result = position == null
+                                ? eventResources.listEvents(start, null, maxCount, null)
+                                : eventResources.listEvents(null, position, maxCount, null);
+                        delay = retryDelayMillis;
+                    } catch (SmartsheetException e) {
+                        if (!ErrorUtil.isTransient(e)) {
+                            fail(e);
+                            return;
+                        }
+                        log.warn("Failed to read events, retrying in {} ms", delay, e);
+                        if (await(delay)) {
+                            return;
+                        }
+                        delay = Math.min(maxRetryDelayMillis, delay * 2);
+                        continue;
+                    }
+                    if (result.getNextStreamPosition() != null) {
+                        position = result.getNextStreamPosition();
+                    }
+                    lock.lock();
+                    try {
+                        if (stopped()) {
+                            return;
+                        }
+                        buffer.add(result);
+                        ready.signalAll();
+                    } finally {
+                        lock.unlock();
+                    }
+                    if (!Boolean.TRUE.equals(result.getMoreAvailable()) && await(pollIntervalMillis)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Wait without holding up close or cancel.
+         *
+         * @return true if fetching should stop
+         */
+        private boolean await(long millis) throws InterruptedException {
+            lock.lock();
+            try {
+                long nanos = TimeUnit.MILLISECONDS.toNanos(millis);
+                while (!stopped() && nanos > 0) {
+                    nanos = space.awaitNanos(nanos);
+                }
+                return stopped();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void deliver() {
+            try {
+                while (true) {
+                    EventResult batch;
+                    lock.lock();
+                    try {
+                        while (!done && !completing && buffer.isEmpty() && error == null) {
+                            ready.await();
+                        }
+                        if (done) {
+                            return;
+                        }
+                        if (completing || buffer.isEmpty()) {
+                            done = true;
+                            space.signalAll();
+                            batch = null;
+                        } else {
+                            batch = buffer.peek();
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    if (batch == null) {
+                        if (completing) {
+                            subscriber.onComplete();
+                        } else {
+                            subscriber.onError(error);
+                        }
+                        return;
+                    }
+                    if (!deliver(batch)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                end();
+            } catch (RuntimeException e) {
+                log.warn("Event stream subscriber failed, cancelling the subscription", e);
+                end();
+            }
+        }
+
+        /**
+         * Deliver the events of a batch as demand allows (or the batch itself to a batch subscriber), then save its
+         * position and remove it from the buffer.
+         *
+         * @return false if the subscription ended or is completing before the batch was done
+         */
+        private boolean deliver(EventResult batch) throws InterruptedException {
+            if (batchSubscriber != null) {
+                if (!awaitDemand()) {
+                    return !done;
+                }
+                batchSubscriber.onNext(batch);
+                // a batch subscriber saves checkpoints itself once it has handled the batch
+                remove();
+                return true;
+            }
+            List<Event> events = batch.getData() != null ? batch.getData() : Collections.emptyList();
+            for (Event event : events) {
+                if (!awaitDemand()) {
+                    // the remaining events of the batch are read again by the next stream
+                    return !done;
+                }
+                eventSubscriber.onNext(event);
+            }
+            String position = batch.getNextStreamPosition();
+            if (position != null) {
+                try {
+                    checkpoint(position);
+                } catch (SmartsheetException e) {
+                    fail(e);
+                    lock.lock();
+                    try {
+                        buffer.clear();
+                        space.signalAll();
+                    } finally {
+                        lock.unlock();
+                    }
+                    return true;
+                }
+            }
+            remove();
+            return true;
+        }
+
+        /**
+         * Wait for demand and take one unit of it.
+         *
+         * @return false if the subscription ended, is completing or the batch was abandoned first
+         */
+        private boolean awaitDemand() throws InterruptedException {
+            lock.lock();
+            try {
+                while (!done && !completing && !aborted() && demand == 0) {
+                    ready.await();
+                }
+                if (done || completing || aborted()) {
+                    return false;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Remove the delivered batch from the buffer.
+         */
+        private void remove() {
+            lock.lock();
+            try {
+                buffer.poll();
+                space.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Lazily created pool shared by all streams that are not given an executor.
+     */
+    private static final class SharedExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(new DaemonThreadFactory("smartsheet-events-"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.EventCheckpointStore;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.Util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * An EventCheckpointStore that keeps the position in a file.
+ *
+ * The position is written to a temporary file next to it first and then moved over the previous one, so a crash
+ * never leaves a half written position behind.
+ *
+ * Thread Safety: This class is thread safe because it is immutable; concurrent saves leave one of them in place.
+ */
+public class FileEventCheckpointStore implements EventCheckpointStore {
+
+    private final Path file;
+
+    /**
+     * Constructor.
+     *
+     * @param file the file, its directory is created if it doesn't exist
+     * @throws SmartsheetException if the directory can not be created
+     */
+    public FileEventCheckpointStore(Path file) throws SmartsheetException {
+        Util.throwIfNull(file);
+        this.file = file.toAbsolutePath();
+        try {
+            Files.createDirectories(this.file.getParent());
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        }
+    }
+
+    @Override
+    public String load() throws SmartsheetException {
+        try {
+            String position = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+            return position.isEmpty() ? null : position;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        }
+    }
+
+    @Override
+    public void save(String streamPosition) throws SmartsheetException {
+        Util.throwIfNull(streamPosition);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString() + "-", ".tmp");
+            Files.write(temp, streamPosition.getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // the temporary file is left behind, it is never read
+                }
+            }
+        }
+    }
+}
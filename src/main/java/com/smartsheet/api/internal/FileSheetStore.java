@@ -0,0 +1,157 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetStore;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.json.JacksonJsonSerializerBuilder;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Sheet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A SheetStore that keeps each sheet in a file named after its id in one directory, written with a JsonSerializer
+ * (a serializer built with a Smile factory makes the files smaller and faster to read, see
+ * {@link JacksonJsonSerializerBuilder#setJsonFactory}).
+ *
+ * A sheet is written to a temporary file first and then moved over the previous copy, so a reader (or a crash)
+ * never sees a half written sheet.
+ *
+ * Thread Safety: This class is thread safe because it is immutable; concurrent saves of the same sheet leave one of
+ * them in place.
+ */
+public class FileSheetStore implements SheetStore {
+
+    private static final String SUFFIX = ".sheet";
+
+    private final Path directory;
+
+    private final JsonSerializer serializer;
+
+    /**
+     * Constructor, using a JSON serializer that keeps the sheet and column ids.
+     *
+     * @param directory the directory, created if it doesn't exist
+     * @throws SmartsheetException if the directory can not be created
+     */
+    public FileSheetStore(Path directory) throws SmartsheetException {
+        this(directory, new JacksonJsonSerializerBuilder().setWriteIds(true).build());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param directory the directory, created if it doesn't exist
+     * @param serializer the serializer the sheets are written and read with; it must write the ids (see
+     *        {@link JacksonJsonSerializerBuilder#setWriteIds}), or the sheets that are loaded have none
+     * @throws SmartsheetException if the directory can not be created
+     */
+    public FileSheetStore(Path directory, JsonSerializer serializer) throws SmartsheetException {
+        Util.throwIfNull(directory, serializer);
+        this.directory = directory;
+        this.serializer = serializer;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        }
+    }
+
+    @Override
+    public Sheet load(long sheetId) throws SmartsheetException {
+        try (InputStream in = Files.newInputStream(file(sheetId))) {
+            return serializer.deserialize(Sheet.class, in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        }
+    }
+
+    @Override
+    public void save(Sheet sheet) throws SmartsheetException {
+        Util.throwIfNull(sheet);
+        Util.throwIfNull(sheet.getId());
+        Path target = file(sheet.getId());
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, sheet.getId() + "-", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                serializer.serialize(sheet, out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // the temporary file is left behind, it is never read
+                }
+            }
+        }
+    }
+
+    @Override
+    public void remove(long sheetId) throws SmartsheetException {
+        try {
+            Files.deleteIfExists(file(sheetId));
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        }
+    }
+
+    @Override
+    public Set<Long> getSheetIds() throws SmartsheetException {
+        Set<Long> ids = new HashSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    ids.add(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())));
+                } catch (NumberFormatException ignored) {
+                    // not one of ours
+                }
+            }
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        }
+        return ids;
+    }
+
+    private Path file(long sheetId) {
+        return directory.resolve(sheetId + SUFFIX);
+    }
+}
@@ -76,7 +76,7 @@ public class ImageUrlResourcesImpl extends AbstractResources implements ImageUrl
         Util.throwIfNull(requestUrls);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve("imageurls"), HttpMethod.POST);
+        request = createHttpRequest(smartsheet.resolveURI("imageurls"), HttpMethod.POST);
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(requestUrls, baos);
@@ -0,0 +1,59 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.EventCheckpointStore;
+
+/**
+ * An EventCheckpointStore that keeps the position on the heap, so a stream resumes within the process only.
+ *
+ * Thread Safety: This class is thread safe because the position is volatile.
+ */
+public class InMemoryEventCheckpointStore implements EventCheckpointStore {
+
+    private volatile String streamPosition;
+
+    /**
+     * Constructor, with no saved position.
+     */
+    public InMemoryEventCheckpointStore() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param streamPosition the position to start from
+     */
+    public InMemoryEventCheckpointStore(String streamPosition) {
+        this.streamPosition = streamPosition;
+    }
+
+    @Override
+    public String load() {
+        return streamPosition;
+    }
+
+    @Override
+    public void save(String streamPosition) {
+        this.streamPosition = streamPosition;
+    }
+}
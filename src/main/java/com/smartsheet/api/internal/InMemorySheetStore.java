@@ -0,0 +1,63 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetStore;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Sheet;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A SheetStore that keeps the sheets on the heap.
+ *
+ * Thread Safety: This class is thread safe because the sheets are held in a ConcurrentHashMap.
+ */
+public class InMemorySheetStore implements SheetStore {
+
+    private final Map<Long, Sheet> sheets = new ConcurrentHashMap<>();
+
+    @Override
+    public Sheet load(long sheetId) {
+        return sheets.get(sheetId);
+    }
+
+    @Override
+    public void save(Sheet sheet) {
+        Util.throwIfNull(sheet);
+        Util.throwIfNull(sheet.getId());
+        sheets.put(sheet.getId(), sheet);
+    }
+
+    @Override
+    public void remove(long sheetId) {
+        sheets.remove(sheetId);
+    }
+
+    @Override
+    public Set<Long> getSheetIds() {
+        return new HashSet<>(sheets.keySet());
+    }
+}
@@ -0,0 +1,117 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.util.StreamUtil;
+import com.smartsheet.api.models.LazySheet;
+import com.smartsheet.api.models.Row;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a sheet into a {@link LazySheet}.
+ *
+ * The response body is read into one buffer and scanned once: the top level fields other than "rows" are buffered as
+ * a tree and mapped onto the sheet, while of each row only the id and row number are read and the position of the
+ * row object in the buffer is recorded. Rows are mapped from the buffer with the same serializer when accessed.
+ *
+ * Thread Safety: This class is thread safe, it has no state.
+ */
+final class LazySheetReader {
+
+    private static final String ROWS = "rows";
+
+    private LazySheetReader() {
+    }
+
+    /**
+     * Read a sheet.
+     *
+     * @param serializer the serializer
+     * @param inputStream the response body (not closed)
+     * @return the sheet
+     * @throws IOException if the JSON can not be read or mapped
+     */
+    static LazySheet read(JacksonJsonSerializer serializer, InputStream inputStream) throws IOException {
+        byte[] buffer = StreamUtil.readBytesFromStream(inputStream);
+        LazySheet.Builder builder = new LazySheet.Builder(buffer, (json, offset, length) ->
+                serializer.deserialize(Row.class, new ByteArrayInputStream(json, offset, length)));
+
+        ObjectNode fields = JsonNodeFactory.instance.objectNode();
+        try (JsonParser parser = serializer.createParser(new ByteArrayInputStream(buffer))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("expected a sheet object but found " + parser.getCurrentToken());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (ROWS.equals(name) && value == JsonToken.START_ARRAY) {
+                    scanRows(parser, builder);
+                } else {
+                    fields.set(name, (JsonNode) parser.readValueAsTree());
+                }
+            }
+
+            LazySheet sheet = builder.build();
+            return serializer.deserializeInto(sheet, parser.getCodec().treeAsTokens(fields));
+        }
+    }
+
+    /**
+     * Record the rows of the "rows" array, leaving the parser on the end of the array.
+     */
+    private static void scanRows(JsonParser parser, LazySheet.Builder builder) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("expected a row object but found " + token);
+            }
+            long start = parser.getTokenLocation().getByteOffset();
+            long id = 0;
+            Integer rowNumber = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("id".equals(name) && value == JsonToken.VALUE_NUMBER_INT) {
+                    id = parser.getLongValue();
+                } else if ("rowNumber".equals(name) && value == JsonToken.VALUE_NUMBER_INT) {
+                    rowNumber = parser.getIntValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            long end = parser.getCurrentLocation().getByteOffset();
+            if (start < 0 || end < 0) {
+                // only byte based (UTF-8) parsers track byte offsets
+                throw new IOException("the sheet JSON must be UTF-8 encoded");
+            }
+            builder.addRow(id, rowNumber, (int) start, (int) (end - start));
+        }
+    }
+}
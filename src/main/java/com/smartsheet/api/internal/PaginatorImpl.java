@@ -0,0 +1,304 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.Paginator;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.UncheckedSmartsheetException;
+import com.smartsheet.api.internal.util.DaemonThreadFactory;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This is the implementation of the Paginator interface.
+ *
+ * Each iterator requests the first page on its own, since the number of pages is not known before it arrives. From
+ * then on it keeps the next {@code lookahead} pages in flight on the executor (never more than the last page, or, if
+ * the endpoint doesn't report the number of pages, until a short or empty page shows up), taking a permit from the
+ * rate limiter for each request. Pages are handed out in page order, or when not ordered and the number of pages is
+ * known, in the order they complete; either way a new page is only requested when one is consumed, so no more than
+ * {@code lookahead} pages are ever buffered.
+ *
+ * Thread Safety: This class is thread safe because it is immutable. Its iterators are not thread safe.
+ */
+public class PaginatorImpl<T> implements Paginator<T> {
+
+    private final PageFetcher<T> fetcher;
+
+    private final int pageSize;
+
+    private final int lookahead;
+
+    private final boolean ordered;
+
+    private final Executor executor;
+
+    private final TokenBucket rateLimiter;
+
+    /**
+     * Constructor.
+     *
+     * @param fetcher fetches one page
+     * @param pageSize the page size
+     * @param lookahead the number of pages fetched ahead
+     * @param ordered false to hand out the pages in the order they arrive once the number of pages is known
+     * @param executor the executor for the pages fetched ahead, null for the shared pool
+     * @param rateLimiter the budget each page request takes a permit from, null for none
+     */
+    public PaginatorImpl(PageFetcher<T> fetcher, int pageSize, int lookahead, boolean ordered, Executor executor,
+                         TokenBucket rateLimiter) {
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.lookahead = lookahead;
+        this.ordered = ordered;
+        this.executor = executor;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PageIterator();
+    }
+
+    @Override
+    public Stream<T> stream() {
+        PageIterator iterator = new PageIterator();
+        Spliterator<T> items = Spliterators.spliteratorUnknownSize(iterator, ordered ? Spliterator.ORDERED : 0);
+        return StreamSupport.stream(items, false).onClose(iterator::close);
+    }
+
+    @Override
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public int getLookahead() {
+        return lookahead;
+    }
+
+    @Override
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    private PagedResult<T> fetch(int page) throws SmartsheetException {
+        if (rateLimiter != null) {
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SmartsheetException("interrupted while waiting for the request budget", e);
+            }
+        }
+        return fetcher.fetch(new PaginationParameters(false, pageSize, page));
+    }
+
+    private CompletableFuture<PagedResult<T>> fetchAsync(int page) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fetch(page);
+            } catch (SmartsheetException e) {
+                throw new CompletionException(e);
+            }
+        }, executor != null ? executor : SharedExecutor.INSTANCE);
+    }
+
+    /**
+     * Iterates the items of one scan over the pages.
+     */
+    private final class PageIterator implements Iterator<T> {
+
+        /**
+         * The pages in flight, in page order.
+         */
+        private final Deque<CompletableFuture<PagedResult<T>>> pending = new ArrayDeque<>();
+
+        /**
+         * The pages that have completed, in completion order (only used when not ordered); pages that were taken from
+         * pending in page order may still be listed here.
+         */
+        private final BlockingQueue<CompletableFuture<PagedResult<T>>> arrived = new LinkedBlockingQueue<>();
+
+        private Iterator<T> items = Collections.emptyIterator();
+
+        /**
+         * The number of the next page to request.
+         */
+        private int nextRequest = 1;
+
+        /**
+         * The number of pages consumed so far.
+         */
+        private int consumed;
+
+        /**
+         * The number of pages reported by the endpoint, null until the first page arrives or if it isn't reported.
+         */
+        private Integer totalPages;
+
+        private boolean done;
+
+        @Override
+        public boolean hasNext() {
+            while (!items.hasNext()) {
+                if (done) {
+                    return false;
+                }
+                PagedResult<T> page = take();
+                consumed++;
+                if (page.getTotalPages() != null) {
+                    totalPages = page.getTotalPages();
+                }
+                List<T> data = page.getData();
+                boolean last;
+                if (totalPages != null) {
+                    last = consumed >= totalPages;
+                } else {
+                    last = data == null || data.size() < pageSize;
+                }
+                if (data != null) {
+                    items = data.iterator();
+                }
+                if (last) {
+                    close();
+                } else if (data == null || data.isEmpty()) {
+                    if (inArrivalOrder()) {
+                        // another page may still have items
+                        prefetch();
+                    } else {
+                        // the list shrank while it was being read
+                        close();
+                    }
+                } else {
+                    prefetch();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items.next();
+        }
+
+        /**
+         * Stop the scan, cancelling the pages still being fetched.
+         */
+        void close() {
+            done = true;
+            CompletableFuture<PagedResult<T>> future;
+            while ((future = pending.poll()) != null) {
+                future.cancel(false);
+            }
+            arrived.clear();
+        }
+
+        /**
+         * Pages are handed out as they arrive only once the number of pages is known, since the end of the list can
+         * not be told from a page that arrives early otherwise.
+         */
+        private boolean inArrivalOrder() {
+            return !ordered && totalPages != null;
+        }
+
+        private PagedResult<T> take() {
+            try {
+                if (pending.isEmpty()) {
+                    return fetch(nextRequest++);
+                }
+                CompletableFuture<PagedResult<T>> future;
+                if (inArrivalOrder()) {
+                    // skip the pages that were already taken in page order, before the number of pages was known
+                    do {
+                        future = arrived.take();
+                    } while (!pending.remove(future));
+                } else {
+                    future = pending.poll();
+                }
+                return future.get();
+            } catch (SmartsheetException e) {
+                close();
+                throw new UncheckedSmartsheetException(e);
+            } catch (ExecutionException e) {
+                close();
+                Throwable cause = e.getCause();
+                if (cause instanceof SmartsheetException) {
+                    throw new UncheckedSmartsheetException((SmartsheetException) cause);
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new UncheckedSmartsheetException(new SmartsheetException("failed to fetch a page", cause));
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new UncheckedSmartsheetException(new SmartsheetException("interrupted while fetching a page", e));
+            }
+        }
+
+        /**
+         * Keep up to the lookahead of the next pages in flight, never past the last page.
+         */
+        private void prefetch() {
+            while (pending.size() < lookahead && (totalPages == null || nextRequest <= totalPages)) {
+                CompletableFuture<PagedResult<T>> future = fetchAsync(nextRequest++);
+                pending.add(future);
+                // also when the number of pages isn't known yet, since a later page may switch to arrival order
+                if (!ordered) {
+                    future.whenComplete((page, error) -> arrived.add(future));
+                }
+            }
+        }
+    }
+
+    /**
+     * The pool that fetches pages ahead when no executor was given: daemon threads, created on demand and reclaimed
+     * after a minute of idleness.
+     */
+    private static final class SharedExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(new DaemonThreadFactory("smartsheet-paginator-"));
+    }
+}
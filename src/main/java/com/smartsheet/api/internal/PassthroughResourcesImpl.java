@@ -141,7 +141,7 @@ public class PassthroughResourcesImpl extends AbstractResources implements Passt
         if(parameters != null)
             endpoint += QueryUtil.generateUrl(null, parameters);
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(endpoint), method);
+        HttpRequest request = createHttpRequest(smartsheet.resolveURI(endpoint), method);
 
         if(payload != null) {
             HttpEntity entity = new HttpEntity();
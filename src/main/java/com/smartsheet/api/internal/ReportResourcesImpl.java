@@ -28,6 +28,7 @@ import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.ShareResources;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.DateTimeUtil;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
@@ -37,7 +38,6 @@ import com.smartsheet.api.models.SheetEmail;
 import com.smartsheet.api.models.enums.ReportInclusion;
 
 import java.io.OutputStream;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -190,7 +190,7 @@ public class ReportResourcesImpl extends AbstractResources implements ReportReso
             parameters = pagination.toHashMap();
         }
         if (modifiedSince != null) {
-            String isoDate = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(modifiedSince);
+            String isoDate = DateTimeUtil.formatInstant(modifiedSince);
             parameters.put("modifiedSince", isoDate);
         }
 
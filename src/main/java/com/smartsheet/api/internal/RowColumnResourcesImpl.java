@@ -25,6 +25,7 @@ import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.util.EndpointTemplate;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.CellHistory;
@@ -49,6 +50,9 @@ import java.util.Map;
  */
 public class RowColumnResourcesImpl extends AbstractResources implements RowColumnResources{
 
+    private static final EndpointTemplate CELL_HISTORY =
+            EndpointTemplate.compile("sheets/{sheetId}/rows/{rowId}/columns/{columnId}/history");
+
     /**
      * Constructor.
      *
@@ -112,18 +116,11 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
      */
     public PagedResult<CellHistory> getCellHistory(long sheetId, long rowId, long columnId, PaginationParameters pagination,
                                                    EnumSet<CellHistoryInclusion> includes, Integer level) throws SmartsheetException {
-        String path = "sheets/" + sheetId + "/rows/" + rowId + "/columns/"+columnId + "/history";
-
-        Map<String, Object> parameters = new HashMap<>();
-        if (pagination != null) {
-            parameters = pagination.toHashMap();
-        }
-        if (level != null) {
-            parameters.put("level", level);
-        }
-        parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
-
-        path += QueryUtil.generateUrl(null, parameters);
+        String path = CELL_HISTORY.expand(sheetId, rowId, columnId)
+                .query(pagination == null ? null : pagination.toHashMap())
+                .query("level", level)
+                .query("include", includes)
+                .build();
 
         return this.listResourcesWithWrapper(path, CellHistory.class);
     }
@@ -266,9 +263,9 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
         }
         path += QueryUtil.generateUrl(null, parameters);
 
-        HttpRequest request = createHttpRequest(this.smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(this.smartsheet.resolveURI(path), HttpMethod.POST);
         String contentDispositionValue = "attachment; filename=\"" + URLEncoder.encode(imageName, StandardCharsets.UTF_8) + "\"";
-        request.getHeaders().put("Content-Disposition", contentDispositionValue);
+        request.addHeader("Content-Disposition", contentDispositionValue);
 
         HttpEntity entity = new HttpEntity();
         entity.setContentType(contentType);
@@ -0,0 +1,396 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.RowUpdateBuffer;
+import com.smartsheet.api.SheetRowResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.internal.util.DaemonThreadFactory;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.BulkRowFailedItem;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is the implementation of the RowUpdateBuffer interface.
+ *
+ * Pending updates are kept in insertion order by row id, each row with its merged cells (by column id), merged
+ * attributes and the futures of the updates merged into it. The first update of a window arms a timer on a shared
+ * scheduler; the timer, or the update that brings the buffer to its row limit, queues one flush task on the executor.
+ * A flush takes up to the row limit of pending rows under the buffer lock and sends them under a separate send lock,
+ * so updates keep arriving while a request is in flight and requests never overlap or overtake each other.
+ *
+ * Thread Safety: This class is thread safe, the pending updates are guarded by one lock and sending by another.
+ */
+public class RowUpdateBufferImpl implements RowUpdateBuffer {
+
+    private final SheetRowResources rowResources;
+
+    private final long sheetId;
+
+    private final long maxDelayMillis;
+
+    private final int maxRows;
+
+    private final boolean allowPartialSuccess;
+
+    private final TokenBucket rateLimiter;
+
+    private final Executor executor;
+
+    private final Object lock = new Object();
+
+    /**
+     * Held while a request is being sent; the pending rows are taken under it so they are sent in order.
+     */
+    private final Object sendLock = new Object();
+
+    /**
+     * The pending rows by row id, in the order their first update arrived.
+     */
+    private Map<Long, PendingRow> pending = new LinkedHashMap<>();
+
+    /**
+     * Whether a flush task has been handed to the executor and has not yet taken the pending rows.
+     */
+    private boolean flushQueued;
+
+    /**
+     * The timer that ends the current window, null if none is armed.
+     */
+    private ScheduledFuture<?> timer;
+
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param rowResources the row resources to write with
+     * @param sheetId the sheet id
+     * @param maxDelayMillis how long the first update of a window waits for others
+     * @param maxRows the number of pending rows that is sent without waiting, and the most sent in one request
+     * @param allowPartialSuccess true to send the updates with partial success allowed
+     * @param rateLimiter the budget each request takes a permit from, null for none
+     * @param executor the executor that sends the requests, null for the shared pool
+     */
+    public RowUpdateBufferImpl(SheetRowResources rowResources, long sheetId, long maxDelayMillis, int maxRows,
+                               boolean allowPartialSuccess, TokenBucket rateLimiter, Executor executor) {
+        this.rowResources = rowResources;
+        this.sheetId = sheetId;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxRows = maxRows;
+        this.allowPartialSuccess = allowPartialSuccess;
+        this.rateLimiter = rateLimiter;
+        this.executor = executor != null ? executor : SharedExecutor.INSTANCE;
+    }
+
+    @Override
+    public CompletableFuture<Row> update(Row row) {
+        Util.throwIfNull(row);
+        if (row.getId() == null) {
+            throw new IllegalArgumentException("the row has no id");
+        }
+        if (row.getCells() != null) {
+            for (Cell cell : row.getCells()) {
+                if (cell.getColumnId() == null) {
+                    throw new IllegalArgumentException("a cell of row " + row.getId() + " has no column id");
+                }
+            }
+        }
+        CompletableFuture<Row> future = new CompletableFuture<>();
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("the buffer has been closed");
+            }
+            PendingRow pendingRow = pending.computeIfAbsent(row.getId(), PendingRow::new);
+            pendingRow.merge(row);
+            pendingRow.futures.add(future);
+            if (pending.size() >= maxRows) {
+                queueFlush();
+            } else if (timer == null && !flushQueued) {
+                timer = Timer.INSTANCE.schedule(this::endWindow, maxDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Row> updateCell(long rowId, long columnId, Object value) {
+        Row row = new Row();
+        row.setId(rowId);
+        row.setCells(new Cell.UpdateRowCellsBuilder().addCell(columnId, value).build());
+        return update(row);
+    }
+
+    @Override
+    public void flush() {
+        synchronized (sendLock) {
+            while (true) {
+                List<PendingRow> batch;
+                synchronized (lock) {
+                    batch = take();
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                send(batch);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        flush();
+    }
+
+    @Override
+    public int getPendingRows() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    @Override
+    public long getSheetId() {
+        return sheetId;
+    }
+
+    private void endWindow() {
+        synchronized (lock) {
+            timer = null;
+            if (!pending.isEmpty()) {
+                queueFlush();
+            }
+        }
+    }
+
+    /**
+     * Hand a flush task to the executor unless one is queued already. Must be called holding the lock.
+     */
+    private void queueFlush() {
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+        if (!flushQueued) {
+            flushQueued = true;
+            executor.execute(this::flushQueued);
+        }
+    }
+
+    private void flushQueued() {
+        synchronized (sendLock) {
+            List<PendingRow> batch;
+            synchronized (lock) {
+                flushQueued = false;
+                batch = take();
+                if (pending.size() >= maxRows) {
+                    queueFlush();
+                } else if (!pending.isEmpty() && timer == null) {
+                    timer = Timer.INSTANCE.schedule(this::endWindow, maxDelayMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+        }
+    }
+
+    /**
+     * Take up to maxRows of the pending rows. Must be called holding the lock.
+     */
+    private List<PendingRow> take() {
+        List<PendingRow> batch = new ArrayList<>(Math.min(pending.size(), maxRows));
+        Iterator<PendingRow> rows = pending.values().iterator();
+        while (rows.hasNext() && batch.size() < maxRows) {
+            batch.add(rows.next());
+            rows.remove();
+        }
+        return batch;
+    }
+
+    private void send(List<PendingRow> batch) {
+        List<Row> rows = new ArrayList<>(batch.size());
+        for (PendingRow pendingRow : batch) {
+            rows.add(pendingRow.toRow());
+        }
+        try {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            List<Row> updated;
+            if (allowPartialSuccess) {
+                PartialRowUpdateResult result = rowResources.updateRowsAllowPartialSuccess(sheetId, rows);
+                if (result.getFailedItems() != null) {
+                    for (BulkRowFailedItem item : result.getFailedItems()) {
+                        if (item.getIndex() >= 0 && item.getIndex() < batch.size()) {
+                            batch.get(item.getIndex()).fail(item.getError() != null
+                                    && item.getError().getErrorCode() != null
+                                    ? new SmartsheetRestException(item.getError())
+                                    : new SmartsheetException("the update of the row was rejected"));
+                        }
+                    }
+                }
+                updated = result.getResult();
+            } else {
+                updated = rowResources.updateRows(sheetId, rows);
+            }
+            Map<Long, Row> updatedById = new HashMap<>();
+            if (updated != null) {
+                for (Row row : updated) {
+                    updatedById.put(row.getId(), row);
+                }
+            }
+            for (PendingRow pendingRow : batch) {
+                pendingRow.complete(updatedById.get(pendingRow.rowId));
+            }
+        } catch (SmartsheetException | RuntimeException e) {
+            batch.forEach(pendingRow -> pendingRow.fail(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            SmartsheetException failure = new SmartsheetException("interrupted while waiting for the request budget",
+                    e);
+            batch.forEach(pendingRow -> pendingRow.fail(failure));
+        }
+    }
+
+    /**
+     * The merged updates of one row.
+     */
+    private static final class PendingRow {
+        private final long rowId;
+
+        private final Map<Long, Cell> cells = new LinkedHashMap<>();
+
+        /**
+         * Holds the merged row attributes.
+         */
+        private final Row attributes = new Row();
+
+        private final List<CompletableFuture<Row>> futures = new ArrayList<>(1);
+
+        PendingRow(long rowId) {
+            this.rowId = rowId;
+        }
+
+        void merge(Row row) {
+            if (row.getCells() != null) {
+                for (Cell cell : row.getCells()) {
+                    cells.put(cell.getColumnId(), cell);
+                }
+            }
+            // the location attributes only make sense together, so a new location replaces the old one as a whole
+            if (row.getToTop() != null || row.getToBottom() != null || row.getParentId() != null
+                    || row.getSiblingId() != null || row.getAbove() != null) {
+                attributes.setToTop(row.getToTop());
+                attributes.setToBottom(row.getToBottom());
+                attributes.setParentId(row.getParentId());
+                attributes.setSiblingId(row.getSiblingId());
+                attributes.setAbove(row.getAbove());
+            }
+            if (row.getIndent() != null || row.getOutdent() != null) {
+                attributes.setIndent(row.getIndent());
+                attributes.setOutdent(row.getOutdent());
+            }
+            if (row.getFormat() != null) {
+                attributes.setFormat(row.getFormat());
+            }
+            if (row.isExpanded() != null) {
+                attributes.setExpanded(row.isExpanded());
+            }
+            if (row.isLocked() != null) {
+                attributes.setLocked(row.isLocked());
+            }
+        }
+
+        Row toRow() {
+            return new Row.UpdateRowBuilder()
+                    .setRowId(rowId)
+                    .setCells(cells.isEmpty() ? null : new ArrayList<>(cells.values()))
+                    .setToTop(attributes.getToTop())
+                    .setToBottom(attributes.getToBottom())
+                    .setParentId(attributes.getParentId())
+                    .setSiblingId(attributes.getSiblingId())
+                    .setAbove(attributes.getAbove())
+                    .setIndent(attributes.getIndent())
+                    .setOutdent(attributes.getOutdent())
+                    .setFormat(attributes.getFormat())
+                    .setExpanded(attributes.isExpanded())
+                    .setLocked(attributes.isLocked())
+                    .build();
+        }
+
+        void complete(Row row) {
+            for (CompletableFuture<Row> future : futures) {
+                future.complete(row);
+            }
+        }
+
+        void fail(Exception e) {
+            for (CompletableFuture<Row> future : futures) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * The pool that sends requests when no executor was given.
+     */
+    private static final class SharedExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(new DaemonThreadFactory("smartsheet-row-updates-"));
+    }
+
+    /**
+     * The scheduler that ends the windows of every buffer; its tasks only queue a flush, so one thread is enough.
+     */
+    private static final class Timer {
+        private static final ScheduledThreadPoolExecutor INSTANCE = createTimer();
+
+        private static ScheduledThreadPoolExecutor createTimer() {
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1,
+                    new DaemonThreadFactory("smartsheet-row-updates-timer-"));
+            timer.setRemoveOnCancelPolicy(true);
+            return timer;
+        }
+    }
+}
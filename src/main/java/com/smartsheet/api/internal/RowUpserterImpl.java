@@ -0,0 +1,312 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.BulkRowWriter;
+import com.smartsheet.api.BulkRowWriterBuilder;
+import com.smartsheet.api.RowUpserter;
+import com.smartsheet.api.SheetRowResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.BulkRowWriteReport;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.SheetDiff;
+import com.smartsheet.api.models.UpsertReport;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This is the implementation of the RowUpserter interface.
+ *
+ * A diff makes one pass over the rows of the sheet to index them by key (the row id index of the sheet is used when
+ * matching by row id) and one pass over the desired rows, looking up each current cell through the row's column id
+ * index, so it takes time linear in the number of rows and desired cells.
+ *
+ * Thread Safety: This class is thread safe because it is immutable and the row resources are thread safe.
+ */
+public class RowUpserterImpl implements RowUpserter {
+
+    private final SheetRowResources rowResources;
+
+    private final Long keyColumnId;
+
+    private final String keyColumnTitle;
+
+    private final boolean matchByRowId;
+
+    private final boolean deleteMissing;
+
+    private final int maxInFlight;
+
+    private final TokenBucket rateLimiter;
+
+    /**
+     * Constructor.
+     *
+     * @param rowResources the row resources to write with
+     * @param keyColumnId the id of the key column, null to use the title or the primary column
+     * @param keyColumnTitle the title of the key column, null to use the id or the primary column
+     * @param matchByRowId true to match rows by row id instead of a key column
+     * @param deleteMissing true to delete the rows that no desired row matches
+     * @param maxInFlight the maximum number of requests in flight
+     * @param rateLimiter the budget each request takes a permit from, null for none
+     */
+    public RowUpserterImpl(SheetRowResources rowResources, Long keyColumnId, String keyColumnTitle,
+                           boolean matchByRowId, boolean deleteMissing, int maxInFlight, TokenBucket rateLimiter) {
+        this.rowResources = rowResources;
+        this.keyColumnId = keyColumnId;
+        this.keyColumnTitle = keyColumnTitle;
+        this.matchByRowId = matchByRowId;
+        this.deleteMissing = deleteMissing;
+        this.maxInFlight = maxInFlight;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public SheetDiff diff(Sheet sheet, Iterable<? extends Row> rows) {
+        Util.throwIfNull(sheet, rows);
+        List<Row> current = sheet.getRows() != null ? sheet.getRows() : Collections.emptyList();
+
+        Long keyColumn = null;
+        Map<String, Row> currentByKey = null;
+        if (!matchByRowId) {
+            keyColumn = resolveKeyColumn(sheet);
+            currentByKey = new HashMap<>(current.size() * 4 / 3 + 1);
+            for (Row row : current) {
+                String key = keyOf(row, keyColumn);
+                if (key != null) {
+                    // rows sharing a key with an earlier row are left alone
+                    currentByKey.putIfAbsent(key, row);
+                }
+            }
+        }
+
+        List<Row> rowsToAdd = new ArrayList<>();
+        List<Row> rowsToUpdate = new ArrayList<>();
+        List<Row> unmatchedRows = new ArrayList<>();
+        Set<Long> matchedIds = new HashSet<>();
+        Set<String> desiredKeys = new HashSet<>();
+        int unchangedRows = 0;
+        int changedCells = 0;
+        for (Row desired : rows) {
+            Row match;
+            if (matchByRowId) {
+                if (desired.getId() == null) {
+                    rowsToAdd.add(desired);
+                    continue;
+                }
+                match = sheet.getRowById(desired.getId());
+                if (match == null) {
+                    unmatchedRows.add(desired);
+                    continue;
+                }
+            } else {
+                String key = keyOf(desired, keyColumn);
+                if (key == null) {
+                    rowsToAdd.add(desired);
+                    continue;
+                }
+                if (!desiredKeys.add(key)) {
+                    throw new IllegalArgumentException("more than one desired row has the key " + key);
+                }
+                match = currentByKey.get(key);
+                if (match == null) {
+                    rowsToAdd.add(desired);
+                    continue;
+                }
+            }
+            if (!matchedIds.add(match.getId())) {
+                throw new IllegalArgumentException("more than one desired row matches row " + match.getId());
+            }
+            List<Cell> changes = changedCells(match, desired);
+            if (changes.isEmpty()) {
+                unchangedRows++;
+            } else {
+                changedCells += changes.size();
+                rowsToUpdate.add(new Row.UpdateRowBuilder().setRowId(match.getId()).setCells(changes).build());
+            }
+        }
+
+        List<Long> rowIdsToDelete = new ArrayList<>();
+        if (deleteMissing) {
+            for (Row row : current) {
+                if (!matchedIds.contains(row.getId()) && (matchByRowId || !isShadowedDuplicate(row, keyColumn,
+                        currentByKey))) {
+                    rowIdsToDelete.add(row.getId());
+                }
+            }
+        }
+        return new SheetDiff(rowsToAdd, rowsToUpdate, rowIdsToDelete, unmatchedRows, unchangedRows, changedCells);
+    }
+
+    @Override
+    public UpsertReport apply(long sheetId, SheetDiff diff) throws SmartsheetException {
+        Util.throwIfNull(diff);
+        BulkRowWriteReport updated = write(sheetId, BulkRowWriter.Operation.UPDATE, diff.getRowsToUpdate());
+        BulkRowWriteReport added = write(sheetId, BulkRowWriter.Operation.ADD, diff.getRowsToAdd());
+        List<Long> deleted = diff.getRowIdsToDelete().isEmpty()
+                ? Collections.emptyList()
+                : rowResources.deleteRows(sheetId, new LinkedHashSet<>(diff.getRowIdsToDelete()), true, maxInFlight);
+        return new UpsertReport(diff, updated, added, deleted);
+    }
+
+    @Override
+    public UpsertReport upsert(Sheet sheet, Iterable<? extends Row> rows) throws SmartsheetException {
+        Util.throwIfNull(sheet);
+        return apply(sheet.getId(), diff(sheet, rows));
+    }
+
+    private BulkRowWriteReport write(long sheetId, BulkRowWriter.Operation operation, List<Row> rows) {
+        BulkRowWriter writer = new BulkRowWriterBuilder(rowResources, sheetId)
+                .setOperation(operation)
+                .setMaxInFlight(maxInFlight)
+                .setRateLimiter(rateLimiter)
+                .build();
+        writer.writeAll(rows);
+        return writer.finish();
+    }
+
+    private long resolveKeyColumn(Sheet sheet) {
+        Column column;
+        if (keyColumnId != null) {
+            column = sheet.getColumnById(keyColumnId);
+        } else if (keyColumnTitle != null) {
+            column = sheet.getColumnByTitle(keyColumnTitle);
+        } else {
+            column = null;
+            if (sheet.getColumns() != null) {
+                for (Column candidate : sheet.getColumns()) {
+                    if (Boolean.TRUE.equals(candidate.getPrimary())) {
+                        column = candidate;
+                        break;
+                    }
+                }
+            }
+        }
+        if (column == null || column.getId() == null) {
+            throw new IllegalArgumentException("the key column is not in the sheet");
+        }
+        return column.getId();
+    }
+
+    /**
+     * A row of the sheet that no desired row matched, but whose key was matched through an earlier row with the same
+     * key, is a duplicate the diff can't place, so it is not deleted either.
+     */
+    private static boolean isShadowedDuplicate(Row row, long keyColumn, Map<String, Row> currentByKey) {
+        String key = keyOf(row, keyColumn);
+        return key != null && currentByKey.get(key) != row;
+    }
+
+    /**
+     * Return the cells of the desired row that differ from the current row, as an update of the current row.
+     */
+    private static List<Cell> changedCells(Row current, Row desired) {
+        Cell.UpdateRowCellsBuilder changes = new Cell.UpdateRowCellsBuilder();
+        if (desired.getCells() == null) {
+            return changes.build();
+        }
+        for (Cell cell : desired.getCells()) {
+            if (cell.getColumnId() == null) {
+                throw new IllegalArgumentException("a desired cell has no column id");
+            }
+            Cell currentCell = current.getCellByColumnId(cell.getColumnId());
+            if (cell.getFormula() != null) {
+                String currentFormula = currentCell != null ? currentCell.getFormula() : null;
+                if (!cell.getFormula().equals(currentFormula)) {
+                    changes.getCells().add(new Cell().setColumnId(cell.getColumnId()).setFormula(cell.getFormula()));
+                }
+            } else {
+                Object currentValue = currentCell != null ? currentCell.getValue() : null;
+                boolean hadFormula = currentCell != null && currentCell.getFormula() != null;
+                if (hadFormula || !sameValue(currentValue, cell.getValue())) {
+                    // a null value is dropped when the update is serialized, so clear the cell with an empty string
+                    Object value = isBlank(cell.getValue()) ? "" : cell.getValue();
+                    changes.addCell(cell.getColumnId(), value, cell.getStrict(), null, null);
+                }
+            }
+        }
+        return changes.build();
+    }
+
+    private static String keyOf(Row row, long keyColumn) {
+        Cell cell = row.getCells() != null ? row.getCellByColumnId(keyColumn) : null;
+        if (cell == null) {
+            return null;
+        }
+        Object value = cell.getValue();
+        if (isBlank(value)) {
+            return null;
+        }
+        if (value instanceof Number) {
+            BigDecimal number = toBigDecimal((Number) value);
+            return number != null ? number.stripTrailingZeros().toPlainString() : value.toString();
+        }
+        return value.toString();
+    }
+
+    static boolean sameValue(Object current, Object desired) {
+        if (isBlank(current) || isBlank(desired)) {
+            return isBlank(current) && isBlank(desired);
+        }
+        if (current instanceof Number || desired instanceof Number) {
+            BigDecimal a = current instanceof Number ? toBigDecimal((Number) current) : parse(current.toString());
+            BigDecimal b = desired instanceof Number ? toBigDecimal((Number) desired) : parse(desired.toString());
+            return a != null && b != null && a.compareTo(b) == 0;
+        }
+        if (current instanceof Boolean || desired instanceof Boolean) {
+            return current.toString().equalsIgnoreCase(desired.toString());
+        }
+        return current.equals(desired);
+    }
+
+    private static boolean isBlank(Object value) {
+        return value == null || (value instanceof String && ((String) value).isEmpty());
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        return parse(number.toString());
+    }
+
+    private static BigDecimal parse(String text) {
+        try {
+            return new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
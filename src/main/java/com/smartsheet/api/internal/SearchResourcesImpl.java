@@ -26,6 +26,7 @@ import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.SearchResources;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.DateTimeUtil;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.SearchResult;
@@ -36,7 +37,6 @@ import com.smartsheet.api.models.enums.SearchScope;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -114,7 +114,7 @@ public class SearchResourcesImpl extends AbstractResources implements SearchReso
         parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
         parameters.put("location", location);
         if (modifiedSince != null) {
-            String isoDate = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(modifiedSince);
+            String isoDate = DateTimeUtil.formatInstant(modifiedSince);
             parameters.put("modifiedSince", isoDate);
         }
         parameters.put("scopes", QueryUtil.generateCommaSeparatedList(scopes));
@@ -0,0 +1,384 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetMirror;
+import com.smartsheet.api.SheetResources;
+import com.smartsheet.api.SheetStore;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.DaemonThreadFactory;
+import com.smartsheet.api.internal.util.ErrorUtil;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is the implementation of the SheetMirror interface.
+ *
+ * Every tracked sheet has its own one-shot task on a scheduled pool sized to the concurrency; when a poll completes
+ * the sheet's interval is adapted and its next poll scheduled, so a sheet is never polled twice at once and the pool
+ * only holds one task per sheet. Polls and direct syncs of the same sheet are serialized on its tracking state.
+ *
+ * An incremental update is only merged if the sheet still has as many rows as the copy (so none were added or
+ * deleted), every modified row is already in the copy at the same row number and under the same parent (so nothing
+ * moved), and the columns kept their ids, titles and types; otherwise the sheet is fetched in full.
+ *
+ * Thread Safety: This class is thread safe, the tracking state is held in a ConcurrentHashMap, each sheet's sync is
+ * guarded by its tracking state and the scheduler by the instance monitor.
+ */
+public class SheetMirrorImpl implements SheetMirror {
+
+    private static final Logger log = LoggerFactory.getLogger(SheetMirrorImpl.class);
+
+    private final SheetResources sheetResources;
+
+    private final SheetStore store;
+
+    private final EnumSet<SheetInclusion> includes;
+
+    private final long minIntervalMillis;
+
+    private final long maxIntervalMillis;
+
+    private final int maxConcurrency;
+
+    private final int fullRefreshInterval;
+
+    private final TokenBucket rateLimiter;
+
+    private final Listener listener;
+
+    private final Map<Long, Tracked> tracked = new ConcurrentHashMap<>();
+
+    /**
+     * The pool polling in the background, null until started.
+     */
+    private ScheduledThreadPoolExecutor scheduler;
+
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param sheetResources the sheet resources to fetch with
+     * @param store the store of the copies
+     * @param includes the optional objects fetched with each sheet (optional)
+     * @param minIntervalMillis the shortest polling interval
+     * @param maxIntervalMillis the longest polling interval
+     * @param maxConcurrency the number of sheets polled at once
+     * @param fullRefreshInterval the number of incremental updates after which a sheet is fetched in full
+     * @param rateLimiter the budget each request takes a permit from, null for none
+     * @param listener the listener, null for none
+     */
+    public SheetMirrorImpl(SheetResources sheetResources, SheetStore store, EnumSet<SheetInclusion> includes,
+                           long minIntervalMillis, long maxIntervalMillis, int maxConcurrency,
+                           int fullRefreshInterval, TokenBucket rateLimiter, Listener listener) {
+        this.sheetResources = sheetResources;
+        this.store = store;
+        this.includes = includes;
+        this.minIntervalMillis = minIntervalMillis;
+        this.maxIntervalMillis = maxIntervalMillis;
+        this.maxConcurrency = maxConcurrency;
+        this.fullRefreshInterval = fullRefreshInterval;
+        this.rateLimiter = rateLimiter;
+        this.listener = listener;
+    }
+
+    @Override
+    public void track(long sheetId) {
+        Tracked added = new Tracked(sheetId);
+        if (tracked.putIfAbsent(sheetId, added) == null) {
+            schedule(added, 0);
+        }
+    }
+
+    @Override
+    public void untrack(long sheetId) {
+        Tracked removed = tracked.remove(sheetId);
+        if (removed != null) {
+            synchronized (this) {
+                if (removed.next != null) {
+                    removed.next.cancel(false);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Set<Long> getTrackedSheets() {
+        return new HashSet<>(tracked.keySet());
+    }
+
+    @Override
+    public Sheet get(long sheetId) throws SmartsheetException {
+        return store.load(sheetId);
+    }
+
+    @Override
+    public boolean sync(long sheetId) throws SmartsheetException {
+        Tracked state = tracked.get(sheetId);
+        if (state == null) {
+            throw new IllegalArgumentException("sheet " + sheetId + " is not tracked");
+        }
+        return sync(state);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (closed) {
+            throw new IllegalStateException("the mirror has been closed");
+        }
+        if (scheduler == null) {
+            scheduler = new ScheduledThreadPoolExecutor(maxConcurrency, new DaemonThreadFactory("smartsheet-mirror-"));
+            scheduler.setRemoveOnCancelPolicy(true);
+            for (Tracked state : tracked.values()) {
+                schedule(state, 0);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    private synchronized void schedule(Tracked state, long delayMillis) {
+        if (scheduler != null && tracked.get(state.sheetId) == state) {
+            state.next = scheduler.schedule(() -> poll(state), delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void poll(Tracked state) {
+        if (tracked.get(state.sheetId) != state) {
+            return;
+        }
+        boolean changed = false;
+        try {
+            changed = sync(state);
+        } catch (SmartsheetException e) {
+            if (ErrorUtil.isTransient(e)) {
+                // the next poll tries again, after a longer interval since nothing changed
+                log.info("Failed to sync sheet {} ({}), retrying at the next poll", state.sheetId, e.getMessage());
+            } else {
+                log.warn("Failed to sync sheet {}", state.sheetId, e);
+            }
+            if (listener != null) {
+                listener.syncFailed(state.sheetId, e);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to sync sheet {}", state.sheetId, e);
+        }
+        schedule(state, state.adapt(changed));
+    }
+
+    private boolean sync(Tracked state) throws SmartsheetException {
+        synchronized (state) {
+            long sheetId = state.sheetId;
+            if (state.version == null) {
+                // nothing saved by this mirror yet, pick up a copy the store may hold from an earlier run
+                Sheet copy = store.load(sheetId);
+                if (copy == null || copy.getVersion() == null) {
+                    store(state, fetch(sheetId), false);
+                    return true;
+                }
+                state.saved(copy);
+            }
+            acquire();
+            if (sheetResources.getSheetVersion(sheetId) <= state.version) {
+                return false;
+            }
+            if (state.incrementalUpdates < fullRefreshInterval && state.modifiedAt != null) {
+                // the stored copy is only needed when there is something to merge into it
+                Sheet copy = store.load(sheetId);
+                if (copy != null && state.version.equals(copy.getVersion()) && copy.getRows() != null) {
+                    acquire();
+                    Sheet changes = sheetResources.getSheetRowsModifiedSince(sheetId, includes, state.modifiedAt,
+                            state.version);
+                    if (changes.getVersion() != null && changes.getVersion() <= state.version) {
+                        return false;
+                    }
+                    Sheet merged = merge(copy, changes);
+                    if (merged != null) {
+                        store(state, merged, true);
+                        return true;
+                    }
+                }
+            }
+            store(state, fetch(sheetId), false);
+            return true;
+        }
+    }
+
+    private Sheet fetch(long sheetId) throws SmartsheetException {
+        acquire();
+        return sheetResources.getSheet(sheetId, includes, null, null, null, null, null, null);
+    }
+
+    private void store(Tracked state, Sheet sheet, boolean incremental) throws SmartsheetException {
+        store.save(sheet);
+        state.saved(sheet);
+        state.incrementalUpdates = incremental ? state.incrementalUpdates + 1 : 0;
+        if (listener != null) {
+            try {
+                listener.sheetChanged(sheet, incremental);
+            } catch (RuntimeException e) {
+                log.warn("Listener failed on sheet {}", sheet.getId(), e);
+            }
+        }
+    }
+
+    private void acquire() throws SmartsheetException {
+        if (rateLimiter != null) {
+            try {
+                rateLimiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SmartsheetException("interrupted while waiting for the request budget", e);
+            }
+        }
+    }
+
+    /**
+     * Merge the modified rows into a copy of the sheet.
+     *
+     * @param copy the stored copy
+     * @param changes the sheet with the rows modified since the copy
+     * @return the merged sheet (the changes with the rows of the copy filled in), or null if the changes can't be
+     * merged safely
+     */
+    static Sheet merge(Sheet copy, Sheet changes) {
+        List<Row> rows = copy.getRows();
+        if (changes.getTotalRowCount() == null || changes.getTotalRowCount() != rows.size()
+                || !sameColumns(copy.getColumns(), changes.getColumns())) {
+            return null;
+        }
+        List<Row> merged = new ArrayList<>(rows);
+        if (changes.getRows() != null) {
+            for (Row row : changes.getRows()) {
+                if (row.getRowNumber() == null || row.getId() == null) {
+                    return null;
+                }
+                int position = row.getRowNumber() - 1;
+                if (position < 0 || position >= merged.size()) {
+                    return null;
+                }
+                Row old = merged.get(position);
+                if (!row.getId().equals(old.getId()) || !Objects.equals(row.getParentId(), old.getParentId())) {
+                    return null;
+                }
+                merged.set(position, row);
+            }
+        }
+        changes.setRows(merged);
+        return changes;
+    }
+
+    private static boolean sameColumns(List<Column> a, List<Column> b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            Column x = a.get(i);
+            Column y = b.get(i);
+            if (!Objects.equals(x.getId(), y.getId()) || !Objects.equals(x.getTitle(), y.getTitle())
+                    || x.getType() != y.getType()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The polling state of a tracked sheet.
+     */
+    private final class Tracked {
+        private final long sheetId;
+
+        private long intervalMillis = minIntervalMillis;
+
+        /**
+         * The number of incremental updates since the sheet was last fetched in full, guarded by this.
+         */
+        private int incrementalUpdates;
+
+        /**
+         * The version and modification time of the stored copy, guarded by this; the version is null until a copy
+         * has been saved or loaded.
+         */
+        private Integer version;
+
+        private Date modifiedAt;
+
+        /**
+         * The next poll, guarded by the mirror's monitor.
+         */
+        private ScheduledFuture<?> next;
+
+        Tracked(long sheetId) {
+            this.sheetId = sheetId;
+        }
+
+        /**
+         * Remember the version of the copy now in the store, so polls don't have to load it to compare versions.
+         */
+        void saved(Sheet copy) {
+            version = copy.getVersion();
+            modifiedAt = copy.getModifiedAt();
+        }
+
+        /**
+         * Halve the interval after a change, grow it by half otherwise.
+         *
+         * @return the new interval
+         */
+        synchronized long adapt(boolean changed) {
+            intervalMillis = changed
+                    ? Math.max(minIntervalMillis, intervalMillis / 2)
+                    : Math.min(maxIntervalMillis, intervalMillis + intervalMillis / 2);
+            return intervalMillis;
+        }
+    }
+}
@@ -34,6 +34,7 @@ import com.smartsheet.api.SheetDiscussionResources;
 import com.smartsheet.api.SheetFilterResources;
 import com.smartsheet.api.SheetResources;
 import com.smartsheet.api.SheetRowResources;
+import com.smartsheet.api.SheetStream;
 import com.smartsheet.api.SheetSummaryResources;
 import com.smartsheet.api.SheetUpdateRequestResources;
 import com.smartsheet.api.SmartsheetException;
@@ -41,14 +42,20 @@ import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.DateTimeUtil;
+import com.smartsheet.api.internal.util.EndpointTemplate;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.ContainerDestination;
+import com.smartsheet.api.models.LazySheet;
 import com.smartsheet.api.models.MultiRowEmail;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.Sheet;
 import com.smartsheet.api.models.SheetEmail;
+import com.smartsheet.api.models.SheetFrame;
 import com.smartsheet.api.models.SheetPublish;
 import com.smartsheet.api.models.SortSpecifier;
 import com.smartsheet.api.models.UpdateRequest;
@@ -68,7 +75,6 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -82,6 +88,8 @@ import java.util.Set;
  */
 public class SheetResourcesImpl extends AbstractResources implements SheetResources {
 
+    private static final EndpointTemplate SHEET = EndpointTemplate.compile("sheets/{sheetId}");
+
     /** The Constant BUFFER_SIZE. */
     private final static int BUFFER_SIZE = 4098;
 
@@ -207,7 +215,7 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
             parameters = pagination.toHashMap();
         }
         if (modifiedSince != null) {
-            String isoDate = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(modifiedSince);
+            String isoDate = DateTimeUtil.formatInstant(modifiedSince);
             parameters.put("modifiedSince", isoDate);
         }
         parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
@@ -339,25 +347,206 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
                           Integer ifVersionAfter,
                           Integer level) throws SmartsheetException {
 
-        String path = "sheets/" + id;
+        String path = sheetPath(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page, ifVersionAfter, level);
 
-        // Add the parameters to a map and build the query string at the end
-        Map<String, Object> parameters = new HashMap<>();
+        return this.getResource(path, Sheet.class);
+    }
 
-        parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
-        parameters.put("exclude", QueryUtil.generateCommaSeparatedList(excludes));
-        parameters.put("rowIds", QueryUtil.generateCommaSeparatedList(rowIds));
-        parameters.put("rowNumbers", QueryUtil.generateCommaSeparatedList(rowNumbers));
-        parameters.put("columnIds", QueryUtil.generateCommaSeparatedList(columnIds));
-        parameters.put("pageSize", pageSize);
-        parameters.put("page", page);
-        parameters.put("ifVersionAfter", ifVersionAfter);
-        parameters.put("level", level);
-
-        // Iterate through the map of parameters and generate the query string
-        path += QueryUtil.generateUrl(null, parameters);
+    /**
+     * <p>Get a sheet, reading its rows one at a time.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @return the sheet stream, which must be closed
+     * @throws SmartsheetException if there is any error during the operation
+     */
+    public SheetStream streamSheet(long id) throws SmartsheetException {
+        return this.streamSheet(id, null, null, null, null, null, null, null, null, null);
+    }
 
-        return this.getResource(path, Sheet.class);
+    /**
+     * <p>Get a sheet, reading its rows one at a time.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * <p>The rows are mapped straight off the response as they are iterated, so memory use does not grow with the
+     * size of the sheet. If the JsonSerializer isn't the Jackson one the sheet is read in full and its rows are
+     * served from memory.</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param ifVersionAfter only fetch Sheet if more recent version available
+     * @param level compatibility level
+     * @return the sheet stream, which must be closed
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public SheetStream streamSheet(long id,
+                                   EnumSet<SheetInclusion> includes,
+                                   EnumSet<ObjectExclusion> excludes,
+                                   Set<Long> rowIds,
+                                   Set<Integer> rowNumbers,
+                                   Set<Long> columnIds,
+                                   Integer pageSize,
+                                   Integer page,
+                                   Integer ifVersionAfter,
+                                   Integer level) throws SmartsheetException {
+
+        String path = sheetPath(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page, ifVersionAfter, level);
+        HttpRequest request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.GET);
+
+        // the connection stays open while the rows are read, unless anything fails before the stream is handed out
+        boolean streaming = false;
+        try {
+            HttpResponse response = getSmartsheet().getHttpClient().request(request);
+            if (response.getStatusCode() != 200) {
+                handleError(response);
+            }
+
+            InputStream inputStream = response.getEntity().getContent();
+            JsonSerializer serializer = getSmartsheet().getJsonSerializer();
+            if (!(serializer instanceof JacksonJsonSerializer)) {
+                return SheetStreamImpl.of(serializer.deserialize(Sheet.class, inputStream));
+            }
+            SheetStream stream = SheetStreamImpl.open((JacksonJsonSerializer) serializer, response,
+                    getSmartsheet().getHttpClient());
+            streaming = true;
+            return stream;
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        } finally {
+            if (!streaming) {
+                getSmartsheet().getHttpClient().releaseConnection();
+            }
+        }
+    }
+
+    /**
+     * <p>Get a sheet as a {@link SheetFrame}, a compact column-oriented copy of its cell values.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @return the frame
+     * @throws SmartsheetException if there is any error during the operation
+     */
+    public SheetFrame getSheetFrame(long id) throws SmartsheetException {
+        return this.getSheetFrame(id, null, null);
+    }
+
+    /**
+     * <p>Get a sheet as a {@link SheetFrame}, a compact column-oriented copy of its cell values.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * <p>With the Jackson serializer the rows are read from the response straight into the frame's column arrays;
+     * otherwise the sheet is read in full first.</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include (e.g. FORMAT for cell formats)
+     * @param columnIds the column ids, null for all columns
+     * @return the frame
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public SheetFrame getSheetFrame(long id, EnumSet<SheetInclusion> includes, Set<Long> columnIds)
+            throws SmartsheetException {
+        try (SheetStream stream = streamSheet(id, includes, null, null, null, columnIds, null, null, null, null)) {
+            if (stream instanceof SheetStreamImpl) {
+                return ((SheetStreamImpl) stream).readFrame();
+            }
+            return SheetFrame.of(stream);
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        }
+    }
+
+    /**
+     * <p>Get a sheet whose rows are mapped only when they are accessed.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @return the sheet
+     * @throws SmartsheetException if there is any error during the operation
+     */
+    public LazySheet getLazySheet(long id) throws SmartsheetException {
+        return this.getLazySheet(id, null, null, null);
+    }
+
+    /**
+     * <p>Get a sheet whose rows are mapped only when they are accessed.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * <p>The response is read into memory and scanned for the row ids and row numbers; rows are then mapped from it
+     * on demand. If the JsonSerializer isn't the Jackson one the sheet is read in full.</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param columnIds the column ids, null for all columns
+     * @return the sheet
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public LazySheet getLazySheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                                  Set<Long> columnIds) throws SmartsheetException {
+        String path = sheetPath(id, includes, excludes, null, null, columnIds, null, null, null, null);
+        HttpRequest request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.GET);
+
+        try {
+            HttpResponse response = getSmartsheet().getHttpClient().request(request);
+            if (response.getStatusCode() != 200) {
+                handleError(response);
+            }
+
+            InputStream inputStream = response.getEntity().getContent();
+            JsonSerializer serializer = getSmartsheet().getJsonSerializer();
+            if (!(serializer instanceof JacksonJsonSerializer)) {
+                return serializer.deserialize(LazySheet.class, inputStream);
+            }
+            return LazySheetReader.read((JacksonJsonSerializer) serializer, inputStream);
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        } finally {
+            getSmartsheet().getHttpClient().releaseConnection();
+        }
+    }
+
+    private static String sheetPath(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                                    Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize,
+                                    Integer page, Integer ifVersionAfter, Integer level) {
+        return SHEET.expand(id)
+                .query("include", includes)
+                .query("exclude", excludes)
+                .query("rowIds", rowIds)
+                .query("rowNumbers", rowNumbers)
+                .query("columnIds", columnIds)
+                .query("pageSize", pageSize)
+                .query("page", page)
+                .query("ifVersionAfter", ifVersionAfter)
+                .query("level", level)
+                .build();
     }
 
     /**
@@ -765,6 +954,31 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         return this.getResource("sheets/" + id + "/version", Sheet.class).getVersion();
     }
 
+    /**
+     * Get a sheet with only the rows modified since the given time, unless the sheet is not newer than the given
+     * version.
+     *
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}?rowsModifiedSince={date}
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include
+     * @param rowsModifiedSince the time rows must have been modified at or after
+     * @param ifVersionAfter only fetch the sheet if a more recent version is available (optional)
+     * @return the sheet with the modified rows
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public Sheet getSheetRowsModifiedSince(long id, EnumSet<SheetInclusion> includes, Date rowsModifiedSince,
+                                           Integer ifVersionAfter) throws SmartsheetException {
+        Util.throwIfNull(rowsModifiedSince);
+        String path = SHEET.expand(id)
+                .query("include", includes)
+                .query("rowsModifiedSince", DateTimeUtil.formatInstant(rowsModifiedSince))
+                .query("ifVersionAfter", ifVersionAfter)
+                .build();
+
+        return this.getResource(path, Sheet.class);
+    }
+
     /**
      * Send a sheet as a PDF attachment via email to the designated recipients.
      *
@@ -1005,7 +1219,7 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
             path += "?level=" + level;
         }
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(smartsheet.resolveURI(path), HttpMethod.POST);
 
         ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
         this.smartsheet.getJsonSerializer().serialize(sortSpecifier, objectBytesStream);
@@ -1171,9 +1385,9 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         parameters.put("headerRowIndex", headerRowIndex);
         parameters.put("primaryColumnIndex", primaryColumnIndex);
         path = QueryUtil.generateUrl(path, parameters);
-        HttpRequest request = createHttpRequest(this.smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
-        request.getHeaders().put("Content-Disposition", "attachment");
-        request.getHeaders().put("Content-Type", contentType);
+        HttpRequest request = createHttpRequest(this.smartsheet.resolveURI(path), HttpMethod.POST);
+        request.addHeader("Content-Disposition", "attachment");
+        request.addHeader("Content-Type", contentType);
 
         InputStream is = null;
         try {
@@ -1234,8 +1448,8 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         }
 
         HttpRequest request;
-        request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(path), HttpMethod.GET);
-        request.getHeaders().put("Accept", contentType);
+        request = createHttpRequest(this.getSmartsheet().resolveURI(path), HttpMethod.GET);
+        request.addHeader("Accept", contentType);
 
         com.smartsheet.api.internal.http.HttpResponse response = getSmartsheet().getHttpClient().request(request);
 
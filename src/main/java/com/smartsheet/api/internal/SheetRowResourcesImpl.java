@@ -33,6 +33,8 @@ import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.util.DaemonThreadFactory;
+import com.smartsheet.api.internal.util.EndpointTemplate;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.BulkItemFailure;
@@ -52,12 +54,23 @@ import com.smartsheet.api.models.enums.RowMoveInclusion;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * This is the implementation of the SheetRowResources.
@@ -65,6 +78,16 @@ import java.util.Set;
  * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
  */
 public class SheetRowResourcesImpl extends AbstractResources implements SheetRowResources {
+
+    private static final EndpointTemplate ROWS = EndpointTemplate.compile("sheets/{sheetId}/rows");
+    private static final EndpointTemplate ROW = EndpointTemplate.compile("sheets/{sheetId}/rows/{rowId}");
+
+    /**
+     * The longest ids parameter (URL encoded) sent in one delete request, which keeps the request line well under the
+     * 8 KB that servers and proxies commonly accept.
+     */
+    public static final int MAX_ROW_IDS_QUERY_LENGTH = 4000;
+
     RowAttachmentResources attachments;
     RowDiscussionResources discussions;
     RowColumnResources columns;
@@ -129,14 +152,10 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
      * @throws SmartsheetException the smartsheet exception
      */
     public List<Row> addRows(long sheetId, List<Row> rows, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes) throws SmartsheetException {
-        String path = "sheets/" + sheetId + "/rows";
-
-        Map<String, Object> parameters = new HashMap<>();
-
-        parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
-        parameters.put("exclude", QueryUtil.generateCommaSeparatedList(excludes));
-
-        path += QueryUtil.generateUrl(null, parameters);
+        String path = ROWS.expand(sheetId)
+                .query("include", includes)
+                .query("exclude", excludes)
+                .build();
         return this.postAndReceiveList(path, rows, Row.class);
     }
 
@@ -205,14 +224,10 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
      * @throws SmartsheetException the smartsheet exception
      */
     public Row getRow(long sheetId, long rowId, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes) throws SmartsheetException {
-        String path = "sheets/" + sheetId + "/rows/" + rowId;
-
-        Map<String, Object> parameters = new HashMap<>();
-
-        parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
-        parameters.put("exclude", QueryUtil.generateCommaSeparatedList(excludes));
-
-        path += QueryUtil.generateUrl(null, parameters);
+        String path = ROW.expand(sheetId, rowId)
+                .query("include", includes)
+                .query("exclude", excludes)
+                .build();
         return this.getResource(path, Row.class);
     }
 
@@ -245,10 +260,10 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
     /**
      * Deletes one or more row(s) from the Sheet specified in the URL.
      *
-     * It mirrors to the following Smartsheet REST API method: DELETE /sheets/{sheetId}/rows/{rowId}
-     * Parameters: - id : the ID of the row
+     * It mirrors to the following Smartsheet REST API method: DELETE /sheets/{sheetId}/rows?ids={rowIds}
      *
-     * Returns: None
+     * The ids are split into requests whose ids parameter stays under {@link #MAX_ROW_IDS_QUERY_LENGTH}, sent one
+     * after another on the calling thread.
      *
      * Exceptions:
      *   InvalidRequestException : if there is any problem with the REST API request
@@ -265,7 +280,112 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
      * @throws SmartsheetException the smartsheet exception
      */
     public List<Long> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) throws SmartsheetException {
+        return deleteRows(sheetId, rowIds, ignoreRowsNotFound, 1);
+    }
+
+    /**
+     * Deletes one or more row(s) from the Sheet specified in the URL, sending up to maxConcurrency requests at once.
+     *
+     * It mirrors to the following Smartsheet REST API method: DELETE /sheets/{sheetId}/rows?ids={rowIds}
+     *
+     * @param sheetId the sheet id
+     * @param rowIds the row ids
+     * @param ignoreRowsNotFound boolean for ignoring row ids not found
+     * @param maxConcurrency the maximum number of requests in flight
+     * @return a list of deleted rows
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public List<Long> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound, int maxConcurrency)
+            throws SmartsheetException {
         Util.throwIfNull(rowIds);
+        List<Long> deleted = new ArrayList<>();
+        deleteRowChunks(sheetId, rowIds.iterator(), ignoreRowsNotFound, maxConcurrency, deleted::addAll);
+        return deleted;
+    }
+
+    /**
+     * Deletes the rows of a stream of row ids, sending up to maxConcurrency requests at once and handing the ids
+     * deleted by each request to the consumer as it completes.
+     *
+     * It mirrors to the following Smartsheet REST API method: DELETE /sheets/{sheetId}/rows?ids={rowIds}
+     *
+     * @param sheetId the sheet id
+     * @param rowIds the row ids
+     * @param ignoreRowsNotFound boolean for ignoring row ids not found
+     * @param maxConcurrency the maximum number of requests in flight
+     * @param deletedRowIds receives the ids deleted by each request (may be null)
+     * @return the number of rows deleted
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public long deleteRows(long sheetId, Stream<Long> rowIds, boolean ignoreRowsNotFound, int maxConcurrency,
+                           Consumer<? super List<Long>> deletedRowIds) throws SmartsheetException {
+        Util.throwIfNull(rowIds);
+        AtomicLong count = new AtomicLong();
+        deleteRowChunks(sheetId, rowIds.iterator(), ignoreRowsNotFound, maxConcurrency, ids -> {
+            count.addAndGet(ids.size());
+            if (deletedRowIds != null) {
+                deletedRowIds.accept(ids);
+            }
+        });
+        return count.get();
+    }
+
+    /**
+     * Send a delete request per chunk of ids, keeping up to maxConcurrency of them in flight and handing each result
+     * to the consumer in chunk order, on the calling thread. A chunk sent while nothing else is in flight and no
+     * other chunk follows is sent on the calling thread, so a small delete costs no thread hop. After a failure no
+     * more chunks are sent; the chunks in flight are waited for (and their results handed on) before the first
+     * error is thrown.
+     */
+    private void deleteRowChunks(long sheetId, Iterator<Long> rowIds, boolean ignoreRowsNotFound, int maxConcurrency,
+                                 Consumer<? super List<Long>> deleted) throws SmartsheetException {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        Iterator<List<Long>> chunks = chunkRowIds(rowIds, MAX_ROW_IDS_QUERY_LENGTH);
+        Deque<CompletableFuture<List<Long>>> inFlight = new ArrayDeque<>();
+        SmartsheetException failure = null;
+        while (true) {
+            while (failure == null && inFlight.size() < maxConcurrency && chunks.hasNext()) {
+                List<Long> chunk = chunks.next();
+                // the last (or, without concurrency, every) request runs on the calling thread
+                if (inFlight.isEmpty() && (maxConcurrency == 1 || !chunks.hasNext())) {
+                    try {
+                        deleted.accept(deleteRowChunk(sheetId, chunk, ignoreRowsNotFound));
+                    } catch (SmartsheetException e) {
+                        failure = e;
+                    }
+                } else {
+                    inFlight.add(CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return deleteRowChunk(sheetId, chunk, ignoreRowsNotFound);
+                        } catch (SmartsheetException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, SharedExecutor.INSTANCE));
+                }
+            }
+            CompletableFuture<List<Long>> next = inFlight.poll();
+            if (next == null) {
+                break;
+            }
+            try {
+                deleted.accept(next.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof SmartsheetException
+                            ? (SmartsheetException) e.getCause()
+                            : new SmartsheetException("failed to delete rows", e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private List<Long> deleteRowChunk(long sheetId, List<Long> rowIds, boolean ignoreRowsNotFound)
+            throws SmartsheetException {
         Map<String, Object> parameters = new HashMap<>();
         String path = "sheets/" + sheetId + "/rows/";
         parameters.put("ids", QueryUtil.generateCommaSeparatedList(rowIds));
@@ -276,6 +396,50 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         return this.deleteListResources(path, Long.class);
     }
 
+    /**
+     * Split row ids into chunks whose URL encoded, comma separated list is at most maxQueryLength characters long
+     * (at least one id per chunk).
+     *
+     * @param rowIds the row ids
+     * @param maxQueryLength the maximum length of a chunk's ids parameter
+     * @return the chunks
+     */
+    static Iterator<List<Long>> chunkRowIds(Iterator<Long> rowIds, int maxQueryLength) {
+        return new Iterator<List<Long>>() {
+            /**
+             * The id taken from rowIds that didn't fit into the previous chunk.
+             */
+            private Long carried;
+
+            @Override
+            public boolean hasNext() {
+                return carried != null || rowIds.hasNext();
+            }
+
+            @Override
+            public List<Long> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<Long> chunk = new ArrayList<>();
+                int length = 0;
+                while (hasNext()) {
+                    Long id = carried != null ? carried : Util.throwIfNull(rowIds.next());
+                    carried = null;
+                    // an encoded comma ("%2C") goes before every id but the first
+                    int idLength = Long.toString(id).length() + (chunk.isEmpty() ? 0 : 3);
+                    if (!chunk.isEmpty() && length + idLength > maxQueryLength) {
+                        carried = id;
+                        break;
+                    }
+                    chunk.add(id);
+                    length += idLength;
+                }
+                return chunk;
+            }
+        };
+    }
+
     /**
      * @deprecated as of API V2.0.2, replaced by {@link #sendRows(long, MultiRowEmail)}
      * Send a row via email to the designated recipients.
@@ -364,14 +528,10 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
      * @throws SmartsheetException the smartsheet exception
      */
     public List<Row> updateRows(long sheetId, List<Row> rows, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes) throws SmartsheetException {
-        String path = "sheets/" + sheetId + "/rows";
-
-        Map<String, Object> parameters = new HashMap<>();
-
-        parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
-        parameters.put("exclude", QueryUtil.generateCommaSeparatedList(excludes));
-
-        path += QueryUtil.generateUrl(null, parameters);
+        String path = ROWS.expand(sheetId)
+                .query("include", includes)
+                .query("exclude", excludes)
+                .build();
         return this.putAndReceiveList(path, rows, Row.class);
     }
 
@@ -433,16 +593,14 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
             throw new IllegalArgumentException();
         }
 
-        String path = "sheets/" + sheetId + "/rows";
-        Map<String, Object> parameters = new HashMap<>();
-        parameters.put("allowPartialSuccess", "true");
-        parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
-        parameters.put("exclude", QueryUtil.generateCommaSeparatedList(excludes));
-
-        path = QueryUtil.generateUrl(path, parameters);
+        String path = ROWS.expand(sheetId)
+                .query("allowPartialSuccess", true)
+                .query("include", includes)
+                .query("exclude", excludes)
+                .build();
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
+        request = createHttpRequest(smartsheet.resolveURI(path), method);
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
 
@@ -610,4 +768,13 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
     public RowColumnResources cellResources(){
         return columns;
     }
+
+    /**
+     * The pool that sends delete requests in parallel: daemon threads, created on demand and reclaimed after a minute
+     * of idleness.
+     */
+    private static final class SharedExecutor {
+        private static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(new DaemonThreadFactory("smartsheet-delete-rows-"));
+    }
 }
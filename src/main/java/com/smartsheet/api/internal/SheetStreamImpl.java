@@ -0,0 +1,418 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smartsheet.api.SheetStream;
+import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.util.DateTimeUtil;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.RowProjection;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.SheetFrame;
+import com.smartsheet.api.models.format.Format;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This is the implementation of the SheetStream interface.
+ *
+ * The top level fields of the sheet are buffered as a tree until the "rows" array is reached and then mapped to the
+ * Sheet; each row is mapped straight off the parser when the iterator asks for it; the fields after the array are
+ * buffered and mapped onto the same Sheet when the array ends.
+ *
+ * Thread Safety: This class is not thread safe.
+ */
+class SheetStreamImpl implements SheetStream {
+
+    private static final String ROWS = "rows";
+
+    private final Sheet sheet;
+
+    /**
+     * The parser positioned inside the "rows" array, null if rows are served from {@link #bufferedRows}.
+     */
+    private final JsonParser parser;
+
+    private final JacksonJsonSerializer serializer;
+
+    /**
+     * The response the rows are read from (optional), closed directly so that neither other requests made on the
+     * requesting thread nor a close from another thread release the wrong connection.
+     */
+    private final HttpResponse response;
+
+    /**
+     * The client to release the connection through if the response has no connection handle (optional).
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * The rows of a sheet that was read in full, used when the serializer doesn't support streaming.
+     */
+    private final Iterator<Row> bufferedRows;
+
+    private boolean iterated;
+
+    private boolean closed;
+
+    private SheetStreamImpl(Sheet sheet, JsonParser parser, JacksonJsonSerializer serializer, HttpResponse response,
+                            HttpClient httpClient, Iterator<Row> bufferedRows) {
+        this.sheet = sheet;
+        this.parser = parser;
+        this.serializer = serializer;
+        this.response = response;
+        this.httpClient = httpClient;
+        this.bufferedRows = bufferedRows;
+    }
+
+    /**
+     * Start streaming a sheet, reading everything up to the first row.
+     *
+     * If this method fails the caller is responsible for releasing the connection.
+     *
+     * @param serializer the serializer
+     * @param response the response, whose connection is closed when the stream is closed
+     * @param httpClient the client to release the connection through if the response has no connection handle
+     * (optional)
+     * @return the sheet stream
+     * @throws IOException if the JSON can not be read or mapped
+     */
+    static SheetStreamImpl open(JacksonJsonSerializer serializer, HttpResponse response, HttpClient httpClient)
+            throws IOException {
+        JsonParser parser = serializer.createParser(response.getEntity().getContent());
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("expected a sheet object but found " + parser.getCurrentToken());
+            }
+            ObjectNode fields = JsonNodeFactory.instance.objectNode();
+            boolean hasRows = readFields(parser, fields);
+            Sheet sheet = serializer.deserializeValue(Sheet.class, parser.getCodec().treeAsTokens(fields));
+
+            SheetStreamImpl stream = new SheetStreamImpl(sheet, parser, serializer, response, httpClient, null);
+            if (!hasRows) {
+                stream.close();
+            }
+            return stream;
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Wrap a sheet that was read in full.
+     *
+     * @param sheet the sheet, its rows are moved to the stream
+     * @return the sheet stream
+     */
+    static SheetStreamImpl of(Sheet sheet) {
+        List<Row> rows = sheet.getRows();
+        sheet.setRows(null);
+        return new SheetStreamImpl(sheet, null, null, null, null,
+                rows == null ? Collections.<Row>emptyIterator() : rows.iterator());
+    }
+
+    /**
+     * Read the fields of the current object into a tree until the "rows" array or the end of the object.
+     *
+     * @return true if the parser stopped at the start of the "rows" array
+     */
+    private static boolean readFields(JsonParser parser, ObjectNode fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (ROWS.equals(name) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            fields.set(name, (JsonNode) parser.readValueAsTree());
+        }
+        return false;
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("the rows of a sheet stream can only be iterated once");
+        }
+        iterated = true;
+        if (bufferedRows != null) {
+            return bufferedRows;
+        }
+        if (closed) {
+            // either there were no rows, or the caller gave up on them
+            return Collections.emptyIterator();
+        }
+        return new RowIterator();
+    }
+
+    @Override
+    public Stream<Row> stream() {
+        Spliterator<Row> rows = Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(rows, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // close the connection without draining the rest of the body
+        boolean released = false;
+        if (response != null) {
+            try {
+                released = response.closeConnection();
+            } catch (IOException ignore) {
+                // the parser is closed below either way
+            }
+        }
+        if (!released && httpClient != null) {
+            // a client without connection handles, this only releases the right connection on the requesting thread
+            httpClient.releaseConnection();
+        }
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException ignore) {
+                // the connection is gone either way
+            }
+        }
+    }
+
+    /**
+     * Read the rows into a {@link SheetFrame} and close the stream.
+     *
+     * Rows are read token by token straight into the frame's column arrays, without creating a Row or Cell for
+     * them; the serializer's row projection, if any, is honoured. A stream that serves buffered rows goes through
+     * {@link SheetFrame#of(SheetStream)} instead.
+     *
+     * @return the frame
+     * @throws IOException if the JSON can not be read
+     */
+    SheetFrame readFrame() throws IOException {
+        if (parser == null || iterated) {
+            return SheetFrame.of(this);
+        }
+        iterated = true;
+        Integer totalRowCount = sheet.getTotalRowCount();
+        SheetFrame.Builder builder = new SheetFrame.Builder(sheet, totalRowCount == null ? 0 : totalRowCount);
+        if (closed) {
+            return builder.build();
+        }
+        try {
+            RowProjection projection = serializer.getRowProjection();
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                readFrameRow(builder, projection);
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new IOException("expected a row but found " + token);
+            }
+            finish();
+        } finally {
+            close();
+        }
+        return builder.build();
+    }
+
+    private void readFrameRow(SheetFrame.Builder builder, RowProjection projection) throws IOException {
+        builder.startRow(0);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL || (projection != null && projection.skipsField(name))) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "id":
+                    builder.setRowId(parser.getLongValue());
+                    break;
+                case "rowNumber":
+                    builder.setRowNumber(parser.getIntValue());
+                    break;
+                case "parentId":
+                    builder.setParentId(parser.getLongValue());
+                    break;
+                case "createdAt":
+                    builder.setCreatedAt(readTimestamp());
+                    break;
+                case "modifiedAt":
+                    builder.setModifiedAt(readTimestamp());
+                    break;
+                case "format":
+                    builder.setRowFormat(Format.valueOf(parser.getText()));
+                    break;
+                case "cells":
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        readFrameCell(builder, projection);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+    }
+
+    private void readFrameCell(SheetFrame.Builder builder, RowProjection projection) throws IOException {
+        long columnId = 0;
+        boolean number = false;
+        double numberValue = 0;
+        Object value = null;
+        String displayValue = null;
+        Format format = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL || (projection != null && projection.skipsField(name))) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "columnId":
+                    columnId = parser.getLongValue();
+                    if (projection != null && !projection.includesColumn(columnId)) {
+                        while (parser.nextToken() != JsonToken.END_OBJECT) {
+                            parser.skipChildren();
+                        }
+                        return;
+                    }
+                    break;
+                case "value":
+                    if (token.isNumeric()) {
+                        number = true;
+                        numberValue = parser.getDoubleValue();
+                    } else if (token.isScalarValue()) {
+                        value = token == JsonToken.VALUE_STRING ? parser.getText() : parser.getBooleanValue();
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                case "displayValue":
+                    displayValue = parser.getText();
+                    break;
+                case "format":
+                    format = Format.valueOf(parser.getText());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (number) {
+            builder.addNumberCell(columnId, numberValue, displayValue, format);
+        } else {
+            builder.addCell(columnId, value, displayValue, format);
+        }
+    }
+
+    /**
+     * Read a timestamp, either ISO-8601 or (with numericDates) milliseconds since the epoch.
+     */
+    private long readTimestamp() throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        try {
+            return DateTimeUtil.parseDate(parser.getText()).getTime();
+        } catch (DateTimeParseException e) {
+            throw new JsonParseException(parser, "invalid timestamp " + parser.getText(), e);
+        }
+    }
+
+    /**
+     * Reads the fields that follow the "rows" array onto the sheet and closes the stream.
+     */
+    private void finish() throws IOException {
+        try {
+            ObjectNode fields = JsonNodeFactory.instance.objectNode();
+            readFields(parser, fields);
+            if (fields.size() > 0) {
+                serializer.deserializeInto(sheet, parser.getCodec().treeAsTokens(fields));
+            }
+        } finally {
+            close();
+        }
+    }
+
+    private class RowIterator implements Iterator<Row> {
+
+        private Row next;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (closed) {
+                return false;
+            }
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_OBJECT) {
+                    next = serializer.deserializeValue(Row.class, parser);
+                    return true;
+                }
+                if (token != JsonToken.END_ARRAY) {
+                    throw new IOException("expected a row but found " + token);
+                }
+                finish();
+                return false;
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Row next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Row row = next;
+            next = null;
+            return row;
+        }
+    }
+}
@@ -345,9 +345,9 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         }
         path += QueryUtil.generateUrl(null, parameters);
 
-        HttpRequest request = createHttpRequest(this.smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(this.smartsheet.resolveURI(path), HttpMethod.POST);
         String contentDispositionValue = "attachment; filename=\"" + URLEncoder.encode(imageName, StandardCharsets.UTF_8) + "\"";
-        request.getHeaders().put("Content-Disposition", contentDispositionValue);
+        request.addHeader("Content-Disposition", contentDispositionValue);
 
         HttpEntity entity = new HttpEntity();
         entity.setContentType(contentType);
@@ -379,7 +379,7 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         path = QueryUtil.generateUrl(path, parameters);
 
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
+        request = createHttpRequest(smartsheet.resolveURI(path), method);
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
 
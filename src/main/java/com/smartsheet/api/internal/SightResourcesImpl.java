@@ -27,6 +27,7 @@ import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.ShareResources;
 import com.smartsheet.api.SightResources;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.DateTimeUtil;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.ContainerDestination;
@@ -36,7 +37,6 @@ import com.smartsheet.api.models.Sight;
 import com.smartsheet.api.models.SightPublish;
 import com.smartsheet.api.models.enums.SightInclusion;
 
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -80,7 +80,7 @@ public class SightResourcesImpl extends AbstractResources implements SightResour
             parameters = paging.toHashMap();
         }
         if (modifiedSince != null) {
-            String isoDate = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(modifiedSince);
+            String isoDate = DateTimeUtil.formatInstant(modifiedSince);
             parameters.put("modifiedSince", isoDate);
         }
         path += QueryUtil.generateUrl(null, parameters);
@@ -52,6 +52,11 @@ import org.apache.http.impl.client.HttpClients;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -70,6 +75,13 @@ public class SmartsheetImpl implements Smartsheet {
      */
     private URI baseURI;
 
+    /**
+     * Represents the base URI as a string ending with "/", or null if request paths can't simply be appended to it.
+     *
+     * It will be initialized in constructor and will not change afterwards.
+     */
+    private final String baseURIPrefix;
+
     /**
      * Represents the AtomicReference for access token.
      *
@@ -115,167 +127,182 @@ public class SmartsheetImpl implements Smartsheet {
      */
     private final AtomicReference<String> userAgent;
 
+    /**
+     * Represents the client this instance is a view of (see {@link #as(String, String)}), null for a root client.
+     *
+     * Holding the parent keeps it (and therefore the shared HttpClient) from being finalized while a view is in use.
+     */
+    private final SmartsheetImpl parent;
+
+    /**
+     * Represents the AtomicReference for the precomputed request headers.
+     *
+     * The headers are rebuilt (and the Assume-User/Change-Agent values URL-encoded) only when one of the values
+     * they are derived from has changed, rather than on every request.
+     */
+    private final AtomicReference<HeaderContext> headerContext;
+
     /**
      * Represents the AtomicReference to HomeResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private AtomicReference<HomeResources> home;
+    private AtomicReference<HomeResources> home = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to WorkspaceResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private AtomicReference<WorkspaceResources> workspaces;
+    private AtomicReference<WorkspaceResources> workspaces = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to FolderResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private AtomicReference<FolderResources> folders;
+    private AtomicReference<FolderResources> folders = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to TemplateResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private AtomicReference<TemplateResources> templates;
+    private AtomicReference<TemplateResources> templates = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to SheetResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private AtomicReference<SheetResources> sheets;
+    private AtomicReference<SheetResources> sheets = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to SightResources
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private AtomicReference<SightResources> sights;
+    private AtomicReference<SightResources> sights = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to UserResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private AtomicReference<UserResources> users;
+    private AtomicReference<UserResources> users = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to {@link GroupResources}.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private AtomicReference<GroupResources> groups;
+    private AtomicReference<GroupResources> groups = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to SearchResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private AtomicReference<SearchResources> search;
+    private AtomicReference<SearchResources> search = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference to ReportResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private AtomicReference<ReportResources> reports;
+    private AtomicReference<ReportResources> reports = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for ServerInfoResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<ServerInfoResources> serverInfo;
+    private final AtomicReference<ServerInfoResources> serverInfo = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for FavoriteResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<FavoriteResources> favorites;
+    private final AtomicReference<FavoriteResources> favorites = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for TokenResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<TokenResources> tokens;
+    private final AtomicReference<TokenResources> tokens = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for ContactResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<ContactResources> contacts;
+    private final AtomicReference<ContactResources> contacts = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for ImageUrlResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<ImageUrlResources> imageUrls;
+    private final AtomicReference<ImageUrlResources> imageUrls = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for WebhookResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<WebhookResources> webhooks;
+    private final AtomicReference<WebhookResources> webhooks = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for PassthroughResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<PassthroughResources> passthrough;
+    private final AtomicReference<PassthroughResources> passthrough = new AtomicReference<>();
 
     /**
      * Represents the AtomicReference for EventResources.
      *
-     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * It is created with the instance and will not change afterwards. The underlying value will be initially set
      * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
      * effectively the underlying value is lazily created in a thread safe manner.
      */
-    private final AtomicReference<EventResources> events;
+    private final AtomicReference<EventResources> events = new AtomicReference<>();
 
     /**
      * Create an instance with given server URI, HttpClient (optional) and JsonSerializer (optional)
@@ -304,6 +331,7 @@ public class SmartsheetImpl implements Smartsheet {
         Util.throwIfEmpty(baseURI);
 
         this.baseURI = URI.create(baseURI);
+        this.baseURIPrefix = appendablePrefix(this.baseURI);
         this.accessToken = new AtomicReference<>(accessToken);
         this.jsonSerializer = ((jsonSerializer == null) ? new JacksonJsonSerializer() : jsonSerializer);
         this.httpClient = ((httpClient == null) ?
@@ -311,35 +339,40 @@ public class SmartsheetImpl implements Smartsheet {
         this.assumedUser = new AtomicReference<>(null);
         this.changeAgent = new AtomicReference<>(null);
         this.userAgent = new AtomicReference<>(generateUserAgent(null));
+        this.parent = null;
+        this.headerContext = new AtomicReference<>();
+    }
+
+    /**
+     * Create a view of the given client with its own access token, user agent, assumed user and change agent.
+     *
+     * @param parent the client to share the base URI, HttpClient and JsonSerializer with, and to copy the current
+     *        access token and user agent from
+     * @param assumedUser the email of the user to assume (optional)
+     * @param changeAgent the change agent identifier (optional)
+     */
+    private SmartsheetImpl(SmartsheetImpl parent, String assumedUser, String changeAgent) {
+        this.baseURI = parent.baseURI;
+        this.baseURIPrefix = parent.baseURIPrefix;
+        this.accessToken = new AtomicReference<>(parent.accessToken.get());
+        this.jsonSerializer = parent.jsonSerializer;
+        this.httpClient = parent.httpClient;
+        this.assumedUser = new AtomicReference<>(assumedUser);
+        this.changeAgent = new AtomicReference<>(changeAgent);
+        this.userAgent = new AtomicReference<>(parent.userAgent.get());
+        this.parent = parent;
+        this.headerContext = new AtomicReference<>();
+    }
 
-        // Initialize resources
-        this.home = new AtomicReference<>();
-        this.workspaces = new AtomicReference<>();
-        this.folders = new AtomicReference<>();
-        this.templates = new AtomicReference<>();
-        this.sheets = new AtomicReference<>();
-        this.sights = new AtomicReference<>();
-        this.favorites = new AtomicReference<>();
-        this.users = new AtomicReference<>();
-        this.groups = new AtomicReference<>();
-        this.search = new AtomicReference<>();
-        this.reports = new AtomicReference<>();
-        this.serverInfo = new AtomicReference<>();
-        this.tokens = new AtomicReference<>();
-        this.contacts = new AtomicReference<>();
-        this.imageUrls = new AtomicReference<>();
-        this.webhooks = new AtomicReference<>();
-        this.passthrough = new AtomicReference<>();
-        this.events = new AtomicReference<>();
-    }
-
-    /**
-     * Finalize the object, this method is overridden to close the HttpClient.
+    /**
+     * Finalize the object, this method is overridden to close the HttpClient (views leave it to the root client).
      *
      * @throws IOException Signals that an I/O exception has occurred.
      */
     protected void finalize() throws IOException {
-        this.httpClient.close();
+        if (parent == null) {
+            this.httpClient.close();
+        }
     }
 
     /**
@@ -353,6 +386,32 @@ public class SmartsheetImpl implements Smartsheet {
         return baseURI;
     }
 
+    /**
+     * Resolve a request path (e.g. "sheets/123?include=format") against the base URI.
+     *
+     * Plain relative paths are appended to the base URI rather than going through {@link URI#resolve(String)}, which
+     * gives the same result without the work of normalizing and re-assembling the URI on every request.
+     *
+     * @param path the path relative to the base URI
+     * @return the absolute URI
+     */
+    URI resolveURI(String path) {
+        if (baseURIPrefix != null && !path.isEmpty() && path.charAt(0) != '/' && path.indexOf(':') < 0
+                && path.indexOf('#') < 0 && !path.startsWith("./") && !path.contains("/./") && !path.contains("..")) {
+            return URI.create(baseURIPrefix + path);
+        }
+        return baseURI.resolve(path);
+    }
+
+    private static String appendablePrefix(URI uri) {
+        String prefix = uri.toString();
+        if (uri.isAbsolute() && !uri.isOpaque() && uri.getRawQuery() == null && uri.getRawFragment() == null
+                && prefix.endsWith("/")) {
+            return prefix;
+        }
+        return null;
+    }
+
     /**
      * Return the access token
      *
@@ -448,6 +507,49 @@ public class SmartsheetImpl implements Smartsheet {
         this.userAgent.set(generateUserAgent(userAgent));
     }
 
+    /**
+     * Return a view of this client that acts on behalf of the given user, keeping the current change agent.
+     *
+     * @param assumedUser the email of the user to assume (null means no user is assumed)
+     * @return the view
+     */
+    @Override
+    public Smartsheet as(String assumedUser) {
+        return as(assumedUser, getChangeAgent());
+    }
+
+    /**
+     * Return a view of this client that acts on behalf of the given user with the given change agent.
+     *
+     * @param assumedUser the email of the user to assume (null means no user is assumed)
+     * @param changeAgent the change agent identifier (null means no change agent)
+     * @return the view
+     */
+    @Override
+    public Smartsheet as(String assumedUser, String changeAgent) {
+        return new SmartsheetImpl(parent == null ? this : parent, assumedUser, changeAgent);
+    }
+
+    /**
+     * Return the headers to send with every request, rebuilding them only if the access token, assumed user, change
+     * agent or user agent changed since they were last built.
+     *
+     * @return an unmodifiable map of headers
+     */
+    Map<String, String> getBaseHeaders() {
+        String currentToken = accessToken.get();
+        String currentAssumedUser = assumedUser.get();
+        String currentChangeAgent = changeAgent.get();
+        String currentUserAgent = userAgent.get();
+
+        HeaderContext context = headerContext.get();
+        if (context == null || !context.matches(currentToken, currentAssumedUser, currentChangeAgent, currentUserAgent)) {
+            context = new HeaderContext(currentToken, currentAssumedUser, currentChangeAgent, currentUserAgent);
+            headerContext.set(context);
+        }
+        return context.headers;
+    }
+
     /**
      * Sets the max retry time if the HttpClient is an instance of DefaultHttpClient
      *
@@ -746,4 +848,44 @@ public class SmartsheetImpl implements Smartsheet {
                 + System.getProperty("java.vm.name") + " " + System.getProperty("java.vendor") + " "
                 + System.getProperty("java.version");
     }
+
+    /**
+     * The request headers derived from one combination of access token, assumed user, change agent and user agent.
+     *
+     * Thread Safety: This class is immutable.
+     */
+    private static final class HeaderContext {
+        private final String accessToken;
+        private final String assumedUser;
+        private final String changeAgent;
+        private final String userAgent;
+        private final Map<String, String> headers;
+
+        HeaderContext(String accessToken, String assumedUser, String changeAgent, String userAgent) {
+            this.accessToken = accessToken;
+            this.assumedUser = assumedUser;
+            this.changeAgent = changeAgent;
+            this.userAgent = userAgent;
+
+            Map<String, String> map = new HashMap<>();
+            map.put("Authorization", "Bearer " + accessToken);
+            map.put("Content-Type", "application/json");
+            if (assumedUser != null) {
+                map.put("Assume-User", URLEncoder.encode(assumedUser, StandardCharsets.UTF_8));
+            }
+            if (changeAgent != null) {
+                map.put("Smartsheet-Change-Agent", URLEncoder.encode(changeAgent, StandardCharsets.UTF_8));
+            }
+            if (userAgent != null) {
+                map.put("User-Agent", userAgent);
+            }
+            this.headers = Collections.unmodifiableMap(map);
+        }
+
+        /** compared by reference: a cheap check that only ever errs towards rebuilding the headers */
+        boolean matches(String accessToken, String assumedUser, String changeAgent, String userAgent) {
+            return this.accessToken == accessToken && this.assumedUser == assumedUser
+                    && this.changeAgent == changeAgent && this.userAgent == userAgent;
+        }
+    }
 }
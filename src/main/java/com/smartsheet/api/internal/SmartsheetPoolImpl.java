@@ -0,0 +1,334 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AccessTokenExpiredException;
+import com.smartsheet.api.AuthorizationException;
+import com.smartsheet.api.ServiceUnavailableException;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetPool;
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.internal.util.Util;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is the implementation of the SmartsheetPool interface.
+ *
+ * Thread Safety: This class is thread safe because the pooled SmartsheetImpl instances, the shared HttpClient and
+ * JsonSerializer are thread safe, and the per-token bookkeeping only uses atomic or synchronized state.
+ */
+public class SmartsheetPoolImpl implements SmartsheetPool {
+
+    private static final Logger log = LoggerFactory.getLogger(SmartsheetPoolImpl.class);
+
+    /** Smartsheet error code returned when the rate limit has been exceeded */
+    static final int RATE_LIMIT_EXCEEDED = 4003;
+
+    /** Smartsheet error code returned for an invalid access token */
+    static final int INVALID_ACCESS_TOKEN = 1002;
+
+    /** Smartsheet error code returned for an expired access token */
+    static final int EXPIRED_ACCESS_TOKEN = 1003;
+
+    /** connections the default http client keeps per pooled token, all tokens share the same route */
+    static final int CONNECTIONS_PER_TOKEN = 4;
+
+    /** upper bound on how long execute() sleeps between checks when every token is busy */
+    private static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Represents the pooled tokens.
+     *
+     * It will be initialized in constructor and will not change afterwards.
+     */
+    private final List<PooledToken> tokens;
+
+    /**
+     * Represents the shared HttpClient.
+     *
+     * It will be initialized in constructor and will not change afterwards.
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * Represents the time a rate limited token is kept out of rotation.
+     */
+    private final long throttleCooldownNanos;
+
+    /**
+     * Represents the maximum number of attempts made for a single call.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Constructor.
+     *
+     * Exceptions: - IllegalArgumentException : if baseURI or accessTokens is null/empty
+     *
+     * @param baseURI the server uri
+     * @param accessTokens the access tokens
+     * @param httpClient the shared http client (optional)
+     * @param jsonSerializer the shared json serializer (optional)
+     * @param requestsPerMinute the per-token request budget
+     * @param throttleCooldownMillis the time a rate limited token is kept out of rotation
+     * @param maxAttempts the maximum number of attempts made for a single call
+     */
+    public SmartsheetPoolImpl(String baseURI, List<String> accessTokens, HttpClient httpClient,
+                              JsonSerializer jsonSerializer, int requestsPerMinute, long throttleCooldownMillis,
+                              int maxAttempts) {
+        Util.throwIfNull(baseURI, accessTokens);
+        Util.throwIfEmpty(baseURI);
+        if (accessTokens.isEmpty() || maxAttempts < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        JsonSerializer serializer = jsonSerializer == null ? new JacksonJsonSerializer() : jsonSerializer;
+        if (httpClient == null) {
+            // the default connection manager allows only 2 connections per route, which would serialize the tokens
+            int connections = accessTokens.size() * CONNECTIONS_PER_TOKEN;
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+            connectionManager.setMaxTotal(connections);
+            connectionManager.setDefaultMaxPerRoute(connections);
+            DefaultHttpClient defaultHttpClient = new DefaultHttpClient(
+                    HttpClients.custom().setConnectionManager(connectionManager).build(), serializer);
+            // the pool handles rate limiting by failing over, so the transport must not sleep on a throttled token
+            defaultHttpClient.setMaxRetryTimeMillis(0);
+            httpClient = defaultHttpClient;
+        }
+        this.httpClient = httpClient;
+        this.throttleCooldownNanos = TimeUnit.MILLISECONDS.toNanos(throttleCooldownMillis);
+        this.maxAttempts = maxAttempts;
+
+        List<PooledToken> pooled = new ArrayList<>(accessTokens.size());
+        for (String accessToken : accessTokens) {
+            Util.throwIfNull(accessToken);
+            SmartsheetImpl smartsheet = new SmartsheetImpl(baseURI, accessToken, httpClient, serializer);
+            pooled.add(new PooledToken(pooled.size(), smartsheet, requestsPerMinute));
+        }
+        this.tokens = Collections.unmodifiableList(pooled);
+    }
+
+    /**
+     * Run a call on the least-loaded healthy token, failing over to other tokens as needed.
+     *
+     * @param call the call to make
+     * @param <T> the result type
+     * @return the result of the call
+     * @throws SmartsheetException if the call fails on every usable token
+     */
+    @Override
+    public <T> T execute(Call<T> call) throws SmartsheetException {
+        Util.throwIfNull(call);
+
+        // tokens that are not authorized for this particular call
+        boolean[] denied = new boolean[tokens.size()];
+        SmartsheetException lastException = null;
+
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            PooledToken token = acquire(denied);
+            if (token == null) {
+                break;
+            }
+            try {
+                return call.call(token.smartsheet);
+            } catch (SmartsheetRestException e) {
+                lastException = e;
+                if (isRateLimited(e)) {
+                    log.info("access token #{} is rate limited, cooling down for {} ms", token.index,
+                            TimeUnit.NANOSECONDS.toMillis(throttleCooldownNanos));
+                    token.throttledUntilNanos = System.nanoTime() + throttleCooldownNanos;
+                } else if (isExpired(e)) {
+                    log.warn("access token #{} is invalid or expired, removing it from rotation", token.index);
+                    token.expired = true;
+                } else if (e instanceof AuthorizationException) {
+                    denied[token.index] = true;
+                } else {
+                    throw e;
+                }
+            } finally {
+                token.inFlight.decrementAndGet();
+            }
+        }
+
+        if (lastException != null) {
+            throw lastException;
+        }
+        throw new SmartsheetException("no usable access token left in the pool");
+    }
+
+    /**
+     * Pick the least-loaded usable token and take a permit from its budget, waiting for budget or a cool-down to run
+     * out if every usable token is currently unavailable.
+     *
+     * @param denied tokens that must not be used
+     * @return the token (with its in-flight count already incremented), or null if there is no usable token left
+     * @throws SmartsheetException if interrupted while waiting
+     */
+    private PooledToken acquire(boolean[] denied) throws SmartsheetException {
+        while (true) {
+            long now = System.nanoTime();
+            long waitNanos = Long.MAX_VALUE;
+            boolean usable = false;
+
+            PooledToken best = null;
+            int bestInFlight = Integer.MAX_VALUE;
+            long bestCalls = Long.MAX_VALUE;
+            for (PooledToken token : tokens) {
+                if (token.expired || denied[token.index]) {
+                    continue;
+                }
+                usable = true;
+                long throttled = token.throttledUntilNanos - now;
+                if (throttled > 0) {
+                    waitNanos = Math.min(waitNanos, throttled);
+                    continue;
+                }
+                if (token.budget.availablePermits() < 1) {
+                    waitNanos = Math.min(waitNanos, token.budget.nanosUntilAvailable());
+                    continue;
+                }
+                // least in-flight calls first, then the token that has been used the least overall
+                int inFlight = token.inFlight.get();
+                long calls = token.calls.get();
+                if (inFlight < bestInFlight || (inFlight == bestInFlight && calls < bestCalls)) {
+                    best = token;
+                    bestInFlight = inFlight;
+                    bestCalls = calls;
+                }
+            }
+
+            if (!usable) {
+                return null;
+            }
+            if (best != null && best.budget.tryAcquire()) {
+                best.inFlight.incrementAndGet();
+                best.calls.incrementAndGet();
+                return best;
+            }
+            if (best != null) {
+                // lost the last permit to another thread, look again
+                continue;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.max(1, Math.min(waitNanos, MAX_WAIT_NANOS)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SmartsheetException(e);
+            }
+        }
+    }
+
+    static boolean isRateLimited(SmartsheetRestException e) {
+        return e.getErrorCode() == RATE_LIMIT_EXCEEDED || e instanceof ServiceUnavailableException;
+    }
+
+    static boolean isExpired(SmartsheetRestException e) {
+        return e instanceof AccessTokenExpiredException
+                || e.getErrorCode() == INVALID_ACCESS_TOKEN
+                || e.getErrorCode() == EXPIRED_ACCESS_TOKEN;
+    }
+
+    /**
+     * Returns the status of each token in the pool.
+     *
+     * @return the token statuses
+     */
+    @Override
+    public List<TokenStatus> getTokenStatuses() {
+        return new ArrayList<>(tokens);
+    }
+
+    /**
+     * Close the shared HttpClient.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    /**
+     * Book-keeping for one pooled access token.
+     */
+    private static class PooledToken implements TokenStatus {
+        final int index;
+        final SmartsheetImpl smartsheet;
+        final TokenBucket budget;
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicLong calls = new AtomicLong();
+        volatile long throttledUntilNanos = System.nanoTime();
+        volatile boolean expired;
+
+        PooledToken(int index, SmartsheetImpl smartsheet, int requestsPerMinute) {
+            this.index = index;
+            this.smartsheet = smartsheet;
+            this.budget = new TokenBucket(requestsPerMinute, 1, TimeUnit.MINUTES);
+        }
+
+        @Override
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        @Override
+        public int getAvailablePermits() {
+            return budget.availablePermits();
+        }
+
+        @Override
+        public boolean isThrottled() {
+            return throttledUntilNanos - System.nanoTime() > 0;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return expired;
+        }
+
+        @Override
+        public long getCallCount() {
+            return calls.get();
+        }
+    }
+}
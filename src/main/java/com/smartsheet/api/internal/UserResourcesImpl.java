@@ -30,6 +30,7 @@ import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.util.DateTimeUtil;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.AlternateEmail;
@@ -48,7 +49,6 @@ import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -276,7 +276,7 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
             parameters = pagination.toHashMap();
         }
         if (modifiedSince != null) {
-            String isoDate = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(modifiedSince);
+            String isoDate = DateTimeUtil.formatInstant(modifiedSince);
             parameters.put("modifiedSince", isoDate);
         }
         path += QueryUtil.generateUrl(null, parameters);
@@ -389,7 +389,7 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
      */
     public AlternateEmail promoteAlternateEmail(long userId, long altEmailId) throws SmartsheetException {
 
-        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(
+        HttpRequest request = createHttpRequest(smartsheet.resolveURI(
                 "users/" + userId + "/alternateemails/" + altEmailId + "/makeprimary"), HttpMethod.POST);
 
         Object obj = null;
@@ -438,9 +438,9 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
         Map<String, Object> parameters = new HashMap<>();
         path += QueryUtil.generateUrl(null, parameters);
 
-        HttpRequest request = createHttpRequest(this.smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        HttpRequest request = createHttpRequest(this.smartsheet.resolveURI(path), HttpMethod.POST);
         String attachmentHeaderValue = "attachment; filename=\"" + URLEncoder.encode(file, StandardCharsets.UTF_8) + "\"";
-        request.getHeaders().put("Content-Disposition", attachmentHeaderValue);
+        request.addHeader("Content-Disposition", attachmentHeaderValue);
 
         File f = new File(file);
         InputStream is = new FileInputStream(f);
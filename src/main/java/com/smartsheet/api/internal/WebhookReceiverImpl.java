@@ -0,0 +1,458 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.WebhookReceiver;
+import com.smartsheet.api.internal.json.JSONSerializerException;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.DaemonThreadFactory;
+import com.smartsheet.api.models.WebhookCallback;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is the implementation of the WebhookReceiver interface.
+ *
+ * A request is handled entirely on an HTTP thread: the body is read, the signature checked with a per-thread Mac
+ * for each secret (all of them, so the time taken doesn't tell which one matched or how much of a signature was
+ * right), the body parsed, the nonce recorded and the callback offered to the queue, and only then is the request
+ * answered. The dispatch threads take whatever has accumulated in the queue, up to the batch size, and call the
+ * handler.
+ *
+ * Thread Safety: This class is thread safe, the counters are atomic, the recent nonces are guarded by their map's
+ * monitor and the lifecycle by the instance monitor.
+ */
+public class WebhookReceiverImpl implements WebhookReceiver {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookReceiverImpl.class);
+
+    static final String CHALLENGE_HEADER = "Smartsheet-Hook-Challenge";
+
+    static final String RESPONSE_HEADER = "Smartsheet-Hook-Response";
+
+    static final String SIGNATURE_HEADER = "Smartsheet-Hmac-SHA256";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    /**
+     * How long an idle dispatch thread waits before checking whether the receiver was closed.
+     */
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final Handler handler;
+
+    private final List<SecretKeySpec> keys;
+
+    private final InetAddress bindAddress;
+
+    private final int port;
+
+    private final String path;
+
+    private final int httpThreads;
+
+    private final int maxBatchSize;
+
+    private final int dispatchThreads;
+
+    private final int dedupCapacity;
+
+    private final int maxBodyBytes;
+
+    private final JsonSerializer serializer;
+
+    private final BlockingQueue<WebhookCallback> queue;
+
+    /**
+     * The keys of recently queued callbacks (webhook id and nonce), least recently queued first.
+     */
+    private final Map<String, Boolean> recentNonces;
+
+    /**
+     * A Mac per HTTP thread and secret, since creating and initializing one costs more than signing a callback.
+     */
+    private final ThreadLocal<Mac[]> macs;
+
+    private final AtomicLong received = new AtomicLong();
+
+    private final AtomicLong duplicates = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final AtomicLong dispatched = new AtomicLong();
+
+    private final CountDownLatch terminated;
+
+    /**
+     * The server and its executors, null until started, guarded by this.
+     */
+    private HttpServer server;
+
+    private ExecutorService httpExecutor;
+
+    private ExecutorService dispatchExecutor;
+
+    private boolean started;
+
+    private volatile boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param handler the handler of the callbacks
+     * @param sharedSecrets the shared secrets callbacks may be signed with
+     * @param bindAddress the address to listen on, null for all
+     * @param port the port, 0 for any free port
+     * @param path the path callbacks are received on
+     * @param httpThreads the number of threads answering requests
+     * @param queueCapacity the number of callbacks queued for dispatch
+     * @param maxBatchSize the largest number of callbacks handed to the handler at once
+     * @param dispatchThreads the number of threads calling the handler
+     * @param dedupCapacity the number of recent nonces remembered
+     * @param maxBodyBytes the largest body accepted
+     * @param serializer the serializer the callbacks are read with
+     */
+    public WebhookReceiverImpl(Handler handler, List<String> sharedSecrets, InetAddress bindAddress, int port,
+                               String path, int httpThreads, int queueCapacity, int maxBatchSize,
+                               int dispatchThreads, int dedupCapacity, int maxBodyBytes, JsonSerializer serializer) {
+        this.handler = handler;
+        List<SecretKeySpec> secretKeys = new ArrayList<>();
+        for (String sharedSecret : sharedSecrets) {
+            secretKeys.add(new SecretKeySpec(sharedSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+        }
+        this.keys = secretKeys;
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.path = path;
+        this.httpThreads = httpThreads;
+        this.maxBatchSize = maxBatchSize;
+        this.dispatchThreads = dispatchThreads;
+        this.dedupCapacity = dedupCapacity;
+        this.maxBodyBytes = maxBodyBytes;
+        this.serializer = serializer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.recentNonces = new LinkedHashMap<String, Boolean>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > WebhookReceiverImpl.this.dedupCapacity;
+            }
+        };
+        this.macs = ThreadLocal.withInitial(this::createMacs);
+        this.terminated = new CountDownLatch(dispatchThreads);
+    }
+
+    @Override
+    public synchronized void start() throws SmartsheetException {
+        if (started || closed) {
+            throw new IllegalStateException("the receiver was already started or closed");
+        }
+        HttpServer created;
+        try {
+            created = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        }
+        started = true;
+        httpExecutor = Executors.newFixedThreadPool(httpThreads, new DaemonThreadFactory("smartsheet-webhook-http-"));
+        dispatchExecutor = Executors.newFixedThreadPool(dispatchThreads,
+                new DaemonThreadFactory("smartsheet-webhook-dispatch-"));
+        for (int i = 0; i < dispatchThreads; i++) {
+            dispatchExecutor.execute(this::dispatch);
+        }
+        created.createContext(path, this::exchange);
+        created.setExecutor(httpExecutor);
+        created.start();
+        server = created;
+    }
+
+    @Override
+    public synchronized int getPort() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    @Override
+    public long getCallbacksReceived() {
+        return received.get();
+    }
+
+    @Override
+    public long getDuplicates() {
+        return duplicates.get();
+    }
+
+    @Override
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    @Override
+    public long getCallbacksDispatched() {
+        return dispatched.get();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        synchronized (this) {
+            if (!started) {
+                return true;
+            }
+        }
+        return terminated.await(timeout, unit);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (server != null) {
+            server.stop(0);
+            server = null;
+            httpExecutor.shutdown();
+            dispatchExecutor.shutdown();
+        }
+    }
+
+    private void exchange(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                respond(exchange, 405);
+                return;
+            }
+            byte[] body = readBody(exchange.getRequestBody());
+            if (body == null) {
+                rejected.incrementAndGet();
+                respond(exchange, 413);
+                return;
+            }
+            String challenge = exchange.getRequestHeaders().getFirst(CHALLENGE_HEADER);
+            if (challenge != null) {
+                // the challenge only proves the endpoint is reachable, echoing it gives nothing away
+                answerChallenge(exchange, challenge);
+                return;
+            }
+            if (!verify(body, exchange.getRequestHeaders().getFirst(SIGNATURE_HEADER))) {
+                rejected.incrementAndGet();
+                respond(exchange, 401);
+                return;
+            }
+            WebhookCallback callback;
+            try {
+                callback = serializer.deserialize(WebhookCallback.class, new ByteArrayInputStream(body));
+            } catch (IOException | RuntimeException e) {
+                callback = null;
+            }
+            if (callback == null) {
+                rejected.incrementAndGet();
+                respond(exchange, 400);
+                return;
+            }
+            respond(exchange, enqueue(callback));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Queue a callback unless it is a retry of one queued recently.
+     *
+     * @return the status to answer with, 503 if the queue is full
+     */
+    private int enqueue(WebhookCallback callback) {
+        String key = callback.getNonce() == null || dedupCapacity == 0
+                ? null : callback.getWebhookId() + ":" + callback.getNonce();
+        if (key != null) {
+            synchronized (recentNonces) {
+                if (recentNonces.putIfAbsent(key, Boolean.TRUE) != null) {
+                    duplicates.incrementAndGet();
+                    return 200;
+                }
+            }
+        }
+        if (closed || !queue.offer(callback)) {
+            if (key != null) {
+                // not queued, so the retry must be accepted
+                synchronized (recentNonces) {
+                    recentNonces.remove(key);
+                }
+            }
+            return 503;
+        }
+        received.incrementAndGet();
+        return 200;
+    }
+
+    /**
+     * Read the body, up to the limit.
+     *
+     * @return the body, or null if it is larger than the limit
+     */
+    private byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (out.size() + read > maxBodyBytes) {
+                return null;
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Check a signature against every secret. Every secret is checked, and each comparison takes the same time
+     * whatever the signature, so the response time tells nothing about the secrets.
+     *
+     * @param body the body
+     * @param signature the hex encoded signature, may be null
+     * @return true if the body is signed with one of the secrets
+     */
+    boolean verify(byte[] body, String signature) {
+        byte[] provided = signature == null ? null : decodeHex(signature.trim());
+        if (provided == null) {
+            return false;
+        }
+        boolean valid = false;
+        for (Mac mac : macs.get()) {
+            valid |= MessageDigest.isEqual(mac.doFinal(body), provided);
+        }
+        return valid;
+    }
+
+    private Mac[] createMacs() {
+        Mac[] created = new Mac[keys.size()];
+        try {
+            for (int i = 0; i < created.length; i++) {
+                created[i] = Mac.getInstance(HMAC_ALGORITHM);
+                created[i].init(keys.get(i));
+            }
+        } catch (GeneralSecurityException e) {
+            // every JRE supports HmacSHA256
+            throw new IllegalStateException(e);
+        }
+        return created;
+    }
+
+    /**
+     * @return the bytes of a hex string, or null if it is not one
+     */
+    static byte[] decodeHex(String hex) {
+        if (hex.length() % 2 != 0) {
+            return null;
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(2 * i), 16);
+            int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                return null;
+            }
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return bytes;
+    }
+
+    private void answerChallenge(HttpExchange exchange, String challenge) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            serializer.serialize(Collections.singletonMap("smartsheetHookResponse", challenge), body);
+        } catch (JSONSerializerException e) {
+            throw new IOException(e);
+        }
+        exchange.getResponseHeaders().set(RESPONSE_HEADER, challenge);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            body.writeTo(out);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private void dispatch() {
+        try {
+            List<WebhookCallback> batch = new ArrayList<>(maxBatchSize);
+            while (true) {
+                WebhookCallback first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                handle(batch);
+                batch = new ArrayList<>(maxBatchSize);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    private void handle(List<WebhookCallback> batch) {
+        try {
+            handler.handle(batch);
+        } catch (SmartsheetException | RuntimeException e) {
+            log.warn("Failed to handle {} webhook callbacks", batch.size(), e);
+            try {
+                handler.failed(batch, e);
+            } catch (RuntimeException callbackError) {
+                log.warn("Failure callback failed on {} webhook callbacks", batch.size(), callbackError);
+            }
+        } finally {
+            dispatched.addAndGet(batch.size());
+        }
+    }
+}
@@ -161,7 +161,7 @@ public class WebhookResourcesImpl extends AbstractResources implements WebhookRe
      * @throws SmartsheetException if there is any other error during the operation
      */
     public WebhookSharedSecret resetSharedSecret(long webhookId) throws SmartsheetException {
-        HttpRequest request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve("webhooks/" +
+        HttpRequest request = createHttpRequest(this.getSmartsheet().resolveURI("webhooks/" +
                 webhookId + "/resetsharedsecret"), HttpMethod.POST);
 
         HttpResponse response = getSmartsheet().getHttpClient().request(request);
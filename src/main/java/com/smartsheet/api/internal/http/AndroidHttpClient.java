@@ -57,8 +57,8 @@ public class AndroidHttpClient implements HttpClient {
      */
     private final OkHttpClient client;
 
-    /** The okhttp http response. */
-    private Response currentResponse;
+    /** The okhttp http response of the request currently being processed by each thread. */
+    private final ThreadLocal<Response> currentResponse = new ThreadLocal<>();
 
     protected JsonSerializer jsonSerializer;
 
@@ -91,7 +91,7 @@ public class AndroidHttpClient implements HttpClient {
         if (response.code() != 200) {
             // log the request and response on error
             try {
-                logger.warn(this.currentResponse.peekBody(4096).string());
+                logger.warn(response.peekBody(4096).string());
             } catch (IOException e) {
                 e.printStackTrace();
             }
@@ -146,7 +146,7 @@ public class AndroidHttpClient implements HttpClient {
             }
 
             // Clone our headers to request
-            for (Map.Entry<String, String> entry : smartsheetRequest.getHeaders().entrySet()) {
+            for (Map.Entry<String, String> entry : smartsheetRequest.peekHeaders().entrySet()) {
                 builder.addHeader(entry.getKey(), entry.getValue());
             }
 
@@ -178,22 +178,26 @@ public class AndroidHttpClient implements HttpClient {
                 // Create API request
                 Request request = builder.build();
                 long startTime = System.currentTimeMillis();
-                this.currentResponse = client.newCall(request).execute();
+                Response response = client.newCall(request).execute();
+                this.currentResponse.set(response);
                 long endTime = System.currentTimeMillis();
 
                 smartsheetResponse = new HttpResponse();
-                smartsheetResponse.setStatusCode(this.currentResponse.code());
-                if (this.currentResponse.body().contentLength() != 0) {
+                smartsheetResponse.setStatusCode(response.code());
+                if (response.body() != null) {
+                    smartsheetResponse.setConnectionHandle(response.body());
+                }
+                if (response.body().contentLength() != 0) {
                     // Package response details
                     HttpEntity entity = new HttpEntity();
-                    entity.setContentType(this.currentResponse.body().contentType().toString());
-                    entity.setContentLength(this.currentResponse.body().contentLength());
-                    entity.setContent(this.currentResponse.body().byteStream());
+                    entity.setContentType(response.body().contentType().toString());
+                    entity.setContentLength(response.body().contentLength());
+                    entity.setContent(response.body().byteStream());
                     smartsheetResponse.setEntity(entity);
                 }
 
                 long responseTime = endTime - startTime;
-                logRequest(request, this.currentResponse, responseTime);
+                logRequest(request, response, responseTime);
 
                 if (smartsheetResponse.getStatusCode() == 200) {
                     // call successful, exit the retry loop
@@ -336,12 +340,12 @@ public class AndroidHttpClient implements HttpClient {
     }
 
     private void closeCurrentResponse() {
-        Response response = this.currentResponse;
+        Response response = this.currentResponse.get();
         if (response != null) {
+            this.currentResponse.remove();
             if (response.body() != null) {
                 response.body().close();
             }
-            this.currentResponse = null;
         }
     }
 }
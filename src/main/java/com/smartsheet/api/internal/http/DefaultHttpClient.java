@@ -48,6 +48,7 @@ import org.apache.http.protocol.HttpContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -87,8 +88,12 @@ public class DefaultHttpClient implements HttpClient {
      */
     private final CloseableHttpClient httpClient;
 
-    /** The apache http response. */
-    private CloseableHttpResponse apacheHttpResponse;
+    /**
+     * The apache http response of the request currently being processed by each thread. It is tracked per thread so
+     * that one DefaultHttpClient can be shared by several Smartsheet clients (or threads) without one caller
+     * releasing another caller's connection.
+     */
+    private final ThreadLocal<CloseableHttpResponse> currentResponse = new ThreadLocal<>();
 
     /** to avoid creating new sets for each call (we use Sets for practical and perf reasons) */
     private static final Set<Trace> REQUEST_RESPONSE_SUMMARY = Collections.unmodifiableSet(new HashSet<>(
@@ -210,8 +215,8 @@ public class DefaultHttpClient implements HttpClient {
             apacheHttpRequest = createApacheRequest(smartsheetRequest);
 
             // Set HTTP headers
-            if (smartsheetRequest.getHeaders() != null) {
-                for (Map.Entry<String, String> header : smartsheetRequest.getHeaders().entrySet()) {
+            if (smartsheetRequest.peekHeaders() != null) {
+                for (Map.Entry<String, String> header : smartsheetRequest.peekHeaders().entrySet()) {
                     apacheHttpRequest.addHeader(header.getKey(), header.getValue());
                 }
             }
@@ -243,7 +248,8 @@ public class DefaultHttpClient implements HttpClient {
             HttpContext context = new BasicHttpContext();
             try {
                 long startTime = System.currentTimeMillis();
-                apacheHttpResponse = this.httpClient.execute(apacheHttpRequest, context);
+                CloseableHttpResponse apacheHttpResponse = this.httpClient.execute(apacheHttpRequest, context);
+                currentResponse.set(apacheHttpResponse);
                 long endTime = System.currentTimeMillis();
 
                 // Set request headers to values ACTUALLY SENT (not just created by us), this would include:
@@ -262,6 +268,9 @@ public class DefaultHttpClient implements HttpClient {
                     }
                 }
 
+                // closing the Apache response aborts the connection instead of draining the body
+                smartsheetResponse.setConnectionHandle(apacheHttpResponse);
+
                 // Set returned headers
                 smartsheetResponse.setHeaders(new HashMap<>());
                 for (Header header : apacheHttpResponse.getAllHeaders()) {
@@ -275,7 +284,9 @@ public class DefaultHttpClient implements HttpClient {
                     HttpEntity httpEntity = new HttpEntity();
                     httpEntity.setContentType(apacheHttpResponse.getEntity().getContentType().getValue());
                     httpEntity.setContentLength(apacheHttpResponse.getEntity().getContentLength());
-                    httpEntity.setContent(apacheHttpResponse.getEntity().getContent());
+                    // a mark-supporting stream lets the snapshot below copy just the head of the body for logging
+                    // instead of reading all of it into memory, so large responses can still be streamed
+                    httpEntity.setContent(new BufferedInputStream(apacheHttpResponse.getEntity().getContent()));
                     smartsheetResponse.setEntity(httpEntity);
                     responseEntityCopy = new HttpEntitySnapshot(httpEntity);
                 }
@@ -296,8 +307,8 @@ public class DefaultHttpClient implements HttpClient {
 
                 // the retry logic might consume the content stream so we make sure it supports mark/reset and mark it
                 InputStream contentStream = smartsheetResponse.getEntity().getContent();
-                if (!contentStream.markSupported()) {
-                    // wrap the response stream in a input-stream that does support mark/reset
+                if (!(contentStream instanceof ByteArrayInputStream)) {
+                    // read the (error) body into memory so it can be reset whatever its length
                     contentStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(contentStream));
                     // close the old stream (just to be tidy) and then replace it with a reset-able stream
                     smartsheetResponse.getEntity().getContent().close();
@@ -497,10 +508,11 @@ public class DefaultHttpClient implements HttpClient {
      */
     @Override
     public void releaseConnection() {
-        if (apacheHttpResponse != null) {
+        CloseableHttpResponse response = currentResponse.get();
+        if (response != null) {
             try {
-                apacheHttpResponse.close();
-                apacheHttpResponse = null;
+                currentResponse.remove();
+                response.close();
             } catch (IOException e) {
                 logger.error("error closing Apache HttpResponse", e);
             }
@@ -60,7 +60,15 @@ public class HttpEntitySnapshot extends HttpEntity {
                 // here we can read up to a limited contents
                 contentArray = new byte[MAX_SNAPSHOT_SIZE];
                 contentStream.mark(MAX_SNAPSHOT_SIZE + 1);
-                int bytesRead = contentStream.read(contentArray, 0, MAX_SNAPSHOT_SIZE);
+                // a single read may return fewer bytes than are available, so keep reading until the snapshot is full or EOF
+                int bytesRead = 0;
+                while (bytesRead < MAX_SNAPSHOT_SIZE) {
+                    int count = contentStream.read(contentArray, bytesRead, MAX_SNAPSHOT_SIZE - bytesRead);
+                    if (count < 0) {
+                        break;
+                    }
+                    bytesRead += count;
+                }
                 contentStream.reset();
 
                 // trim content array to actual size
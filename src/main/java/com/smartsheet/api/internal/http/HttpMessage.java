@@ -22,6 +22,7 @@ package com.smartsheet.api.internal.http;
 
 
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -37,6 +38,12 @@ public abstract class HttpMessage {
      */
     private Map<String, String> headers;
 
+    /**
+     * Whether {@link #headers} is shared with other messages (and possibly unmodifiable), so it must be copied before
+     * it is modified or handed out.
+     */
+    private boolean headersShared;
+
     /**
      * Represents the HTTP entity.
      *
@@ -47,9 +54,24 @@ public abstract class HttpMessage {
     /**
      * Gets the headers.
      *
+     * Shared headers are copied first, so the returned map can always be modified.
+     *
      * @return the headers
      */
     public Map<String, String> getHeaders() {
+        if (headersShared) {
+            headers = new HashMap<>(headers);
+            headersShared = false;
+        }
+        return headers;
+    }
+
+    /**
+     * Gets the headers for reading, without copying shared headers. The returned map must not be modified.
+     *
+     * @return the headers
+     */
+    Map<String, String> peekHeaders() {
         return headers;
     }
 
@@ -60,6 +82,31 @@ public abstract class HttpMessage {
      */
     public void setHeaders(Map<String, String> headers) {
         this.headers = headers;
+        this.headersShared = false;
+    }
+
+    /**
+     * Sets headers that are shared with other messages and may be unmodifiable (e.g. the precomputed headers of a
+     * client). They are only copied once this message's headers are modified or handed out by {@link #getHeaders()}.
+     *
+     * @param headers the shared headers
+     */
+    public void setSharedHeaders(Map<String, String> headers) {
+        this.headers = headers;
+        this.headersShared = headers != null;
+    }
+
+    /**
+     * Adds (or replaces) a header.
+     *
+     * @param name the header name
+     * @param value the header value
+     */
+    public void addHeader(String name, String value) {
+        if (headers == null) {
+            headers = new HashMap<>();
+        }
+        getHeaders().put(name, value);
     }
 
     /**
@@ -20,7 +20,8 @@ package com.smartsheet.api.internal.http;
  * %[license]
  */
 
-
+import java.io.Closeable;
+import java.io.IOException;
 
 /**
  * This class represents an HTTP response.
@@ -36,6 +37,11 @@ public class HttpResponse extends HttpMessage {
     private int statusCode;
     private String statusText;
 
+    /**
+     * Closes the connection of this response, without reading the rest of the body (optional, set by the client).
+     */
+    private Closeable connectionHandle;
+
     /**
      * Gets the status code.
      *
@@ -74,4 +80,29 @@ public class HttpResponse extends HttpMessage {
         this.statusText = statusText;
     }
 
+    /**
+     * Sets the handle that closes the connection of this response. Clients set it so that a response whose body is
+     * read after the request returned (e.g. a sheet stream) can be closed from any thread, whatever other requests
+     * were made in the meantime.
+     *
+     * @param connectionHandle the handle
+     */
+    public void setConnectionHandle(Closeable connectionHandle) {
+        this.connectionHandle = connectionHandle;
+    }
+
+    /**
+     * Close the connection of this response without reading the rest of the body.
+     *
+     * @return true if the client set a handle and it was closed, false if the client gave no handle (the connection
+     * can then only be released through {@link HttpClient#releaseConnection()} on the requesting thread)
+     * @throws IOException if the connection can not be closed
+     */
+    public boolean closeConnection() throws IOException {
+        if (connectionHandle == null) {
+            return false;
+        }
+        connectionHandle.close();
+        return true;
+    }
 }
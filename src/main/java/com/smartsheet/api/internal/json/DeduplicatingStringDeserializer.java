@@ -0,0 +1,54 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.smartsheet.api.internal.util.StringDeduplicator;
+
+import java.io.IOException;
+
+/**
+ * Deserializes strings through a {@link StringDeduplicator}, reading them straight from the parser's text buffer.
+ *
+ * Registered for String it also covers strings in untyped values (Cell.value, maps and lists of Object), since
+ * Jackson's untyped deserializer delegates to a custom String deserializer. Non-string tokens are handled as usual.
+ */
+public class DeduplicatingStringDeserializer extends StdScalarDeserializer<String> {
+
+    private final StringDeduplicator strings;
+
+    public DeduplicatingStringDeserializer(StringDeduplicator strings) {
+        super(String.class);
+        this.strings = strings;
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return strings.canonical(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+        return StringDeserializer.instance.deserialize(p, ctxt);
+    }
+}
@@ -21,47 +21,62 @@ package com.smartsheet.api.internal.json;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.smartsheet.api.models.ErrorDetail;
 
 import java.io.IOException;
 import java.util.List;
 
+/**
+ * Deserializes an Error, whose "detail" attribute is either a single ErrorDetail or a list of them.
+ *
+ * The attributes are read straight off the parser and the details through the DeserializationContext, so no
+ * ObjectMapper or tree is created per error.
+ */
 public class ErrorDeserializer extends JsonDeserializer<com.smartsheet.api.models.Error> {
 
+    private static final JavaType ERROR_DETAIL_LIST_TYPE =
+            TypeFactory.defaultInstance().constructCollectionType(List.class, ErrorDetail.class);
+
     @Override
     public com.smartsheet.api.models.Error deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException {
 
-        ObjectMapper mapper = new ObjectMapper();
+        if(jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
 
         final com.smartsheet.api.models.Error error = new com.smartsheet.api.models.Error();
-
-        if(jp.getCurrentToken() == JsonToken.START_OBJECT) {
-            JsonNode node = jp.getCodec().readTree(jp);
-            if(node.get("errorCode") != null)
-                error.setErrorCode(node.get("errorCode").asInt());
-            if(node.get("message") != null)
-                error.setMessage(node.get("message").asText());
-            if(node.get("refId") != null)
-                error.setRefId(node.get("refId").asText());
-            JsonNode detail = node.get("detail");
-            if(detail != null) {
-                if(detail.isArray()) {
-                    String _as_text = detail.toString();
-                    List<ErrorDetail> details = mapper.readValue(_as_text,
-                            new TypeReference<List<ErrorDetail>>(){});
-                    error.setDetail(details);
-                }
-                else
-                    error.setDetail(mapper.treeToValue(detail, ErrorDetail.class));
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String field = jp.getCurrentName();
+            JsonToken value = jp.nextToken();
+            switch (field) {
+                case "errorCode":
+                    error.setErrorCode(jp.getValueAsInt());
+                    break;
+                case "message":
+                    error.setMessage(jp.getValueAsString());
+                    break;
+                case "refId":
+                    error.setRefId(jp.getValueAsString());
+                    break;
+                case "detail":
+                    if (value == JsonToken.START_ARRAY) {
+                        List<ErrorDetail> details = ctxt.readValue(jp, ERROR_DETAIL_LIST_TYPE);
+                        error.setDetail(details);
+                    } else if (value == JsonToken.START_OBJECT) {
+                        error.setDetail(ctxt.readValue(jp, ErrorDetail.class));
+                    } else {
+                        jp.skipChildren();
+                    }
+                    break;
+                default:
+                    jp.skipChildren();
             }
-            return error;
         }
-        return null;
+        return error;
     }
 }
@@ -32,7 +32,7 @@ public class FormatDeserializer extends JsonDeserializer<Format> {
 
     @Override
     public Format deserialize(JsonParser jsonParser, DeserializationContext ctx) throws IOException, JsonProcessingException {
-        return new Format(jsonParser.getValueAsString());
+        return Format.valueOf(jsonParser.getValueAsString());
     }
 
 }
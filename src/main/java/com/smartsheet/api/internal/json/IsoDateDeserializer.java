@@ -0,0 +1,57 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.smartsheet.api.internal.util.DateTimeUtil;
+
+import java.io.IOException;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+/**
+ * Reads dates from ISO-8601 timestamps, or from epoch milliseconds when the API is called with numericDates.
+ */
+public class IsoDateDeserializer extends JsonDeserializer<Date> {
+
+    @Override
+    public Date deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return new Date(jp.getLongValue());
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            return (Date) ctxt.handleUnexpectedToken(Date.class, jp);
+        }
+        String text = jp.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return DateTimeUtil.parseDate(text);
+        } catch (DateTimeParseException e) {
+            throw ctxt.weirdStringException(text, Date.class, e.getMessage());
+        }
+    }
+}
@@ -21,15 +21,21 @@ package com.smartsheet.api.internal.json;
  */
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.Version;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.smartsheet.api.internal.util.StringDeduplicator;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.BulkItemResult;
 import com.smartsheet.api.models.CopyOrMoveRowResult;
@@ -42,95 +48,57 @@ import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PrimitiveObjectValue;
 import com.smartsheet.api.models.Recipient;
 import com.smartsheet.api.models.Result;
+import com.smartsheet.api.models.RowProjection;
 import com.smartsheet.api.models.WidgetContent;
 import com.smartsheet.api.models.format.Format;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 /**
  * This is the Jackson based JsonSerializer implementation.
  *
+ * Each serializer owns an ObjectMapper that is configured once, when it is built, and never re-configured afterwards.
+ * Serializers created with the default constructor share one lenient mapper; use {@link JacksonJsonSerializerBuilder}
+ * to create a serializer with different settings (e.g. strict parsing) next to it.
+ *
  * Thread Safety: This class is thread safe because it is immutable and the underlying Jackson ObjectMapper is thread
- * safe as long as it is not re-configured.
+ * safe as long as it is not re-configured. Readers and writers are cached per type in concurrent maps.
  */
 public class JacksonJsonSerializer implements JsonSerializer{
     /**
-     * Represents the ObjectMapper used to serialize/de-serialize JSON.
-     *
-     * It will be initialized in a static initializer and will not change afterwards.
+     * Represents the mapper used by serializers created with the default constructor.
      *
-     * Because ObjectMapper is thread-safe as long as it's not reconfigured, a static final class-level ObjectMapper is
-     * used to achieve best performance.
+     * It only changes through the deprecated {@link #setFailOnUnknownProperties(boolean)}, which swaps in a newly built
+     * mapper rather than re-configuring the one in use.
      */
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
-    static {
-        // Allow deserialization if there are properties that can't be deserialized
-        OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        OBJECT_MAPPER.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
-
-        // Only include non-null properties in when serializing java beans
-        OBJECT_MAPPER.setSerializationInclusion(Include.NON_NULL);
-
-        // Use toString() method on enums to serialize and deserialize
-        OBJECT_MAPPER.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
-        OBJECT_MAPPER.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
-
-        OBJECT_MAPPER.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
-        df.setTimeZone(TimeZone.getTimeZone("UTC"));
-        OBJECT_MAPPER.setDateFormat(df);
-
-        // Add a custom deserializer that will convert a string to a Format object.
-        SimpleModule module = new SimpleModule("FormatDeserializerModule", Version.unknownVersion());
-        module.addDeserializer(Format.class, new FormatDeserializer());
-
-        // Add custom mixin to ignore getId() for the IdentifiableModel class
-        module.setMixInAnnotation(IdentifiableModel.class, IdentifiableModelMixin.class);
-        OBJECT_MAPPER.registerModule(module);
-
-        module = new SimpleModule("ObjectValueDeserializerModule", Version.unknownVersion());
-        module.addDeserializer(ObjectValue.class, new ObjectValueDeserializer());
-        OBJECT_MAPPER.registerModule(module);
-
-        module = new SimpleModule("PrimitiveObjectValueSerializerModule", Version.unknownVersion());
-        module.addSerializer(PrimitiveObjectValue.class, new PrimitiveObjectValueSerializer());
-        OBJECT_MAPPER.registerModule(module);
+    private static volatile Mapper defaultMapper = new Mapper(new JacksonJsonSerializerBuilder());
 
-        module = new SimpleModule("RecipientDeserializerModule", Version.unknownVersion());
-        module.addDeserializer(Recipient.class, new RecipientDeserializer());
-        OBJECT_MAPPER.registerModule(module);
-
-        module = new SimpleModule("WidgetContentDeserializerModule", Version.unknownVersion());
-        module.addDeserializer(WidgetContent.class, new WidgetContentDeserializer());
-        OBJECT_MAPPER.registerModule(module);
-
-        module = new SimpleModule("HyperlinkSerializerModule", Version.unknownVersion());
-        module.addSerializer(Hyperlink.class, new HyperlinkSerializer());
-        OBJECT_MAPPER.registerModule(module);
-
-        module = new SimpleModule("CellSerializerModule", Version.unknownVersion());
-        module.setSerializerModifier(new CellSerializerModifier());
-        OBJECT_MAPPER.registerModule(module);
-
-        module = new SimpleModule("ErrorDetailDeserializerModule", Version.unknownVersion());
-        module.addDeserializer(com.smartsheet.api.models.Error.class, new ErrorDeserializer());
-        OBJECT_MAPPER.registerModule(module);
-    }
+    /**
+     * Represents the mapper of this serializer, null if it follows the default mapper.
+     */
+    private final Mapper configuredMapper;
 
     /**
-     * Sets if the OBJECT MAPPER should ignore unknown properties or fail when de-serializing the JSON data.
+     * Sets if serializers created with the default constructor should ignore unknown properties or fail when
+     * de-serializing the JSON data.
      *
      * @param value
      *            true if it should fail, false otherwise.
+     * @deprecated this changes every default serializer in the JVM; build a serializer with
+     *            {@link JacksonJsonSerializerBuilder#setFailOnUnknownProperties(boolean)} instead
      */
+    @Deprecated
     public static void setFailOnUnknownProperties(boolean value) {
-        OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, value);
+        defaultMapper = new Mapper(new JacksonJsonSerializerBuilder().setFailOnUnknownProperties(value));
     }
 
     /**
@@ -141,6 +109,42 @@ public class JacksonJsonSerializer implements JsonSerializer{
      * Exceptions: None
      */
     public JacksonJsonSerializer() {
+        this.configuredMapper = null;
+    }
+
+    /**
+     * Constructor, used by {@link JacksonJsonSerializerBuilder}.
+     *
+     * @param builder the builder holding the configuration
+     */
+    JacksonJsonSerializer(JacksonJsonSerializerBuilder builder) {
+        this.configuredMapper = new Mapper(builder);
+    }
+
+    /**
+     * @return true if this serializer fails on unknown properties when de-serializing
+     */
+    public boolean isFailOnUnknownProperties() {
+        return mapper().objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * @return the projection applied to the rows this serializer reads, null if rows are read in full
+     */
+    public RowProjection getRowProjection() {
+        return mapper().rowProjection;
+    }
+
+    /**
+     * @return true if this serializer reads and writes a binary data format rather than JSON text
+     */
+    public boolean isBinary() {
+        return mapper().objectMapper.getFactory().canHandleBinaryNatively();
+    }
+
+    private Mapper mapper() {
+        Mapper mapper = configuredMapper;
+        return mapper != null ? mapper : defaultMapper;
     }
 
     /**
@@ -167,7 +171,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Util.throwIfNull(object, outputStream);
 
         try {
-            OBJECT_MAPPER.writeValue(outputStream, object);
+            mapper().writerFor(object).writeValue(outputStream, object);
         } catch (JsonGenerationException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -197,10 +201,13 @@ public class JacksonJsonSerializer implements JsonSerializer{
      */
     public <T> String serialize(T object) throws JSONSerializerException {
         Util.throwIfNull(object);
+        if (isBinary()) {
+            throw new JSONSerializerException("a binary format can not be written to a String, use an OutputStream");
+        }
         String value;
 
         try {
-            value= OBJECT_MAPPER.writeValueAsString(object);
+            value = mapper().writerFor(object).writeValueAsString(object);
         } catch (JsonGenerationException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -231,7 +238,53 @@ public class JacksonJsonSerializer implements JsonSerializer{
     public <T> T deserialize(Class<T> objectClass, java.io.InputStream inputStream) throws IOException {
         Util.throwIfNull(objectClass, inputStream);
 
-        return OBJECT_MAPPER.readValue(inputStream, objectClass);
+        return mapper().readers.get(objectClass).readValue(inputStream);
+    }
+
+    /**
+     * Create a streaming parser over JSON, for reading large documents one value at a time.
+     *
+     * The parser is bound to the same configuration as this serializer, so values read through it (e.g. with
+     * {@link #deserializeValue(Class, JsonParser)}) are mapped exactly as {@link #deserialize(Class, InputStream)} would.
+     *
+     * @param inputStream the input stream from which the JSON will be read (closed when the parser is closed)
+     * @return the parser
+     * @throws IOException if the stream can not be read
+     */
+    public JsonParser createParser(InputStream inputStream) throws IOException {
+        Util.throwIfNull(inputStream);
+
+        return mapper().objectMapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * De-serialize the value at the current position of a parser (or the next value, if the parser has no current
+     * token), leaving the parser on the last token of that value.
+     *
+     * @param objectClass the class of the object to de-serialize
+     * @param parser the parser
+     * @return the de-serialized object
+     * @throws IOException if the JSON can not be read or mapped
+     */
+    public <T> T deserializeValue(Class<T> objectClass, JsonParser parser) throws IOException {
+        Util.throwIfNull(objectClass, parser);
+
+        return mapper().readers.get(objectClass).readValue(parser);
+    }
+
+    /**
+     * Read the JSON object at the current position of a parser (or the next one) into an existing object, setting
+     * only the properties that are present.
+     *
+     * @param target the object to update
+     * @param parser the parser
+     * @return the updated object
+     * @throws IOException if the JSON can not be read or mapped
+     */
+    public <T> T deserializeInto(T target, JsonParser parser) throws IOException {
+        Util.throwIfNull(target, parser);
+
+        return mapper().objectMapper.readerForUpdating(target).readValue(parser);
     }
 
     /**
@@ -257,8 +310,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            list = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, objectClass));
+            list = mapper().listReaders.get(objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -286,8 +338,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(PagedResult.class, PagedResult.class, objectClass));
+            rw = mapper().pagedResultReaders.get(objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -313,8 +364,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Map<String, Object> map = null;
 
         try {
-            map = OBJECT_MAPPER.readValue(inputStream, new TypeReference<Map<String, Object>>() {
-            });
+            map = mapper().mapReaders.get(Object.class).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -346,8 +396,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Result<T> result = null;
 
         try {
-            result = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(Result.class, Result.class, objectClass));
+            result = mapper().resultReaders.get(objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -383,10 +432,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Result<List<T>> result = null;
 
         try {
-            result = OBJECT_MAPPER.readValue(
-                    inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(Result.class, Result.class,
-                            OBJECT_MAPPER.getTypeFactory().constructParametrizedType(List.class, List.class, objectClass)));
+            result = mapper().listResultReaders.get(objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -402,8 +448,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
             throws JSONSerializerException {
         BulkItemResult<T> result = null;
         try {
-            result = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(BulkItemResult.class, BulkItemResult.class, objectClass));
+            result = mapper().bulkItemResultReaders.get(objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -428,7 +473,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(inputStream, CopyOrMoveRowResult.class);
+            rw = mapper().readers.get(CopyOrMoveRowResult.class).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -454,7 +499,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(inputStream, EventResult.class);
+            rw = mapper().readers.get(EventResult.class).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -465,4 +510,161 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         return rw;
     }
+
+    /**
+     * An ObjectMapper with the SDK configuration, together with the readers and writers built from it.
+     */
+    private static final class Mapper {
+        final ObjectMapper objectMapper;
+
+        final RowProjection rowProjection;
+
+        /**
+         * Pre-built readers for each (wrapper, element class) pair, so that a call only pays for JavaType resolution
+         * and root deserializer lookup the first time a type is seen.
+         */
+        final TypedReaders readers;
+        final TypedReaders listReaders;
+        final TypedReaders pagedResultReaders;
+        final TypedReaders resultReaders;
+        final TypedReaders listResultReaders;
+        final TypedReaders bulkItemResultReaders;
+        final TypedReaders mapReaders;
+
+        /**
+         * Pre-built writers keyed by the runtime class of the serialized object.
+         */
+        private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        Mapper(JacksonJsonSerializerBuilder config) {
+            JsonFactory jsonFactory = config.getJsonFactory() == null ? new JsonFactory() : config.getJsonFactory().copy();
+            jsonFactory.configure(JsonFactory.Feature.INTERN_FIELD_NAMES, config.isInternFieldNames());
+            objectMapper = createObjectMapper(jsonFactory, config.getStringDeduplicator(), config.isWriteIds());
+
+            // Allow deserialization if there are properties that can't be deserialized (unless strict)
+            objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, config.isFailOnUnknownProperties());
+            objectMapper.configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, config.isUseBigDecimalForFloats());
+
+            rowProjection = config.getRowProjection();
+            if (rowProjection != null) {
+                SimpleModule module = new SimpleModule("RowProjectionModule", Version.unknownVersion());
+                module.setDeserializerModifier(new RowProjectionDeserializer.Modifier(rowProjection));
+                objectMapper.registerModule(module);
+            }
+
+            TypeFactory types = objectMapper.getTypeFactory();
+            readers = new TypedReaders(objectMapper, types::constructType);
+            listReaders = new TypedReaders(objectMapper, type -> types.constructCollectionType(List.class, type));
+            pagedResultReaders = new TypedReaders(objectMapper, type ->
+                    types.constructParametrizedType(PagedResult.class, PagedResult.class, type));
+            resultReaders = new TypedReaders(objectMapper, type ->
+                    types.constructParametrizedType(Result.class, Result.class, type));
+            listResultReaders = new TypedReaders(objectMapper, type ->
+                    types.constructParametrizedType(Result.class, Result.class,
+                            types.constructParametrizedType(List.class, List.class, type)));
+            bulkItemResultReaders = new TypedReaders(objectMapper, type ->
+                    types.constructParametrizedType(BulkItemResult.class, BulkItemResult.class, type));
+            mapReaders = new TypedReaders(objectMapper, type -> types.constructMapType(Map.class, String.class, type));
+        }
+
+        ObjectWriter writerFor(Object object) {
+            Class<?> type = object.getClass();
+            ObjectWriter writer = writers.get(type);
+            if (writer == null) {
+                writer = writers.computeIfAbsent(type, objectMapper::writerFor);
+            }
+            return writer;
+        }
+
+        private static ObjectMapper createObjectMapper(JsonFactory jsonFactory, StringDeduplicator strings,
+                                                       boolean writeIds) {
+            ObjectMapper objectMapper = new ObjectMapper(jsonFactory);
+            objectMapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
+
+            // Only include non-null properties in when serializing java beans
+            objectMapper.setSerializationInclusion(Include.NON_NULL);
+
+            // Use toString() method on enums to serialize and deserialize
+            objectMapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+            objectMapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
+
+            objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
+            df.setTimeZone(TimeZone.getTimeZone("UTC"));
+            objectMapper.setDateFormat(df);
+
+            // Read and write Date values without cloning the DateFormat above for every value (it is still used for
+            // the rare date-typed map keys)
+            SimpleModule module = new SimpleModule("IsoDateModule", Version.unknownVersion());
+            module.addSerializer(Date.class, new IsoDateSerializer());
+            module.addDeserializer(Date.class, new IsoDateDeserializer());
+            objectMapper.registerModule(module);
+
+            // Add a custom deserializer that will convert a string to a Format object.
+            module = new SimpleModule("FormatDeserializerModule", Version.unknownVersion());
+            module.addDeserializer(Format.class, new FormatDeserializer());
+
+            // Add custom mixin to ignore getId() for the IdentifiableModel class (unless the ids are kept for snapshots)
+            if (!writeIds) {
+                module.setMixInAnnotation(IdentifiableModel.class, IdentifiableModelMixin.class);
+            }
+            objectMapper.registerModule(module);
+
+            module = new SimpleModule("ObjectValueDeserializerModule", Version.unknownVersion());
+            module.addDeserializer(ObjectValue.class, new ObjectValueDeserializer(strings));
+            objectMapper.registerModule(module);
+
+            if (strings != null) {
+                module = new SimpleModule("StringDeduplicationModule", Version.unknownVersion());
+                module.addDeserializer(String.class, new DeduplicatingStringDeserializer(strings));
+                objectMapper.registerModule(module);
+            }
+
+            module = new SimpleModule("PrimitiveObjectValueSerializerModule", Version.unknownVersion());
+            module.addSerializer(PrimitiveObjectValue.class, new PrimitiveObjectValueSerializer());
+            objectMapper.registerModule(module);
+
+            module = new SimpleModule("RecipientDeserializerModule", Version.unknownVersion());
+            module.addDeserializer(Recipient.class, new RecipientDeserializer());
+            objectMapper.registerModule(module);
+
+            module = new SimpleModule("WidgetContentDeserializerModule", Version.unknownVersion());
+            module.addDeserializer(WidgetContent.class, new WidgetContentDeserializer());
+            objectMapper.registerModule(module);
+
+            module = new SimpleModule("HyperlinkSerializerModule", Version.unknownVersion());
+            module.addSerializer(Hyperlink.class, new HyperlinkSerializer());
+            objectMapper.registerModule(module);
+
+            module = new SimpleModule("CellSerializerModule", Version.unknownVersion());
+            module.setSerializerModifier(new CellSerializerModifier());
+            objectMapper.registerModule(module);
+
+            module = new SimpleModule("ErrorDetailDeserializerModule", Version.unknownVersion());
+            module.addDeserializer(com.smartsheet.api.models.Error.class, new ErrorDeserializer());
+            objectMapper.registerModule(module);
+            return objectMapper;
+        }
+    }
+
+    /**
+     * A cache of readers for one wrapper type, keyed by the element class.
+     */
+    private static final class TypedReaders {
+        private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+        private final Function<Class<?>, ObjectReader> factory;
+
+        TypedReaders(ObjectMapper objectMapper, Function<Class<?>, JavaType> typeFactory) {
+            this.factory = type -> objectMapper.readerFor(typeFactory.apply(type));
+        }
+
+        ObjectReader get(Class<?> type) {
+            ObjectReader reader = readers.get(type);
+            if (reader == null) {
+                reader = readers.computeIfAbsent(type, factory);
+            }
+            return reader;
+        }
+    }
 }
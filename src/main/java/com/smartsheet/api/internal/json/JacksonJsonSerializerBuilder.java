@@ -0,0 +1,198 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.smartsheet.api.internal.util.StringDeduplicator;
+import com.smartsheet.api.models.RowProjection;
+
+/**
+ * A convenience class to create a {@link JacksonJsonSerializer} with its own, immutable configuration.
+ *
+ * Serializers built from different settings can be used side by side in one JVM, e.g. a lenient serializer for
+ * read-only traffic next to a strict one that fails on fields the SDK does not know about.
+ *
+ * Thread Safety: This class is not thread safe since it's mutable, one builder instance is NOT expected to be used in
+ * multiple threads.
+ */
+public class JacksonJsonSerializerBuilder {
+    /**
+     * Represents whether unknown properties fail de-serialization. Defaults to false (lenient).
+     */
+    private boolean failOnUnknownProperties;
+
+    /**
+     * Represents whether floating point numbers read into untyped values (e.g. maps) become BigDecimal rather than
+     * Double. Defaults to false.
+     */
+    private boolean useBigDecimalForFloats;
+
+    /**
+     * Represents whether the parser interns field names. Defaults to true.
+     */
+    private boolean internFieldNames = true;
+
+    /**
+     * Represents the projection applied to every row that is read, null to read rows in full.
+     */
+    private RowProjection rowProjection;
+
+    /**
+     * Represents the cache that canonicalizes strings as they are read, null to keep every string.
+     */
+    private StringDeduplicator stringDeduplicator;
+
+    /**
+     * Represents the factory of the data format to read and write, null for JSON.
+     */
+    private JsonFactory jsonFactory;
+
+    /**
+     * Represents whether the ids of sheets, columns and the other identifiable models are written. Defaults to false.
+     */
+    private boolean writeIds;
+
+    /**
+     * Set whether unknown properties fail de-serialization.
+     *
+     * @param failOnUnknownProperties true to fail, false to ignore them
+     * @return the builder
+     */
+    public JacksonJsonSerializerBuilder setFailOnUnknownProperties(boolean failOnUnknownProperties) {
+        this.failOnUnknownProperties = failOnUnknownProperties;
+        return this;
+    }
+
+    /**
+     * Set whether floating point numbers read into untyped values become BigDecimal.
+     *
+     * @param useBigDecimalForFloats true for BigDecimal, false for Double
+     * @return the builder
+     */
+    public JacksonJsonSerializerBuilder setUseBigDecimalForFloats(boolean useBigDecimalForFloats) {
+        this.useBigDecimalForFloats = useBigDecimalForFloats;
+        return this;
+    }
+
+    /**
+     * Set whether the parser interns field names.
+     *
+     * @param internFieldNames true to intern field names
+     * @return the builder
+     */
+    public JacksonJsonSerializerBuilder setInternFieldNames(boolean internFieldNames) {
+        this.internFieldNames = internFieldNames;
+        return this;
+    }
+
+    /**
+     * Set the projection applied to every row the serializer reads (in sheets, reports, row lists and sheet streams).
+     * Cells of other columns and the skipped fields are passed over in the parser.
+     *
+     * @param rowProjection the projection, null to read rows in full
+     * @return the builder
+     */
+    public JacksonJsonSerializerBuilder setRowProjection(RowProjection rowProjection) {
+        this.rowProjection = rowProjection;
+        return this;
+    }
+
+    /**
+     * Set a cache that replaces repeated strings (cell values and display values, contact names and emails, picklist
+     * options, column titles...) with one shared instance as they are read, which reduces the retained size of large
+     * sheets that are kept in memory. The same deduplicator may be given to several builders.
+     *
+     * @param stringDeduplicator the deduplicator, null to keep every string (the default)
+     * @return the builder
+     */
+    public JacksonJsonSerializerBuilder setStringDeduplicator(StringDeduplicator stringDeduplicator) {
+        this.stringDeduplicator = stringDeduplicator;
+        return this;
+    }
+
+    /**
+     * Set the Jackson data format to read and write. With a binary format such as Smile
+     * ({@code new SmileFactory()} from jackson-dataformat-smile, an optional dependency of the SDK) the serializer
+     * keeps all the model mappings and custom (de)serializers but reads and writes a compact binary encoding, which
+     * suits local caches and snapshots of sheets, reports and paged results. Such a serializer can not talk to the
+     * Smartsheet API, which only speaks JSON, and its {@code serialize(Object)} method, which returns a String, fails.
+     * Snapshots should also be written with {@link #setWriteIds} so they keep the sheet and column ids.
+     *
+     * The factory is copied when the serializer is built, so it is not modified and may be reused.
+     *
+     * @param jsonFactory the factory, null for JSON (the default)
+     * @return the builder
+     */
+    public JacksonJsonSerializerBuilder setJsonFactory(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+        return this;
+    }
+
+    /**
+     * Set whether the ids of sheets, columns and the other identifiable models are written. Requests to the Smartsheet
+     * API carry those ids in the URL, so by default they are left out of the body; a serializer that writes snapshots
+     * to be read back later (see {@link #setJsonFactory}) must keep them, or the copies lose their ids.
+     *
+     * @param writeIds true to write the ids, false to leave them out (the default)
+     * @return the builder
+     */
+    public JacksonJsonSerializerBuilder setWriteIds(boolean writeIds) {
+        this.writeIds = writeIds;
+        return this;
+    }
+
+    boolean isFailOnUnknownProperties() {
+        return failOnUnknownProperties;
+    }
+
+    boolean isUseBigDecimalForFloats() {
+        return useBigDecimalForFloats;
+    }
+
+    boolean isInternFieldNames() {
+        return internFieldNames;
+    }
+
+    RowProjection getRowProjection() {
+        return rowProjection;
+    }
+
+    StringDeduplicator getStringDeduplicator() {
+        return stringDeduplicator;
+    }
+
+    JsonFactory getJsonFactory() {
+        return jsonFactory;
+    }
+
+    boolean isWriteIds() {
+        return writeIds;
+    }
+
+    /**
+     * Build the serializer.
+     *
+     * @return the serializer
+     */
+    public JacksonJsonSerializer build() {
+        return new JacksonJsonSerializer(this);
+    }
+}
@@ -23,9 +23,10 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.smartsheet.api.internal.util.StringDeduplicator;
 import com.smartsheet.api.models.BooleanObjectValue;
 import com.smartsheet.api.models.ContactObjectValue;
 import com.smartsheet.api.models.DateObjectValue;
@@ -43,115 +44,266 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Deserializes an objectValue by reading the attributes of every supported object type straight off the parser and
+ * building the type named by the "objectType" attribute (which may come after the other attributes).
+ *
+ * Nested beans (predecessors) are read through the DeserializationContext, so no ObjectMapper is created per value.
+ * Contact names and emails, picklist options and other string attributes go through the StringDeduplicator, if any.
+ */
 public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
 
+    private static final JavaType PREDECESSOR_LIST_TYPE =
+            TypeFactory.defaultInstance().constructCollectionType(List.class, Predecessor.class);
+
+    private final StringDeduplicator strings;
+
+    public ObjectValueDeserializer() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param strings the deduplicator for string attributes, null to keep every string
+     */
+    public ObjectValueDeserializer(StringDeduplicator strings) {
+        this.strings = strings;
+    }
+
     @Override
     public ObjectValue deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException, JsonProcessingException {
 
-        final ObjectValue objectValue;
-        ContactObjectValue contactObjectValue = null;
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            JsonToken token = jp.getCurrentToken();
+            if (token.isBoolean()) {
+                return new BooleanObjectValue(jp.getBooleanValue());
+            } else if (token.isNumeric()) {
+                return new NumberObjectValue(jp.getNumberValue());
+            } else {
+                return new StringObjectValue(strings == null ? jp.getText() : readString(jp));
+            }
+        }
 
-        if (jp.getCurrentToken() == JsonToken.START_OBJECT) {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // This needs to be read as a string so that any new object types added won't completely break the API
+        String objectType = null;
 
-            ObjectValueAttributeSuperset superset = mapper.readValue(jp, ObjectValueAttributeSuperset.class);
+        // PREDECESSOR_LIST specific attributes
+        List<Predecessor> predecessors = null;
 
-            ObjectValueType parsedObjectType;
-            try {
-                parsedObjectType = ObjectValueType.valueOf(superset.objectType);
-            } catch (IllegalArgumentException e) {
-                // If a new object type is introduced to the Smartsheet API that this version of the SDK doesn't support,
-                // return null instead of throwing an exception.
-                return null;
-            }
+        // DURATION specific attributes
+        Boolean negative = null;
+        Boolean elapsed = null;
+        Double weeks = null;
+        Double days = null;
+        Double hours = null;
+        Double minutes = null;
+        Double seconds = null;
+        Double milliseconds = null;
 
-            switch (parsedObjectType) {
-                case DURATION:
-                    objectValue = new Duration(
-                            superset.negative,
-                            superset.elapsed,
-                            superset.weeks,
-                            superset.days,
-                            superset.hours,
-                            superset.minutes,
-                            superset.seconds,
-                            superset.milliseconds);
-                    break;
+        // CONTACT specific attributes
+        String id = null;
+        String name = null;
+        String email = null;
 
-                case PREDECESSOR_LIST:
-                    objectValue = new PredecessorList(superset.predecessors);
-                    break;
+        // MULTI_CONTACT (contacts) and MULTI_PICKLIST (strings)
+        List<Object> values = null;
 
-                case CONTACT:
-                    contactObjectValue = new ContactObjectValue();
-                    contactObjectValue.setName(superset.name);
-                    contactObjectValue.setEmail(superset.email);
-                    contactObjectValue.setId(superset.id);
-                    objectValue = contactObjectValue;
-                    break;
+        // Various other types
+        String value = null;
 
-                case DATE:                // Intentional fallthrough
-                case DATETIME:            // Intentional fallthrough
-                case ABSTRACT_DATETIME:
-                    objectValue = new DateObjectValue(parsedObjectType, superset.value);
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String field = jp.getCurrentName();
+            jp.nextToken();
+            switch (field) {
+                case "objectType":
+                    objectType = readScalar(jp);
                     break;
-
-                case MULTI_CONTACT:
-                    List<ContactObjectValue> contactObjectValues = new ArrayList<>();
-                    for(Object contact: superset.values) {
-                        contactObjectValue = mapper.convertValue(contact, ContactObjectValue.class);
-                        contactObjectValues.add(contactObjectValue);
-                    }
-                    objectValue = new MultiContactObjectValue(contactObjectValues);
+                case "predecessors":
+                    predecessors = jp.getCurrentToken() == JsonToken.VALUE_NULL ? null :
+                            ctxt.readValue(jp, PREDECESSOR_LIST_TYPE);
                     break;
-
-                case MULTI_PICKLIST:
-                    objectValue = new MultiPicklistObjectValue((List<String>)superset.values);
+                case "negative":
+                    negative = readBoolean(jp);
+                    break;
+                case "elapsed":
+                    elapsed = readBoolean(jp);
+                    break;
+                case "weeks":
+                    weeks = readDouble(jp);
+                    break;
+                case "days":
+                    days = readDouble(jp);
+                    break;
+                case "hours":
+                    hours = readDouble(jp);
+                    break;
+                case "minutes":
+                    minutes = readDouble(jp);
+                    break;
+                case "seconds":
+                    seconds = readDouble(jp);
+                    break;
+                case "milliseconds":
+                    milliseconds = readDouble(jp);
+                    break;
+                case "id":
+                    id = readScalar(jp);
+                    break;
+                case "name":
+                    name = readString(jp);
+                    break;
+                case "email":
+                    email = readString(jp);
+                    break;
+                case "values":
+                    values = readValues(jp);
+                    break;
+                case "value":
+                    value = readScalar(jp);
                     break;
-
                 default:
-                    objectValue = null;
-            }
-        } else {
-            JsonToken token = jp.getCurrentToken();
-            if (token.isBoolean()) {
-                objectValue = new BooleanObjectValue(jp.getBooleanValue());
-            } else if (token.isNumeric()) {
-                objectValue = new NumberObjectValue(jp.getNumberValue());
-            } else {
-                objectValue = new StringObjectValue(jp.getText());
+                    jp.skipChildren();
             }
         }
-        return objectValue;
+
+        ObjectValueType parsedObjectType;
+        try {
+            parsedObjectType = ObjectValueType.valueOf(objectType);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // If a new object type is introduced to the Smartsheet API that this version of the SDK doesn't support,
+            // return null instead of throwing an exception.
+            return null;
+        }
+
+        switch (parsedObjectType) {
+            case DURATION:
+                return new Duration(negative, elapsed, weeks, days, hours, minutes, seconds, milliseconds);
+
+            case PREDECESSOR_LIST:
+                return new PredecessorList(predecessors);
+
+            case CONTACT:
+                ContactObjectValue contactObjectValue = new ContactObjectValue();
+                contactObjectValue.setName(name);
+                contactObjectValue.setEmail(email);
+                contactObjectValue.setId(id);
+                return contactObjectValue;
+
+            case DATE:                // Intentional fallthrough
+            case DATETIME:            // Intentional fallthrough
+            case ABSTRACT_DATETIME:
+                return new DateObjectValue(parsedObjectType, value);
+
+            case MULTI_CONTACT:
+                List<ContactObjectValue> contactObjectValues = new ArrayList<>();
+                if (values != null) {
+                    for (Object contact : values) {
+                        if (contact instanceof ContactObjectValue) {
+                            contactObjectValues.add((ContactObjectValue) contact);
+                        }
+                    }
+                }
+                return new MultiContactObjectValue(contactObjectValues);
+
+            case MULTI_PICKLIST:
+                List<String> options = null;
+                if (values != null) {
+                    options = new ArrayList<>(values.size());
+                    for (Object option : values) {
+                        options.add(option instanceof String ? (String) option : null);
+                    }
+                }
+                return new MultiPicklistObjectValue(options);
+
+            default:
+                return null;
+        }
     }
 
-    private static class ObjectValueAttributeSuperset {
-        public String objectType; // This needs to be represented as a string so that any new object types added won't completely break the API
+    private static Boolean readBoolean(JsonParser jp) throws IOException {
+        return isNullOrSkipped(jp) ? null : jp.getValueAsBoolean();
+    }
 
-        // PREDECESSOR_LIST specific attributes
-        public List<Predecessor> predecessors;
+    private static Double readDouble(JsonParser jp) throws IOException {
+        return isNullOrSkipped(jp) ? null : jp.getValueAsDouble();
+    }
 
-        // DURATION specific attributes
-        public Boolean negative;
-        public Boolean elapsed;
-        public Double weeks;
-        public Double days;
-        public Double hours;
-        public Double minutes;
-        public Double seconds;
-        public Double milliseconds;
+    private static String readScalar(JsonParser jp) throws IOException {
+        return isNullOrSkipped(jp) ? null : jp.getValueAsString();
+    }
 
-        // CONTACT specific attributes
-        public String id;
-        public String name;
-        public String email;
+    /**
+     * Whether the current value is null or a nested object/array. A nested value is skipped so the parser stays
+     * positioned on this field instead of reading the nested fields as if they belonged to the outer object.
+     */
+    private static boolean isNullOrSkipped(JsonParser jp) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return true;
+        }
+        if (!token.isScalarValue()) {
+            jp.skipChildren();
+            return true;
+        }
+        return false;
+    }
 
-        // MULTI_CONTACT
-        public List<?> values;
+    /**
+     * Read the "values" array, whose elements are contact objects (MULTI_CONTACT) or strings (MULTI_PICKLIST).
+     */
+    private List<Object> readValues(JsonParser jp) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_ARRAY) {
+            jp.skipChildren();
+            return null;
+        }
+        List<Object> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                values.add(readContact(jp));
+            } else if (token == JsonToken.START_ARRAY) {
+                jp.skipChildren();
+            } else {
+                values.add(readString(jp));
+            }
+        }
+        return values;
+    }
 
-        // Various other types
-        public String value;
+    private ContactObjectValue readContact(JsonParser jp) throws IOException {
+        ContactObjectValue contact = new ContactObjectValue();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String field = jp.getCurrentName();
+            jp.nextToken();
+            switch (field) {
+                case "id":
+                    contact.setId(readScalar(jp));
+                    break;
+                case "name":
+                    contact.setName(readString(jp));
+                    break;
+                case "email":
+                    contact.setEmail(readString(jp));
+                    break;
+                case "refIndex":
+                    contact.setRefIndex(isNullOrSkipped(jp) ? null : jp.getValueAsInt());
+                    break;
+                case "imageId":
+                    contact.setImageId(readScalar(jp));
+                    break;
+                default:
+                    jp.skipChildren();
+            }
+        }
+        return contact;
+    }
+
+    private String readString(JsonParser jp) throws IOException {
+        if (strings != null && jp.getCurrentToken() == JsonToken.VALUE_STRING) {
+            return strings.canonical(jp.getTextCharacters(), jp.getTextOffset(), jp.getTextLength());
+        }
+        return readScalar(jp);
     }
 }
@@ -0,0 +1,166 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.smartsheet.api.models.AbstractRow;
+import com.smartsheet.api.models.RowProjection;
+
+import java.io.IOException;
+
+/**
+ * Applies a {@link RowProjection} while a row is read: skipped fields and the cells of columns outside the projection
+ * are passed over with {@link JsonParser#skipChildren()}, and only what is left is handed to the row's bean
+ * deserializer.
+ *
+ * A cell is dropped as soon as its columnId is read (the API writes it first), so the rest of it is never buffered.
+ *
+ * Thread Safety: This class is thread safe, it has no mutable state.
+ */
+public class RowProjectionDeserializer extends DelegatingDeserializer {
+
+    private final RowProjection projection;
+
+    public RowProjectionDeserializer(JsonDeserializer<?> delegatee, RowProjection projection) {
+        super(delegatee);
+        this.projection = projection;
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new RowProjectionDeserializer(newDelegatee, projection);
+    }
+
+    @Override
+    public Object deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+            return _delegatee.deserialize(jp, ctxt);
+        }
+
+        TokenBuffer row = new TokenBuffer(jp, ctxt);
+        row.writeStartObject();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken value = jp.nextToken();
+            if (projection.skipsField(fieldName)) {
+                jp.skipChildren();
+            } else if ("cells".equals(fieldName) && value == JsonToken.START_ARRAY) {
+                row.writeFieldName(fieldName);
+                copyCells(jp, row, ctxt);
+            } else {
+                row.writeFieldName(fieldName);
+                row.copyCurrentStructure(jp);
+            }
+        }
+        row.writeEndObject();
+
+        JsonParser rowParser = row.asParser(jp);
+        rowParser.nextToken();
+        return _delegatee.deserialize(rowParser, ctxt);
+    }
+
+    private void copyCells(JsonParser jp, TokenBuffer row, DeserializationContext ctxt) throws IOException {
+        row.writeStartArray();
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+            if (jp.getCurrentToken() == JsonToken.START_OBJECT) {
+                copyCell(jp, row, ctxt);
+            } else {
+                row.copyCurrentStructure(jp);
+            }
+        }
+        row.writeEndArray();
+    }
+
+    /**
+     * Copy one cell into the row buffer if its column is in the projection. Fields that come before the columnId are
+     * held in a small buffer until the column is known.
+     */
+    private void copyCell(JsonParser jp, TokenBuffer row, DeserializationContext ctxt) throws IOException {
+        TokenBuffer pending = null;
+        boolean selected = projection.isAllColumns();
+        if (selected) {
+            row.writeStartObject();
+        }
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            jp.nextToken();
+            if (!selected && "columnId".equals(fieldName)) {
+                if (!jp.getCurrentToken().isNumeric() || !projection.includesColumn(jp.getLongValue())) {
+                    skipRestOfObject(jp);
+                    return;
+                }
+                selected = true;
+                row.writeStartObject();
+                if (pending != null) {
+                    pending.serialize(row);
+                }
+            }
+            if (projection.skipsField(fieldName)) {
+                jp.skipChildren();
+                continue;
+            }
+            TokenBuffer target = selected ? row : pending;
+            if (target == null) {
+                pending = target = new TokenBuffer(jp, ctxt);
+            }
+            target.writeFieldName(fieldName);
+            target.copyCurrentStructure(jp);
+        }
+        if (selected) {
+            row.writeEndObject();
+        }
+    }
+
+    private static void skipRestOfObject(JsonParser jp) throws IOException {
+        while (jp.nextToken() != JsonToken.END_OBJECT) {
+            jp.skipChildren();
+        }
+    }
+
+    /**
+     * Installs a {@link RowProjectionDeserializer} in front of the bean deserializer of every row type.
+     */
+    public static class Modifier extends BeanDeserializerModifier {
+
+        private final RowProjection projection;
+
+        public Modifier(RowProjection projection) {
+            this.projection = projection;
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                      JsonDeserializer<?> deserializer) {
+            if (AbstractRow.class.isAssignableFrom(beanDesc.getBeanClass())) {
+                return new RowProjectionDeserializer(deserializer, projection);
+            }
+            return deserializer;
+        }
+    }
+}
@@ -21,18 +21,16 @@ package com.smartsheet.api.internal.json;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.smartsheet.api.models.CellDataItem;
 import com.smartsheet.api.models.CellLinkWidgetContent;
 import com.smartsheet.api.models.ChartWidgetContent;
 import com.smartsheet.api.models.Column;
 import com.smartsheet.api.models.ImageWidgetContent;
-import com.smartsheet.api.models.ObjectValue;
 import com.smartsheet.api.models.ReportWidgetContent;
 import com.smartsheet.api.models.SelectionRange;
 import com.smartsheet.api.models.ShortcutDataItem;
@@ -47,28 +45,38 @@ import com.smartsheet.api.models.format.Format;
 import java.io.IOException;
 import java.util.List;
 
+/**
+ * Deserializes widget contents by reading the attributes of every supported widget type straight off the parser and
+ * building the type named by the "type" attribute (which may come after the other attributes).
+ *
+ * Nested values are read through the DeserializationContext, so the configuration and deserializers of the mapper in
+ * use apply to them and no ObjectMapper is created per widget.
+ */
 public class WidgetContentDeserializer extends JsonDeserializer<WidgetContent> {
 
+    private static final TypeFactory TYPE_FACTORY = TypeFactory.defaultInstance();
+    private static final JavaType OBJECT_TYPE = TYPE_FACTORY.constructType(Object.class);
+    private static final JavaType HYPERLINK_TYPE = TYPE_FACTORY.constructType(WidgetHyperlink.class);
+    private static final JavaType FORMAT_TYPE = TYPE_FACTORY.constructType(Format.class);
+    private static final JavaType CELL_DATA_LIST_TYPE = TYPE_FACTORY.constructCollectionType(List.class, CellDataItem.class);
+    private static final JavaType COLUMN_LIST_TYPE = TYPE_FACTORY.constructCollectionType(List.class, Column.class);
+    private static final JavaType OBJECT_LIST_TYPE = TYPE_FACTORY.constructCollectionType(List.class, Object.class);
+    private static final JavaType LONG_LIST_TYPE = TYPE_FACTORY.constructCollectionType(List.class, Long.class);
+    private static final JavaType SELECTION_RANGE_LIST_TYPE =
+            TYPE_FACTORY.constructCollectionType(List.class, SelectionRange.class);
+    private static final JavaType SHORTCUT_DATA_LIST_TYPE =
+            TYPE_FACTORY.constructCollectionType(List.class, ShortcutDataItem.class);
+
     @Override
     public WidgetContent deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException, JsonProcessingException {
 
         WidgetContent widgetContent = null;
 
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        mapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
-        mapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
-
-        // Add the relevant custom deserializers
-        SimpleModule module = new SimpleModule("FormatDeserializerModule", Version.unknownVersion());
-        module.addDeserializer(Format.class, new FormatDeserializer());
-
-        module = new SimpleModule("ObjectValueDeserializerModule", Version.unknownVersion());
-        module.addDeserializer(ObjectValue.class, new ObjectValueDeserializer());
-        mapper.registerModule(module);
-
-        WidgetContentSuperset superset = mapper.readValue(jp, WidgetContentSuperset.class);
+        WidgetContentSuperset superset = readSuperset(jp, ctxt);
+        if (superset.type == null) {
+            return null;
+        }
 
         WidgetType parsedType;
         try {
@@ -152,6 +160,111 @@ public class WidgetContentDeserializer extends JsonDeserializer<WidgetContent> {
         return widgetContent;
     }
 
+    private static WidgetContentSuperset readSuperset(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        WidgetContentSuperset superset = new WidgetContentSuperset();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String field = jp.getCurrentName();
+            jp.nextToken();
+            switch (field) {
+                case "type":
+                    superset.type = readString(jp);
+                    break;
+                case "sheetId":
+                    superset.sheetId = readLong(jp);
+                    break;
+                case "reportId":
+                    superset.reportId = readLong(jp);
+                    break;
+                case "hyperlink":
+                    superset.hyperlink = read(jp, ctxt, HYPERLINK_TYPE);
+                    break;
+                case "htmlContent":
+                    superset.htmlContent = readString(jp);
+                    break;
+                case "cellData":
+                    superset.cellData = read(jp, ctxt, CELL_DATA_LIST_TYPE);
+                    break;
+                case "columns":
+                    superset.columns = read(jp, ctxt, COLUMN_LIST_TYPE);
+                    break;
+                case "axes":
+                    superset.axes = read(jp, ctxt, OBJECT_LIST_TYPE);
+                    break;
+                case "includedColumnIds":
+                    superset.includedColumnIds = read(jp, ctxt, LONG_LIST_TYPE);
+                    break;
+                case "legend":
+                    superset.legend = read(jp, ctxt, OBJECT_TYPE);
+                    break;
+                case "selectionRanges":
+                    superset.selectionRanges = read(jp, ctxt, SELECTION_RANGE_LIST_TYPE);
+                    break;
+                case "series":
+                    superset.series = read(jp, ctxt, OBJECT_LIST_TYPE);
+                    break;
+                case "privateId":
+                    superset.privateId = readString(jp);
+                    break;
+                case "fileName":
+                    superset.fileName = readString(jp);
+                    break;
+                case "format":
+                    superset.format = read(jp, ctxt, FORMAT_TYPE);
+                    break;
+                case "height":
+                    superset.height = readInteger(jp);
+                    break;
+                case "width":
+                    superset.width = readInteger(jp);
+                    break;
+                case "shortcutData":
+                    superset.shortcutData = read(jp, ctxt, SHORTCUT_DATA_LIST_TYPE);
+                    break;
+                case "backgroundColor":
+                    superset.backgroundColor = readString(jp);
+                    break;
+                case "url":
+                    superset.url = readString(jp);
+                    break;
+                default:
+                    jp.skipChildren();
+            }
+        }
+        return superset;
+    }
+
+    private static <T> T read(JsonParser jp, DeserializationContext ctxt, JavaType type) throws IOException {
+        return jp.getCurrentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(jp, type);
+    }
+
+    private static Long readLong(JsonParser jp) throws IOException {
+        return isNullOrSkipped(jp) ? null : jp.getValueAsLong();
+    }
+
+    private static Integer readInteger(JsonParser jp) throws IOException {
+        return isNullOrSkipped(jp) ? null : jp.getValueAsInt();
+    }
+
+    private static String readString(JsonParser jp) throws IOException {
+        return isNullOrSkipped(jp) ? null : jp.getValueAsString();
+    }
+
+    /**
+     * Whether the current value is null or a nested object/array. A nested value is skipped so the parser stays
+     * positioned on this field instead of reading the nested fields as if they belonged to the widget content.
+     */
+    private static boolean isNullOrSkipped(JsonParser jp) throws IOException {
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return true;
+        }
+        if (!token.isScalarValue()) {
+            jp.skipChildren();
+            return true;
+        }
+        return false;
+    }
+
     private static class WidgetContentSuperset {
 
         // Common
@@ -0,0 +1,326 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+/**
+ * ISO-8601 date/time parsing and formatting shared by the serializer, the models and the resources.
+ *
+ * The shapes the Smartsheet API uses ("yyyy-MM-dd'T'HH:mm:ss'Z'", "yyyy-MM-dd'T'HH:mm:ss" and "yyyy-MM-dd") are
+ * parsed and formatted by hand without intermediate objects; anything else (fractional seconds, offsets other than
+ * Z) goes through the java.time ISO formatters.
+ *
+ * Thread Safety: This class is thread safe, it has no mutable state.
+ */
+public class DateTimeUtil {
+
+    private static final DateTimeFormatter INSTANT_FORMATTER =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss'Z'").withZone(ZoneOffset.UTC);
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private DateTimeUtil() {
+    }
+
+    /**
+     * Format a date as a UTC timestamp with second precision, e.g. "2017-07-17T20:27:57Z".
+     *
+     * @param date the date
+     * @return the formatted date
+     */
+    public static String formatInstant(Date date) {
+        Util.throwIfNull(date);
+        return formatInstant(date.getTime());
+    }
+
+    /**
+     * Format an instant as a UTC timestamp with second precision, e.g. "2017-07-17T20:27:57Z".
+     *
+     * @param instant the instant
+     * @return the formatted instant
+     */
+    public static String formatInstant(Instant instant) {
+        Util.throwIfNull(instant);
+        return formatInstant(instant.toEpochMilli());
+    }
+
+    private static String formatInstant(long epochMillis) {
+        long epochSeconds = Math.floorDiv(epochMillis, 1000L);
+        long epochDay = Math.floorDiv(epochSeconds, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSeconds, SECONDS_PER_DAY);
+
+        long date = civilFromDays(epochDay);
+        int year = (int) (date >> 9);
+        if (year < 0 || year > 9999) {
+            return INSTANT_FORMATTER.format(Instant.ofEpochSecond(epochSeconds));
+        }
+        char[] chars = new char[20];
+        writeDate(chars, year, (int) (date >> 5) & 0xF, (int) date & 0x1F);
+        writeTime(chars, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+        chars[19] = 'Z';
+        return new String(chars);
+    }
+
+    /**
+     * Format a local date-time with second precision, e.g. "2017-07-01T16:30:07".
+     *
+     * @param dateTime the date-time
+     * @return the formatted date-time
+     */
+    public static String formatLocalDateTime(LocalDateTime dateTime) {
+        Util.throwIfNull(dateTime);
+        if (dateTime.getYear() < 0 || dateTime.getYear() > 9999) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime.withNano(0));
+        }
+        char[] chars = new char[19];
+        writeDate(chars, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+        writeTime(chars, dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
+        return new String(chars);
+    }
+
+    /**
+     * Format a local date, e.g. "2017-07-17".
+     *
+     * @param date the date
+     * @return the formatted date
+     */
+    public static String formatLocalDate(LocalDate date) {
+        Util.throwIfNull(date);
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            return DateTimeFormatter.ISO_LOCAL_DATE.format(date);
+        }
+        char[] chars = new char[10];
+        writeDate(chars, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        return new String(chars);
+    }
+
+    /**
+     * Parse an ISO-8601 timestamp with an offset (e.g. "2017-07-17T20:27:57Z" or "2017-07-17T20:27:57.123-07:00"), or
+     * a plain date (e.g. "2017-07-17", read as midnight UTC).
+     *
+     * @param text the text to parse
+     * @return the instant
+     * @throws DateTimeParseException if the text is not a supported ISO-8601 timestamp
+     */
+    public static Instant parseInstant(CharSequence text) {
+        Util.throwIfNull(text);
+        if (text.length() == 20 && text.charAt(19) == 'Z') {
+            long epochSecond = parseEpochSecond(text);
+            if (epochSecond != Long.MIN_VALUE) {
+                return Instant.ofEpochSecond(epochSecond);
+            }
+        }
+        if (text.length() == 10) {
+            return parseLocalDate(text).atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+        return OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant();
+    }
+
+    /**
+     * Parse an ISO-8601 timestamp into a Date.
+     *
+     * @param text the text to parse
+     * @return the date
+     * @throws DateTimeParseException if the text is not a supported ISO-8601 timestamp
+     * @see #parseInstant(CharSequence)
+     */
+    public static Date parseDate(CharSequence text) {
+        Util.throwIfNull(text);
+        if (text.length() == 20 && text.charAt(19) == 'Z') {
+            long epochSecond = parseEpochSecond(text);
+            if (epochSecond != Long.MIN_VALUE) {
+                return new Date(epochSecond * 1000L);
+            }
+        }
+        return Date.from(parseInstant(text));
+    }
+
+    /**
+     * Parse a local date-time without offset, e.g. "2017-07-01T16:30:07". A trailing "Z" is ignored.
+     *
+     * @param text the text to parse
+     * @return the date-time
+     * @throws DateTimeParseException if the text is not an ISO-8601 local date-time
+     */
+    public static LocalDateTime parseLocalDateTime(CharSequence text) {
+        Util.throwIfNull(text);
+        int length = text.length();
+        if (length > 0 && text.charAt(length - 1) == 'Z') {
+            text = text.subSequence(0, --length);
+        }
+        if (length == 19 && isDateTimeShape(text)) {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 2);
+            int day = digits(text, 8, 2);
+            int hour = digits(text, 11, 2);
+            int minute = digits(text, 14, 2);
+            int second = digits(text, 17, 2);
+            if (isValid(year, month, day, hour, minute, second)) {
+                return LocalDateTime.of(year, month, day, hour, minute, second);
+            }
+        }
+        return LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    /**
+     * Parse a local date, e.g. "2017-07-17".
+     *
+     * @param text the text to parse
+     * @return the date
+     * @throws DateTimeParseException if the text is not an ISO-8601 local date
+     */
+    public static LocalDate parseLocalDate(CharSequence text) {
+        Util.throwIfNull(text);
+        if (text.length() == 10 && isDateShape(text)) {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 2);
+            int day = digits(text, 8, 2);
+            if (isValid(year, month, day, 0, 0, 0)) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        return LocalDate.parse(text, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    /**
+     * Parse "yyyy-MM-dd'T'HH:mm:ss'Z'" into seconds since the epoch.
+     *
+     * @return the seconds, or Long.MIN_VALUE if the text does not have that exact shape
+     */
+    private static long parseEpochSecond(CharSequence text) {
+        if (!isDateTimeShape(text)) {
+            return Long.MIN_VALUE;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        if (!isValid(year, month, day, hour, minute, second)) {
+            return Long.MIN_VALUE;
+        }
+        return daysFromCivil(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+    }
+
+    private static boolean isDateShape(CharSequence text) {
+        return text.charAt(4) == '-' && text.charAt(7) == '-';
+    }
+
+    private static boolean isDateTimeShape(CharSequence text) {
+        return isDateShape(text) && text.charAt(10) == 'T' && text.charAt(13) == ':' && text.charAt(16) == ':';
+    }
+
+    /**
+     * @return the value of {@code count} decimal digits starting at {@code offset}, or -1 if any is not a digit
+     */
+    private static int digits(CharSequence text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isValid(int year, int month, int day, int hour, int minute, int second) {
+        return year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month)
+                && hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date (H. Hinnant's days_from_civil).
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * The inverse of {@link #daysFromCivil(int, int, int)}, packed as {@code year << 9 | month << 5 | day}.
+     */
+    private static long civilFromDays(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | month << 5 | day;
+    }
+
+    private static void writeDate(char[] chars, int year, int month, int day) {
+        write(chars, 0, year, 4);
+        chars[4] = '-';
+        write(chars, 5, month, 2);
+        chars[7] = '-';
+        write(chars, 8, day, 2);
+    }
+
+    private static void writeTime(char[] chars, int hour, int minute, int second) {
+        chars[10] = 'T';
+        write(chars, 11, hour, 2);
+        chars[13] = ':';
+        write(chars, 14, minute, 2);
+        chars[16] = ':';
+        write(chars, 17, second, 2);
+    }
+
+    private static void write(char[] chars, int offset, int value, int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.smartsheet.api.internal.util;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A REST endpoint path such as {@code sheets/{sheetId}/rows/{rowId}} that is parsed once and then expanded per call.
+ *
+ * Expanding a template writes the literal segments and ids into a presized builder, and query parameters are appended
+ * to the same builder, so a request path is built without intermediate strings or parameter maps. The encoded form of
+ * include/exclude enum sets is cached, since the same handful of sets is sent over and over again.
+ *
+ * Query parameters follow the rules of {@link QueryUtil#generateUrl(String, Map)}: null and empty values are skipped
+ * and values are URL-encoded. Parameter names passed to {@link Builder#query(String, Object)} are expected to be
+ * constants that need no encoding, as all of the API's parameter names are.
+ *
+ * Thread Safety: This class is immutable and thread safe. {@link Builder} is not thread safe, use one per call.
+ */
+public final class EndpointTemplate {
+
+    /**
+     * The maximum number of encoded enum sets kept in the cache.
+     */
+    private static final int MAX_CACHED_SETS = 512;
+
+    /**
+     * Encoded comma separated values of enum sets, keyed by a private copy of the set.
+     */
+    private static final Map<Set<?>, String> ENCODED_SETS = new ConcurrentHashMap<>();
+
+    /**
+     * The literal text around the placeholders, there is always one more literal than there are placeholders.
+     */
+    private final String[] literals;
+
+    /**
+     * The size to start the builder with, large enough for the ids and a short query string.
+     */
+    private final int initialCapacity;
+
+    private EndpointTemplate(String[] literals, int initialCapacity) {
+        this.literals = literals;
+        this.initialCapacity = initialCapacity;
+    }
+
+    /**
+     * Parse a template.
+     *
+     * Exceptions: - IllegalArgumentException : if the template is null, or has an unbalanced brace
+     *
+     * @param template the path relative to the API base URI, with placeholders in braces (e.g. "sheets/{sheetId}")
+     * @return the compiled template
+     */
+    public static EndpointTemplate compile(String template) {
+        Util.throwIfNull(template);
+
+        List<String> literals = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = template.indexOf('{', start)) >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("unbalanced placeholder in " + template);
+            }
+            literals.add(template.substring(start, open));
+            start = close + 1;
+        }
+        if (template.indexOf('}', start) >= 0) {
+            throw new IllegalArgumentException("unbalanced placeholder in " + template);
+        }
+        literals.add(template.substring(start));
+
+        int literalLength = literals.stream().mapToInt(String::length).sum();
+        return new EndpointTemplate(literals.toArray(new String[0]), literalLength + 20 * literals.size() + 64);
+    }
+
+    /**
+     * @return the number of placeholders in this template
+     */
+    public int getParameterCount() {
+        return literals.length - 1;
+    }
+
+    /**
+     * Expand the template with the given ids, in placeholder order.
+     *
+     * Exceptions: - IllegalArgumentException : if the number of ids does not match the number of placeholders
+     *
+     * @param ids the values of the placeholders
+     * @return a builder positioned after the path, ready for query parameters
+     */
+    public Builder expand(long... ids) {
+        if (ids.length != literals.length - 1) {
+            throw new IllegalArgumentException("expected " + (literals.length - 1) + " path parameters but got " + ids.length);
+        }
+        StringBuilder path = new StringBuilder(initialCapacity);
+        path.append(literals[0]);
+        for (int i = 0; i < ids.length; i++) {
+            path.append(ids[i]).append(literals[i + 1]);
+        }
+        return new Builder(path);
+    }
+
+    /**
+     * Return the URL-encoded, comma separated form of the given values (e.g. "attachments%2Cdiscussions").
+     *
+     * Enum sets are cached by value.
+     *
+     * @param values the values (optional)
+     * @return the encoded values, or an empty string if there are none
+     */
+    public static String encodeList(Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        if (!(values instanceof EnumSet)) {
+            return URLEncoder.encode(QueryUtil.generateCommaSeparatedList(values), StandardCharsets.UTF_8);
+        }
+
+        String encoded = ENCODED_SETS.get(values);
+        if (encoded == null) {
+            encoded = URLEncoder.encode(QueryUtil.generateCommaSeparatedList(values), StandardCharsets.UTF_8);
+            if (ENCODED_SETS.size() < MAX_CACHED_SETS) {
+                // key on a copy, the caller is free to modify its set afterwards
+                ENCODED_SETS.putIfAbsent(((EnumSet<?>) values).clone(), encoded);
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Builds one request path from an expanded template.
+     *
+     * Thread Safety: This class is not thread safe.
+     */
+    public static final class Builder {
+
+        private final StringBuilder path;
+
+        private boolean hasQuery;
+
+        private Builder(StringBuilder path) {
+            this.path = path;
+        }
+
+        /**
+         * Append a query parameter, unless the value is null or empty.
+         *
+         * @param name the parameter name, which must not need URL-encoding
+         * @param value the parameter value (optional)
+         * @return this builder
+         */
+        public Builder query(String name, Object value) {
+            if (value == null) {
+                return this;
+            }
+            if (value instanceof Collection) {
+                return appendEncoded(name, encodeList((Collection<?>) value));
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return appendEncoded(name, value.toString());
+            }
+            String string = value.toString();
+            return string.isEmpty() ? this : appendEncoded(name, URLEncoder.encode(string, StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Append every entry of the given map as a query parameter.
+         *
+         * @param parameters the parameters (optional)
+         * @return this builder
+         */
+        public Builder query(Map<String, ?> parameters) {
+            if (parameters != null) {
+                for (Map.Entry<String, ?> entry : parameters.entrySet()) {
+                    if (entry.getKey() != null) {
+                        query(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8), entry.getValue());
+                    }
+                }
+            }
+            return this;
+        }
+
+        private Builder appendEncoded(String name, String encodedValue) {
+            if (encodedValue.isEmpty()) {
+                return this;
+            }
+            path.append(hasQuery ? '&' : '?')
+                    .append(name)
+                    .append('=')
+                    .append(encodedValue);
+            hasQuery = true;
+            return this;
+        }
+
+        /**
+         * @return the path and query string, relative to the API base URI
+         */
+        public String build() {
+            return path.toString();
+        }
+
+        @Override
+        public String toString() {
+            return build();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.ServiceUnavailableException;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.internal.http.HttpClientException;
+
+/**
+ * Classification of the errors returned by the Smartsheet API.
+ *
+ * Thread Safety: This class is thread safe since it's stateless.
+ */
+public class ErrorUtil {
+
+    /** Smartsheet error codes of failures that are worth making the request again for */
+    public static final int SYSTEM_MAINTENANCE = 4001;
+    public static final int SERVER_TIMEOUT = 4002;
+    public static final int RATE_LIMIT_EXCEEDED = 4003;
+    public static final int UNEXPECTED_ERROR = 4004;
+
+    private ErrorUtil() {
+    }
+
+    /**
+     * Whether a failed request may succeed if it is made again later: the service is unavailable, under maintenance,
+     * timed out or rate limited, or the request failed with an I/O error. Note that a request that failed with an
+     * I/O error may still have been applied, which matters for requests that are not idempotent.
+     *
+     * @param e the exception the request failed with
+     * @return true if the error is transient
+     */
+    public static boolean isTransient(SmartsheetException e) {
+        if (e instanceof SmartsheetRestException) {
+            int errorCode = ((SmartsheetRestException) e).getErrorCode();
+            return e instanceof ServiceUnavailableException
+                    || errorCode == SYSTEM_MAINTENANCE
+                    || errorCode == SERVER_TIMEOUT
+                    || errorCode == RATE_LIMIT_EXCEEDED
+                    || errorCode == UNEXPECTED_ERROR;
+        }
+        return e instanceof HttpClientException;
+    }
+}
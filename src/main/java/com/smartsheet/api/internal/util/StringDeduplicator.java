@@ -0,0 +1,152 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded cache that hands out one canonical instance for equal strings, so that values repeated across a large
+ * response (picklist options, contact names and emails, status display values) share one String.
+ *
+ * The cache is direct mapped: each string hashes to one slot and a new string simply replaces whatever the slot held.
+ * Memory use is therefore fixed, lookups never lock, and a value repeated often stays cached while one-off values
+ * pass through. Strings longer than {@code maxLength} are not cached, since long text rarely repeats.
+ *
+ * Thread Safety: This class is thread safe, one instance may be shared by several serializers.
+ */
+public class StringDeduplicator {
+
+    /**
+     * The default maximum length of a cached string.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final AtomicReferenceArray<String> slots;
+
+    private final int mask;
+
+    private final int maxLength;
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries the maximum number of cached strings (rounded up to a power of two)
+     */
+    public StringDeduplicator(int maxEntries) {
+        this(maxEntries, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries the maximum number of cached strings (rounded up to a power of two)
+     * @param maxLength the maximum length of a cached string
+     */
+    public StringDeduplicator(int maxEntries, int maxLength) {
+        if (maxEntries <= 0 || maxEntries > (1 << 30) || maxLength < 0) {
+            throw new IllegalArgumentException("maxEntries must be in (0, 2^30] and maxLength must not be negative");
+        }
+        int capacity = Integer.highestOneBit(maxEntries);
+        if (capacity < maxEntries) {
+            capacity <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Get the canonical instance of a string.
+     *
+     * @param value the string, may be null
+     * @return an equal string, the cached one if there is one
+     */
+    public String canonical(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        int slot = spread(value.hashCode()) & mask;
+        String cached = slots.get(slot);
+        if (value.equals(cached)) {
+            return cached;
+        }
+        slots.lazySet(slot, value);
+        return value;
+    }
+
+    /**
+     * Get the canonical instance of the string held in a character buffer (e.g. a parser's text buffer), without
+     * creating a String when it is cached already.
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the first character
+     * @param length the number of characters
+     * @return the string, the cached one if there is one
+     */
+    public String canonical(char[] buffer, int offset, int length) {
+        if (length > maxLength) {
+            return new String(buffer, offset, length);
+        }
+        // same hash as String.hashCode, so both variants use the same slot
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        int slot = spread(hash) & mask;
+        String cached = slots.get(slot);
+        if (cached != null && contentEquals(cached, buffer, offset, length)) {
+            return cached;
+        }
+        String value = new String(buffer, offset, length);
+        slots.lazySet(slot, value);
+        return value;
+    }
+
+    /**
+     * @return the maximum number of cached strings
+     */
+    public int getMaxEntries() {
+        return slots.length();
+    }
+
+    /**
+     * @return the maximum length of a cached string
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    private static boolean contentEquals(String cached, char[] buffer, int offset, int length) {
+        if (cached.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (cached.charAt(i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,110 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A simple token bucket used to keep a client within a request budget (e.g. the 300 requests per minute that the
+ * Smartsheet API allows for each access token).
+ *
+ * The bucket starts full and refills continuously at {@code capacity} permits per {@code period}.
+ *
+ * Thread Safety: This class is thread safe, all state changes are guarded by the instance monitor.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+
+    private final double permitsPerNano;
+
+    private double available;
+
+    private long lastRefillNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the maximum number of permits (and the number of permits added per period)
+     * @param period the refill period
+     * @param unit the unit of the refill period
+     */
+    public TokenBucket(int capacity, long period, TimeUnit unit) {
+        if (capacity <= 0 || period <= 0) {
+            throw new IllegalArgumentException("capacity and period must be positive");
+        }
+        Util.throwIfNull(unit);
+        this.capacity = capacity;
+        this.permitsPerNano = capacity / (double) unit.toNanos(period);
+        this.available = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Take a permit if one is available right now.
+     *
+     * @return true if a permit was taken
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (available >= 1) {
+            available -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Take a permit, waiting for one to become available if necessary.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        while (!tryAcquire()) {
+            TimeUnit.NANOSECONDS.sleep(Math.max(nanosUntilAvailable(), TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+    }
+
+    /**
+     * @return the number of whole permits currently available
+     */
+    public synchronized int availablePermits() {
+        refill();
+        return (int) available;
+    }
+
+    /**
+     * @return the number of nanoseconds until the next permit becomes available (0 if one is available now)
+     */
+    public synchronized long nanosUntilAvailable() {
+        refill();
+        if (available >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - available) / permitsPerNano);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
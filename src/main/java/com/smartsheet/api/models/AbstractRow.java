@@ -74,6 +74,11 @@ public abstract class AbstractRow <TColumn extends Column, TCell extends Cell> e
     /** Represents the columns for this row. */
     private List<TColumn> columns;
 
+    /* Lookup indexes, built on first use and rebuilt when the lists change (see ModelIndex); never serialized. */
+    private ModelIndex.ByLong<TCell> cellsByColumnId;
+    private ModelIndex.ByLong<TColumn> columnsById;
+    private ModelIndex.ByLong<TColumn> columnsByIndex;
+
     /** Represents the date and time the row was created. */
     private Date createdAt;
 
@@ -204,10 +209,10 @@ public abstract class AbstractRow <TColumn extends Column, TCell extends Cell> e
      * @return the column by index
      */
     public TColumn getColumnByIndex(int index) {
-        if (columns == null) {
-            return null;
+        if (columnsByIndex == null) {
+            columnsByIndex = ModelIndex.byLong(Column::getIndex);
         }
-        return columns.stream().filter(column -> column.getIndex() == index).findFirst().orElse(null);
+        return columnsByIndex.get(columns, index);
     }
 
     /**
@@ -217,10 +222,23 @@ public abstract class AbstractRow <TColumn extends Column, TCell extends Cell> e
      * @return the column by id
      */
     public TColumn getColumnById(long columnId) {
-        if (columns == null) {
-            return null;
+        if (columnsById == null) {
+            columnsById = ModelIndex.byLong(Column::getId);
+        }
+        return columnsById.get(columns, columnId);
+    }
+
+    /**
+     * Get the cell of a column.
+     *
+     * @param columnId the column id
+     * @return the cell of the column, or null if the row has no cell for it
+     */
+    public TCell getCellByColumnId(long columnId) {
+        if (cellsByColumnId == null) {
+            cellsByColumnId = ModelIndex.byLong(Cell::getColumnId);
         }
-        return columns.stream().filter(column -> column.getId() == columnId).findFirst().orElse(null);
+        return cellsByColumnId.get(cells, columnId);
     }
 
     /**
@@ -151,6 +151,16 @@ public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TC
      */
     private List<TRow> rows;
 
+    /*
+     * Lookup indexes over columns and rows, built on first use and rebuilt when the lists change (see ModelIndex).
+     * They have no accessors, so they are never serialized.
+     */
+    private ModelIndex.ByLong<TColumn> columnsById;
+    private ModelIndex.ByLong<TColumn> columnsByIndex;
+    private ModelIndex.ByString<TColumn> columnsByTitle;
+    private ModelIndex.ByLong<TRow> rowsById;
+    private ModelIndex.ByLong<TRow> rowsByNumber;
+
     /**
      * Identifies if it is enabled to show parent rows for filters.
      */
@@ -847,18 +857,10 @@ public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TC
      * @return the column by index
      */
     public TColumn getColumnByIndex(int index) {
-        if (columns == null) {
-            return null;
-        }
-
-        TColumn result = null;
-        for (TColumn column : columns) {
-            if (column.getIndex() == index) {
-                result = column;
-                break;
-            }
+        if (columnsByIndex == null) {
+            columnsByIndex = ModelIndex.byLong(Column::getIndex);
         }
-        return result;
+        return columnsByIndex.get(columns, index);
     }
 
     /**
@@ -868,18 +870,23 @@ public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TC
      * @return the column by id
      */
     public TColumn getColumnById(long columnId) {
-        if (columns == null) {
-            return null;
+        if (columnsById == null) {
+            columnsById = ModelIndex.byLong(Column::getId);
         }
+        return columnsById.get(columns, columnId);
+    }
 
-        TColumn result = null;
-        for (TColumn column : columns) {
-            if (column.getId() == columnId) {
-                result = column;
-                break;
-            }
+    /**
+     * Get a {@link Column} by title.
+     *
+     * @param title the column title
+     * @return the first column with the title, or null if there is none
+     */
+    public TColumn getColumnByTitle(String title) {
+        if (columnsByTitle == null) {
+            columnsByTitle = ModelIndex.byString(Column::getTitle);
         }
-        return result;
+        return columnsByTitle.get(columns, title);
     }
 
     /**
@@ -889,17 +896,22 @@ public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TC
      * @return the row by row number
      */
     public TRow getRowByRowNumber(int rowNumber) {
-        if (rows == null) {
-            return null;
+        if (rowsByNumber == null) {
+            rowsByNumber = ModelIndex.byLong(AbstractRow::getRowNumber);
         }
+        return rowsByNumber.get(rows, rowNumber);
+    }
 
-        TRow result = null;
-        for (TRow row : rows) {
-            if (row.getRowNumber() == rowNumber) {
-                result = row;
-                break;
-            }
+    /**
+     * Get a {@link Row} by ID.
+     *
+     * @param rowId the row id
+     * @return the row by id
+     */
+    public TRow getRowById(long rowId) {
+        if (rowsById == null) {
+            rowsById = ModelIndex.byLong(AbstractRow::getId);
         }
-        return result;
+        return rowsById.get(rows, rowId);
     }
 }
@@ -0,0 +1,114 @@
+package com.smartsheet.api.models;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of the rows written with a {@link com.smartsheet.api.BulkRowWriter}.
+ *
+ * Indexes of failed items count the rows in the order they were written to the writer, starting at 0; rows that
+ * were rejected one by one carry the error returned by the API, rows of a batch that failed as a whole carry an error
+ * built from the exception (without an error code if it wasn't an API error).
+ *
+ * Thread Safety: This class is thread safe because it is immutable.
+ */
+public class BulkRowWriteReport {
+
+    private final int rowsWritten;
+
+    private final int batches;
+
+    private final int retries;
+
+    private final List<Row> rows;
+
+    private final List<BulkRowFailedItem> failedItems;
+
+    /**
+     * Constructor.
+     *
+     * @param rowsWritten the number of rows written to the writer
+     * @param batches the number of batches sent
+     * @param retries the number of times a batch was sent again after a transient error
+     * @param rows the rows returned by the API, in the order they were written
+     * @param failedItems the rows that could not be written, ordered by index
+     */
+    public BulkRowWriteReport(int rowsWritten, int batches, int retries, List<Row> rows,
+                              List<BulkRowFailedItem> failedItems) {
+        this.rowsWritten = rowsWritten;
+        this.batches = batches;
+        this.retries = retries;
+        this.rows = Collections.unmodifiableList(rows);
+        this.failedItems = Collections.unmodifiableList(failedItems);
+    }
+
+    /**
+     * @return the number of rows written to the writer
+     */
+    public int getRowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * @return the number of rows that could not be written
+     */
+    public int getRowsFailed() {
+        return failedItems.size();
+    }
+
+    /**
+     * @return the number of batches sent
+     */
+    public int getBatches() {
+        return batches;
+    }
+
+    /**
+     * @return the number of times a batch was sent again after a transient error
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * @return the rows returned by the API (e.g. with the ids of added rows), in the order they were written
+     */
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the rows that could not be written, ordered by index
+     */
+    public List<BulkRowFailedItem> getFailedItems() {
+        return failedItems;
+    }
+
+    /**
+     * @return true if every row was written
+     */
+    public boolean isComplete() {
+        return failedItems.isEmpty();
+    }
+}
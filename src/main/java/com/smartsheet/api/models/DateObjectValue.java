@@ -22,8 +22,15 @@ package com.smartsheet.api.models;
 
 import com.smartsheet.api.models.enums.ObjectValueType;
 
+import com.smartsheet.api.internal.util.DateTimeUtil;
+
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 
 public class DateObjectValue implements ObjectValue {
@@ -34,11 +41,41 @@ public class DateObjectValue implements ObjectValue {
     private String value;
     private Date date;
 
+    /**
+     * Create a value from a date, taking its fields in the default time zone (also for DATETIME, to match
+     * {@link #toDate()}).
+     *
+     * @param objectValueType ABSTRACT_DATETIME, DATETIME or DATE
+     * @param date the date
+     * @return the value
+     */
     public static DateObjectValue fromDate(ObjectValueType objectValueType, Date date) {
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(getFormatPattern(objectValueType));
-        String value = simpleDateFormat.format(date);
+        checkType(objectValueType);
+        LocalDateTime dateTime = LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+
+        return new DateObjectValue(objectValueType, format(objectValueType, dateTime));
+    }
+
+    /**
+     * Create a DATETIME value from an instant, e.g. "2017-07-17T20:27:57Z".
+     *
+     * @param instant the instant
+     * @return the value
+     */
+    public static DateObjectValue fromInstant(Instant instant) {
+        return new DateObjectValue(ObjectValueType.DATETIME, DateTimeUtil.formatInstant(instant));
+    }
 
-        return new DateObjectValue(objectValueType, value);
+    /**
+     * Create a value from a local date-time, e.g. "2017-07-01T16:30:07" for ABSTRACT_DATETIME.
+     *
+     * @param objectValueType ABSTRACT_DATETIME, DATETIME or DATE
+     * @param dateTime the date-time
+     * @return the value
+     */
+    public static DateObjectValue fromLocalDateTime(ObjectValueType objectValueType, LocalDateTime dateTime) {
+        checkType(objectValueType);
+        return new DateObjectValue(objectValueType, format(objectValueType, dateTime));
     }
 
     public DateObjectValue(ObjectValueType objectType, String value) {
@@ -65,28 +102,96 @@ public class DateObjectValue implements ObjectValue {
         return this;
     }
 
+    /**
+     * Get the value as a Date. The date and time fields are read in the default time zone, including for DATETIME
+     * values; use {@link #toInstant()} to read a DATETIME value as UTC.
+     *
+     * @return the date, or null if there is no value
+     * @throws ParseException if the value can not be parsed
+     */
     public Date toDate() throws ParseException {
         if (date == null && value != null) {
-            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(getFormatPattern(objectType));
-            date = simpleDateFormat.parse(value);
+            checkType(objectType);
+            try {
+                date = Date.from(toLocalDateTime().atZone(ZoneId.systemDefault()).toInstant());
+            } catch (DateTimeParseException e) {
+                ParseException parseException = new ParseException(e.getMessage(), e.getErrorIndex());
+                parseException.initCause(e);
+                throw parseException;
+            }
         }
         return date;
     }
 
-    private static String getFormatPattern(ObjectValueType objectValueType) {
-        if (objectValueType != null) {
-            switch (objectValueType) {
-                case ABSTRACT_DATETIME:
-                    return ABSTRACT_DATETIME_FORMAT;
+    /**
+     * Get the value as an instant. DATETIME values are UTC; ABSTRACT_DATETIME and DATE values (which carry no time
+     * zone) are read in the default time zone.
+     *
+     * @return the instant, or null if there is no value
+     * @throws DateTimeParseException if the value can not be parsed
+     */
+    public Instant toInstant() {
+        if (value == null) {
+            return null;
+        }
+        if (objectType == ObjectValueType.DATETIME) {
+            return toLocalDateTime().toInstant(ZoneOffset.UTC);
+        }
+        return toLocalDateTime().atZone(ZoneId.systemDefault()).toInstant();
+    }
 
-                case DATETIME:
-                    return DATETIME_FORMAT;
+    /**
+     * Get the date and time fields of the value (midnight for DATE values).
+     *
+     * @return the date-time, or null if there is no value
+     * @throws DateTimeParseException if the value can not be parsed
+     */
+    public LocalDateTime toLocalDateTime() {
+        if (value == null) {
+            return null;
+        }
+        if (objectType == ObjectValueType.DATE) {
+            return toLocalDate().atStartOfDay();
+        }
+        return DateTimeUtil.parseLocalDateTime(value);
+    }
 
-                case DATE:
-                    return DATE_FORMAT;
-            }
+    /**
+     * Get the date fields of the value.
+     *
+     * @return the date, or null if there is no value
+     * @throws DateTimeParseException if the value can not be parsed
+     */
+    public LocalDate toLocalDate() {
+        if (value == null) {
+            return null;
         }
+        if (objectType == ObjectValueType.DATE) {
+            return DateTimeUtil.parseLocalDate(value.length() > 10 ? value.substring(0, 10) : value);
+        }
+        return toLocalDateTime().toLocalDate();
+    }
 
-        throw new IllegalArgumentException("Unsupported objectValueType: " + objectValueType);
+    private static String format(ObjectValueType objectValueType, LocalDateTime dateTime) {
+        switch (objectValueType) {
+            case DATE:
+                return DateTimeUtil.formatLocalDate(dateTime.toLocalDate());
+            case DATETIME:
+                return DateTimeUtil.formatLocalDateTime(dateTime) + "Z";
+            default:
+                return DateTimeUtil.formatLocalDateTime(dateTime);
+        }
+    }
+
+    /**
+     * Check that the type is one of the date types.
+     *
+     * @throws IllegalArgumentException if it is not
+     */
+    private static void checkType(ObjectValueType objectValueType) {
+        if (objectValueType != ObjectValueType.ABSTRACT_DATETIME && objectValueType != ObjectValueType.DATETIME
+                && objectValueType != ObjectValueType.DATE) {
+            throw new IllegalArgumentException("Unsupported objectValueType: " + objectValueType);
+        }
     }
 }
@@ -21,13 +21,15 @@ package com.smartsheet.api.models;
  */
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.smartsheet.api.internal.util.DateTimeUtil;
 import com.smartsheet.api.models.enums.EventAction;
 import com.smartsheet.api.models.enums.EventObjectType;
 import com.smartsheet.api.models.enums.EventSource;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.Date;
 import java.util.Map;
-import java.util.TimeZone;
 
 public class Event {
 
@@ -166,6 +168,22 @@ public class Event {
         return eventTimestamp;
     }
 
+    /**
+     * Gets the event timestamp as an instant, whether it was returned as a date or as a number.
+     *
+     * @return the event timestamp, or null if there is none
+     */
+    @JsonIgnore
+    public Instant getEventTimestampAsInstant() {
+        if (eventTimestamp instanceof Date) {
+            return ((Date) eventTimestamp).toInstant();
+        }
+        if (eventTimestamp instanceof Number) {
+            return Instant.ofEpochMilli(((Number) eventTimestamp).longValue());
+        }
+        return null;
+    }
+
     /**
      * Sets an event timestamp
      *
@@ -173,10 +191,8 @@ public class Event {
      */
     public Event setEventTimestamp(Object eventTimestamp) {
         if (eventTimestamp instanceof String) {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
-            sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
             try {
-                this.eventTimestamp = sdf.parse(eventTimestamp.toString());
+                this.eventTimestamp = DateTimeUtil.parseDate(eventTimestamp.toString());
             }
             catch(Exception e) { }
         }
@@ -0,0 +1,301 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.smartsheet.api.internal.util.LongHashMap;
+import com.smartsheet.api.internal.util.Util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A sheet whose rows are kept as raw JSON and only mapped to {@link Row} and {@link Cell} objects when they are
+ * accessed.
+ *
+ * When the sheet is read the sheet attributes and columns are mapped as usual, but of each row only the id and row
+ * number are parsed; the rest stays in the response buffer. {@link #getRowById(long)},
+ * {@link #getRowByRowNumber(int)} and {@link #getRowAt(int)} map a single row the first time it is asked for, while
+ * {@link #getRows()} maps all remaining rows and from then on the sheet behaves like a plain {@link Sheet} (the
+ * buffer is released). Setting the rows also discards the raw rows.
+ *
+ * Errors while mapping a row are thrown as {@link UncheckedIOException}.
+ *
+ * Thread Safety: This class is not thread safe.
+ */
+public class LazySheet extends Sheet {
+
+    private static final int NO_ROW_NUMBER = 0;
+
+    /**
+     * Maps the raw JSON of one row.
+     */
+    @FunctionalInterface
+    public interface RowReader {
+        /**
+         * Map a row.
+         *
+         * @param buffer the buffer holding the JSON
+         * @param offset the offset of the row object in the buffer
+         * @param length the length of the row object
+         * @return the row
+         * @throws IOException if the JSON can not be read or mapped
+         */
+        Row read(byte[] buffer, int offset, int length) throws IOException;
+    }
+
+    /**
+     * The raw rows, null once the rows have all been mapped or were set.
+     */
+    private RawRows raw;
+
+    /**
+     * Constructor for a sheet whose rows are set as usual.
+     */
+    public LazySheet() {
+    }
+
+    private LazySheet(RawRows raw) {
+        this.raw = raw;
+    }
+
+    /**
+     * Get the rows, mapping all the rows that have not been mapped yet.
+     *
+     * @return the rows
+     */
+    @Override
+    public List<Row> getRows() {
+        if (raw != null) {
+            List<Row> rows = new ArrayList<>(raw.count);
+            for (int i = 0; i < raw.count; i++) {
+                rows.add(raw.row(i));
+            }
+            raw = null;
+            super.setRows(rows);
+        }
+        return super.getRows();
+    }
+
+    /**
+     * Sets the rows, discarding the raw rows.
+     *
+     * @param rows the new rows
+     */
+    @Override
+    public <T extends AbstractSheet<Row, Column, Cell>> T setRows(List<Row> rows) {
+        raw = null;
+        return super.setRows(rows);
+    }
+
+    @Override
+    public Row getRowById(long rowId) {
+        if (raw == null) {
+            return super.getRowById(rowId);
+        }
+        Integer index = raw.byId().get(rowId);
+        return index == null ? null : raw.row(index);
+    }
+
+    @Override
+    public Row getRowByRowNumber(int rowNumber) {
+        if (raw == null) {
+            return super.getRowByRowNumber(rowNumber);
+        }
+        Integer index = raw.byNumber().get(rowNumber);
+        return index == null ? null : raw.row(index);
+    }
+
+    /**
+     * Get a row by its position in the sheet.
+     *
+     * @param index the position, from 0 to {@link #getRowCount()} - 1
+     * @return the row
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Row getRowAt(int index) {
+        if (raw == null) {
+            List<Row> rows = super.getRows();
+            if (rows == null) {
+                throw new IndexOutOfBoundsException("index " + index + " of 0");
+            }
+            return rows.get(index);
+        }
+        if (index < 0 || index >= raw.count) {
+            throw new IndexOutOfBoundsException("index " + index + " of " + raw.count);
+        }
+        return raw.row(index);
+    }
+
+    /**
+     * @return the number of rows, without mapping any
+     */
+    @JsonIgnore
+    public int getRowCount() {
+        if (raw != null) {
+            return raw.count;
+        }
+        List<Row> rows = super.getRows();
+        return rows == null ? 0 : rows.size();
+    }
+
+    /**
+     * @return the number of rows that have been mapped so far
+     */
+    @JsonIgnore
+    public int getMappedRowCount() {
+        return raw != null ? raw.mapped : getRowCount();
+    }
+
+    /**
+     * The raw rows, with the ids and row numbers parsed up front.
+     */
+    private static final class RawRows {
+        private final RowReader reader;
+        private final int count;
+        private final long[] ids;
+        private final int[] rowNumbers;
+        private final int[] offsets;
+        private final int[] lengths;
+        private final Row[] rows;
+        private byte[] buffer;
+        private int mapped;
+        private LongHashMap<Integer> byId;
+        private LongHashMap<Integer> byNumber;
+
+        private RawRows(Builder builder) {
+            this.reader = builder.reader;
+            this.buffer = builder.buffer;
+            this.count = builder.count;
+            this.ids = Arrays.copyOf(builder.ids, count);
+            this.rowNumbers = Arrays.copyOf(builder.rowNumbers, count);
+            this.offsets = Arrays.copyOf(builder.offsets, count);
+            this.lengths = Arrays.copyOf(builder.lengths, count);
+            this.rows = new Row[count];
+        }
+
+        Row row(int index) {
+            Row row = rows[index];
+            if (row == null) {
+                try {
+                    row = reader.read(buffer, offsets[index], lengths[index]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[index] = row;
+                if (++mapped == count) {
+                    // every row is mapped, the JSON is no longer needed
+                    buffer = null;
+                }
+            }
+            return row;
+        }
+
+        LongHashMap<Integer> byId() {
+            if (byId == null) {
+                byId = new LongHashMap<>(count);
+                for (int i = 0; i < count; i++) {
+                    byId.putIfAbsent(ids[i], i);
+                }
+            }
+            return byId;
+        }
+
+        LongHashMap<Integer> byNumber() {
+            if (byNumber == null) {
+                byNumber = new LongHashMap<>(count);
+                for (int i = 0; i < count; i++) {
+                    if (rowNumbers[i] != NO_ROW_NUMBER) {
+                        byNumber.putIfAbsent(rowNumbers[i], i);
+                    }
+                }
+            }
+            return byNumber;
+        }
+    }
+
+    /**
+     * Collects the raw rows of a sheet as its JSON is scanned.
+     *
+     * Thread Safety: This class is not thread safe.
+     */
+    public static class Builder {
+        private final byte[] buffer;
+        private final RowReader reader;
+        private int count;
+        private long[] ids = new long[16];
+        private int[] rowNumbers = new int[16];
+        private int[] offsets = new int[16];
+        private int[] lengths = new int[16];
+
+        /**
+         * Constructor.
+         *
+         * @param buffer the buffer holding the JSON of the rows (kept, not copied)
+         * @param reader maps the JSON of a row
+         */
+        public Builder(byte[] buffer, RowReader reader) {
+            Util.throwIfNull(buffer, reader);
+            this.buffer = buffer;
+            this.reader = reader;
+        }
+
+        /**
+         * Add a row.
+         *
+         * @param id the row id
+         * @param rowNumber the row number, null if the row has none
+         * @param offset the offset of the row object in the buffer
+         * @param length the length of the row object
+         * @return the builder
+         */
+        public Builder addRow(long id, Integer rowNumber, int offset, int length) {
+            if (offset < 0 || length < 0 || offset + length > buffer.length) {
+                throw new IndexOutOfBoundsException("row at " + offset + " of length " + length);
+            }
+            if (count == ids.length) {
+                int capacity = count + (count >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                rowNumbers = Arrays.copyOf(rowNumbers, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            ids[count] = id;
+            rowNumbers[count] = rowNumber == null ? NO_ROW_NUMBER : rowNumber;
+            offsets[count] = offset;
+            lengths[count] = length;
+            count++;
+            return this;
+        }
+
+        /**
+         * Build the sheet, whose attributes are then set as usual (e.g. by reading them into it).
+         *
+         * @return the sheet
+         */
+        public LazySheet build() {
+            return new LazySheet(new RawRows(this));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.util.LongHashMap;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A lazily built index over one of the lists of a model, used by the {@code getXxxById} style lookups.
+ *
+ * The index maps keys to positions in the list and is rebuilt whenever the model holds a different list or the list
+ * changed size. The element found at a position is checked against its current key, and a miss falls back to a scan
+ * of the list, so lookups stay correct when elements are replaced in place or their keys are changed; either case
+ * also rebuilds the index. Models hold random access lists, for others a lookup costs a positional get. When several elements share a
+ * key the first one wins, as with the scans the index replaces.
+ *
+ * Thread Safety: Lookups may run concurrently as long as the list is not modified meanwhile. Each rebuild publishes
+ * a new immutable snapshot.
+ *
+ * @param <T> the element type
+ */
+abstract class ModelIndex<T> {
+
+    private Snapshot<T> snapshot;
+
+    /**
+     * Create an index over numeric keys (ids, row numbers, column indexes).
+     */
+    static <T> ByLong<T> byLong(Function<? super T, ? extends Number> keyOf) {
+        return new ByLong<>(keyOf);
+    }
+
+    /**
+     * Create an index over string keys (column titles).
+     */
+    static <T> ByString<T> byString(Function<? super T, String> keyOf) {
+        return new ByString<>(keyOf);
+    }
+
+    abstract Object newMap(int expectedSize);
+
+    /**
+     * Map the key of an element to its position in the list, unless the key is null or already mapped.
+     */
+    abstract void index(Object map, T element, int position);
+
+    /**
+     * Get the element at a mapped position, or null if the position is unmapped or out of range.
+     */
+    static <T> T at(List<T> list, Integer position) {
+        return position == null || position >= list.size() ? null : list.get(position);
+    }
+
+    /**
+     * Get the map for the list currently held by the model, rebuilding it if the list was replaced or resized.
+     */
+    final Object map(List<T> list) {
+        Snapshot<T> current = snapshot;
+        if (current == null || current.list != list || current.size != list.size()) {
+            Object map = newMap(list.size());
+            int position = 0;
+            for (T element : list) {
+                if (element != null) {
+                    index(map, element, position);
+                }
+                position++;
+            }
+            current = new Snapshot<>(list, list.size(), map);
+            snapshot = current;
+        }
+        return current.map;
+    }
+
+    /**
+     * Drop the index after it returned a stale answer, the next lookup rebuilds it.
+     */
+    final void invalidate() {
+        snapshot = null;
+    }
+
+    private static final class Snapshot<T> {
+        private final List<T> list;
+        private final int size;
+        private final Object map;
+
+        private Snapshot(List<T> list, int size, Object map) {
+            this.list = list;
+            this.size = size;
+            this.map = map;
+        }
+    }
+
+    static final class ByLong<T> extends ModelIndex<T> {
+
+        private final Function<? super T, ? extends Number> keyOf;
+
+        private ByLong(Function<? super T, ? extends Number> keyOf) {
+            this.keyOf = keyOf;
+        }
+
+        /**
+         * @param list the list held by the model, may be null
+         * @param key the key
+         * @return the first element with the key, or null if there is none
+         */
+        @SuppressWarnings("unchecked")
+        T get(List<T> list, long key) {
+            if (list == null) {
+                return null;
+            }
+            T hit = at(list, ((LongHashMap<Integer>) map(list)).get(key));
+            if (hit != null && hasKey(hit, key)) {
+                return hit;
+            }
+            for (T element : list) {
+                if (element != null && hasKey(element, key)) {
+                    invalidate();
+                    return element;
+                }
+            }
+            return null;
+        }
+
+        private boolean hasKey(T element, long key) {
+            Number elementKey = keyOf.apply(element);
+            return elementKey != null && elementKey.longValue() == key;
+        }
+
+        @Override
+        Object newMap(int expectedSize) {
+            return new LongHashMap<Integer>(expectedSize);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void index(Object map, T element, int position) {
+            Number key = keyOf.apply(element);
+            if (key != null) {
+                ((LongHashMap<Integer>) map).putIfAbsent(key.longValue(), position);
+            }
+        }
+    }
+
+    static final class ByString<T> extends ModelIndex<T> {
+
+        private final Function<? super T, String> keyOf;
+
+        private ByString(Function<? super T, String> keyOf) {
+            this.keyOf = keyOf;
+        }
+
+        /**
+         * @param list the list held by the model, may be null
+         * @param key the key
+         * @return the first element with the key, or null if there is none
+         */
+        @SuppressWarnings("unchecked")
+        T get(List<T> list, String key) {
+            if (list == null || key == null) {
+                return null;
+            }
+            T hit = at(list, ((Map<String, Integer>) map(list)).get(key));
+            if (hit != null && key.equals(keyOf.apply(hit))) {
+                return hit;
+            }
+            for (T element : list) {
+                if (element != null && key.equals(keyOf.apply(element))) {
+                    invalidate();
+                    return element;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Object newMap(int expectedSize) {
+            return new HashMap<String, Integer>(Math.max(16, expectedSize * 2));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void index(Object map, T element, int position) {
+            String key = keyOf.apply(element);
+            if (key != null) {
+                ((Map<String, Integer>) map).putIfAbsent(key, position);
+            }
+        }
+    }
+}
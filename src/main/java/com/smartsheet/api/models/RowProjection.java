@@ -0,0 +1,155 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.util.Util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A client-side projection of rows: the columns whose cells are kept and the row/cell fields that are dropped.
+ *
+ * A serializer built with a projection (see {@code JacksonJsonSerializerBuilder#setRowProjection}) applies it to every
+ * row it reads, from sheets, reports, row lists or sheet streams alike. Cells of other columns and the dropped fields
+ * are skipped in the parser, so they are never turned into objects. Report cells are matched on their source sheet
+ * columnId.
+ *
+ * By default the {@link #DEFAULT_SKIPPED_FIELDS} are dropped; use {@link #keepFields(String...)} to keep some of them.
+ *
+ * Thread Safety: This class is immutable and thread safe.
+ */
+public final class RowProjection {
+    /**
+     * The fields dropped from rows and cells unless kept with {@link #keepFields(String...)}.
+     */
+    public static final Set<String> DEFAULT_SKIPPED_FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(
+            Arrays.asList("discussions", "attachments", "format", "conditionalFormat")));
+
+    /**
+     * Represents the sorted ids of the kept columns, null if all columns are kept.
+     */
+    private final long[] columnIds;
+
+    /**
+     * Represents the JSON names of the fields dropped from rows and cells.
+     */
+    private final Set<String> skippedFields;
+
+    private RowProjection(long[] columnIds, Set<String> skippedFields) {
+        this.columnIds = columnIds;
+        this.skippedFields = Collections.unmodifiableSet(skippedFields);
+    }
+
+    /**
+     * @return a projection that keeps the cells of all columns and drops the default fields
+     */
+    public static RowProjection allColumns() {
+        return new RowProjection(null, new HashSet<>(DEFAULT_SKIPPED_FIELDS));
+    }
+
+    /**
+     * @param columnIds the ids of the columns whose cells are kept
+     * @return a projection that keeps the cells of the given columns and drops the default fields
+     */
+    public static RowProjection ofColumns(Long... columnIds) {
+        Util.throwIfNull((Object) columnIds);
+        return ofColumns(Arrays.asList(columnIds));
+    }
+
+    /**
+     * @param columnIds the ids of the columns whose cells are kept
+     * @return a projection that keeps the cells of the given columns and drops the default fields
+     */
+    public static RowProjection ofColumns(Collection<Long> columnIds) {
+        Util.throwIfNull(columnIds);
+        long[] ids = columnIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new RowProjection(ids, new HashSet<>(DEFAULT_SKIPPED_FIELDS));
+    }
+
+    /**
+     * @param fieldNames the JSON names of row or cell fields to keep (e.g. "format")
+     * @return a copy of this projection that keeps the given fields
+     */
+    public RowProjection keepFields(String... fieldNames) {
+        Set<String> fields = new HashSet<>(skippedFields);
+        fields.removeAll(Arrays.asList(fieldNames));
+        return new RowProjection(columnIds, fields);
+    }
+
+    /**
+     * @param fieldNames the JSON names of row or cell fields to drop (e.g. "hyperlink")
+     * @return a copy of this projection that also drops the given fields
+     */
+    public RowProjection skipFields(String... fieldNames) {
+        Set<String> fields = new HashSet<>(skippedFields);
+        fields.addAll(Arrays.asList(fieldNames));
+        return new RowProjection(columnIds, fields);
+    }
+
+    /**
+     * @return the ids of the kept columns, null if all columns are kept
+     */
+    public Set<Long> getColumnIds() {
+        if (columnIds == null) {
+            return null;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (long id : columnIds) {
+            ids.add(id);
+        }
+        return Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * @return the JSON names of the fields dropped from rows and cells
+     */
+    public Set<String> getSkippedFields() {
+        return skippedFields;
+    }
+
+    /**
+     * @return true if cells of all columns are kept
+     */
+    public boolean isAllColumns() {
+        return columnIds == null;
+    }
+
+    /**
+     * @param columnId a column id
+     * @return true if cells of the column are kept
+     */
+    public boolean includesColumn(long columnId) {
+        return columnIds == null || Arrays.binarySearch(columnIds, columnId) >= 0;
+    }
+
+    /**
+     * @param fieldName the JSON name of a row or cell field
+     * @return true if the field is dropped
+     */
+    public boolean skipsField(String fieldName) {
+        return skippedFields.contains(fieldName);
+    }
+}
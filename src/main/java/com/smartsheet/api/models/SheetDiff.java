@@ -0,0 +1,118 @@
+package com.smartsheet.api.models;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The changes that bring a sheet in line with a set of desired rows, as computed by
+ * {@link com.smartsheet.api.RowUpserter#diff(Sheet, Iterable)}.
+ *
+ * Rows to update carry only their id and the cells whose value (or formula) differs; rows to add are the desired
+ * rows that matched no row of the sheet, as given.
+ *
+ * Thread Safety: This class is thread safe because it is immutable.
+ */
+public class SheetDiff {
+
+    private final List<Row> rowsToAdd;
+
+    private final List<Row> rowsToUpdate;
+
+    private final List<Long> rowIdsToDelete;
+
+    private final List<Row> unmatchedRows;
+
+    private final int unchangedRows;
+
+    private final int changedCells;
+
+    /**
+     * Constructor.
+     *
+     * @param rowsToAdd the rows to add
+     * @param rowsToUpdate the rows to update, with only their changed cells
+     * @param rowIdsToDelete the ids of the rows to delete
+     * @param unmatchedRows the desired rows that can be neither updated nor added (their row id is not in the sheet)
+     * @param unchangedRows the number of matched rows without changes
+     * @param changedCells the number of changed cells of the rows to update
+     */
+    public SheetDiff(List<Row> rowsToAdd, List<Row> rowsToUpdate, List<Long> rowIdsToDelete, List<Row> unmatchedRows,
+                     int unchangedRows, int changedCells) {
+        this.rowsToAdd = Collections.unmodifiableList(rowsToAdd);
+        this.rowsToUpdate = Collections.unmodifiableList(rowsToUpdate);
+        this.rowIdsToDelete = Collections.unmodifiableList(rowIdsToDelete);
+        this.unmatchedRows = Collections.unmodifiableList(unmatchedRows);
+        this.unchangedRows = unchangedRows;
+        this.changedCells = changedCells;
+    }
+
+    /**
+     * @return the rows to add
+     */
+    public List<Row> getRowsToAdd() {
+        return rowsToAdd;
+    }
+
+    /**
+     * @return the rows to update, with only their changed cells
+     */
+    public List<Row> getRowsToUpdate() {
+        return rowsToUpdate;
+    }
+
+    /**
+     * @return the ids of the rows to delete (empty unless missing rows are deleted)
+     */
+    public List<Long> getRowIdsToDelete() {
+        return rowIdsToDelete;
+    }
+
+    /**
+     * @return the desired rows whose row id is not in the sheet
+     */
+    public List<Row> getUnmatchedRows() {
+        return unmatchedRows;
+    }
+
+    /**
+     * @return the number of matched rows without changes
+     */
+    public int getUnchangedRows() {
+        return unchangedRows;
+    }
+
+    /**
+     * @return the number of changed cells of the rows to update
+     */
+    public int getChangedCells() {
+        return changedCells;
+    }
+
+    /**
+     * @return true if the sheet already matches the desired rows
+     */
+    public boolean isEmpty() {
+        return rowsToAdd.isEmpty() && rowsToUpdate.isEmpty() && rowIdsToDelete.isEmpty();
+    }
+}
@@ -0,0 +1,828 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetStream;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.format.Format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact, column-oriented read model of a sheet.
+ *
+ * Rows are addressed by index (0 to {@link #getRowCount()} - 1) and columns by their index in {@link #getColumns()}.
+ * Row ids and timestamps are held in primitive arrays; numeric cell values in a {@code double[]} per column with a
+ * bitmap of which rows hold a number; all other values (text, booleans) as codes into a per-column dictionary; and
+ * formats as ids into one table of shared {@link Format} instances. A cell costs a few bytes instead of a
+ * {@link Cell} object with its boxed fields.
+ *
+ * A frame keeps the value, display value and format of each cell and the id, row number, parent id, timestamps and
+ * format of each row; everything else (object values, hyperlinks, discussions...) is dropped. Use
+ * {@link #toRow(int)} to get a row back as a {@link Row}.
+ *
+ * Numbers are held as doubles, so integral values beyond 2^53 lose precision.
+ *
+ * Thread Safety: This class is immutable and thread safe.
+ */
+public final class SheetFrame {
+
+    private static final int NONE = 0;
+
+    /**
+     * The display code of a cell whose display value is the text of its value.
+     */
+    private static final int SAME_AS_VALUE = -1;
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final Sheet sheet;
+
+    private final List<Column> columns;
+
+    private final long[] columnIds;
+
+    private final int rowCount;
+
+    private final long[] rowIds;
+
+    private final int[] rowNumbers;
+
+    private final long[] parentIds;
+
+    private final long[] createdAt;
+
+    private final long[] modifiedAt;
+
+    private final int[] rowFormats;
+
+    private final ColumnData[] data;
+
+    private final Format[] formats;
+
+    private SheetFrame(Builder builder) {
+        int rows = builder.rowCount;
+        this.sheet = builder.sheet;
+        this.columns = builder.columns;
+        this.columnIds = builder.columnIds;
+        this.rowCount = rows;
+        this.rowIds = Arrays.copyOf(builder.rowIds, rows);
+        this.rowNumbers = Arrays.copyOf(builder.rowNumbers, rows);
+        this.parentIds = Arrays.copyOf(builder.parentIds, rows);
+        this.createdAt = Arrays.copyOf(builder.createdAt, rows);
+        this.modifiedAt = Arrays.copyOf(builder.modifiedAt, rows);
+        this.rowFormats = builder.rowFormats == null ? null : Arrays.copyOf(builder.rowFormats, rows);
+        this.data = new ColumnData[builder.data.length];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = builder.data[i].build(rows);
+        }
+        this.formats = builder.formats.toArray(new Format[0]);
+    }
+
+    /**
+     * Build a frame from a sheet that was read in full.
+     *
+     * @param sheet the sheet
+     * @return the frame
+     */
+    public static SheetFrame of(Sheet sheet) {
+        Util.throwIfNull(sheet);
+        List<Row> rows = sheet.getRows();
+        Builder builder = new Builder(sheet, rows == null ? 0 : rows.size());
+        if (rows != null) {
+            for (Row row : rows) {
+                builder.addRow(row);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Build a frame from the rows of a sheet stream, one row at a time. The stream is not closed.
+     *
+     * @param stream the sheet stream, its rows must not have been iterated yet
+     * @return the frame
+     */
+    public static SheetFrame of(SheetStream stream) {
+        Util.throwIfNull(stream);
+        Sheet sheet = stream.getSheet();
+        Builder builder = new Builder(sheet, sheet.getTotalRowCount() == null ? 0 : sheet.getTotalRowCount());
+        for (Row row : stream) {
+            builder.addRow(row);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the sheet the frame was built from, for its attributes and columns (its rows are not set when the frame
+     *         was loaded from a stream)
+     */
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    /**
+     * @return the columns, in index order
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the number of columns
+     */
+    public int getColumnCount() {
+        return columnIds.length;
+    }
+
+    /**
+     * @param columnId the id of a column
+     * @return the index of the column, -1 if the frame has no such column
+     */
+    public int getColumnIndex(long columnId) {
+        for (int i = 0; i < columnIds.length; i++) {
+            if (columnIds[i] == columnId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param row the row index
+     * @return the id of the row
+     */
+    public long getRowId(int row) {
+        checkRow(row);
+        return rowIds[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the row number, null if not known
+     */
+    public Integer getRowNumber(int row) {
+        checkRow(row);
+        return rowNumbers[row] == NONE ? null : rowNumbers[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the id of the parent row, null if the row is at the top level
+     */
+    public Long getParentId(int row) {
+        checkRow(row);
+        return parentIds[row] == NONE ? null : parentIds[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return when the row was created, null if not known
+     */
+    public Date getCreatedAt(int row) {
+        checkRow(row);
+        return createdAt[row] == NO_TIMESTAMP ? null : new Date(createdAt[row]);
+    }
+
+    /**
+     * @param row the row index
+     * @return when the row was last modified, null if not known
+     */
+    public Date getModifiedAt(int row) {
+        checkRow(row);
+        return modifiedAt[row] == NO_TIMESTAMP ? null : new Date(modifiedAt[row]);
+    }
+
+    /**
+     * @param row the row index
+     * @return the format of the row, null if none
+     */
+    public Format getRowFormat(int row) {
+        checkRow(row);
+        return rowFormats == null ? null : format(rowFormats[row]);
+    }
+
+    /**
+     * @param row the row index
+     * @param column the column index
+     * @return true if the cell has no value
+     */
+    public boolean isNull(int row, int column) {
+        return !isNumber(row, column) && getCode(row, column) < 0;
+    }
+
+    /**
+     * @param row the row index
+     * @param column the column index
+     * @return true if the value of the cell is a number
+     */
+    public boolean isNumber(int row, int column) {
+        checkRow(row);
+        return column(column).isNumber(row);
+    }
+
+    /**
+     * @param row the row index
+     * @param column the column index
+     * @return the numeric value of the cell, NaN if it is not a number
+     */
+    public double getDouble(int row, int column) {
+        checkRow(row);
+        ColumnData columnData = column(column);
+        return columnData.isNumber(row) ? columnData.numbers[row] : Double.NaN;
+    }
+
+    /**
+     * @param row the row index
+     * @param column the column index
+     * @return the code of the (non-numeric) value of the cell in {@link #getDictionary(int)}, -1 if the value is a
+     *         number or null
+     */
+    public int getCode(int row, int column) {
+        checkRow(row);
+        int[] codes = column(column).codes;
+        return codes == null ? -1 : codes[row] - 1;
+    }
+
+    /**
+     * @param column the column index
+     * @return the distinct non-numeric values of the column, indexed by {@link #getCode(int, int)}
+     */
+    public List<Object> getDictionary(int column) {
+        return Collections.unmodifiableList(Arrays.asList(column(column).dictionary));
+    }
+
+    /**
+     * @param row the row index
+     * @param column the column index
+     * @return the value of the cell (Integer, Long or Double for numbers, as Jackson would map them), null if none
+     */
+    public Object getValue(int row, int column) {
+        checkRow(row);
+        return column(column).value(row);
+    }
+
+    /**
+     * @param row the row index
+     * @param column the column index
+     * @return the value of the cell if it is a string, null otherwise
+     */
+    public String getString(int row, int column) {
+        int code = getCode(row, column);
+        Object value = code < 0 ? null : data[column].dictionary[code];
+        return value instanceof String ? (String) value : null;
+    }
+
+    /**
+     * @param row the row index
+     * @param column the column index
+     * @return the display value of the cell, null if none
+     */
+    public String getDisplayValue(int row, int column) {
+        checkRow(row);
+        return column(column).displayValue(row);
+    }
+
+    /**
+     * @param row the row index
+     * @param column the column index
+     * @return the format of the cell, null if none
+     */
+    public Format getFormat(int row, int column) {
+        checkRow(row);
+        int[] cellFormats = column(column).formats;
+        return cellFormats == null ? null : format(cellFormats[row]);
+    }
+
+    /**
+     * Create a {@link Row} holding what the frame keeps of a row. A new row is created on every call.
+     *
+     * @param row the row index
+     * @return the row
+     */
+    public Row toRow(int row) {
+        checkRow(row);
+        Row result = new Row(rowIds[row]);
+        result.setRowNumber(getRowNumber(row));
+        result.setParentId(getParentId(row));
+        result.setCreatedAt(getCreatedAt(row));
+        result.setModifiedAt(getModifiedAt(row));
+        result.setFormat(getRowFormat(row));
+
+        List<Cell> cells = new ArrayList<>(data.length);
+        for (int column = 0; column < data.length; column++) {
+            ColumnData columnData = data[column];
+            Object value = columnData.value(row);
+            String displayValue = columnData.displayValue(row);
+            Format format = columnData.formats == null ? null : format(columnData.formats[row]);
+            if (value != null || displayValue != null || format != null) {
+                Cell cell = new Cell();
+                cell.setColumnId(columnIds[column]);
+                cell.setValue(value);
+                cell.setDisplayValue(displayValue);
+                cell.setFormat(format);
+                cells.add(cell);
+            }
+        }
+        result.setCells(cells);
+        return result;
+    }
+
+    private Format format(int id) {
+        return id == NONE ? null : formats[id - 1];
+    }
+
+    private ColumnData column(int column) {
+        if (column < 0 || column >= data.length) {
+            throw new IndexOutOfBoundsException("column " + column + " of " + data.length);
+        }
+        return data[column];
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("row " + row + " of " + rowCount);
+        }
+    }
+
+    /**
+     * Map a stored number back to the type Jackson gives JSON numbers.
+     */
+    private static Number toNumber(double value) {
+        if (value == Math.rint(value) && !(value == 0 && 1 / value < 0)) {
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            if (Math.abs(value) <= 1L << 53) {
+                return (long) value;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * The cells of one column.
+     */
+    private static final class ColumnData {
+        /** The numeric values, null if the column holds no numbers. */
+        final double[] numbers;
+
+        /** The rows holding a number, as a bitmap. */
+        final long[] numberBits;
+
+        /** The dictionary code + 1 of each non-numeric value (0 for none), null if there are none. */
+        final int[] codes;
+
+        final Object[] dictionary;
+
+        /** The display dictionary code + 1, 0 for none or SAME_AS_VALUE, null if there are no display values. */
+        final int[] displayCodes;
+
+        final String[] displayDictionary;
+
+        /** The format ids, null if no cell of the column has a format. */
+        final int[] formats;
+
+        ColumnData(double[] numbers, long[] numberBits, int[] codes, Object[] dictionary, int[] displayCodes,
+                   String[] displayDictionary, int[] formats) {
+            this.numbers = numbers;
+            this.numberBits = numberBits;
+            this.codes = codes;
+            this.dictionary = dictionary;
+            this.displayCodes = displayCodes;
+            this.displayDictionary = displayDictionary;
+            this.formats = formats;
+        }
+
+        boolean isNumber(int row) {
+            return numberBits != null && (numberBits[row >>> 6] & 1L << row) != 0;
+        }
+
+        Object value(int row) {
+            if (isNumber(row)) {
+                return toNumber(numbers[row]);
+            }
+            return codes == null || codes[row] == NONE ? null : dictionary[codes[row] - 1];
+        }
+
+        String displayValue(int row) {
+            int code = displayCodes == null ? NONE : displayCodes[row];
+            if (code == SAME_AS_VALUE) {
+                Object value = value(row);
+                return value == null ? null : value.toString();
+            }
+            return code == NONE ? null : displayDictionary[code - 1];
+        }
+    }
+
+    /**
+     * Accumulates a frame row by row, used by the loaders of {@link SheetFrame}.
+     *
+     * Call {@link #startRow(long)} for each row, then any of the row setters and {@link #addCell} for its cells, and
+     * finally {@link #build()}. Cells of columns the sheet does not list are ignored.
+     *
+     * Thread Safety: This class is not thread safe.
+     */
+    public static final class Builder {
+        private final Sheet sheet;
+
+        private final List<Column> columns;
+
+        private final long[] columnIds;
+
+        private final ColumnBuilder[] data;
+
+        private final Map<Format, Integer> formatIds = new HashMap<>();
+
+        private final List<Format> formats = new ArrayList<>();
+
+        private int capacity;
+
+        private int rowCount;
+
+        private long[] rowIds;
+
+        private int[] rowNumbers;
+
+        private long[] parentIds;
+
+        private long[] createdAt;
+
+        private long[] modifiedAt;
+
+        private int[] rowFormats;
+
+        /**
+         * The index of the column of the last cell added, -1 at the start of a row.
+         */
+        private int lastColumn = -1;
+
+        /**
+         * Constructor.
+         *
+         * @param sheet the sheet attributes and columns (its rows are ignored)
+         * @param expectedRows the expected number of rows, used to size the arrays
+         */
+        public Builder(Sheet sheet, int expectedRows) {
+            Util.throwIfNull(sheet);
+            this.sheet = sheet;
+            List<Column> sheetColumns = sheet.getColumns() == null ? Collections.<Column>emptyList() : sheet.getColumns();
+            this.columns = Collections.unmodifiableList(new ArrayList<>(sheetColumns));
+            this.columnIds = new long[columns.size()];
+            this.data = new ColumnBuilder[columns.size()];
+            for (int i = 0; i < columnIds.length; i++) {
+                columnIds[i] = columns.get(i).getId();
+                data[i] = new ColumnBuilder();
+            }
+            this.capacity = Math.max(16, expectedRows);
+            this.rowIds = new long[capacity];
+            this.rowNumbers = new int[capacity];
+            this.parentIds = new long[capacity];
+            this.createdAt = new long[capacity];
+            this.modifiedAt = new long[capacity];
+        }
+
+        /**
+         * Start the next row.
+         *
+         * @param rowId the id of the row
+         * @return the builder
+         */
+        public Builder startRow(long rowId) {
+            if (rowCount == capacity) {
+                grow();
+            }
+            int row = rowCount++;
+            lastColumn = -1;
+            rowIds[row] = rowId;
+            createdAt[row] = NO_TIMESTAMP;
+            modifiedAt[row] = NO_TIMESTAMP;
+            return this;
+        }
+
+        /**
+         * @param rowId the id of the current row
+         * @return the builder
+         */
+        public Builder setRowId(long rowId) {
+            rowIds[currentRow()] = rowId;
+            return this;
+        }
+
+        /**
+         * @param rowNumber the number of the current row
+         * @return the builder
+         */
+        public Builder setRowNumber(int rowNumber) {
+            rowNumbers[currentRow()] = rowNumber;
+            return this;
+        }
+
+        /**
+         * @param parentId the id of the parent of the current row
+         * @return the builder
+         */
+        public Builder setParentId(long parentId) {
+            parentIds[currentRow()] = parentId;
+            return this;
+        }
+
+        /**
+         * @param epochMillis when the current row was created
+         * @return the builder
+         */
+        public Builder setCreatedAt(long epochMillis) {
+            createdAt[currentRow()] = epochMillis;
+            return this;
+        }
+
+        /**
+         * @param epochMillis when the current row was last modified
+         * @return the builder
+         */
+        public Builder setModifiedAt(long epochMillis) {
+            modifiedAt[currentRow()] = epochMillis;
+            return this;
+        }
+
+        /**
+         * @param format the format of the current row
+         * @return the builder
+         */
+        public Builder setRowFormat(Format format) {
+            int row = currentRow();
+            if (format != null) {
+                if (rowFormats == null) {
+                    rowFormats = new int[capacity];
+                }
+                rowFormats[row] = formatId(format);
+            }
+            return this;
+        }
+
+        /**
+         * Add a cell with a numeric value to the current row.
+         *
+         * @param columnId the id of the column
+         * @param value the value
+         * @param displayValue the display value (optional)
+         * @param format the format (optional)
+         * @return the builder
+         */
+        public Builder addNumberCell(long columnId, double value, String displayValue, Format format) {
+            int column = columnIndex(columnId);
+            if (column >= 0) {
+                int row = currentRow();
+                ColumnBuilder columnBuilder = data[column];
+                columnBuilder.setNumber(row, value, capacity);
+                columnBuilder.setDisplayValue(row, displayValue, null, capacity);
+                setCellFormat(columnBuilder, row, format);
+            }
+            return this;
+        }
+
+        /**
+         * Add a cell to the current row.
+         *
+         * @param columnId the id of the column
+         * @param value the value (numbers are stored as doubles)
+         * @param displayValue the display value (optional)
+         * @param format the format (optional)
+         * @return the builder
+         */
+        public Builder addCell(long columnId, Object value, String displayValue, Format format) {
+            if (value instanceof Number) {
+                return addNumberCell(columnId, ((Number) value).doubleValue(), displayValue, format);
+            }
+            int column = columnIndex(columnId);
+            if (column >= 0) {
+                int row = currentRow();
+                ColumnBuilder columnBuilder = data[column];
+                if (value != null) {
+                    columnBuilder.setCode(row, value, capacity);
+                }
+                columnBuilder.setDisplayValue(row, displayValue, value, capacity);
+                setCellFormat(columnBuilder, row, format);
+            }
+            return this;
+        }
+
+        /**
+         * Add a row with its cells.
+         *
+         * @param row the row
+         * @return the builder
+         */
+        public Builder addRow(Row row) {
+            startRow(row.getId() == null ? 0 : row.getId());
+            if (row.getRowNumber() != null) {
+                setRowNumber(row.getRowNumber());
+            }
+            if (row.getParentId() != null) {
+                setParentId(row.getParentId());
+            }
+            if (row.getCreatedAt() != null) {
+                setCreatedAt(row.getCreatedAt().getTime());
+            }
+            if (row.getModifiedAt() != null) {
+                setModifiedAt(row.getModifiedAt().getTime());
+            }
+            setRowFormat(row.getFormat());
+            if (row.getCells() != null) {
+                for (Cell cell : row.getCells()) {
+                    if (cell.getColumnId() != null) {
+                        addCell(cell.getColumnId(), cell.getValue(), cell.getDisplayValue(), cell.getFormat());
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * @return the frame
+         */
+        public SheetFrame build() {
+            return new SheetFrame(this);
+        }
+
+        private int currentRow() {
+            if (rowCount == 0) {
+                throw new IllegalStateException("startRow has not been called");
+            }
+            return rowCount - 1;
+        }
+
+        /**
+         * Find a column, trying the column after the last one first since cells come in column order.
+         */
+        private int columnIndex(long columnId) {
+            int next = lastColumn + 1;
+            if (next < columnIds.length && columnIds[next] == columnId) {
+                return lastColumn = next;
+            }
+            for (int i = 0; i < columnIds.length; i++) {
+                if (columnIds[i] == columnId) {
+                    return lastColumn = i;
+                }
+            }
+            return -1;
+        }
+
+        private void setCellFormat(ColumnBuilder columnBuilder, int row, Format format) {
+            if (format != null) {
+                columnBuilder.setFormat(row, formatId(format), capacity);
+            }
+        }
+
+        private int formatId(Format format) {
+            Integer id = formatIds.get(format);
+            if (id == null) {
+                formats.add(format);
+                id = formats.size();
+                formatIds.put(format, id);
+            }
+            return id;
+        }
+
+        private void grow() {
+            capacity = capacity + (capacity >> 1);
+            rowIds = Arrays.copyOf(rowIds, capacity);
+            rowNumbers = Arrays.copyOf(rowNumbers, capacity);
+            parentIds = Arrays.copyOf(parentIds, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            modifiedAt = Arrays.copyOf(modifiedAt, capacity);
+            if (rowFormats != null) {
+                rowFormats = Arrays.copyOf(rowFormats, capacity);
+            }
+            for (ColumnBuilder columnBuilder : data) {
+                columnBuilder.grow(capacity);
+            }
+        }
+    }
+
+    /**
+     * Accumulates the cells of one column; every array is allocated on first use.
+     */
+    private static final class ColumnBuilder {
+        double[] numbers;
+        long[] numberBits;
+        int[] codes;
+        final Map<Object, Integer> dictionary = new HashMap<>();
+        final List<Object> values = new ArrayList<>();
+        int[] displayCodes;
+        final Map<String, Integer> displayDictionary = new HashMap<>();
+        final List<String> displayValues = new ArrayList<>();
+        int[] formats;
+
+        void setNumber(int row, double value, int capacity) {
+            if (numbers == null) {
+                numbers = new double[capacity];
+                numberBits = new long[bitmapLength(capacity)];
+            }
+            numbers[row] = value;
+            numberBits[row >>> 6] |= 1L << row;
+        }
+
+        void setCode(int row, Object value, int capacity) {
+            if (codes == null) {
+                codes = new int[capacity];
+            }
+            Integer code = dictionary.get(value);
+            if (code == null) {
+                values.add(value);
+                code = values.size();
+                dictionary.put(value, code);
+            }
+            codes[row] = code;
+        }
+
+        void setDisplayValue(int row, String displayValue, Object value, int capacity) {
+            if (displayValue == null) {
+                return;
+            }
+            if (displayCodes == null) {
+                displayCodes = new int[capacity];
+            }
+            if (value != null && displayValue.equals(value.toString())) {
+                displayCodes[row] = SAME_AS_VALUE;
+                return;
+            }
+            Integer code = displayDictionary.get(displayValue);
+            if (code == null) {
+                displayValues.add(displayValue);
+                code = displayValues.size();
+                displayDictionary.put(displayValue, code);
+            }
+            displayCodes[row] = code;
+        }
+
+        void setFormat(int row, int formatId, int capacity) {
+            if (formats == null) {
+                formats = new int[capacity];
+            }
+            formats[row] = formatId;
+        }
+
+        void grow(int capacity) {
+            if (numbers != null) {
+                numbers = Arrays.copyOf(numbers, capacity);
+                numberBits = Arrays.copyOf(numberBits, bitmapLength(capacity));
+            }
+            if (codes != null) {
+                codes = Arrays.copyOf(codes, capacity);
+            }
+            if (displayCodes != null) {
+                displayCodes = Arrays.copyOf(displayCodes, capacity);
+            }
+            if (formats != null) {
+                formats = Arrays.copyOf(formats, capacity);
+            }
+        }
+
+        ColumnData build(int rows) {
+            return new ColumnData(
+                    numbers == null ? null : Arrays.copyOf(numbers, rows),
+                    numberBits == null ? null : Arrays.copyOf(numberBits, bitmapLength(rows)),
+                    codes == null ? null : Arrays.copyOf(codes, rows),
+                    values.toArray(),
+                    displayCodes == null ? null : Arrays.copyOf(displayCodes, rows),
+                    displayValues.toArray(new String[0]),
+                    formats == null ? null : Arrays.copyOf(formats, rows));
+        }
+
+        private static int bitmapLength(int rows) {
+            return (rows + 63) >>> 6;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.smartsheet.api.models;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of applying a {@link SheetDiff} with a {@link com.smartsheet.api.RowUpserter}.
+ *
+ * Thread Safety: This class is thread safe because it is immutable.
+ */
+public class UpsertReport {
+
+    private final SheetDiff diff;
+
+    private final BulkRowWriteReport updated;
+
+    private final BulkRowWriteReport added;
+
+    private final List<Long> deletedRowIds;
+
+    /**
+     * Constructor.
+     *
+     * @param diff the applied diff
+     * @param updated the report of the updated rows
+     * @param added the report of the added rows
+     * @param deletedRowIds the ids of the deleted rows
+     */
+    public UpsertReport(SheetDiff diff, BulkRowWriteReport updated, BulkRowWriteReport added,
+                        List<Long> deletedRowIds) {
+        this.diff = diff;
+        this.updated = updated;
+        this.added = added;
+        this.deletedRowIds = Collections.unmodifiableList(deletedRowIds);
+    }
+
+    /**
+     * @return the applied diff
+     */
+    public SheetDiff getDiff() {
+        return diff;
+    }
+
+    /**
+     * @return the report of the updated rows
+     */
+    public BulkRowWriteReport getUpdated() {
+        return updated;
+    }
+
+    /**
+     * @return the report of the added rows
+     */
+    public BulkRowWriteReport getAdded() {
+        return added;
+    }
+
+    /**
+     * @return the ids of the deleted rows
+     */
+    public List<Long> getDeletedRowIds() {
+        return deletedRowIds;
+    }
+
+    /**
+     * @return true if every row was updated and added
+     */
+    public boolean isComplete() {
+        return updated.isComplete() && added.isComplete();
+    }
+}
@@ -0,0 +1,224 @@
+package com.smartsheet.api.models;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The body of a callback Smartsheet sends to the callbackUrl of a webhook: a batch of events, a change of the
+ * webhook's status, or the verification challenge sent when the webhook is enabled.
+ */
+public class WebhookCallback {
+
+    /**
+     * The nonce, the same for every attempt to deliver this callback.
+     */
+    private String nonce;
+
+    /**
+     * The time the callback was sent.
+     */
+    private Date timestamp;
+
+    /**
+     * The id of the webhook.
+     */
+    private Long webhookId;
+
+    /**
+     * The scope of the webhook, e.g. "sheet".
+     */
+    private String scope;
+
+    /**
+     * The id of the object the webhook is scoped to.
+     */
+    private Long scopeObjectId;
+
+    /**
+     * The events, null for a status change or a challenge.
+     */
+    private List<WebhookCallbackEvent> events;
+
+    /**
+     * The new status of the webhook, set when Smartsheet disables it.
+     */
+    private String newWebhookStatus;
+
+    /**
+     * The verification challenge.
+     */
+    private String challenge;
+
+    /**
+     * Get the nonce, the same for every attempt to deliver this callback.
+     *
+     * @return nonce
+     */
+    public String getNonce() {
+        return nonce;
+    }
+
+    /**
+     * Set the nonce, the same for every attempt to deliver this callback.
+     *
+     * @param nonce the nonce, the same for every attempt to deliver this callback
+     */
+    public WebhookCallback setNonce(String nonce) {
+        this.nonce = nonce;
+        return this;
+    }
+
+    /**
+     * Get the time the callback was sent.
+     *
+     * @return timestamp
+     */
+    public Date getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Set the time the callback was sent.
+     *
+     * @param timestamp the time the callback was sent
+     */
+    public WebhookCallback setTimestamp(Date timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    /**
+     * Get the id of the webhook.
+     *
+     * @return webhookId
+     */
+    public Long getWebhookId() {
+        return webhookId;
+    }
+
+    /**
+     * Set the id of the webhook.
+     *
+     * @param webhookId the id of the webhook
+     */
+    public WebhookCallback setWebhookId(Long webhookId) {
+        this.webhookId = webhookId;
+        return this;
+    }
+
+    /**
+     * Get the scope of the webhook, e.g. "sheet".
+     *
+     * @return scope
+     */
+    public String getScope() {
+        return scope;
+    }
+
+    /**
+     * Set the scope of the webhook, e.g. "sheet".
+     *
+     * @param scope the scope of the webhook, e.g. "sheet"
+     */
+    public WebhookCallback setScope(String scope) {
+        this.scope = scope;
+        return this;
+    }
+
+    /**
+     * Get the id of the object the webhook is scoped to.
+     *
+     * @return scopeObjectId
+     */
+    public Long getScopeObjectId() {
+        return scopeObjectId;
+    }
+
+    /**
+     * Set the id of the object the webhook is scoped to.
+     *
+     * @param scopeObjectId the id of the object the webhook is scoped to
+     */
+    public WebhookCallback setScopeObjectId(Long scopeObjectId) {
+        this.scopeObjectId = scopeObjectId;
+        return this;
+    }
+
+    /**
+     * Get the events, null for a status change or a challenge.
+     *
+     * @return events
+     */
+    public List<WebhookCallbackEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Set the events, null for a status change or a challenge.
+     *
+     * @param events the events, null for a status change or a challenge
+     */
+    public WebhookCallback setEvents(List<WebhookCallbackEvent> events) {
+        this.events = events;
+        return this;
+    }
+
+    /**
+     * Get the new status of the webhook, set when Smartsheet disables it.
+     *
+     * @return newWebhookStatus
+     */
+    public String getNewWebhookStatus() {
+        return newWebhookStatus;
+    }
+
+    /**
+     * Set the new status of the webhook, set when Smartsheet disables it.
+     *
+     * @param newWebhookStatus the new status of the webhook, set when Smartsheet disables it
+     */
+    public WebhookCallback setNewWebhookStatus(String newWebhookStatus) {
+        this.newWebhookStatus = newWebhookStatus;
+        return this;
+    }
+
+    /**
+     * Get the verification challenge.
+     *
+     * @return challenge
+     */
+    public String getChallenge() {
+        return challenge;
+    }
+
+    /**
+     * Set the verification challenge.
+     *
+     * @param challenge the verification challenge
+     */
+    public WebhookCallback setChallenge(String challenge) {
+        this.challenge = challenge;
+        return this;
+    }
+}
@@ -0,0 +1,223 @@
+package com.smartsheet.api.models;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.Date;
+
+/**
+ * An event in a webhook callback. It only says which object changed and how; the changed data is read with the
+ * API.
+ */
+public class WebhookCallbackEvent {
+
+    /**
+     * The type of the object, e.g. "sheet", "row", "cell" or "column".
+     */
+    private String objectType;
+
+    /**
+     * The kind of change, e.g. "created", "updated" or "deleted".
+     */
+    private String eventType;
+
+    /**
+     * The id of the object, absent for cells.
+     */
+    private Long id;
+
+    /**
+     * The row id of a cell.
+     */
+    private Long rowId;
+
+    /**
+     * The column id of a cell.
+     */
+    private Long columnId;
+
+    /**
+     * The id of the user who made the change.
+     */
+    private Long userId;
+
+    /**
+     * The time of the change.
+     */
+    private Date timestamp;
+
+    /**
+     * The change agents of the request that made the change.
+     */
+    private String changeAgent;
+
+    /**
+     * Get the type of the object, e.g. "sheet", "row", "cell" or "column".
+     *
+     * @return objectType
+     */
+    public String getObjectType() {
+        return objectType;
+    }
+
+    /**
+     * Set the type of the object, e.g. "sheet", "row", "cell" or "column".
+     *
+     * @param objectType the type of the object, e.g. "sheet", "row", "cell" or "column"
+     */
+    public WebhookCallbackEvent setObjectType(String objectType) {
+        this.objectType = objectType;
+        return this;
+    }
+
+    /**
+     * Get the kind of change, e.g. "created", "updated" or "deleted".
+     *
+     * @return eventType
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Set the kind of change, e.g. "created", "updated" or "deleted".
+     *
+     * @param eventType the kind of change, e.g. "created", "updated" or "deleted"
+     */
+    public WebhookCallbackEvent setEventType(String eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    /**
+     * Get the id of the object, absent for cells.
+     *
+     * @return id
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Set the id of the object, absent for cells.
+     *
+     * @param id the id of the object, absent for cells
+     */
+    public WebhookCallbackEvent setId(Long id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * Get the row id of a cell.
+     *
+     * @return rowId
+     */
+    public Long getRowId() {
+        return rowId;
+    }
+
+    /**
+     * Set the row id of a cell.
+     *
+     * @param rowId the row id of a cell
+     */
+    public WebhookCallbackEvent setRowId(Long rowId) {
+        this.rowId = rowId;
+        return this;
+    }
+
+    /**
+     * Get the column id of a cell.
+     *
+     * @return columnId
+     */
+    public Long getColumnId() {
+        return columnId;
+    }
+
+    /**
+     * Set the column id of a cell.
+     *
+     * @param columnId the column id of a cell
+     */
+    public WebhookCallbackEvent setColumnId(Long columnId) {
+        this.columnId = columnId;
+        return this;
+    }
+
+    /**
+     * Get the id of the user who made the change.
+     *
+     * @return userId
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Set the id of the user who made the change.
+     *
+     * @param userId the id of the user who made the change
+     */
+    public WebhookCallbackEvent setUserId(Long userId) {
+        this.userId = userId;
+        return this;
+    }
+
+    /**
+     * Get the time of the change.
+     *
+     * @return timestamp
+     */
+    public Date getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Set the time of the change.
+     *
+     * @param timestamp the time of the change
+     */
+    public WebhookCallbackEvent setTimestamp(Date timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    /**
+     * Get the change agents of the request that made the change.
+     *
+     * @return changeAgent
+     */
+    public String getChangeAgent() {
+        return changeAgent;
+    }
+
+    /**
+     * Set the change agents of the request that made the change.
+     *
+     * @param changeAgent the change agents of the request that made the change
+     */
+    public WebhookCallbackEvent setChangeAgent(String changeAgent) {
+        this.changeAgent = changeAgent;
+        return this;
+    }
+}
@@ -28,12 +28,17 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 
 /**
  * This class represents the format as applied to a cell, row or column.
  *
+ * Format objects are immutable, so {@link #valueOf(String)} hands out one shared instance per distinct format string
+ * (sheets typically repeat a handful of formats across all of their cells).
+ *
  * @author kskeem
  *
  */
@@ -43,7 +48,56 @@ public class Format {
     //The default format.
     private static final int[] DEFAULT_FORMAT = new int[]{0,2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
     static final int UNSET = Integer.MIN_VALUE;
-    int[] formatArray;
+
+    /**
+     * The maximum number of distinct format strings kept by {@link #valueOf(String)}, beyond which new formats are
+     * still parsed but no longer shared.
+     */
+    private static final int MAX_INTERNED = 4096;
+    private static final Map<String, Format> INTERNED = new ConcurrentHashMap<>();
+
+    // values() returns a fresh copy of the array on every call, so keep one of each
+    private static final FontFamily[] FONT_FAMILIES = FontFamily.values();
+    private static final FontSize[] FONT_SIZES = FontSize.values();
+    private static final Bold[] BOLDS = Bold.values();
+    private static final Italic[] ITALICS = Italic.values();
+    private static final Underline[] UNDERLINES = Underline.values();
+    private static final Strikethrough[] STRIKETHROUGHS = Strikethrough.values();
+    private static final HorizontalAlignment[] HORIZONTAL_ALIGNMENTS = HorizontalAlignment.values();
+    private static final VerticalAlignment[] VERTICAL_ALIGNMENTS = VerticalAlignment.values();
+    private static final Color[] COLORS = Color.values();
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final DecimalCount[] DECIMAL_COUNTS = DecimalCount.values();
+    private static final ThousandsSeparator[] THOUSANDS_SEPARATORS = ThousandsSeparator.values();
+    private static final NumberFormat[] NUMBER_FORMATS = NumberFormat.values();
+    private static final TextWrap[] TEXT_WRAPS = TextWrap.values();
+    private static final DateFormat[] DATE_FORMATS = DateFormat.values();
+
+    final int[] formatArray;
+
+    /**
+     * Returns the {@link Format} for a format string provided by the Smartsheet API, sharing one instance between
+     * all uses of the same string.
+     *
+     * @param original the original format string
+     * @return the format, or null if the string is null
+     */
+    public static Format valueOf(String original) {
+        if (original == null) {
+            return null;
+        }
+        Format format = INTERNED.get(original);
+        if (format == null) {
+            format = new Format(original);
+            if (INTERNED.size() < MAX_INTERNED) {
+                Format existing = INTERNED.putIfAbsent(original, format);
+                if (existing != null) {
+                    format = existing;
+                }
+            }
+        }
+        return format;
+    }
 
     /**
      * Constructs a {@link Format} object using the format string provided by the Smartsheet API.
@@ -86,118 +140,131 @@ public class Format {
      * @return the {@link FontFamily}.
      */
     public FontFamily getFontFamily () {
-        return getFormatValue(FormatAttribute.FONT_FAMILY, FontFamily.values());
+        return getFormatValue(FormatAttribute.FONT_FAMILY, FONT_FAMILIES);
     }
 
     /**
      * @return the {@link FontSize}
      */
     public FontSize getFontSize () {
-        return getFormatValue(FormatAttribute.FONT_SIZE, FontSize.values());
+        return getFormatValue(FormatAttribute.FONT_SIZE, FONT_SIZES);
     }
 
     /**
      * @return the {@link Bold} format
      */
     public Bold getBold() {
-        return getFormatValue(FormatAttribute.BOLD, Bold.values());
+        return getFormatValue(FormatAttribute.BOLD, BOLDS);
     }
 
     /**
      * @return the {@link Italic} format
      */
     public Italic getItalic() {
-        return getFormatValue(FormatAttribute.ITALIC, Italic.values());
+        return getFormatValue(FormatAttribute.ITALIC, ITALICS);
     }
 
     /**
      * @return the {@link Underline} status
      */
     public Underline getUnderline () {
-        return getFormatValue(FormatAttribute.UNDERLINE, Underline.values());
+        return getFormatValue(FormatAttribute.UNDERLINE, UNDERLINES);
     }
 
     /**
      * @return the {@link Strikethrough} status
      */
     public Strikethrough getStrikethrough () {
-        return getFormatValue(FormatAttribute.STRIKETHROUGH, Strikethrough.values());
+        return getFormatValue(FormatAttribute.STRIKETHROUGH, STRIKETHROUGHS);
     }
 
     /**
      * @return the {@link HorizontalAlignment}
      */
     public HorizontalAlignment getHorizontalAlignment() {
-        return getFormatValue(FormatAttribute.H_ALIGN, HorizontalAlignment.values());
+        return getFormatValue(FormatAttribute.H_ALIGN, HORIZONTAL_ALIGNMENTS);
     }
 
     /**
      * @return the {@link VerticalAlignment}
      */
     public VerticalAlignment getVerticalAlignment () {
-        return getFormatValue(FormatAttribute.V_ALIGN, VerticalAlignment.values());
+        return getFormatValue(FormatAttribute.V_ALIGN, VERTICAL_ALIGNMENTS);
     }
 
     /**
      * @return the {@link Color} of the text.
      */
     public Color getTextColor() {
-        return getFormatValue(FormatAttribute.TEXT_COLOR, Color.values());
+        return getFormatValue(FormatAttribute.TEXT_COLOR, COLORS);
     }
 
     /**
      * @return the {@link Color} of the background
      */
     public Color getBackgroundColor () {
-        return getFormatValue(FormatAttribute.BACKGROUND_COLOR, Color.values());
+        return getFormatValue(FormatAttribute.BACKGROUND_COLOR, COLORS);
     }
 
     /**
      * @return the {@link Color} of the task bar (gantt view)
      */
     public Color getTaskbarColor () {
-        return getFormatValue(FormatAttribute.TASKBAR_COLOR, Color.values());
+        return getFormatValue(FormatAttribute.TASKBAR_COLOR, COLORS);
     }
 
     /**
      * @return the {@link Currency} format
      */
     public Currency getCurrency () {
-        return getFormatValue(FormatAttribute.CURRENCY, Currency.values());
+        return getFormatValue(FormatAttribute.CURRENCY, CURRENCIES);
     }
 
     /**
      * @return the {@link DecimalCount}
      */
     public DecimalCount getDecimalCount () {
-        return getFormatValue(FormatAttribute.DECIMAL_COUNT, DecimalCount.values());
+        return getFormatValue(FormatAttribute.DECIMAL_COUNT, DECIMAL_COUNTS);
     }
 
     /**
      * @return the {@link ThousandsSeparator}
      */
     public ThousandsSeparator getThousandsSeparator() {
-        return getFormatValue(FormatAttribute.THOUSANDS_SEPARATOR, ThousandsSeparator.values());
+        return getFormatValue(FormatAttribute.THOUSANDS_SEPARATOR, THOUSANDS_SEPARATORS);
     }
 
     /**
      * @return the {@link NumberFormat}
      */
     public NumberFormat getNumberFormat() {
-        return getFormatValue(FormatAttribute.NUMBER_FORMAT, NumberFormat.values());
+        return getFormatValue(FormatAttribute.NUMBER_FORMAT, NUMBER_FORMATS);
     }
 
     /**
      * @return the {@link TextWrap} status
      */
     public TextWrap getTextWrap () {
-        return getFormatValue(FormatAttribute.TEXT_WRAP, TextWrap.values());
+        return getFormatValue(FormatAttribute.TEXT_WRAP, TEXT_WRAPS);
     }
 
     /**
      * @return the {@link DateFormat} status
      */
-    public DateFormat getDateFormat() { return getFormatValue(FormatAttribute.DATE_FORMAT, DateFormat.values()); }
+    public DateFormat getDateFormat() { return getFormatValue(FormatAttribute.DATE_FORMAT, DATE_FORMATS); }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Format && Arrays.equals(formatArray, ((Format) o).formatArray);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(formatArray);
+    }
 
      /**
      *  @author kskeem
@@ -319,7 +386,7 @@ public class Format {
                 }
             }
 
-            return new Format(formatStringBuilder.toString());
+            return Format.valueOf(formatStringBuilder.toString());
         }
 
         /**
@@ -22,9 +22,12 @@ package com.smartsheet.api.internal;
 
 import com.smartsheet.api.SmartsheetBuilder;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.models.Home;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,6 +53,55 @@ class AbstractResourcesTest {
                 .containsEntry("Smartsheet-Change-Agent", changeAgent);
     }
 
+    @Test
+    void testViewHeaders() {
+        SmartsheetImpl smartsheet = new SmartsheetImpl("doesnt/matter", tokenValue,  new DefaultHttpClient(), null);
+        smartsheet.setChangeAgent(changeAgent);
+        SmartsheetImpl view = (SmartsheetImpl) smartsheet.as("john.doe+1@smartsheet.com");
+
+        assertThat(new AbstractResources(view) {}.createHeaders())
+                .containsEntry("Authorization", "Bearer " + tokenValue)
+                .containsEntry("Assume-User", "john.doe%2B1%40smartsheet.com")
+                .containsEntry("Smartsheet-Change-Agent", changeAgent);
+        assertThat(new AbstractResources(smartsheet) {}.createHeaders()).doesNotContainKey("Assume-User");
+
+        // the view copies the access token and user agent, so changes on either side stay on that side
+        String userAgent = smartsheet.getUserAgent();
+        smartsheet.setAccessToken("othervalue");
+        smartsheet.setAssumedUser("jane.doe@smartsheet.com");
+        assertThat(new AbstractResources(view) {}.createHeaders())
+                .containsEntry("Authorization", "Bearer " + tokenValue)
+                .containsEntry("Assume-User", "john.doe%2B1%40smartsheet.com");
+
+        view.setAccessToken("viewvalue");
+        view.setUserAgent("viewagent");
+        assertThat(smartsheet.getAccessToken()).isEqualTo("othervalue");
+        assertThat(smartsheet.getUserAgent()).isEqualTo(userAgent);
+        assertThat(new AbstractResources(smartsheet) {}.createHeaders())
+                .containsEntry("Authorization", "Bearer othervalue")
+                .containsEntry("User-Agent", userAgent);
+        assertThat(new AbstractResources(view) {}.createHeaders())
+                .containsEntry("Authorization", "Bearer viewvalue")
+                .containsEntry("User-Agent", view.getUserAgent());
+        assertThat(view.getUserAgent()).contains("viewagent").isNotEqualTo(userAgent);
+    }
+
+    @Test
+    void testRequestHeadersCanBeModified() throws Exception {
+        SmartsheetImpl smartsheet = new SmartsheetImpl("doesnt/matter", tokenValue,  new DefaultHttpClient(), null);
+        AbstractResources resources = new AbstractResources(smartsheet) {};
+
+        HttpRequest request = resources.createHttpRequest(new URI("http://localhost/sheets"), HttpMethod.GET);
+        request.getHeaders().put("X-Custom", "one");
+        HttpRequest other = resources.createHttpRequest(new URI("http://localhost/sheets"), HttpMethod.GET);
+        other.addHeader("X-Other", "two");
+
+        // each request copies the client's shared headers before modifying them
+        assertThat(request.getHeaders()).containsEntry("X-Custom", "one").doesNotContainKey("X-Other");
+        assertThat(other.getHeaders()).containsEntry("X-Other", "two").doesNotContainKey("X-Custom");
+        assertThat(smartsheet.getBaseHeaders()).doesNotContainKeys("X-Custom", "X-Other");
+    }
+
     @Test
     void createResourceWithObjectClassNull() {
         AbstractResources resources = new AbstractResources(new SmartsheetImpl(SmartsheetBuilder.DEFAULT_BASE_URI, tokenValue,  new DefaultHttpClient(), null)) {};
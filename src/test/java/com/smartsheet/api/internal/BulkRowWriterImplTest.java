@@ -0,0 +1,288 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.BulkRowWriter;
+import com.smartsheet.api.BulkRowWriterBuilder;
+import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.SheetRowResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.internal.http.HttpClientException;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.BulkRowFailedItem;
+import com.smartsheet.api.models.BulkRowWriteReport;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkRowWriterImplTest {
+
+    private static final long SHEET_ID = 42L;
+
+    private final SheetRowResources rowResources = mock(SheetRowResources.class);
+
+    private final List<List<Row>> calls = new CopyOnWriteArrayList<>();
+
+    private static List<Row> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Row row = new Row();
+                    row.setCells(Collections.singletonList(new Cell(1L).setValue("value " + i)));
+                    return row;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Records the batch and returns it with row ids assigned from the cell values.
+     */
+    private PartialRowUpdateResult accept(InvocationOnMock invocation) {
+        List<Row> batch = invocation.getArgument(1);
+        calls.add(batch);
+        List<Row> returned = new ArrayList<>();
+        for (Row row : batch) {
+            Row added = new Row();
+            String value = (String) row.getCells().get(0).getValue();
+            added.setId(Long.parseLong(value.substring("value ".length())));
+            returned.add(added);
+        }
+        PartialRowUpdateResult result = new PartialRowUpdateResult();
+        result.setResult(returned);
+        return result;
+    }
+
+    @Test
+    void testBatchesByRowCount() throws SmartsheetException {
+        when(rowResources.addRowsAllowPartialSuccess(eq(SHEET_ID), anyList())).thenAnswer(this::accept);
+
+        BulkRowWriter writer = new BulkRowWriterBuilder(rowResources, SHEET_ID)
+                .setMaxRowsPerBatch(10)
+                .setMaxInFlight(3)
+                .build();
+        writer.writeAll(rows(25));
+        BulkRowWriteReport report = writer.finish();
+
+        assertThat(calls).extracting(List::size).containsExactlyInAnyOrder(10, 10, 5);
+        assertThat(report.getRowsWritten()).isEqualTo(25);
+        assertThat(report.getBatches()).isEqualTo(3);
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.getRows()).extracting(Row::getId)
+                .containsExactlyElementsOf(IntStream.range(0, 25).mapToObj(Long::valueOf).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testBatchesBySize() throws Exception {
+        when(rowResources.addRowsAllowPartialSuccess(eq(SHEET_ID), anyList())).thenAnswer(this::accept);
+        JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+        int rowBytes = serializer.serialize(rows(1).get(0)).length();
+
+        BulkRowWriter writer = new BulkRowWriterBuilder(rowResources, SHEET_ID)
+                .setMaxBatchBytes(3 * rowBytes + 10)
+                .setJsonSerializer(serializer)
+                .build();
+        writer.writeAll(rows(10).stream());
+        BulkRowWriteReport report = writer.finish();
+
+        assertThat(report.getRows()).hasSize(10);
+        assertThat(calls).hasSize(4);
+        for (List<Row> batch : calls) {
+            assertThat(serializer.serialize(batch).length()).isLessThanOrEqualTo(3 * rowBytes + 10);
+        }
+    }
+
+    @Test
+    void testOversizedRowIsSentAlone() throws SmartsheetException {
+        when(rowResources.addRowsAllowPartialSuccess(eq(SHEET_ID), anyList())).thenAnswer(this::accept);
+
+        BulkRowWriter writer = new BulkRowWriterBuilder(rowResources, SHEET_ID).setMaxBatchBytes(1).build();
+        writer.writeAll(rows(3));
+
+        assertThat(writer.finish().getRows()).hasSize(3);
+        assertThat(calls).extracting(List::size).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    void testBoundsBatchesInFlight() throws SmartsheetException {
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        when(rowResources.addRowsAllowPartialSuccess(eq(SHEET_ID), anyList())).thenAnswer(invocation -> {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return accept(invocation);
+            } finally {
+                current.decrementAndGet();
+            }
+        });
+
+        BulkRowWriter writer = new BulkRowWriterBuilder(rowResources, SHEET_ID)
+                .setMaxRowsPerBatch(2)
+                .setMaxInFlight(3)
+                .build();
+        writer.writeAll(rows(30));
+        BulkRowWriteReport report = writer.finish();
+
+        assertThat(report.getRows()).hasSize(30);
+        assertThat(max.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void testRetriesTransientErrors() throws SmartsheetException {
+        AtomicInteger attempts = new AtomicInteger();
+        when(rowResources.addRowsAllowPartialSuccess(eq(SHEET_ID), anyList())).thenAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new SmartsheetRestException(new Error().setErrorCode(4004).setMessage("retry"));
+            }
+            return accept(invocation);
+        });
+
+        BulkRowWriter writer = new BulkRowWriterBuilder(rowResources, SHEET_ID).setRetries(2, 1).build();
+        writer.writeAll(rows(5));
+        BulkRowWriteReport report = writer.finish();
+
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.getRows()).hasSize(5);
+        assertThat(report.getRetries()).isEqualTo(1);
+        assertThat(report.getBatches()).isEqualTo(2);
+    }
+
+    @Test
+    void testDoesNotRetryAddedBatchesAfterIoErrors() throws SmartsheetException {
+        when(rowResources.addRowsAllowPartialSuccess(eq(SHEET_ID), anyList()))
+                .thenThrow(new HttpClientException("connection reset"));
+        when(rowResources.updateRowsAllowPartialSuccess(eq(SHEET_ID), anyList()))
+                .thenThrow(new HttpClientException("connection reset"));
+
+        BulkRowWriter adder = new BulkRowWriterBuilder(rowResources, SHEET_ID).setRetries(2, 1).build();
+        adder.writeAll(rows(5));
+        BulkRowWriteReport added = adder.finish();
+
+        assertThat(added.getRetries()).isZero();
+        assertThat(added.getFailedItems()).hasSize(5);
+
+        // updates are idempotent, so they are still retried
+        BulkRowWriter updater = new BulkRowWriterBuilder(rowResources, SHEET_ID)
+                .setOperation(BulkRowWriter.Operation.UPDATE)
+                .setRetries(2, 1)
+                .build();
+        updater.writeAll(rows(5));
+
+        assertThat(updater.finish().getRetries()).isEqualTo(2);
+    }
+
+    @Test
+    void testReportsFailedBatches() throws SmartsheetException {
+        when(rowResources.addRowsAllowPartialSuccess(eq(SHEET_ID), anyList())).thenAnswer(invocation -> {
+            List<Row> batch = invocation.getArgument(1);
+            if (((String) batch.get(0).getCells().get(0).getValue()).equals("value 2")) {
+                throw new InvalidRequestException(new Error().setErrorCode(1012).setMessage("invalid"));
+            }
+            return accept(invocation);
+        });
+
+        BulkRowWriter writer = new BulkRowWriterBuilder(rowResources, SHEET_ID)
+                .setMaxRowsPerBatch(2)
+                .setRetries(3, 1)
+                .build();
+        writer.writeAll(rows(6));
+        BulkRowWriteReport report = writer.finish();
+
+        assertThat(report.getRetries()).isZero();
+        assertThat(report.getRows()).extracting(Row::getId).containsExactly(0L, 1L, 4L, 5L);
+        assertThat(report.getFailedItems()).extracting(BulkRowFailedItem::getIndex).containsExactly(2, 3);
+        assertThat(report.getFailedItems().get(0).getError().getErrorCode()).isEqualTo(1012);
+    }
+
+    @Test
+    void testReindexesPartialFailures() throws SmartsheetException {
+        when(rowResources.addRowsAllowPartialSuccess(eq(SHEET_ID), anyList())).thenAnswer(invocation -> {
+            PartialRowUpdateResult result = accept(invocation);
+            result.setFailedItems(Collections.singletonList(new BulkRowFailedItem()
+                    .setIndex(1)
+                    .setError(new Error().setErrorCode(1036).setMessage("bad value"))));
+            return result;
+        });
+
+        BulkRowWriter writer = new BulkRowWriterBuilder(rowResources, SHEET_ID).setMaxRowsPerBatch(3).build();
+        writer.writeAll(rows(6));
+        BulkRowWriteReport report = writer.finish();
+
+        assertThat(report.getFailedItems()).extracting(BulkRowFailedItem::getIndex).containsExactly(1, 4);
+        assertThat(report.getRowsFailed()).isEqualTo(2);
+    }
+
+    @Test
+    void testUpdateWithoutPartialSuccess() throws SmartsheetException {
+        when(rowResources.updateRows(eq(SHEET_ID), anyList())).thenAnswer(invocation -> accept(invocation).getResult());
+
+        BulkRowWriter writer = new BulkRowWriterBuilder(rowResources, SHEET_ID)
+                .setOperation(BulkRowWriter.Operation.UPDATE)
+                .setAllowPartialSuccess(false)
+                .setKeepRows(false)
+                .build();
+        writer.writeAll(rows(3));
+        BulkRowWriteReport report = writer.finish();
+
+        verify(rowResources, times(1)).updateRows(eq(SHEET_ID), anyList());
+        verify(rowResources, never()).addRowsAllowPartialSuccess(eq(SHEET_ID), anyList());
+        assertThat(report.getRowsWritten()).isEqualTo(3);
+        assertThat(report.getRows()).isEmpty();
+    }
+
+    @Test
+    void testFinish() throws SmartsheetException {
+        when(rowResources.addRowsAllowPartialSuccess(eq(SHEET_ID), anyList())).thenAnswer(this::accept);
+
+        BulkRowWriter writer = new BulkRowWriterBuilder(rowResources, SHEET_ID).build();
+        writer.write(rows(1).get(0));
+        writer.flush();
+        assertThat(calls).hasSize(1);
+
+        BulkRowWriteReport report = writer.finish();
+        assertThat(writer.finish()).isSameAs(report);
+        assertThatThrownBy(() -> writer.write(new Row())).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new BulkRowWriterBuilder(rowResources, SHEET_ID).setMaxInFlight(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,226 @@
+package com.smartsheet.api.internal;
+
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.EventDispatcher;
+import com.smartsheet.api.EventDispatcherBuilder;
+import com.smartsheet.api.EventStream;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.models.Event;
+import com.smartsheet.api.models.EventResult;
+import com.smartsheet.api.models.enums.EventObjectType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class EventDispatcherImplTest {
+
+    private final EventStream stream = mock(EventStream.class);
+
+    private final List<Flow.Subscriber<? super EventResult>> subscribers = new ArrayList<>();
+
+    private final AtomicInteger requested = new AtomicInteger();
+
+    EventDispatcherImplTest() {
+        doAnswer(invocation -> {
+            Flow.Subscriber<? super EventResult> subscriber = invocation.getArgument(0);
+            subscribers.add(subscriber);
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet((int) n);
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            return null;
+        }).when(stream).subscribeBatches(any());
+    }
+
+    private static Event event(String id, long objectId) {
+        Event event = new Event();
+        event.setEventId(id);
+        event.setObjectType(EventObjectType.SHEET);
+        event.setObjectId(objectId);
+        return event;
+    }
+
+    private static EventResult batch(String position, Event... events) {
+        EventResult result = new EventResult();
+        result.setData(List.of(events));
+        result.setNextStreamPosition(position);
+        return result;
+    }
+
+    @Test
+    void testKeepsPerObjectOrder() throws Exception {
+        Map<Object, List<String>> handled = new ConcurrentHashMap<>();
+        EventDispatcher dispatcher = new EventDispatcherBuilder(stream, event -> {
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.computeIfAbsent(event.getObjectId(), id -> new CopyOnWriteArrayList<>()).add(event.getEventId());
+        }).setLanes(4).build();
+        dispatcher.start();
+
+        List<Event> first = new ArrayList<>();
+        List<Event> second = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            first.add(event("a" + i, i % 5));
+            second.add(event("b" + i, i % 5));
+        }
+        subscribers.get(0).onNext(batch("p1", first.toArray(new Event[0])));
+        subscribers.get(0).onNext(batch("p2", second.toArray(new Event[0])));
+        subscribers.get(0).onComplete();
+
+        assertThat(dispatcher.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.getEventsHandled()).isEqualTo(40);
+        for (long objectId = 0; objectId < 5; objectId++) {
+            List<String> expected = new ArrayList<>();
+            for (int i = (int) objectId; i < 20; i += 5) {
+                expected.add("a" + i);
+            }
+            for (int i = (int) objectId; i < 20; i += 5) {
+                expected.add("b" + i);
+            }
+            assertThat(handled.get(objectId)).containsExactlyElementsOf(expected);
+        }
+        verify(stream).checkpoint("p2");
+        assertThat(requested.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testCheckpointWaitsForCompletedPrefix() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch laterDone = new CountDownLatch(1);
+        EventDispatcher dispatcher = new EventDispatcherBuilder(stream, event -> {
+            if (event.getEventId().equals("slow")) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                laterDone.countDown();
+            }
+        }).setLanes(8).build();
+        Event slow = event("slow", 1L);
+        Event fast = event("fast", 2L);
+        assertThat(EventDispatcherImpl.laneOf(slow, 8)).isNotEqualTo(EventDispatcherImpl.laneOf(fast, 8));
+        dispatcher.start();
+
+        subscribers.get(0).onNext(batch("p1", slow));
+        subscribers.get(0).onNext(batch("p2", fast));
+        assertThat(laterDone.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        verify(stream, never()).checkpoint(anyString());
+
+        release.countDown();
+        verify(stream, timeout(5000)).checkpoint("p2");
+        verify(stream, never()).checkpoint("p1");
+        subscribers.get(0).onComplete();
+        assertThat(dispatcher.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testFailedEventsDoNotHoldBackCheckpoint() throws Exception {
+        List<String> failures = new CopyOnWriteArrayList<>();
+        EventDispatcher dispatcher = new EventDispatcherBuilder(stream, new EventDispatcher.Handler() {
+            @Override
+            public void handle(Event event) throws SmartsheetException {
+                throw new SmartsheetException("boom");
+            }
+
+            @Override
+            public void failed(Event event, Exception error) {
+                failures.add(event.getEventId());
+            }
+        }).setLanes(2).build();
+        dispatcher.start();
+
+        subscribers.get(0).onNext(batch("p1", event("x", 1L)));
+        subscribers.get(0).onNext(batch("p2"));
+        subscribers.get(0).onComplete();
+
+        assertThat(dispatcher.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.getEventsFailed()).isEqualTo(1);
+        assertThat(failures).containsExactly("x");
+        verify(stream).checkpoint("p2");
+    }
+
+    @Test
+    void testStreamErrorStopsLanes() throws Exception {
+        EventDispatcher dispatcher = new EventDispatcherBuilder(stream, event -> { }).build();
+        dispatcher.start();
+        SmartsheetException error = new SmartsheetException("stream failed");
+
+        subscribers.get(0).onError(error);
+
+        assertThat(dispatcher.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.getError()).isSameAs(error);
+    }
+
+    @Test
+    void testCloseClosesStream() throws Exception {
+        EventDispatcher dispatcher = new EventDispatcherBuilder(stream, event -> { }).build();
+        assertThat(dispatcher.awaitTermination(0, TimeUnit.SECONDS)).isTrue();
+        dispatcher.start();
+
+        dispatcher.close();
+
+        verify(stream).close();
+    }
+
+    @Test
+    void testLaneOfIgnoresBoxedType() {
+        Event small = new Event().setObjectType(EventObjectType.SHEET).setObjectId(42);
+        Event large = new Event().setObjectType(EventObjectType.SHEET).setObjectId(42L);
+
+        for (int lanes = 1; lanes <= 16; lanes++) {
+            assertThat(EventDispatcherImpl.laneOf(small, lanes)).isEqualTo(EventDispatcherImpl.laneOf(large, lanes))
+                    .isBetween(0, lanes - 1);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.smartsheet.api.internal;
+
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.EventResources;
+import com.smartsheet.api.EventStream;
+import com.smartsheet.api.EventStreamBuilder;
+import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.ServiceUnavailableException;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.Event;
+import com.smartsheet.api.models.EventResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventStreamImplTest {
+
+    private final EventResources eventResources = mock(EventResources.class);
+
+    private final InMemoryEventCheckpointStore checkpoints = new InMemoryEventCheckpointStore();
+
+    private static EventResult batch(String next, boolean more, String... eventIds) {
+        List<Event> events = new ArrayList<>();
+        for (String id : eventIds) {
+            Event event = new Event();
+            event.setEventId(id);
+            events.add(event);
+        }
+        EventResult result = new EventResult();
+        result.setData(events);
+        result.setNextStreamPosition(next);
+        result.setMoreAvailable(more);
+        return result;
+    }
+
+    private EventStream stream() {
+        return new EventStreamBuilder(eventResources)
+                .setCheckpointStore(checkpoints)
+                .setSince(new Date(0))
+                .setPrefetch(1)
+                .setPollInterval(10, TimeUnit.MILLISECONDS)
+                .setRetryDelay(1, 5, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Collects the signals, requesting a fixed number of events up front.
+     */
+    private static class Collector implements Flow.Subscriber<Event> {
+        private final long initialRequest;
+        private final List<String> eventIds = new CopyOnWriteArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+
+        Collector(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(Event item) {
+            eventIds.add(item.getEventId());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (eventIds.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(eventIds).hasSizeGreaterThanOrEqualTo(count);
+        }
+    }
+
+    @Test
+    void testFollowsStreamPositionAndCheckpoints() throws Exception {
+        when(eventResources.listEvents(eq(new Date(0)), isNull(), anyInt(), isNull()))
+                .thenReturn(batch("p1", true, "a", "b"));
+        when(eventResources.listEvents(isNull(), eq("p1"), anyInt(), isNull()))
+                .thenReturn(batch("p2", false, "c"));
+        when(eventResources.listEvents(isNull(), eq("p2"), anyInt(), isNull()))
+                .thenReturn(batch("p2", false));
+        EventStream stream = stream();
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        stream.subscribe(collector);
+        collector.awaitEvents(3);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"p2".equals(stream.getStreamPosition()) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        stream.close();
+
+        assertThat(collector.terminated.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(collector.completed).isTrue();
+        assertThat(collector.eventIds).containsExactly("a", "b", "c");
+        assertThat(checkpoints.load()).isEqualTo("p2");
+    }
+
+    @Test
+    void testResumesFromCheckpoint() throws Exception {
+        checkpoints.save("saved");
+        List<Object> since = new CopyOnWriteArrayList<>();
+        when(eventResources.listEvents(any(), any(), anyInt(), isNull())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) != null) {
+                since.add(invocation.getArgument(0));
+            }
+            return "saved".equals(invocation.getArgument(1)) ? batch("next", false, "x") : batch("next", false);
+        });
+        EventStream stream = stream();
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        stream.subscribe(collector);
+        collector.awaitEvents(1);
+        stream.close();
+
+        assertThat(collector.eventIds).containsExactly("x");
+        assertThat(since).isEmpty();
+    }
+
+    @Test
+    void testBackpressureBoundsFetching() throws Exception {
+        int[] page = {0};
+        when(eventResources.listEvents(any(), any(), anyInt(), isNull())).thenAnswer(invocation -> {
+            page[0]++;
+            return batch("p" + page[0], true, "e" + page[0] + "a", "e" + page[0] + "b");
+        });
+        EventStream stream = stream();
+        Collector collector = new Collector(1);
+
+        stream.subscribe(collector);
+        collector.awaitEvents(1);
+        Thread.sleep(200);
+
+        assertThat(collector.eventIds).containsExactly("e1a");
+        // the batch being delivered plus one prefetched
+        verify(eventResources, atMost(2)).listEvents(any(), any(), anyInt(), isNull());
+        assertThat(checkpoints.load()).isNull();
+
+        collector.subscription.request(2);
+        collector.awaitEvents(3);
+        stream.close();
+        assertThat(collector.eventIds).startsWith("e1a", "e1b", "e2a");
+        assertThat(checkpoints.load()).isEqualTo("p1");
+    }
+
+    @Test
+    void testRetriesTransientErrors() throws Exception {
+        Error error = new Error();
+        error.setErrorCode(4001);
+        when(eventResources.listEvents(eq(new Date(0)), isNull(), anyInt(), isNull()))
+                .thenThrow(new ServiceUnavailableException(error))
+                .thenReturn(batch("p1", false, "a"));
+        when(eventResources.listEvents(isNull(), eq("p1"), anyInt(), isNull()))
+                .thenReturn(batch("p1", false));
+        EventStream stream = stream();
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        stream.subscribe(collector);
+        collector.awaitEvents(1);
+        stream.close();
+
+        assertThat(collector.eventIds).containsExactly("a");
+    }
+
+    @Test
+    void testFailsAfterDeliveringFetchedEvents() throws Exception {
+        Error error = new Error();
+        error.setErrorCode(1018);
+        when(eventResources.listEvents(eq(new Date(0)), isNull(), anyInt(), isNull()))
+                .thenReturn(batch("p1", true, "a"));
+        when(eventResources.listEvents(isNull(), eq("p1"), anyInt(), isNull()))
+                .thenThrow(new InvalidRequestException(error));
+        EventStream stream = stream();
+        Collector collector = new Collector(Long.MAX_VALUE);
+
+        stream.subscribe(collector);
+
+        assertThat(collector.terminated.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(collector.eventIds).containsExactly("a");
+        assertThat(collector.error).isInstanceOf(InvalidRequestException.class);
+        assertThat(checkpoints.load()).isEqualTo("p1");
+    }
+
+    @Test
+    void testBatchSubscriptionLeavesCheckpointsToSubscriber() throws Exception {
+        when(eventResources.listEvents(eq(new Date(0)), isNull(), anyInt(), isNull()))
+                .thenReturn(batch("p1", true, "a", "b"));
+        when(eventResources.listEvents(isNull(), eq("p1"), anyInt(), isNull()))
+                .thenReturn(batch("p2", false, "c"));
+        EventStream stream = stream();
+        List<EventResult> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch received = new CountDownLatch(2);
+
+        stream.subscribeBatches(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(2);
+            }
+
+            @Override
+            public void onNext(EventResult item) {
+                batches.add(item);
+                received.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).extracting(EventResult::getNextStreamPosition).containsExactly("p1", "p2");
+        assertThat(checkpoints.load()).isNull();
+        stream.checkpoint("p1");
+        stream.close();
+        assertThat(checkpoints.load()).isEqualTo("p1");
+        assertThat(stream.getStreamPosition()).isEqualTo("p1");
+    }
+
+    @Test
+    void testSingleSubscriber() throws Exception {
+        when(eventResources.listEvents(any(), any(), anyInt(), isNull())).thenReturn(batch("p", false));
+        EventStream stream = stream();
+        stream.subscribe(new Collector(1));
+        Collector second = new Collector(1);
+
+        stream.subscribe(second);
+        stream.close();
+
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testFileEventCheckpointStore(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("events").resolve("position");
+        FileEventCheckpointStore store = new FileEventCheckpointStore(file);
+        assertThat(store.load()).isNull();
+
+        store.save("first");
+        store.save("second");
+
+        assertThat(new FileEventCheckpointStore(file).load()).isEqualTo("second");
+    }
+}
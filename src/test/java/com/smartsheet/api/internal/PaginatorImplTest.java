@@ -0,0 +1,261 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.Paginator;
+import com.smartsheet.api.PaginatorBuilder;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.UncheckedSmartsheetException;
+import com.smartsheet.api.internal.util.TokenBucket;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class PaginatorImplTest {
+
+    /**
+     * A paged endpoint over the numbers 0 to size - 1 that records the pages requested.
+     */
+    private static class Endpoint implements Paginator.PageFetcher<Integer> {
+        private final int size;
+        private final boolean reportsTotal;
+        private final List<Integer> requested = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        Endpoint(int size, boolean reportsTotal) {
+            this.size = size;
+            this.reportsTotal = reportsTotal;
+        }
+
+        @Override
+        public PagedResult<Integer> fetch(PaginationParameters pagination) throws SmartsheetException {
+            assertThat(pagination.isIncludeAll()).isFalse();
+            requested.add(pagination.getPage());
+            threads.add(Thread.currentThread().getName());
+            int from = (pagination.getPage() - 1) * pagination.getPageSize();
+            int to = Math.min(size, from + pagination.getPageSize());
+            PagedResult<Integer> page = new PagedResult<>();
+            page.setPageNumber(pagination.getPage());
+            page.setPageSize(pagination.getPageSize());
+            page.setData(IntStream.range(Math.min(from, to), to).boxed().collect(Collectors.toList()));
+            if (reportsTotal) {
+                page.setTotalCount(size);
+                page.setTotalPages((size + pagination.getPageSize() - 1) / pagination.getPageSize());
+            }
+            return page;
+        }
+    }
+
+    @Test
+    void testIteratesAllPages() {
+        Endpoint endpoint = new Endpoint(25, true);
+        Paginator<Integer> paginator = new PaginatorBuilder<>(endpoint).setPageSize(10).setLookahead(2).build();
+
+        List<Integer> items = new ArrayList<>();
+        paginator.forEach(items::add);
+
+        assertThat(items).containsExactlyElementsOf(IntStream.range(0, 25).boxed().collect(Collectors.toList()));
+        assertThat(endpoint.requested).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(endpoint.threads.get(0)).isEqualTo(Thread.currentThread().getName());
+        assertThat(endpoint.threads.subList(1, 3)).allMatch(name -> name.startsWith("smartsheet-paginator-"));
+    }
+
+    @Test
+    void testLookaheadIsBounded() {
+        Endpoint endpoint = new Endpoint(100, true);
+        Paginator<Integer> paginator = new PaginatorBuilder<>(endpoint).setPageSize(5).setLookahead(3)
+                .setExecutor(Runnable::run).build();
+
+        for (int item : paginator) {
+            int page = item / 5 + 1;
+            int furthest = endpoint.requested.stream().mapToInt(Integer::intValue).max().orElse(0);
+            assertThat(furthest - page).isBetween(0, 3);
+        }
+        assertThat(endpoint.requested).containsExactlyElementsOf(
+                IntStream.rangeClosed(1, 20).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testWithoutTotalPages() {
+        Endpoint endpoint = new Endpoint(20, false);
+        Paginator<Integer> paginator = new PaginatorBuilder<>(endpoint).setPageSize(10).setLookahead(0).build();
+
+        assertThat(paginator.stream().count()).isEqualTo(20);
+        // the third page comes back empty and ends the scan
+        assertThat(endpoint.requested).containsExactly(1, 2, 3);
+        assertThat(endpoint.threads).allMatch(name -> name.equals(Thread.currentThread().getName()));
+
+        Endpoint shortLast = new Endpoint(15, false);
+        assertThat(new PaginatorBuilder<>(shortLast).setPageSize(10).build().stream().count()).isEqualTo(15);
+        assertThat(shortLast.requested).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    void testEmptyAndRepeatedIteration() {
+        Endpoint endpoint = new Endpoint(0, true);
+        Paginator<Integer> paginator = new PaginatorBuilder<>(endpoint).build();
+
+        assertThat(paginator.iterator().hasNext()).isFalse();
+        assertThat(paginator.iterator().hasNext()).isFalse();
+        assertThat(endpoint.requested).containsExactly(1, 1);
+    }
+
+    @Test
+    void testErrors() {
+        Paginator<Integer> paginator = new PaginatorBuilder<Integer>(pagination -> {
+            if (pagination.getPage() == 2) {
+                throw new SmartsheetException("page 2 is broken");
+            }
+            return new Endpoint(30, true).fetch(pagination);
+        }).setPageSize(10).build();
+
+        Iterator<Integer> iterator = paginator.iterator();
+        for (int i = 0; i < 10; i++) {
+            iterator.next();
+        }
+        assertThatThrownBy(iterator::hasNext).isInstanceOf(UncheckedSmartsheetException.class)
+                .hasMessage("page 2 is broken")
+                .extracting(Throwable::getCause).isInstanceOf(SmartsheetException.class);
+        assertThat(iterator.hasNext()).isFalse();
+
+        assertThatThrownBy(() -> new PaginatorBuilder<>(new Endpoint(1, true)).setPageSize(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PaginatorBuilder<>(new Endpoint(1, true)).setLookahead(-1).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testPrefetchOverlapsConsumption() throws InterruptedException {
+        CountDownLatch secondPageRequested = new CountDownLatch(1);
+        Endpoint endpoint = new Endpoint(20, true) {
+            @Override
+            public PagedResult<Integer> fetch(PaginationParameters pagination) throws SmartsheetException {
+                if (pagination.getPage() == 2) {
+                    secondPageRequested.countDown();
+                }
+                return super.fetch(pagination);
+            }
+        };
+        Paginator<Integer> paginator = new PaginatorBuilder<>(endpoint).setPageSize(10).build();
+
+        try (Stream<Integer> items = paginator.stream()) {
+            Iterator<Integer> iterator = items.iterator();
+            assertThat(iterator.next()).isZero();
+            // page 2 is fetched while page 1 is still being consumed
+            assertThat(secondPageRequested.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void testUnorderedFanOut() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch releasePageTwo = new CountDownLatch(1);
+        Endpoint endpoint = new Endpoint(50, true) {
+            @Override
+            public PagedResult<Integer> fetch(PaginationParameters pagination) throws SmartsheetException {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    if (pagination.getPage() == 2) {
+                        releasePageTwo.await(5, TimeUnit.SECONDS);
+                    }
+                    return super.fetch(pagination);
+                } catch (InterruptedException e) {
+                    throw new SmartsheetException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        };
+        TokenBucket budget = new TokenBucket(100, 1, TimeUnit.HOURS);
+        Paginator<Integer> paginator = new PaginatorBuilder<>(endpoint).setPageSize(10).setLookahead(4)
+                .setOrdered(false).setRateLimiter(budget).build();
+
+        List<Integer> items = new ArrayList<>();
+        for (int item : paginator) {
+            if (items.size() == 10) {
+                // page 2 is held back, so the next item comes from a later page
+                assertThat(item).isGreaterThanOrEqualTo(20);
+                releasePageTwo.countDown();
+            }
+            items.add(item);
+        }
+
+        assertThat(paginator.isOrdered()).isFalse();
+        assertThat(items).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, 50).boxed().collect(Collectors.toList()));
+        assertThat(items.subList(0, 10)).containsExactlyElementsOf(
+                IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        assertThat(maxInFlight.get()).isBetween(1, 4);
+        assertThat(endpoint.requested).hasSize(5);
+        assertThat(budget.availablePermits()).isEqualTo(95);
+    }
+
+    @Test
+    void testUnorderedWithoutTotalPagesKeepsOrder() {
+        Endpoint endpoint = new Endpoint(35, false);
+        Paginator<Integer> paginator = new PaginatorBuilder<>(endpoint).setPageSize(10).setLookahead(3)
+                .setOrdered(false).build();
+
+        assertThat(paginator.stream().collect(Collectors.toList()))
+                .containsExactlyElementsOf(IntStream.range(0, 35).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testUnorderedSwitchesToArrivalOrderLate() {
+        // the first page doesn't report the number of pages, so the pages prefetched after it are taken in page
+        // order until a later page reports it
+        Endpoint endpoint = new Endpoint(50, true) {
+            @Override
+            public PagedResult<Integer> fetch(PaginationParameters pagination) throws SmartsheetException {
+                PagedResult<Integer> page = super.fetch(pagination);
+                if (pagination.getPage() == 1) {
+                    page.setTotalPages(null);
+                }
+                return page;
+            }
+        };
+        Paginator<Integer> paginator = new PaginatorBuilder<>(endpoint).setPageSize(10).setLookahead(3)
+                .setOrdered(false).build();
+
+        List<Integer> items = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> paginator.stream().collect(Collectors.toList()));
+        assertThat(items).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, 50).boxed().collect(Collectors.toList()));
+        assertThat(endpoint.requested).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+    }
+}
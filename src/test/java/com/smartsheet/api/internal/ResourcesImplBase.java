@@ -22,6 +22,7 @@ package com.smartsheet.api.internal;
 
 import com.smartsheet.api.HttpTestServer;
 import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.json.JacksonJsonSerializerBuilder;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 
@@ -39,7 +40,7 @@ public class ResourcesImplBase {
         server.start();
 
         // Setup the serializer
-        JacksonJsonSerializer.setFailOnUnknownProperties(true);
+        serializer = new JacksonJsonSerializerBuilder().setFailOnUnknownProperties(true).build();
     }
 
     @AfterEach
@@ -0,0 +1,179 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.RowUpdateBuffer;
+import com.smartsheet.api.RowUpdateBufferBuilder;
+import com.smartsheet.api.SheetRowResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.models.BulkRowFailedItem;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RowUpdateBufferImplTest {
+
+    private static final long SHEET_ID = 3L;
+
+    private final SheetRowResources rowResources = mock(SheetRowResources.class);
+
+    private final List<List<Row>> calls = new CopyOnWriteArrayList<>();
+
+    private void acceptUpdates() throws SmartsheetException {
+        when(rowResources.updateRows(eq(SHEET_ID), anyList())).thenAnswer(invocation -> {
+            List<Row> rows = invocation.getArgument(1);
+            calls.add(rows);
+            return new ArrayList<>(rows);
+        });
+    }
+
+    @Test
+    void testCoalescesUpdates() throws Exception {
+        acceptUpdates();
+        RowUpdateBuffer buffer = new RowUpdateBufferBuilder(rowResources, SHEET_ID).setMaxDelayMillis(60000).build();
+
+        CompletableFuture<Row> first = buffer.updateCell(1L, 10L, "a");
+        CompletableFuture<Row> second = buffer.updateCell(2L, 10L, "b");
+        Row row = new Row();
+        row.setId(1L);
+        row.setCells(List.of(new Cell().setColumnId(10L).setValue("c"), new Cell().setColumnId(11L).setValue(1)));
+        row.setExpanded(false);
+        CompletableFuture<Row> third = buffer.update(row);
+        assertThat(buffer.getPendingRows()).isEqualTo(2);
+
+        buffer.flush();
+
+        assertThat(calls).hasSize(1);
+        List<Row> sent = calls.get(0);
+        assertThat(sent).extracting(Row::getId).containsExactly(1L, 2L);
+        assertThat(sent.get(0).getCells()).extracting(Cell::getValue).containsExactly("c", 1);
+        assertThat(sent.get(0).isExpanded()).isFalse();
+        assertThat(first.get().getId()).isEqualTo(1L);
+        assertThat(third.get()).isSameAs(first.get());
+        assertThat(second.get().getId()).isEqualTo(2L);
+        assertThat(buffer.getPendingRows()).isZero();
+    }
+
+    @Test
+    void testFlushesAfterDelay() throws Exception {
+        acceptUpdates();
+        RowUpdateBuffer buffer = new RowUpdateBufferBuilder(rowResources, SHEET_ID).setMaxDelayMillis(20).build();
+
+        CompletableFuture<Row> first = buffer.updateCell(1L, 10L, "a");
+        CompletableFuture<Row> second = buffer.updateCell(1L, 10L, "b");
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        assertThat(second.get(5, TimeUnit.SECONDS).getCells()).extracting(Cell::getValue).containsExactly("b");
+        assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    void testFlushesAtMaxRows() throws Exception {
+        acceptUpdates();
+        RowUpdateBuffer buffer = new RowUpdateBufferBuilder(rowResources, SHEET_ID)
+                .setMaxDelayMillis(60000)
+                .setMaxRows(3)
+                .build();
+
+        List<CompletableFuture<Row>> futures = new ArrayList<>();
+        for (long rowId = 1; rowId <= 7; rowId++) {
+            futures.add(buffer.updateCell(rowId, 10L, rowId));
+        }
+        for (int i = 0; i < 6; i++) {
+            futures.get(i).get(5, TimeUnit.SECONDS);
+        }
+        assertThat(futures.get(6)).isNotDone();
+
+        buffer.close();
+
+        assertThat(futures.get(6).get().getId()).isEqualTo(7L);
+        assertThat(calls).extracting(List::size).containsExactly(3, 3, 1);
+        assertThatThrownBy(() -> buffer.updateCell(1L, 10L, "x")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testFailsFuturesOfFailedRequest() throws Exception {
+        when(rowResources.updateRows(eq(SHEET_ID), anyList()))
+                .thenThrow(new InvalidRequestException(new Error().setErrorCode(1006).setMessage("not found")));
+        RowUpdateBuffer buffer = new RowUpdateBufferBuilder(rowResources, SHEET_ID).setMaxDelayMillis(60000).build();
+
+        CompletableFuture<Row> future = buffer.updateCell(1L, 10L, "a");
+        buffer.flush();
+
+        assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void testPartialSuccess() throws Exception {
+        when(rowResources.updateRowsAllowPartialSuccess(eq(SHEET_ID), anyList())).thenAnswer(invocation -> {
+            List<Row> rows = invocation.getArgument(1);
+            PartialRowUpdateResult result = new PartialRowUpdateResult();
+            result.setResult(Collections.singletonList(rows.get(0)));
+            result.setFailedItems(Collections.singletonList(new BulkRowFailedItem().setIndex(1)
+                    .setError(new Error().setErrorCode(1036).setMessage("bad value"))));
+            return result;
+        });
+        RowUpdateBuffer buffer = new RowUpdateBufferBuilder(rowResources, SHEET_ID)
+                .setMaxDelayMillis(60000)
+                .setAllowPartialSuccess(true)
+                .build();
+
+        CompletableFuture<Row> accepted = buffer.updateCell(1L, 10L, "a");
+        CompletableFuture<Row> rejected = buffer.updateCell(2L, 10L, "b");
+        buffer.flush();
+
+        assertThat(accepted.get().getId()).isEqualTo(1L);
+        assertThatThrownBy(rejected::get).hasCauseInstanceOf(SmartsheetRestException.class);
+    }
+
+    @Test
+    void testRejectsInvalidUpdates() {
+        RowUpdateBuffer buffer = new RowUpdateBufferBuilder(rowResources, SHEET_ID).build();
+        assertThatThrownBy(() -> buffer.update(new Row())).isInstanceOf(IllegalArgumentException.class);
+        Row row = new Row();
+        row.setId(1L);
+        row.setCells(List.of(new Cell().setValue("a")));
+        assertThatThrownBy(() -> buffer.update(row)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RowUpdateBufferBuilder(rowResources, SHEET_ID).setMaxRows(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,200 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.RowUpserter;
+import com.smartsheet.api.RowUpserterBuilder;
+import com.smartsheet.api.SheetRowResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.json.JSONSerializerException;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.SheetDiff;
+import com.smartsheet.api.models.UpsertReport;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RowUpserterImplTest {
+
+    private static final long SHEET_ID = 7L;
+    private static final long NAME = 1L;
+    private static final long QTY = 2L;
+
+    private final SheetRowResources rowResources = mock(SheetRowResources.class);
+
+    private static Row row(Long id, Object name, Object qty) {
+        Row row = new Row();
+        row.setId(id);
+        row.setCells(new ArrayList<>(Arrays.asList(new Cell().setColumnId(NAME).setValue(name),
+                new Cell().setColumnId(QTY).setValue(qty))));
+        return row;
+    }
+
+    private static Sheet sheet(Row... rows) {
+        Sheet sheet = new Sheet();
+        sheet.setId(SHEET_ID);
+        Column name = new Column().setPrimary(true).setTitle("Name");
+        name.setId(NAME);
+        Column qty = new Column().setTitle("Qty");
+        qty.setId(QTY);
+        sheet.setColumns(Arrays.asList(name, qty));
+        sheet.setRows(new ArrayList<>(Arrays.asList(rows)));
+        return sheet;
+    }
+
+    @Test
+    void testDiffByPrimaryColumn() {
+        Sheet sheet = sheet(row(10L, "a", 1.0), row(11L, "b", 2.0), row(12L, "c", 3.0), row(13L, 5.0, null));
+        List<Row> desired = Arrays.asList(row(null, "a", 4), row(null, "b", 2), row(null, "d", 1), row(null, "5", ""));
+
+        SheetDiff diff = new RowUpserterBuilder(rowResources).build().diff(sheet, desired);
+
+        assertThat(diff.getRowsToUpdate()).hasSize(1);
+        Row update = diff.getRowsToUpdate().get(0);
+        assertThat(update.getId()).isEqualTo(10L);
+        assertThat(update.getCells()).extracting(Cell::getColumnId).containsExactly(QTY);
+        assertThat(update.getCells().get(0).getValue()).isEqualTo(4);
+        assertThat(diff.getChangedCells()).isEqualTo(1);
+        assertThat(diff.getUnchangedRows()).isEqualTo(2);
+        assertThat(diff.getRowsToAdd()).containsExactly(desired.get(2));
+        assertThat(diff.getRowIdsToDelete()).isEmpty();
+        assertThat(diff.isEmpty()).isFalse();
+    }
+
+    @Test
+    void testDiffDeletesMissingRows() {
+        Sheet sheet = sheet(row(10L, "a", 1.0), row(11L, "b", 2.0), row(12L, "b", 3.0), row(13L, "c", null));
+
+        SheetDiff diff = new RowUpserterBuilder(rowResources)
+                .setKeyColumnTitle("Name")
+                .setDeleteMissing(true)
+                .build()
+                .diff(sheet, Arrays.asList(row(null, "a", 1), row(null, "b", 2)));
+
+        // the second "b" row can't be placed, so it is neither updated nor deleted
+        assertThat(diff.getRowIdsToDelete()).containsExactly(13L);
+        assertThat(diff.getRowsToUpdate()).isEmpty();
+        assertThat(diff.getUnchangedRows()).isEqualTo(2);
+    }
+
+    @Test
+    void testDiffByRowId() {
+        Sheet sheet = sheet(row(10L, "a", 1.0), row(11L, "b", 2.0));
+        Row formula = new Row();
+        formula.setId(11L);
+        formula.setCells(Arrays.asList(new Cell().setColumnId(QTY).setFormula("=1+1")));
+
+        SheetDiff diff = new RowUpserterBuilder(rowResources)
+                .setMatchByRowId()
+                .setDeleteMissing(true)
+                .build()
+                .diff(sheet, Arrays.asList(formula, row(99L, "x", 1), row(null, "y", 1)));
+
+        assertThat(diff.getRowsToUpdate()).hasSize(1);
+        assertThat(diff.getRowsToUpdate().get(0).getCells().get(0).getFormula()).isEqualTo("=1+1");
+        assertThat(diff.getUnmatchedRows()).extracting(Row::getId).containsExactly(99L);
+        assertThat(diff.getRowsToAdd()).hasSize(1);
+        assertThat(diff.getRowIdsToDelete()).containsExactly(10L);
+    }
+
+    @Test
+    void testDiffClearsCell() throws JSONSerializerException {
+        Sheet sheet = sheet(row(10L, "a", 1.0), row(11L, "b", 2.0));
+
+        SheetDiff diff = new RowUpserterBuilder(rowResources).build()
+                .diff(sheet, Arrays.asList(row(null, "a", null), row(null, "b", "")));
+
+        assertThat(diff.getRowsToUpdate()).hasSize(2);
+        for (Row update : diff.getRowsToUpdate()) {
+            assertThat(update.getCells()).extracting(Cell::getColumnId).containsExactly(QTY);
+            assertThat(update.getCells().get(0).getValue()).isEqualTo("");
+            // the cleared value survives serialization instead of being dropped as null
+            assertThat(new JacksonJsonSerializer().serialize(update.getCells().get(0))).contains("\"value\":\"\"");
+        }
+    }
+
+    @Test
+    void testDiffRejectsBadInput() {
+        RowUpserter upserter = new RowUpserterBuilder(rowResources).build();
+        Sheet sheet = sheet(row(10L, "a", 1.0));
+
+        assertThatThrownBy(() -> upserter.diff(sheet, Arrays.asList(row(null, "a", 1), row(null, "a", 2))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RowUpserterBuilder(rowResources).setKeyColumnId(3L).build()
+                .diff(sheet, Arrays.asList(row(null, "a", 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        Row noColumn = row(null, "a", 1);
+        noColumn.getCells().add(new Cell().setValue("x"));
+        assertThatThrownBy(() -> upserter.diff(sheet, Arrays.asList(noColumn)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSameValue() {
+        assertThat(RowUpserterImpl.sameValue(null, "")).isTrue();
+        assertThat(RowUpserterImpl.sameValue(1.0, 1)).isTrue();
+        assertThat(RowUpserterImpl.sameValue(1.5, "1.50")).isTrue();
+        assertThat(RowUpserterImpl.sameValue(true, "TRUE")).isTrue();
+        assertThat(RowUpserterImpl.sameValue("a", "A")).isFalse();
+        assertThat(RowUpserterImpl.sameValue(1.0, "one")).isFalse();
+        assertThat(RowUpserterImpl.sameValue(null, 0)).isFalse();
+    }
+
+    @Test
+    void testUpsert() throws SmartsheetException {
+        when(rowResources.updateRowsAllowPartialSuccess(eq(SHEET_ID), anyList())).thenAnswer(invocation -> {
+            PartialRowUpdateResult result = new PartialRowUpdateResult();
+            result.setResult(invocation.getArgument(1));
+            return result;
+        });
+        when(rowResources.deleteRows(eq(SHEET_ID), eq(Set.of(11L)), eq(true), eq(2))).thenReturn(List.of(11L));
+
+        UpsertReport report = new RowUpserterBuilder(rowResources)
+                .setDeleteMissing(true)
+                .setMaxInFlight(2)
+                .build()
+                .upsert(sheet(row(10L, "a", 1.0), row(11L, "b", 2.0)), Arrays.asList(row(null, "a", 3)));
+
+        assertThat(report.getUpdated().getRows()).extracting(Row::getId).containsExactly(10L);
+        assertThat(report.getAdded().getRowsWritten()).isZero();
+        assertThat(report.getDeletedRowIds()).containsExactly(11L);
+        assertThat(report.isComplete()).isTrue();
+        verify(rowResources, never()).addRowsAllowPartialSuccess(eq(SHEET_ID), anyList());
+    }
+}
@@ -0,0 +1,233 @@
+package com.smartsheet.api.internal;
+
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetMirror;
+import com.smartsheet.api.SheetMirrorBuilder;
+import com.smartsheet.api.SheetResources;
+import com.smartsheet.api.SheetStore;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ColumnType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SheetMirrorImplTest {
+
+    private static final long SHEET_ID = 5L;
+
+    private final SheetResources sheetResources = mock(SheetResources.class);
+
+    private final List<Boolean> notifications = new ArrayList<>();
+
+    private SheetMirror mirror(SheetStore store) {
+        SheetMirror mirror = new SheetMirrorBuilder(sheetResources)
+                .setStore(store)
+                .setListener((sheet, incremental) -> notifications.add(incremental))
+                .build();
+        mirror.track(SHEET_ID);
+        return mirror;
+    }
+
+    private static Sheet sheet(int version, long... rowIds) {
+        Sheet sheet = new Sheet();
+        sheet.setId(SHEET_ID);
+        sheet.setVersion(version);
+        sheet.setModifiedAt(new Date(1000L * version));
+        sheet.setTotalRowCount(rowIds.length);
+        Column column = new Column();
+        column.setId(10L);
+        column.setTitle("Name");
+        column.setType(ColumnType.TEXT_NUMBER);
+        sheet.setColumns(List.of(column));
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < rowIds.length; i++) {
+            rows.add(row(rowIds[i], i + 1, "v" + version));
+        }
+        sheet.setRows(rows);
+        return sheet;
+    }
+
+    private static Row row(long id, int rowNumber, String name) {
+        Row row = new Row();
+        row.setId(id);
+        row.setRowNumber(rowNumber);
+        row.setCells(List.of(new Cell().setColumnId(10L).setValue(name)));
+        return row;
+    }
+
+    private void fetches(Sheet sheet) throws Exception {
+        when(sheetResources.getSheet(eq(SHEET_ID), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull())).thenReturn(sheet);
+    }
+
+    @Test
+    void testInitialSyncFetchesInFull() throws Exception {
+        fetches(sheet(1, 100L, 101L));
+        SheetMirror mirror = mirror(new InMemorySheetStore());
+
+        assertThat(mirror.sync(SHEET_ID)).isTrue();
+        assertThat(mirror.get(SHEET_ID).getVersion()).isEqualTo(1);
+        assertThat(notifications).containsExactly(false);
+        verify(sheetResources, never()).getSheetVersion(SHEET_ID);
+    }
+
+    @Test
+    void testUnchangedVersionSkipsFetch() throws Exception {
+        InMemorySheetStore store = new InMemorySheetStore();
+        store.save(sheet(3, 100L));
+        when(sheetResources.getSheetVersion(SHEET_ID)).thenReturn(3);
+        SheetMirror mirror = mirror(store);
+
+        assertThat(mirror.sync(SHEET_ID)).isFalse();
+        assertThat(notifications).isEmpty();
+        verify(sheetResources, never()).getSheetRowsModifiedSince(eq(SHEET_ID), any(), any(), any());
+    }
+
+    @Test
+    void testLoadsCopyOnlyWhenVersionMoved() throws Exception {
+        InMemorySheetStore store = spy(new InMemorySheetStore());
+        store.save(sheet(3, 100L));
+        when(sheetResources.getSheetVersion(SHEET_ID)).thenReturn(3);
+        SheetMirror mirror = mirror(store);
+
+        assertThat(mirror.sync(SHEET_ID)).isFalse();
+        assertThat(mirror.sync(SHEET_ID)).isFalse();
+        assertThat(mirror.sync(SHEET_ID)).isFalse();
+
+        // the copy is loaded once to learn its version, unchanged polls compare against the cached version
+        verify(store, times(1)).load(SHEET_ID);
+    }
+
+    @Test
+    void testMergesModifiedRows() throws Exception {
+        InMemorySheetStore store = new InMemorySheetStore();
+        Sheet copy = sheet(3, 100L, 101L, 102L);
+        store.save(copy);
+        when(sheetResources.getSheetVersion(SHEET_ID)).thenReturn(4);
+        Sheet changes = sheet(4);
+        changes.setTotalRowCount(3);
+        changes.setRows(List.of(row(101L, 2, "changed")));
+        when(sheetResources.getSheetRowsModifiedSince(SHEET_ID, null, copy.getModifiedAt(), 3)).thenReturn(changes);
+        SheetMirror mirror = mirror(store);
+
+        assertThat(mirror.sync(SHEET_ID)).isTrue();
+        Sheet merged = mirror.get(SHEET_ID);
+        assertThat(merged.getVersion()).isEqualTo(4);
+        assertThat(merged.getRows()).extracting(Row::getId).containsExactly(100L, 101L, 102L);
+        assertThat(merged.getRows().get(1).getCells().get(0).getValue()).isEqualTo("changed");
+        assertThat(merged.getRows().get(0).getCells().get(0).getValue()).isEqualTo("v3");
+        assertThat(notifications).containsExactly(true);
+        verify(sheetResources, never()).getSheet(eq(SHEET_ID), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testFetchesInFullWhenRowsWereAdded() throws Exception {
+        InMemorySheetStore store = new InMemorySheetStore();
+        Sheet copy = sheet(3, 100L, 101L);
+        store.save(copy);
+        when(sheetResources.getSheetVersion(SHEET_ID)).thenReturn(4);
+        Sheet changes = sheet(4);
+        changes.setTotalRowCount(3);
+        changes.setRows(List.of(row(103L, 3, "new")));
+        when(sheetResources.getSheetRowsModifiedSince(SHEET_ID, null, copy.getModifiedAt(), 3)).thenReturn(changes);
+        fetches(sheet(4, 100L, 101L, 103L));
+        SheetMirror mirror = mirror(store);
+
+        assertThat(mirror.sync(SHEET_ID)).isTrue();
+        assertThat(mirror.get(SHEET_ID).getRows()).extracting(Row::getId).containsExactly(100L, 101L, 103L);
+        assertThat(notifications).containsExactly(false);
+    }
+
+    @Test
+    void testSyncOfUntrackedSheet() {
+        SheetMirror mirror = mirror(new InMemorySheetStore());
+        mirror.untrack(SHEET_ID);
+
+        assertThat(mirror.getTrackedSheets()).isEmpty();
+        assertThatThrownBy(() -> mirror.sync(SHEET_ID)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testFileSheetStore(@TempDir Path dir) throws Exception {
+        FileSheetStore store = new FileSheetStore(dir);
+        assertThat(store.load(SHEET_ID)).isNull();
+
+        store.save(sheet(2, 100L, 101L));
+        FileSheetStore reopened = new FileSheetStore(dir);
+        assertThat(reopened.getSheetIds()).containsExactly(SHEET_ID);
+        Sheet loaded = reopened.load(SHEET_ID);
+        assertThat(loaded.getId()).isEqualTo(SHEET_ID);
+        assertThat(loaded.getColumns()).extracting(Column::getId).containsExactly(10L);
+        assertThat(loaded.getVersion()).isEqualTo(2);
+        assertThat(loaded.getRows()).extracting(Row::getId).containsExactly(100L, 101L);
+
+        reopened.remove(SHEET_ID);
+        assertThat(reopened.getSheetIds()).isEmpty();
+    }
+
+    @Test
+    void testPollsInBackground() throws Exception {
+        fetches(sheet(1, 100L));
+        when(sheetResources.getSheetVersion(SHEET_ID)).thenReturn(1);
+        CountDownLatch polled = new CountDownLatch(2);
+        SheetMirror mirror = new SheetMirrorBuilder(sheetResources)
+                .setPollInterval(10, 20, TimeUnit.MILLISECONDS)
+                .build();
+        mirror.track(SHEET_ID);
+        when(sheetResources.getSheetVersion(SHEET_ID)).thenAnswer(invocation -> {
+            polled.countDown();
+            return 1;
+        });
+
+        try {
+            mirror.start();
+            assertThat(polled.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            mirror.close();
+        }
+        assertThat(mirror.get(SHEET_ID).getVersion()).isEqualTo(1);
+        verify(sheetResources, times(1)).getSheet(eq(SHEET_ID), any(), any(), any(), any(), any(), any(), any());
+    }
+}
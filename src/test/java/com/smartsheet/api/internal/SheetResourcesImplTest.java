@@ -20,18 +20,26 @@ package com.smartsheet.api.internal;
  * %[license]
  */
 
+import com.smartsheet.api.SheetStream;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.http.HttpEntity;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.models.Column;
 import com.smartsheet.api.models.ContainerDestination;
 import com.smartsheet.api.models.FormatDetails;
+import com.smartsheet.api.models.LazySheet;
 import com.smartsheet.api.models.MultiRowEmail;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.Recipient;
 import com.smartsheet.api.models.RecipientEmail;
 import com.smartsheet.api.models.RecipientGroup;
+import com.smartsheet.api.models.Row;
 import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.SheetFrame;
 import com.smartsheet.api.models.SheetEmail;
 import com.smartsheet.api.models.SheetPublish;
 import com.smartsheet.api.models.SortCriterion;
@@ -58,12 +66,19 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class SheetResourcesImplTest extends ResourcesImplBase {
     private SheetResourcesImpl sheetResource;
@@ -121,6 +136,136 @@ class SheetResourcesImplTest extends ResourcesImplBase {
         assertThat(sheet.getRows()).isEmpty();
     }
 
+    @Test
+    void testStreamSheet() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/streamSheet.json"));
+
+        List<Long> rowIds = new ArrayList<>();
+        try (SheetStream stream = sheetResource.streamSheet(123123L)) {
+            Sheet sheet = stream.getSheet();
+            assertThat(sheet.getName()).isEqualTo("streamed sheet");
+            assertThat(sheet.getColumns()).hasSize(2);
+            assertThat(sheet.getRows()).isNull();
+            assertThat(sheet.getPermalink()).isNull();
+
+            for (Row row : stream) {
+                rowIds.add(row.getId());
+                assertThat(row.getCells()).isNotEmpty();
+            }
+
+            // the fields after the rows are filled in once the rows have been read
+            assertThat(sheet.getPermalink()).startsWith("https://app.smartsheet.com/");
+            assertThat(sheet.getModifiedAt()).isNotNull();
+        }
+        assertThat(rowIds).containsExactly(2361756178769796L, 6865355806140292L, 1236856271927172L);
+    }
+
+    @Test
+    void testStreamSheetAsStream() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/streamSheet.json"));
+
+        try (SheetStream stream = sheetResource.streamSheet(123123L)) {
+            assertThat(stream.stream().mapToInt(row -> row.getCells().size()).sum()).isEqualTo(5);
+            assertThatThrownBy(stream::iterator).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void testStreamSheetClosedEarly() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/streamSheet.json"));
+
+        SheetStream stream = sheetResource.streamSheet(123123L);
+        Iterator<Row> rows = stream.iterator();
+        assertThat(rows.next().getRowNumber()).isEqualTo(1);
+        stream.close();
+        assertThat(rows.hasNext()).isFalse();
+
+        // the connection was released, so the client can be used again
+        server.setResponseBody(new File("src/test/resources/getSheet.json"));
+        assertThat(sheetResource.getSheet(123123L, null, null, null, null, null, null, null).getColumns()).hasSize(9);
+    }
+
+    @Test
+    void testStreamSheetClosesOwnConnection() throws Exception {
+        HttpResponse response = new HttpResponse();
+        HttpEntity entity = new HttpEntity();
+        entity.setContent(Files.newInputStream(Paths.get("src/test/resources/streamSheet.json")));
+        response.setEntity(entity);
+        AtomicInteger closes = new AtomicInteger();
+        response.setConnectionHandle(closes::incrementAndGet);
+        HttpClient httpClient = mock(HttpClient.class);
+
+        SheetStreamImpl stream = SheetStreamImpl.open(new JacksonJsonSerializer(), response, httpClient);
+        assertThat(stream.iterator().next().getRowNumber()).isEqualTo(1);
+
+        // closed from another thread, so a thread-bound release would miss this connection
+        Thread closer = new Thread(stream::close);
+        closer.start();
+        closer.join();
+
+        assertThat(closes.get()).isEqualTo(1);
+        verify(httpClient, never()).releaseConnection();
+    }
+
+    @Test
+    void testGetSheetFrame() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/streamSheet.json"));
+
+        SheetFrame frame = sheetResource.getSheetFrame(123123L);
+
+        assertThat(frame.getRowCount()).isEqualTo(3);
+        assertThat(frame.getSheet().getPermalink()).startsWith("https://app.smartsheet.com/");
+        int task = frame.getColumnIndex(4583173393803140L);
+        int status = frame.getColumnIndex(2331373580117892L);
+        assertThat(frame.getRowId(1)).isEqualTo(6865355806140292L);
+        assertThat(frame.getString(0, task)).isEqualTo("Revision 1");
+        assertThat(frame.getDouble(1, task)).isEqualTo(42d);
+        assertThat(frame.getValue(1, task)).isEqualTo(42);
+        assertThat(frame.isNull(2, status)).isTrue();
+        assertThat(frame.getDictionary(status)).containsExactly("completed", "open");
+    }
+
+    @Test
+    void testGetSheetFrameMatchesSheet() throws SmartsheetException, IOException {
+        for (String file : new String[]{"streamSheet.json", "getSheetFrame.json"}) {
+            server.setResponseBody(new File("src/test/resources/" + file));
+            SheetFrame streamed = sheetResource.getSheetFrame(123123L);
+            server.setResponseBody(new File("src/test/resources/" + file));
+            SheetFrame fromSheet = SheetFrame.of(sheetResource.getSheet(123123L, null, null, null, null, null, null, null));
+
+            assertThat(streamed.getRowCount()).isEqualTo(3);
+            assertThat(streamed.getRowCount()).isEqualTo(fromSheet.getRowCount());
+            for (int row = 0; row < streamed.getRowCount(); row++) {
+                assertThat(streamed.toRow(row)).usingRecursiveComparison().isEqualTo(fromSheet.toRow(row));
+            }
+        }
+    }
+
+    @Test
+    void testGetLazySheet() throws SmartsheetException, IOException {
+        for (String file : new String[]{"streamSheet.json", "getSheetFrame.json"}) {
+            server.setResponseBody(new File("src/test/resources/" + file));
+            LazySheet lazy = sheetResource.getLazySheet(123123L);
+            server.setResponseBody(new File("src/test/resources/" + file));
+            Sheet sheet = sheetResource.getSheet(123123L, null, null, null, null, null, null, null);
+
+            assertThat(lazy.getRowCount()).isEqualTo(3);
+            assertThat(lazy.getMappedRowCount()).isZero();
+            assertThat(lazy.getName()).isEqualTo(sheet.getName());
+            assertThat(lazy.getColumns()).usingRecursiveComparison().isEqualTo(sheet.getColumns());
+
+            Row second = sheet.getRows().get(1);
+            assertThat(lazy.getRowById(second.getId())).usingRecursiveComparison().isEqualTo(second);
+            assertThat(lazy.getRowByRowNumber(second.getRowNumber())).isSameAs(lazy.getRowById(second.getId()));
+            assertThat(lazy.getRowById(1L)).isNull();
+            assertThat(lazy.getMappedRowCount()).isEqualTo(1);
+
+            assertThat(lazy.getRows()).usingRecursiveFieldByFieldElementComparator().isEqualTo(sheet.getRows());
+            assertThat(lazy.getRows().get(1)).isSameAs(lazy.getRowAt(1));
+            assertThat(lazy.getMappedRowCount()).isEqualTo(3);
+        }
+    }
+
     @Test
     void testGetSheetWithFormat() throws SmartsheetException, IOException {
 
@@ -298,6 +443,14 @@ class SheetResourcesImplTest extends ResourcesImplBase {
         assertThat(version).isEqualTo(1);
     }
 
+    @Test
+    void testGetSheetRowsModifiedSince() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/getSheet.json"));
+        Sheet sheet = sheetResource.getSheetRowsModifiedSince(123123L, EnumSet.of(SheetInclusion.FORMAT),
+                new Date(0), 3);
+        assertThat(sheet.getColumns()).hasSize(9);
+    }
+
     @Test
     void testSendSheet() throws SmartsheetException, IOException {
         server.setResponseBody(new File("src/test/resources/sendEmails.json"));
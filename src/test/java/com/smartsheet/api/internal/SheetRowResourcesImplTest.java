@@ -22,6 +22,7 @@ package com.smartsheet.api.internal;
 
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.models.Cell;
 import com.smartsheet.api.models.CopyOrMoveRowDestination;
 import com.smartsheet.api.models.CopyOrMoveRowDirective;
@@ -38,13 +39,19 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SheetRowResourcesImplTest extends ResourcesImplBase {
 
@@ -177,4 +184,58 @@ class SheetRowResourcesImplTest extends ResourcesImplBase {
 
         List<Long> ids = sheetRowResource.deleteRows(123L, rowIds, true);
     }
+
+    @Test
+    void testDeleteRowsInChunks() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/deleteRow.json"));
+
+        Set<Long> rowIds = LongStream.range(0, 1000).map(i -> 145417762563972L + i).boxed().collect(Collectors.toSet());
+        int chunks = countChunks(rowIds);
+        assertThat(chunks).isGreaterThan(1);
+
+        // every request gets the same four ids back
+        List<Long> ids = sheetRowResource.deleteRows(123L, rowIds, true, 3);
+        assertThat(ids).hasSize(4 * chunks);
+        assertThat(sheetRowResource.deleteRows(123L, rowIds, true)).hasSize(4 * chunks);
+
+        List<List<Long>> deleted = new ArrayList<>();
+        long count = sheetRowResource.deleteRows(123L, rowIds.stream(), true, 2, deleted::add);
+        assertThat(count).isEqualTo(4L * chunks);
+        assertThat(deleted).hasSize(chunks);
+
+        assertThatThrownBy(() -> sheetRowResource.deleteRows(123L, rowIds, true, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testChunkRowIds() {
+        List<Long> rowIds = LongStream.range(0, 1000).map(i -> 4508365800925060L + i * 7919).boxed()
+                .collect(Collectors.toList());
+
+        List<Long> all = new ArrayList<>();
+        Iterator<List<Long>> chunks = SheetRowResourcesImpl.chunkRowIds(rowIds.iterator(), 500);
+        while (chunks.hasNext()) {
+            List<Long> chunk = chunks.next();
+            String encoded = URLEncoder.encode(QueryUtil.generateCommaSeparatedList(chunk), StandardCharsets.UTF_8);
+            assertThat(encoded.length()).isLessThanOrEqualTo(500);
+            all.addAll(chunk);
+        }
+        assertThat(all).isEqualTo(rowIds);
+
+        // a single id longer than the limit still gets a chunk of its own
+        Iterator<List<Long>> single = SheetRowResourcesImpl.chunkRowIds(List.of(1L, 22L).iterator(), 1);
+        assertThat(single.next()).containsExactly(1L);
+        assertThat(single.next()).containsExactly(22L);
+        assertThat(single.hasNext()).isFalse();
+    }
+
+    private static int countChunks(Set<Long> rowIds) {
+        int count = 0;
+        Iterator<List<Long>> chunks = SheetRowResourcesImpl.chunkRowIds(rowIds.iterator(),
+                SheetRowResourcesImpl.MAX_ROW_IDS_QUERY_LENGTH);
+        for (; chunks.hasNext(); chunks.next()) {
+            count++;
+        }
+        return count;
+    }
 }
@@ -115,6 +115,30 @@ class SmartsheetImplTest extends ResourcesImplBase {
     @Test
     void testSetAccessToken() { smartsheet.setAccessToken("1234"); }
 
+    @Test
+    void testResolveURI() {
+        assertThat(smartsheet.resolveURI("sheets/1?include=format")).hasToString(baseURI + "sheets/1?include=format");
+        assertThat(smartsheet.resolveURI("../2.0/sheets")).isEqualTo(smartsheet.getBaseURI().resolve("../2.0/sheets"));
+        assertThat(smartsheet.resolveURI("/sheets")).hasToString("http://localhost:9090/sheets");
+    }
+
+    @Test
+    void testAs() {
+        smartsheet.setChangeAgent("agent");
+        SmartsheetImpl view = (SmartsheetImpl) smartsheet.as("user");
+
+        assertThat(view.getAssumedUser()).isEqualTo("user");
+        assertThat(view.getChangeAgent()).isEqualTo("agent");
+        assertThat(view.getHttpClient()).isSameAs(httpClient);
+        assertThat(view.getJsonSerializer()).isSameAs(smartsheet.getJsonSerializer());
+        assertThat(smartsheet.getAssumedUser()).isNull();
+
+        SmartsheetImpl other = (SmartsheetImpl) view.as("other", null);
+        assertThat(other.getAssumedUser()).isEqualTo("other");
+        assertThat(other.getChangeAgent()).isNull();
+        assertThat(view.getAssumedUser()).isEqualTo("user");
+    }
+
     @Test
     void testSights() {
         assertThat(smartsheet.sightResources()).isNotNull();
@@ -0,0 +1,167 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AuthorizationException;
+import com.smartsheet.api.SmartsheetPool;
+import com.smartsheet.api.SmartsheetPoolBuilder;
+import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.http.HttpEntity;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.models.UserProfile;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SmartsheetPoolImplTest {
+
+    private static final String USER = "{\"id\":1,\"email\":\"john.doe@smartsheet.com\"}";
+
+    @Test
+    void testCallsAreSpreadAcrossTokens() throws Exception {
+        StubHttpClient httpClient = new StubHttpClient();
+        SmartsheetPool pool = pool(httpClient, "a", "b");
+
+        for (int i = 0; i < 4; i++) {
+            UserProfile user = pool.execute(smartsheet -> smartsheet.userResources().getCurrentUser());
+            assertThat(user.getEmail()).isEqualTo("john.doe@smartsheet.com");
+        }
+
+        assertThat(httpClient.calls("a")).isEqualTo(2);
+        assertThat(httpClient.calls("b")).isEqualTo(2);
+    }
+
+    @Test
+    void testFailsOverWhenTokenIsRateLimited() throws Exception {
+        StubHttpClient httpClient = new StubHttpClient();
+        httpClient.fail("a", 429, 4003);
+        SmartsheetPool pool = pool(httpClient, "a", "b");
+
+        for (int i = 0; i < 3; i++) {
+            UserProfile user = pool.execute(smartsheet -> smartsheet.userResources().getCurrentUser());
+            assertThat(user).isNotNull();
+        }
+
+        assertThat(httpClient.calls("a")).isEqualTo(1);
+        assertThat(httpClient.calls("b")).isEqualTo(3);
+        assertThat(pool.getTokenStatuses().get(0).isThrottled()).isTrue();
+        assertThat(pool.getTokenStatuses().get(1).isThrottled()).isFalse();
+    }
+
+    @Test
+    void testExpiredTokenIsRemovedFromRotation() throws Exception {
+        StubHttpClient httpClient = new StubHttpClient();
+        httpClient.fail("b", 401, 1003);
+        SmartsheetPool pool = pool(httpClient, "b", "a");
+
+        for (int i = 0; i < 3; i++) {
+            UserProfile user = pool.execute(smartsheet -> smartsheet.userResources().getCurrentUser());
+            assertThat(user).isNotNull();
+        }
+
+        assertThat(httpClient.calls("b")).isEqualTo(1);
+        assertThat(pool.getTokenStatuses().get(0).isExpired()).isTrue();
+    }
+
+    @Test
+    void testNoTokenAuthorized() {
+        StubHttpClient httpClient = new StubHttpClient();
+        httpClient.fail("a", 403, 1004);
+        httpClient.fail("b", 403, 1004);
+        SmartsheetPool pool = pool(httpClient, "a", "b");
+
+        assertThatThrownBy(() -> pool.execute(smartsheet -> smartsheet.userResources().getCurrentUser()))
+                .isInstanceOf(AuthorizationException.class);
+        assertThat(httpClient.calls("a")).isEqualTo(1);
+        assertThat(httpClient.calls("b")).isEqualTo(1);
+        // a permission failure says nothing about the health of the token
+        assertThat(pool.getTokenStatuses().get(0).isExpired()).isFalse();
+    }
+
+    private static SmartsheetPool pool(HttpClient httpClient, String... tokens) {
+        SmartsheetPoolBuilder builder = new SmartsheetPoolBuilder()
+                .setBaseURI("http://localhost:9090/2.0/")
+                .setHttpClient(httpClient);
+        for (String token : tokens) {
+            builder.addAccessToken(token);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Answers every request with the current user, unless a failure was registered for the request's token.
+     */
+    private static class StubHttpClient implements HttpClient {
+        private final Map<String, int[]> failures = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+        void fail(String token, int status, int errorCode) {
+            failures.put(token, new int[]{status, errorCode});
+        }
+
+        int calls(String token) {
+            return calls.computeIfAbsent(token, k -> new AtomicInteger()).get();
+        }
+
+        @Override
+        public HttpResponse request(HttpRequest request) {
+            String token = request.getHeaders().get("Authorization").substring("Bearer ".length());
+            calls.computeIfAbsent(token, k -> new AtomicInteger()).incrementAndGet();
+
+            int[] failure = failures.get(token);
+            HttpResponse response = new HttpResponse();
+            if (failure == null) {
+                response.setStatus(200, "OK");
+                response.setEntity(entity(USER));
+            } else {
+                response.setStatus(failure[0], "failed");
+                response.setEntity(entity("{\"errorCode\":" + failure[1] + ",\"message\":\"failed\"}"));
+            }
+            return response;
+        }
+
+        private static HttpEntity entity(String json) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            HttpEntity entity = new HttpEntity();
+            entity.setContentType("application/json");
+            entity.setContentLength(bytes.length);
+            entity.setContent(new ByteArrayInputStream(bytes));
+            return entity;
+        }
+
+        @Override
+        public void releaseConnection() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
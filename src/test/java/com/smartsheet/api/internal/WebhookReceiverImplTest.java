@@ -0,0 +1,213 @@
+package com.smartsheet.api.internal;
+
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.WebhookReceiver;
+import com.smartsheet.api.WebhookReceiverBuilder;
+import com.smartsheet.api.models.WebhookCallback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebhookReceiverImplTest {
+
+    private static final String SECRET = "shared-secret";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private final List<List<WebhookCallback>> batches = new CopyOnWriteArrayList<>();
+
+    private WebhookReceiver receiver;
+
+    @AfterEach
+    void tearDown() {
+        if (receiver != null) {
+            receiver.close();
+        }
+    }
+
+    private WebhookReceiver start(WebhookReceiverBuilder builder) throws Exception {
+        receiver = builder.addSharedSecret(SECRET).setBindAddress(InetAddress.getLoopbackAddress()).build();
+        receiver.start();
+        return receiver;
+    }
+
+    private static String body(String nonce) {
+        return "{\"nonce\":\"" + nonce + "\",\"timestamp\":\"2023-01-05T14:02:07.541+00:00\",\"webhookId\":7,"
+                + "\"scope\":\"sheet\",\"scopeObjectId\":11,\"events\":[{\"objectType\":\"cell\","
+                + "\"eventType\":\"updated\",\"rowId\":3,\"columnId\":4,\"userId\":5,"
+                + "\"timestamp\":\"2023-01-05T14:02:06Z\"}]}";
+    }
+
+    static String sign(String secret, String body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        StringBuilder hex = new StringBuilder();
+        for (byte b : mac.doFinal(body.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private HttpResponse<String> post(String body, String signature) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + receiver.getPort() + "/"))
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (signature != null) {
+            request.header(WebhookReceiverImpl.SIGNATURE_HEADER, signature);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testAnswersChallenge() throws Exception {
+        start(new WebhookReceiverBuilder(batches::add));
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + receiver.getPort() + "/"))
+                .header(WebhookReceiverImpl.CHALLENGE_HEADER, "abc-123")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"challenge\":\"abc-123\",\"webhookId\":7}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(WebhookReceiverImpl.RESPONSE_HEADER)).hasValue("abc-123");
+        assertThat(response.body()).isEqualTo("{\"smartsheetHookResponse\":\"abc-123\"}");
+        assertThat(receiver.getCallbacksReceived()).isZero();
+    }
+
+    @Test
+    void testDispatchesSignedCallbacks() throws Exception {
+        start(new WebhookReceiverBuilder(batches::add));
+        String body = body("n1");
+
+        assertThat(post(body, sign(SECRET, body)).statusCode()).isEqualTo(200);
+        receiver.close();
+
+        assertThat(receiver.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).hasSize(1);
+        WebhookCallback callback = batches.get(0).get(0);
+        assertThat(callback.getWebhookId()).isEqualTo(7L);
+        assertThat(callback.getScopeObjectId()).isEqualTo(11L);
+        assertThat(callback.getEvents()).hasSize(1);
+        assertThat(callback.getEvents().get(0).getObjectType()).isEqualTo("cell");
+        assertThat(callback.getEvents().get(0).getColumnId()).isEqualTo(4L);
+        assertThat(callback.getEvents().get(0).getTimestamp()).isNotNull();
+    }
+
+    @Test
+    void testRejectsInvalidSignatures() throws Exception {
+        start(new WebhookReceiverBuilder(batches::add));
+        String body = body("n1");
+
+        assertThat(post(body, sign("other-secret", body)).statusCode()).isEqualTo(401);
+        assertThat(post(body, "not-hex").statusCode()).isEqualTo(401);
+        assertThat(post(body, null).statusCode()).isEqualTo(401);
+        assertThat(post("{}", sign(SECRET, body)).statusCode()).isEqualTo(401);
+
+        assertThat(receiver.getRejected()).isEqualTo(4);
+        assertThat(receiver.getCallbacksReceived()).isZero();
+    }
+
+    @Test
+    void testAcceptsAnyConfiguredSecret() throws Exception {
+        start(new WebhookReceiverBuilder(batches::add).addSharedSecret("rotated-secret"));
+        String body = body("n1");
+
+        assertThat(post(body, sign("rotated-secret", body)).statusCode()).isEqualTo(200);
+        assertThat(receiver.getCallbacksReceived()).isEqualTo(1);
+    }
+
+    @Test
+    void testAcknowledgesRetriesWithoutQueueingThem() throws Exception {
+        start(new WebhookReceiverBuilder(batches::add));
+        String body = body("n1");
+        String signature = sign(SECRET, body);
+
+        assertThat(post(body, signature).statusCode()).isEqualTo(200);
+        assertThat(post(body, signature).statusCode()).isEqualTo(200);
+
+        assertThat(receiver.getCallbacksReceived()).isEqualTo(1);
+        assertThat(receiver.getDuplicates()).isEqualTo(1);
+    }
+
+    @Test
+    void testBatchesAndRefusesWhenFull() throws Exception {
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        start(new WebhookReceiverBuilder(callbacks -> {
+            batches.add(callbacks);
+            handling.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).setQueueCapacity(3).setMaxBatchSize(10));
+
+        String first = body("n0");
+        assertThat(post(first, sign(SECRET, first)).statusCode()).isEqualTo(200);
+        assertThat(handling.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 3; i++) {
+            String body = body("n" + i);
+            assertThat(post(body, sign(SECRET, body)).statusCode()).isEqualTo(200);
+        }
+        String overflow = body("n4");
+        assertThat(post(overflow, sign(SECRET, overflow)).statusCode()).isEqualTo(503);
+
+        release.countDown();
+        // the refused callback is not remembered, so its retry is accepted
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        int status;
+        do {
+            status = post(overflow, sign(SECRET, overflow)).statusCode();
+        } while (status == 503 && System.nanoTime() < deadline);
+        assertThat(status).isEqualTo(200);
+        receiver.close();
+
+        assertThat(receiver.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(receiver.getCallbacksDispatched()).isEqualTo(5);
+        assertThat(batches.get(0)).hasSize(1);
+        assertThat(batches.get(1)).extracting(WebhookCallback::getNonce).startsWith("n1", "n2", "n3");
+    }
+
+    @Test
+    void testRequiresSharedSecret() {
+        assertThatThrownBy(() -> new WebhookReceiverBuilder(batches::add).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpEntitySnapshotTest {
+
+    @Test
+    void testEmptyJsonBody() throws IOException {
+        HttpEntity entity = jsonEntity(new BufferedInputStream(new ByteArrayInputStream(new byte[0])));
+
+        HttpEntitySnapshot snapshot = new HttpEntitySnapshot(entity);
+
+        assertThat(snapshot.getContentArray()).isEmpty();
+        assertThat(entity.getContent().read()).isEqualTo(-1);
+    }
+
+    @Test
+    void testShortReadsAreCombined() throws IOException {
+        String body = "{\"id\":1,\"name\":\"sheet\"}";
+        // hands out one byte per read, the way a slow socket can
+        InputStream trickle = new FilterInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+
+            @Override
+            public int available() {
+                return 0;
+            }
+        };
+        HttpEntity entity = jsonEntity(new BufferedInputStream(trickle, 1));
+
+        HttpEntitySnapshot snapshot = new HttpEntitySnapshot(entity);
+
+        assertThat(new String(snapshot.getContentArray(), StandardCharsets.UTF_8)).isEqualTo(body);
+        assertThat(new String(entity.getContent().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    private static HttpEntity jsonEntity(InputStream content) {
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/json;charset=UTF-8");
+        entity.setContentLength(-1);
+        entity.setContent(content);
+        return entity;
+    }
+}
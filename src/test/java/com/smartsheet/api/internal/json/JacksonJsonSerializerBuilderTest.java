@@ -0,0 +1,164 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.smartsheet.api.internal.util.StringDeduplicator;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.ContactObjectValue;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.User;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JacksonJsonSerializerBuilderTest {
+
+    private static final String USER_WITH_UNKNOWN_FIELD = "{\"email\":\"test@test.com\",\"unknownField\":1}";
+
+    @Test
+    void testDefaults() throws Exception {
+        JacksonJsonSerializer serializer = new JacksonJsonSerializerBuilder().build();
+
+        assertThat(serializer.isFailOnUnknownProperties()).isFalse();
+        User user = serializer.deserialize(User.class, new ByteArrayInputStream(USER_WITH_UNKNOWN_FIELD.getBytes()));
+        assertThat(user.getEmail()).isEqualTo("test@test.com");
+
+        Map<String, Object> map = serializer.deserializeMap(new ByteArrayInputStream("{\"a\":1.5}".getBytes()));
+        assertThat(map.get("a")).isEqualTo(1.5d);
+    }
+
+    @Test
+    void testStrictAndLenientSideBySide() throws Exception {
+        JacksonJsonSerializer strict = new JacksonJsonSerializerBuilder().setFailOnUnknownProperties(true).build();
+        JacksonJsonSerializer lenient = new JacksonJsonSerializerBuilder().setFailOnUnknownProperties(false).build();
+
+        assertThat(strict.isFailOnUnknownProperties()).isTrue();
+        assertThatThrownBy(() -> strict.deserializeResult(User.class,
+                new ByteArrayInputStream(("{\"result\":" + USER_WITH_UNKNOWN_FIELD + "}").getBytes())))
+                .isInstanceOf(JSONSerializerException.class);
+        assertThat(lenient.deserialize(User.class, new ByteArrayInputStream(USER_WITH_UNKNOWN_FIELD.getBytes())))
+                .extracting(User::getEmail)
+                .isEqualTo("test@test.com");
+    }
+
+    @Test
+    void testUseBigDecimalForFloats() throws JSONSerializerException {
+        JacksonJsonSerializer serializer = new JacksonJsonSerializerBuilder().setUseBigDecimalForFloats(true)
+                .setInternFieldNames(false).build();
+
+        Map<String, Object> map = serializer.deserializeMap(new ByteArrayInputStream("{\"a\":1.10}".getBytes()));
+        assertThat(map.get("a")).isEqualTo(new BigDecimal("1.10"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation") // checks that built serializers ignore the deprecated global setting
+    void testBuiltSerializerIgnoresGlobalSetting() throws Exception {
+        JacksonJsonSerializer lenient = new JacksonJsonSerializerBuilder().build();
+        try {
+            JacksonJsonSerializer.setFailOnUnknownProperties(true);
+            assertThat(new JacksonJsonSerializer().isFailOnUnknownProperties()).isTrue();
+            assertThat(lenient.deserialize(User.class, new ByteArrayInputStream(USER_WITH_UNKNOWN_FIELD.getBytes())))
+                    .isNotNull();
+        } finally {
+            JacksonJsonSerializer.setFailOnUnknownProperties(false);
+        }
+    }
+
+    @Test
+    void testStringDeduplicator() throws Exception {
+        String json = "{\"id\":1,\"rows\":["
+                + "{\"id\":1,\"cells\":[{\"columnId\":1,\"value\":\"Done\",\"displayValue\":\"Done\"},"
+                + "{\"columnId\":2,\"objectValue\":{\"objectType\":\"CONTACT\",\"name\":\"Jane\","
+                + "\"email\":\"jane@test.com\"}}]},"
+                + "{\"id\":2,\"cells\":[{\"columnId\":1,\"value\":\"Done\",\"displayValue\":\"Done\"},"
+                + "{\"columnId\":2,\"objectValue\":{\"objectType\":\"CONTACT\",\"name\":\"Jane\","
+                + "\"email\":\"jane@test.com\"}}]}]}";
+
+        Sheet plain = new JacksonJsonSerializerBuilder().build()
+                .deserialize(Sheet.class, new ByteArrayInputStream(json.getBytes()));
+        assertThat(plain.getRows().get(0).getCells().get(0).getDisplayValue())
+                .isNotSameAs(plain.getRows().get(1).getCells().get(0).getDisplayValue());
+
+        Sheet sheet = new JacksonJsonSerializerBuilder().setStringDeduplicator(new StringDeduplicator(1024)).build()
+                .deserialize(Sheet.class, new ByteArrayInputStream(json.getBytes()));
+        Cell first = sheet.getRows().get(0).getCells().get(0);
+        Cell second = sheet.getRows().get(1).getCells().get(0);
+        assertThat(first.getDisplayValue()).isEqualTo("Done").isSameAs(second.getDisplayValue());
+        assertThat(first.getValue()).isSameAs(first.getDisplayValue()).isSameAs(second.getValue());
+
+        ContactObjectValue firstContact = (ContactObjectValue) sheet.getRows().get(0).getCells().get(1).getObjectValue();
+        ContactObjectValue secondContact = (ContactObjectValue) sheet.getRows().get(1).getCells().get(1).getObjectValue();
+        assertThat(firstContact.getName()).isEqualTo("Jane").isSameAs(secondContact.getName());
+        assertThat(firstContact.getEmail()).isEqualTo("jane@test.com").isSameAs(secondContact.getEmail());
+    }
+
+    @Test
+    void testSmileRoundTrip() throws Exception {
+        JacksonJsonSerializer json = new JacksonJsonSerializerBuilder().build();
+        JacksonJsonSerializer smile = new JacksonJsonSerializerBuilder().setJsonFactory(new SmileFactory())
+                .setWriteIds(true).build();
+        assertThat(json.isBinary()).isFalse();
+        assertThat(smile.isBinary()).isTrue();
+
+        for (String file : new String[]{"getSheetFrame.json", "streamSheet.json", "getSheetWithFormat.json"}) {
+            Sheet sheet;
+            try (InputStream input = new FileInputStream("src/test/resources/" + file)) {
+                sheet = json.deserialize(Sheet.class, input);
+            }
+
+            ByteArrayOutputStream binary = new ByteArrayOutputStream();
+            smile.serialize(sheet, binary);
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+            json.serialize(sheet, text);
+            assertThat(binary.size()).isLessThan(text.size());
+
+            Sheet copy = smile.deserialize(Sheet.class, new ByteArrayInputStream(binary.toByteArray()));
+            assertThat(copy.getId()).isNotNull().isEqualTo(sheet.getId());
+            assertThat(copy.getColumns()).extracting(Column::getId).doesNotContainNull()
+                    .isEqualTo(sheet.getColumns().stream().map(Column::getId).collect(Collectors.toList()));
+            assertThat(copy).usingRecursiveComparison().isEqualTo(sheet);
+        }
+
+        User user = new User();
+        user.setEmail("test@test.com");
+        PagedResult<User> page = new PagedResult<>();
+        page.setData(List.of(user));
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        smile.serialize(page, binary);
+        assertThat(smile.deserializeDataWrapper(User.class, new ByteArrayInputStream(binary.toByteArray())).getData())
+                .extracting(User::getEmail)
+                .containsExactly("test@test.com");
+        assertThatThrownBy(() -> smile.serialize(page)).isInstanceOf(JSONSerializerException.class);
+    }
+}
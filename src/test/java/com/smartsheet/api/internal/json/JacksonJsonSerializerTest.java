@@ -25,6 +25,7 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.smartsheet.api.models.Folder;
 import com.smartsheet.api.models.Result;
+import com.smartsheet.api.models.Sheet;
 import com.smartsheet.api.models.User;
 import org.junit.jupiter.api.Test;
 
@@ -36,6 +37,7 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -279,4 +281,40 @@ class JacksonJsonSerializerTest {
                 .isInstanceOf(JSONSerializerException.class);
     }
 
+    @Test
+    @SuppressWarnings("deprecation") // exercises the deprecated global setting on purpose
+    void testSetFailOnUnknownPropertiesRebuildsCachedReaders() throws JSONSerializerException {
+        String json = "{\"message\":\"ok\",\"unknownField\":1}";
+
+        // Warm the reader cache with the lenient configuration
+        JacksonJsonSerializer.setFailOnUnknownProperties(false);
+        Result<User> result = jjs.deserializeResult(User.class, new ByteArrayInputStream(json.getBytes()));
+        assertThat(result.getMessage()).isEqualTo("ok");
+
+        try {
+            JacksonJsonSerializer.setFailOnUnknownProperties(true);
+            assertThatThrownBy(() -> jjs.deserializeResult(User.class, new ByteArrayInputStream(json.getBytes())))
+                    .isInstanceOf(JSONSerializerException.class);
+        } finally {
+            JacksonJsonSerializer.setFailOnUnknownProperties(false);
+        }
+        assertThat(jjs.deserializeResult(User.class, new ByteArrayInputStream(json.getBytes())).getMessage())
+                .isEqualTo("ok");
+    }
+
+    @Test
+    void testDates() throws Exception {
+        Sheet sheet = new Sheet();
+        sheet.setCreatedAt(new Date(1500323277890L));
+        assertThat(jjs.serialize(sheet)).contains("\"createdAt\":\"2017-07-17T20:27:57Z\"");
+
+        String json = "{\"createdAt\":\"2017-07-17T20:27:57Z\",\"modifiedAt\":1500323277000}";
+        Sheet result = jjs.deserialize(Sheet.class, new ByteArrayInputStream(json.getBytes()));
+        assertThat(result.getCreatedAt()).isEqualTo(new Date(1500323277000L));
+        assertThat(result.getModifiedAt()).isEqualTo(new Date(1500323277000L));
+
+        assertThatThrownBy(() -> jjs.deserialize(Sheet.class,
+                new ByteArrayInputStream("{\"createdAt\":\"yesterday\"}".getBytes())))
+                .isInstanceOf(JsonMappingException.class);
+    }
 }
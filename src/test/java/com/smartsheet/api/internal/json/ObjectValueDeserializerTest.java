@@ -20,9 +20,14 @@ package com.smartsheet.api.internal.json;
  * %[license]
  */
 
+import com.smartsheet.api.models.ContactObjectValue;
 import com.smartsheet.api.models.DateObjectValue;
 import com.smartsheet.api.models.Duration;
+import com.smartsheet.api.models.MultiContactObjectValue;
+import com.smartsheet.api.models.MultiPicklistObjectValue;
 import com.smartsheet.api.models.ObjectValue;
+import com.smartsheet.api.models.Predecessor;
+import com.smartsheet.api.models.PredecessorList;
 import com.smartsheet.api.models.PrimitiveObjectValue;
 import com.smartsheet.api.models.enums.ObjectValueType;
 import org.junit.jupiter.api.Test;
@@ -30,7 +35,11 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,6 +63,34 @@ class ObjectValueDeserializerTest {
         assertThat(objectValue).isNull();
     }
 
+    @Test
+    void unknownObjectTypeWithNestedValue() throws IOException, JSONSerializerException {
+        // A nested value must be skipped, not read as if its fields belonged to the outer object value.
+        String json = "{\"objectValue\": {\n" +
+                "                        \"objectType\": \"FUTURE_OBJECT_TYPE\",\n" +
+                "                        \"value\": {\"objectType\": \"DATE\", \"value\": \"2024-01-02\"},\n" +
+                "                        \"id\": [\"a\", \"b\"]\n" +
+                "                    }}";
+
+        ObjectValue objectValue = getObjectValue(json);
+
+        assertThat(objectValue).isNull();
+    }
+
+    @Test
+    void nestedValueIsSkipped() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\n" +
+                "                        \"objectType\": \"CONTACT\",\n" +
+                "                        \"id\": {\"name\": \"nested\"},\n" +
+                "                        \"name\": \"John Doe\"\n" +
+                "                    }}";
+
+        ContactObjectValue contact = (ContactObjectValue) getObjectValue(json);
+
+        assertThat(contact.getId()).isNull();
+        assertThat(contact.getName()).isEqualTo("John Doe");
+    }
+
     @Test
     void unknownAttribute() throws IOException, JSONSerializerException {
         // Verify that unknown attributes are ignored by the SDK
@@ -237,6 +274,21 @@ class ObjectValueDeserializerTest {
         assertThat(date.getSeconds()).isEqualTo(57);
     }
 
+    @Test
+    void dateObjectValue_javaTime() throws IOException, JSONSerializerException {
+        DateObjectValue dateTime = (DateObjectValue) getObjectValue("{\"objectValue\": {\"objectType\": \"DATETIME\", " +
+                "\"value\": \"2017-07-17T20:27:57Z\"}}");
+        DateObjectValue date = (DateObjectValue) getObjectValue("{\"objectValue\": {\"objectType\": \"DATE\", " +
+                "\"value\": \"2017-07-17\"}}");
+
+        assertThat(dateTime.toInstant()).isEqualTo(Instant.parse("2017-07-17T20:27:57Z"));
+        assertThat(dateTime.toLocalDateTime()).isEqualTo(LocalDateTime.of(2017, 7, 17, 20, 27, 57));
+        assertThat(date.toLocalDate()).isEqualTo(LocalDate.of(2017, 7, 17));
+        assertThat(DateObjectValue.fromInstant(dateTime.toInstant()).getValue()).isEqualTo("2017-07-17T20:27:57Z");
+        assertThat(DateObjectValue.fromLocalDateTime(ObjectValueType.DATE, date.toLocalDateTime()).getValue())
+                .isEqualTo("2017-07-17");
+    }
+
     @Test
     void dateTime() throws IOException, JSONSerializerException, ParseException {
         String json = "{\"objectValue\": {\n" +
@@ -305,6 +357,58 @@ class ObjectValueDeserializerTest {
         assertThat(jacksonJsonSerializer.serialize(actual)).isEqualTo("true");
     }
 
+    @Test
+    void objectTypeAfterAttributes() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\"hours\": 2, \"negative\": true, \"objectType\": \"DURATION\"}}";
+
+        ObjectValue objectValue = getObjectValue(json);
+
+        assertThat(objectValue).isInstanceOf(Duration.class);
+        assertThat(((Duration) objectValue).getHours()).isEqualTo(2.0);
+        assertThat(((Duration) objectValue).getNegative()).isTrue();
+    }
+
+    @Test
+    void multiContact() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\"objectType\": \"MULTI_CONTACT\", \"values\": [" +
+                "{\"objectType\": \"CONTACT\", \"email\": \"john.doe@smartsheet.com\", \"name\": \"John Doe\", \"refIndex\": 1}," +
+                "{\"objectType\": \"CONTACT\", \"email\": \"jane.doe@smartsheet.com\", \"imageId\": \"abc\"}]}}";
+
+        ObjectValue objectValue = getObjectValue(json);
+
+        assertThat(objectValue).isInstanceOf(MultiContactObjectValue.class);
+        List<ContactObjectValue> contacts = ((MultiContactObjectValue) objectValue).getValues();
+        assertThat(contacts).extracting(ContactObjectValue::getEmail)
+                .containsExactly("john.doe@smartsheet.com", "jane.doe@smartsheet.com");
+        assertThat(contacts.get(0).getName()).isEqualTo("John Doe");
+        assertThat(contacts.get(0).getRefIndex()).isEqualTo(1);
+        assertThat(contacts.get(1).getImageId()).isEqualTo("abc");
+    }
+
+    @Test
+    void multiPicklist() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\"values\": [\"one\", \"two\"], \"objectType\": \"MULTI_PICKLIST\"}}";
+
+        ObjectValue objectValue = getObjectValue(json);
+
+        assertThat(objectValue).isInstanceOf(MultiPicklistObjectValue.class);
+        assertThat(((MultiPicklistObjectValue) objectValue).getValues()).containsExactly("one", "two");
+    }
+
+    @Test
+    void predecessorList() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\"objectType\": \"PREDECESSOR_LIST\", \"predecessors\": [" +
+                "{\"rowId\": 123, \"type\": \"FS\", \"lag\": {\"objectType\": \"DURATION\", \"days\": 2}}]}}";
+
+        ObjectValue objectValue = getObjectValue(json);
+
+        assertThat(objectValue).isInstanceOf(PredecessorList.class);
+        Predecessor predecessor = ((PredecessorList) objectValue).getPredecessors().get(0);
+        assertThat(predecessor.getRowId()).isEqualTo(123L);
+        assertThat(predecessor.getType()).isEqualTo("FS");
+        assertThat(predecessor.getLag().getDays()).isEqualTo(2.0);
+    }
+
     private static class ExpectedAttributeValue {
         final String attributeName;
         final Object attributeValue;
@@ -0,0 +1,135 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.RowProjection;
+import com.smartsheet.api.models.Sheet;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowProjectionDeserializerTest {
+
+    private static final String ROW = "{\"id\":10,\"rowNumber\":1," +
+            "\"format\":\",,1,,,,,,,,,,,,,,\",\"conditionalFormat\":\",,,,,,,,,,,,,,,,\"," +
+            "\"discussions\":[{\"id\":5,\"comments\":[{\"text\":\"hi\"}]}]," +
+            "\"attachments\":[{\"id\":6,\"name\":\"a.txt\"}]," +
+            "\"cells\":[" +
+            "{\"columnId\":1,\"value\":\"a\",\"format\":\",,1,,,,,,,,,,,,,,\"}," +
+            "{\"columnId\":2,\"value\":{\"nested\":[1,2,3]},\"displayValue\":\"b\"}," +
+            "{\"value\":\"c\",\"displayValue\":\"c\",\"columnId\":3}," +
+            "{\"columnId\":4,\"objectValue\":{\"objectType\":\"MULTI_CONTACT\",\"values\":[]}}" +
+            "],\"createdAt\":\"2017-07-17T20:27:57Z\"}";
+
+    private static final String SHEET = "{\"id\":1,\"name\":\"Sheet\",\"columns\":[{\"id\":1},{\"id\":2},{\"id\":3}]," +
+            "\"rows\":[" + ROW + "," + ROW.replace("\"id\":10", "\"id\":11") + "],\"totalRowCount\":2}";
+
+    @Test
+    void testSelectedColumnsAndSkippedFields() throws Exception {
+        JacksonJsonSerializer serializer = new JacksonJsonSerializerBuilder()
+                .setRowProjection(RowProjection.ofColumns(1L, 3L))
+                .build();
+
+        Sheet sheet = serializer.deserialize(Sheet.class, new ByteArrayInputStream(SHEET.getBytes()));
+
+        assertThat(sheet.getColumns()).hasSize(3);
+        assertThat(sheet.getTotalRowCount()).isEqualTo(2);
+        assertThat(sheet.getRows()).extracting(Row::getId).containsExactly(10L, 11L);
+        Row row = sheet.getRows().get(0);
+        assertThat(columnIds(row)).containsExactly(1L, 3L);
+        assertThat(row.getCells()).extracting(Cell::getValue).containsExactly("a", "c");
+        assertThat(row.getCells()).extracting(Cell::getFormat).containsOnlyNulls();
+        assertThat(row.getCells().get(1).getDisplayValue()).isEqualTo("c");
+        assertThat(row.getFormat()).isNull();
+        assertThat(row.getConditionalFormat()).isNull();
+        assertThat(row.getDiscussions()).isNull();
+        assertThat(row.getAttachments()).isNull();
+        assertThat(row.getRowNumber()).isEqualTo(1);
+        assertThat(row.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void testAllColumnsKeepingFields() throws Exception {
+        JacksonJsonSerializer serializer = new JacksonJsonSerializerBuilder()
+                .setRowProjection(RowProjection.allColumns().keepFields("format").skipFields("displayValue"))
+                .build();
+
+        Row row = serializer.deserialize(Row.class, new ByteArrayInputStream(ROW.getBytes()));
+
+        assertThat(columnIds(row)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(row.getFormat()).isNotNull();
+        assertThat(row.getCells().get(0).getFormat()).isNotNull();
+        assertThat(row.getCells()).extracting(Cell::getDisplayValue).containsOnlyNulls();
+        assertThat(row.getDiscussions()).isNull();
+    }
+
+    @Test
+    void testReportRowsAndRowLists() throws Exception {
+        JacksonJsonSerializer serializer = new JacksonJsonSerializerBuilder()
+                .setRowProjection(RowProjection.ofColumns(2L))
+                .build();
+
+        Report report = serializer.deserialize(Report.class, new ByteArrayInputStream(SHEET.getBytes()));
+        assertThat(report.getRows()).allSatisfy(row -> assertThat(row.getCells()).hasSize(1));
+
+        List<Row> rows = serializer.deserializeList(Row.class,
+                new ByteArrayInputStream(("[" + ROW + "]").getBytes()));
+        assertThat(columnIds(rows.get(0))).containsExactly(2L);
+    }
+
+    @Test
+    void testStreamedRows() throws IOException {
+        JacksonJsonSerializer serializer = new JacksonJsonSerializerBuilder()
+                .setRowProjection(RowProjection.ofColumns(4L))
+                .build();
+
+        try (JsonParser parser = serializer.createParser(new ByteArrayInputStream(("[" + ROW + "]").getBytes()))) {
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_ARRAY);
+            parser.nextToken();
+            Row row = serializer.deserializeValue(Row.class, parser);
+            assertThat(columnIds(row)).containsExactly(4L);
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.END_ARRAY);
+        }
+    }
+
+    @Test
+    void testDefaultSerializerReadsRowsInFull() throws Exception {
+        Row row = new JacksonJsonSerializer().deserialize(Row.class, new ByteArrayInputStream(ROW.getBytes()));
+
+        assertThat(columnIds(row)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(row.getDiscussions()).hasSize(1);
+        assertThat(row.getAttachments()).hasSize(1);
+    }
+
+    private static List<Long> columnIds(Row row) {
+        return row.getCells().stream().map(Cell::getColumnId).collect(Collectors.toList());
+    }
+}
@@ -26,7 +26,7 @@ import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.internal.http.HttpClient;
 import com.smartsheet.api.internal.http.HttpClientException;
 import com.smartsheet.api.internal.json.JSONSerializerException;
-import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.json.JacksonJsonSerializerBuilder;
 import com.smartsheet.api.internal.json.JsonSerializer;
 import com.smartsheet.api.oauth.AccessDeniedException;
 import com.smartsheet.api.oauth.AccessScope;
@@ -60,7 +60,7 @@ class OAuthFlowImplIT {
     String authorizationURL = "authorizationURL";
     String tokenURL = "tokenURL";
     HttpClient httpClient = new DefaultHttpClient();
-    JsonSerializer json = new JacksonJsonSerializer();
+    JsonSerializer json = new JacksonJsonSerializerBuilder().setFailOnUnknownProperties(true).build();
 
     HttpTestServer server;
 
@@ -77,10 +77,6 @@ class OAuthFlowImplIT {
         server = new HttpTestServer();
         server.setPort(9090);
         server.start();
-
-        // Setup the serializer
-        JacksonJsonSerializer serializer = new JacksonJsonSerializer();
-        serializer.setFailOnUnknownProperties(true);
     }
 
     @Test
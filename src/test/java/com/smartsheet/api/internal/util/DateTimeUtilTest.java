@@ -0,0 +1,117 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DateTimeUtilTest {
+
+    @Nested
+    class Format {
+        @Test
+        void formatInstant() {
+            assertThat(DateTimeUtil.formatInstant(Instant.parse("2017-07-17T20:27:57.890Z")))
+                    .isEqualTo("2017-07-17T20:27:57Z");
+            assertThat(DateTimeUtil.formatInstant(new Date(0))).isEqualTo("1970-01-01T00:00:00Z");
+            assertThat(DateTimeUtil.formatInstant(Instant.parse("1969-12-31T23:59:59.500Z")))
+                    .isEqualTo("1969-12-31T23:59:59Z");
+            assertThat(DateTimeUtil.formatInstant(Instant.parse("2000-02-29T12:00:00Z")))
+                    .isEqualTo("2000-02-29T12:00:00Z");
+        }
+
+        @Test
+        void formatInstant_matchesJavaTime() {
+            Random random = new Random(42);
+            for (int i = 0; i < 10000; i++) {
+                Instant instant = Instant.ofEpochSecond(random.nextInt() * 4L);
+                assertThat(DateTimeUtil.formatInstant(instant)).isEqualTo(instant.toString());
+            }
+        }
+
+        @Test
+        void formatLocal() {
+            assertThat(DateTimeUtil.formatLocalDateTime(LocalDateTime.of(2017, 7, 1, 16, 30, 7, 1000)))
+                    .isEqualTo("2017-07-01T16:30:07");
+            assertThat(DateTimeUtil.formatLocalDate(LocalDate.of(17, 7, 1))).isEqualTo("0017-07-01");
+        }
+    }
+
+    @Nested
+    class Parse {
+        @Test
+        void parseInstant() {
+            assertThat(DateTimeUtil.parseInstant("2017-07-17T20:27:57Z")).isEqualTo(Instant.parse("2017-07-17T20:27:57Z"));
+            assertThat(DateTimeUtil.parseInstant("2017-07-17T20:27:57.123Z"))
+                    .isEqualTo(Instant.parse("2017-07-17T20:27:57.123Z"));
+            assertThat(DateTimeUtil.parseInstant("2017-07-17T13:27:57-07:00"))
+                    .isEqualTo(Instant.parse("2017-07-17T20:27:57Z"));
+            assertThat(DateTimeUtil.parseInstant("2017-07-17")).isEqualTo(Instant.parse("2017-07-17T00:00:00Z"));
+        }
+
+        @Test
+        void parseInstant_matchesJavaTime() {
+            Random random = new Random(7);
+            for (int i = 0; i < 10000; i++) {
+                Instant instant = Instant.ofEpochSecond(random.nextInt() * 4L);
+                assertThat(DateTimeUtil.parseInstant(instant.toString())).isEqualTo(instant);
+                assertThat(DateTimeUtil.parseDate(instant.toString())).isEqualTo(Date.from(instant));
+            }
+        }
+
+        @Test
+        void parseInstant_invalid() {
+            assertThatThrownBy(() -> DateTimeUtil.parseInstant("2017-02-29T00:00:00Z"))
+                    .isInstanceOf(DateTimeParseException.class);
+            assertThatThrownBy(() -> DateTimeUtil.parseInstant("2017-07-17T24:00:00Z"))
+                    .isInstanceOf(DateTimeParseException.class);
+            assertThatThrownBy(() -> DateTimeUtil.parseInstant("2017-07-17 20:27:57Z"))
+                    .isInstanceOf(DateTimeParseException.class);
+            assertThatThrownBy(() -> DateTimeUtil.parseInstant("not a date"))
+                    .isInstanceOf(DateTimeParseException.class);
+            assertThatThrownBy(() -> DateTimeUtil.parseInstant(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void parseLocal() {
+            assertThat(DateTimeUtil.parseLocalDateTime("2017-07-01T16:30:07"))
+                    .isEqualTo(LocalDateTime.of(2017, 7, 1, 16, 30, 7));
+            assertThat(DateTimeUtil.parseLocalDateTime("2017-07-01T16:30:07Z"))
+                    .isEqualTo(LocalDateTime.of(2017, 7, 1, 16, 30, 7));
+            assertThat(DateTimeUtil.parseLocalDateTime("2017-07-01T16:30:07.5"))
+                    .isEqualTo(LocalDateTime.of(2017, 7, 1, 16, 30, 7, 500_000_000));
+            assertThat(DateTimeUtil.parseLocalDate("2016-02-29")).isEqualTo(LocalDate.of(2016, 2, 29));
+            assertThatThrownBy(() -> DateTimeUtil.parseLocalDate("2017-13-01"))
+                    .isInstanceOf(DateTimeParseException.class);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.smartsheet.api.internal.util;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.RowInclusion;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EndpointTemplateTest {
+
+    @Nested
+    class Expand {
+        @Test
+        void expand_placeholders() {
+            // Arrange
+            EndpointTemplate template = EndpointTemplate.compile("sheets/{sheetId}/rows/{rowId}");
+
+            // Act
+            String result = template.expand(123L, 456L).build();
+
+            // Assert
+            assertThat(template.getParameterCount()).isEqualTo(2);
+            assertThat(result).isEqualTo("sheets/123/rows/456");
+        }
+
+        @Test
+        void expand_wrongNumberOfIds() {
+            EndpointTemplate template = EndpointTemplate.compile("sheets/{sheetId}");
+
+            assertThatThrownBy(() -> template.expand(1L, 2L)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void compile_unbalancedBraces() {
+            assertThatThrownBy(() -> EndpointTemplate.compile("sheets/{sheetId")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> EndpointTemplate.compile("sheets/sheetId}")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Query {
+        @Test
+        void query_skipsNullAndEmptyValues() {
+            // Act
+            String result = EndpointTemplate.compile("sheets/{sheetId}").expand(1L)
+                    .query("include", EnumSet.noneOf(RowInclusion.class))
+                    .query("exclude", null)
+                    .query("level", "")
+                    .build();
+
+            // Assert
+            assertThat(result).isEqualTo("sheets/1");
+        }
+
+        @Test
+        void query_matchesQueryUtil() {
+            // Arrange
+            EnumSet<RowInclusion> includes = EnumSet.of(RowInclusion.ATTACHMENTS, RowInclusion.DISCUSSIONS);
+            Map<String, Object> parameters = new LinkedHashMap<>();
+            parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
+            parameters.put("exclude", QueryUtil.generateCommaSeparatedList(EnumSet.of(ObjectExclusion.NONEXISTENT_CELLS)));
+            parameters.put("rowIds", QueryUtil.generateCommaSeparatedList(List.of(1L, 2L)));
+            parameters.put("pageSize", 100);
+            parameters.put("name", "a b&c");
+
+            // Act
+            String result = EndpointTemplate.compile("sheets/{sheetId}").expand(1L)
+                    .query("include", includes)
+                    .query("exclude", EnumSet.of(ObjectExclusion.NONEXISTENT_CELLS))
+                    .query("rowIds", List.of(1L, 2L))
+                    .query("pageSize", 100)
+                    .query("name", "a b&c")
+                    .build();
+
+            // Assert
+            assertThat(result).isEqualTo(QueryUtil.generateUrl("sheets/1", parameters));
+        }
+
+        @Test
+        void encodeList_cachedSetIsNotAffectedByLaterChanges() {
+            // Arrange
+            EnumSet<RowInclusion> includes = EnumSet.of(RowInclusion.FORMAT);
+            String first = EndpointTemplate.encodeList(includes);
+
+            // Act
+            includes.add(RowInclusion.COLUMNS);
+
+            // Assert
+            assertThat(EndpointTemplate.encodeList(EnumSet.of(RowInclusion.FORMAT))).isEqualTo(first).isEqualTo("format");
+            assertThat(EndpointTemplate.encodeList(includes)).isEqualTo("format%2Ccolumns");
+        }
+    }
+}
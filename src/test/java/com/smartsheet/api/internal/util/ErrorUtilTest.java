@@ -0,0 +1,50 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.ServiceUnavailableException;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.internal.http.HttpClientException;
+import com.smartsheet.api.models.Error;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorUtilTest {
+
+    private static Error error(int errorCode) {
+        return new Error().setErrorCode(errorCode).setMessage("error " + errorCode);
+    }
+
+    @Test
+    void testIsTransient() {
+        for (int errorCode = 4001; errorCode <= 4004; errorCode++) {
+            assertThat(ErrorUtil.isTransient(new SmartsheetRestException(error(errorCode)))).isTrue();
+        }
+        assertThat(ErrorUtil.isTransient(new ServiceUnavailableException(error(1234)))).isTrue();
+        assertThat(ErrorUtil.isTransient(new HttpClientException("connection reset"))).isTrue();
+
+        assertThat(ErrorUtil.isTransient(new InvalidRequestException(error(1012)))).isFalse();
+        assertThat(ErrorUtil.isTransient(new SmartsheetException("other"))).isFalse();
+    }
+}
@@ -0,0 +1,88 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongHashMapTest {
+
+    @Test
+    void testPutAndGet() {
+        LongHashMap<String> map = new LongHashMap<>();
+
+        assertThat(map.put(0L, "zero")).isNull();
+        assertThat(map.put(-1L, "minus one")).isNull();
+        assertThat(map.put(Long.MAX_VALUE, "max")).isNull();
+        assertThat(map.put(0L, "nothing")).isEqualTo("zero");
+
+        assertThat(map.get(0L)).isEqualTo("nothing");
+        assertThat(map.get(-1L)).isEqualTo("minus one");
+        assertThat(map.get(Long.MAX_VALUE)).isEqualTo("max");
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.containsKey(1L)).isFalse();
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    void testPutIfAbsent() {
+        LongHashMap<String> map = new LongHashMap<>();
+
+        assertThat(map.putIfAbsent(7L, "first")).isNull();
+        assertThat(map.putIfAbsent(7L, "second")).isEqualTo("first");
+        assertThat(map.get(7L)).isEqualTo("first");
+    }
+
+    @Test
+    void testGrows() {
+        LongHashMap<Long> map = new LongHashMap<>(4);
+        for (long i = 0; i < 10_000; i++) {
+            // ids that share their low bits
+            map.put(i << 20, i);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(map.get(i << 20)).isEqualTo(i);
+        }
+        assertThat(map.get(1L)).isNull();
+    }
+
+    @Test
+    void testClear() {
+        LongHashMap<String> map = new LongHashMap<>();
+        map.put(1L, "one");
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(1L)).isNull();
+    }
+
+    @Test
+    void testNullValue() {
+        LongHashMap<String> map = new LongHashMap<>();
+
+        assertThatThrownBy(() -> map.put(1L, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LongHashMap<String>(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
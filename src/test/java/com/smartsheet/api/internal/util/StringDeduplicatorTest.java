@@ -0,0 +1,80 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StringDeduplicatorTest {
+
+    @Test
+    void testCanonical() {
+        StringDeduplicator strings = new StringDeduplicator(100);
+        String first = new String("In Progress");
+        String second = new String("In Progress");
+
+        assertThat(strings.canonical(first)).isSameAs(first);
+        assertThat(strings.canonical(second)).isSameAs(first);
+        assertThat(strings.canonical((String) null)).isNull();
+        assertThat(strings.getMaxEntries()).isEqualTo(128);
+    }
+
+    @Test
+    void testCanonicalFromBuffer() {
+        StringDeduplicator strings = new StringDeduplicator(16);
+        char[] buffer = "xxIn Progressxx".toCharArray();
+
+        String first = strings.canonical(buffer, 2, 11);
+        assertThat(first).isEqualTo("In Progress");
+        assertThat(strings.canonical(buffer, 2, 11)).isSameAs(first);
+        assertThat(strings.canonical(new String("In Progress"))).isSameAs(first);
+        assertThat(strings.canonical(buffer, 2, 2)).isEqualTo("In");
+        assertThat(strings.canonical(buffer, 0, 0)).isEmpty();
+    }
+
+    @Test
+    void testLongStringsAreNotCached() {
+        StringDeduplicator strings = new StringDeduplicator(16, 4);
+        String first = new String("Long value");
+
+        assertThat(strings.canonical(first)).isSameAs(first);
+        assertThat(strings.canonical(new String("Long value"))).isNotSameAs(first);
+        char[] buffer = first.toCharArray();
+        assertThat(strings.canonical(buffer, 0, buffer.length)).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    void testBounded() {
+        StringDeduplicator strings = new StringDeduplicator(4);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(strings.canonical("value " + i)).isEqualTo("value " + i);
+        }
+        assertThat(strings.getMaxEntries()).isEqualTo(4);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThatThrownBy(() -> new StringDeduplicator(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StringDeduplicator(16, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
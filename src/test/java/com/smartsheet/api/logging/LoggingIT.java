@@ -25,9 +25,6 @@ import com.smartsheet.api.SmartsheetBuilder;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.Trace;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
-import com.smartsheet.api.internal.json.JacksonJsonSerializer;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
@@ -37,18 +34,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 // Note this is an IT test because at least one of the tests requires an internet connection
 class LoggingIT {
-    @BeforeAll
-    public static void dontFailOnUnrecongnizedFields() {
-        // Setup the serializer
-        JacksonJsonSerializer.setFailOnUnknownProperties(false);    // no idea why we enable this in ResourcesImplBase.baseSetup
-    }
-
-    @AfterAll
-    public static void failOnUnrecognizedFields() {
-        // Setup the serializer
-        JacksonJsonSerializer.setFailOnUnknownProperties(true);    // put it back the way we found it
-    }
-
     @Test
     void testConsoleLogging() {
         ByteArrayOutputStream traceStream = new ByteArrayOutputStream();
@@ -0,0 +1,109 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazySheetTest {
+
+    private static final String FIRST = "{\"id\":10,\"rowNumber\":1,\"cells\":[{\"columnId\":1,\"value\":\"a\"}]}";
+    private static final String SECOND = "{\"id\":20,\"rowNumber\":2,\"cells\":[{\"columnId\":1,\"value\":\"b\"}]}";
+
+    private final JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+
+    private LazySheet lazySheet(String json, int... spans) {
+        byte[] buffer = json.getBytes(StandardCharsets.UTF_8);
+        LazySheet.Builder builder = new LazySheet.Builder(buffer, (bytes, offset, length) ->
+                serializer.deserialize(Row.class, new ByteArrayInputStream(bytes, offset, length)));
+        for (int i = 0; i < spans.length; i += 2) {
+            builder.addRow(10L * (i / 2 + 1), i / 2 + 1, spans[i], spans[i + 1]);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void testRowsAreMappedOnAccess() {
+        String json = "[" + FIRST + "," + SECOND + "]";
+        LazySheet sheet = lazySheet(json, 1, FIRST.length(), FIRST.length() + 2, SECOND.length());
+
+        assertThat(sheet.getRowCount()).isEqualTo(2);
+        assertThat(sheet.getMappedRowCount()).isZero();
+
+        Row second = sheet.getRowByRowNumber(2);
+        assertThat(second.getId()).isEqualTo(20L);
+        assertThat(second.getCells().get(0).getValue()).isEqualTo("b");
+        assertThat(sheet.getRowById(20L)).isSameAs(second);
+        assertThat(sheet.getRowAt(1)).isSameAs(second);
+        assertThat(sheet.getRowById(30L)).isNull();
+        assertThat(sheet.getMappedRowCount()).isEqualTo(1);
+
+        List<Row> rows = sheet.getRows();
+        assertThat(rows).extracting(Row::getId).containsExactly(10L, 20L);
+        assertThat(rows.get(1)).isSameAs(second);
+        assertThat(sheet.getMappedRowCount()).isEqualTo(2);
+        assertThat(sheet.getRowById(10L)).isSameAs(rows.get(0));
+    }
+
+    @Test
+    void testSetRowsDiscardsRawRows() {
+        LazySheet sheet = lazySheet(FIRST, 0, FIRST.length());
+        Row row = new Row(99L).setRowNumber(1);
+
+        sheet.setRows(List.of(row));
+
+        assertThat(sheet.getRowCount()).isEqualTo(1);
+        assertThat(sheet.getRowById(10L)).isNull();
+        assertThat(sheet.getRowByRowNumber(1)).isSameAs(row);
+        assertThat(sheet.getRowAt(0)).isSameAs(row);
+    }
+
+    @Test
+    void testEmptyAndPlain() {
+        LazySheet sheet = new LazySheet();
+
+        assertThat(sheet.getRowCount()).isZero();
+        assertThat(sheet.getRows()).isNull();
+        assertThatThrownBy(() -> sheet.getRowAt(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> lazySheet(FIRST).getRowAt(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> lazySheet(FIRST, 5, FIRST.length())).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testMappingErrors() {
+        LazySheet sheet = new LazySheet.Builder(new byte[1], (bytes, offset, length) -> {
+            throw new IOException("broken");
+        }).addRow(1L, null, 0, 1).build();
+
+        assertThatThrownBy(() -> sheet.getRowById(1L)).isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("broken");
+        assertThat(sheet.getRowByRowNumber(0)).isNull();
+    }
+}
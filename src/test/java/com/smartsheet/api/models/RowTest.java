@@ -55,6 +55,22 @@ class RowTest {
         assertThat(row1.getColumnByIndex(1)).isNull();
     }
 
+    @Test
+    void testGetCellByColumnId() {
+        List<Cell> cells = new ArrayList<>();
+        cells.add(new Cell(1L).setValue("a"));
+        cells.add(new Cell(2L).setValue("b"));
+        Row row = new Row().setCells(cells);
+
+        assertThat(row.getCellByColumnId(2L)).isSameAs(cells.get(1));
+        assertThat(row.getCellByColumnId(3L)).isNull();
+        assertThat(new Row().getCellByColumnId(1L)).isNull();
+
+        Cell added = new Cell(3L);
+        cells.add(added);
+        assertThat(row.getCellByColumnId(3L)).isSameAs(added);
+    }
+
     @Test
     void testInsertRowBuilder() {
         Format format = new Format("new format");
@@ -0,0 +1,130 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2023 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.format.Format;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SheetFrameTest {
+
+    private SheetFrame frame;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        try (InputStream json = new FileInputStream("src/test/resources/getSheetFrame.json")) {
+            frame = SheetFrame.of(new JacksonJsonSerializer().deserialize(Sheet.class, json));
+        }
+    }
+
+    @Test
+    void testRows() {
+        assertThat(frame.getRowCount()).isEqualTo(3);
+        assertThat(frame.getColumnCount()).isEqualTo(3);
+        assertThat(frame.getRowId(0)).isEqualTo(201L);
+        assertThat(frame.getRowNumber(2)).isEqualTo(3);
+        assertThat(frame.getParentId(0)).isNull();
+        assertThat(frame.getParentId(1)).isEqualTo(201L);
+        assertThat(frame.getCreatedAt(0).getTime()).isEqualTo(1500323277000L);
+        assertThat(frame.getModifiedAt(1)).isNull();
+        assertThat(frame.getRowFormat(0)).isSameAs(Format.valueOf(",,1,,,,,,,,,,,,,,"));
+        assertThat(frame.getRowFormat(1)).isNull();
+    }
+
+    @Test
+    void testCells() {
+        int task = frame.getColumnIndex(101L);
+        int cost = frame.getColumnIndex(102L);
+        int done = frame.getColumnIndex(103L);
+        assertThat(frame.getColumnIndex(999L)).isEqualTo(-1);
+
+        assertThat(frame.getCode(0, task)).isEqualTo(frame.getCode(2, task));
+        assertThat(frame.getDictionary(task)).containsExactly("Design", "Build");
+        assertThat(frame.getString(1, task)).isEqualTo("Build");
+        assertThat(frame.getDisplayValue(0, task)).isEqualTo("Design");
+        assertThat(frame.getDisplayValue(1, task)).isNull();
+        assertThat(frame.getFormat(0, task)).isNotNull();
+        assertThat(frame.getFormat(2, task)).isNull();
+
+        assertThat(frame.isNumber(0, cost)).isTrue();
+        assertThat(frame.getDouble(0, cost)).isEqualTo(1234.5);
+        assertThat(frame.getValue(0, cost)).isEqualTo(1234.5);
+        assertThat(frame.getValue(1, cost)).isEqualTo(12);
+        assertThat(frame.getDisplayValue(0, cost)).isEqualTo("$1,234.50");
+        assertThat(frame.getDisplayValue(1, cost)).isEqualTo("12");
+        assertThat(frame.isNull(2, cost)).isTrue();
+        assertThat(frame.getDouble(2, cost)).isNaN();
+        assertThat(frame.getCode(0, cost)).isEqualTo(-1);
+
+        assertThat(frame.getValue(0, done)).isEqualTo(true);
+        assertThat(frame.getValue(1, done)).isEqualTo(false);
+        assertThat(frame.getString(0, done)).isNull();
+        assertThat(frame.isNull(2, done)).isTrue();
+    }
+
+    @Test
+    void testToRow() {
+        Row row = frame.toRow(1);
+
+        assertThat(row.getId()).isEqualTo(202L);
+        assertThat(row.getRowNumber()).isEqualTo(2);
+        assertThat(row.getParentId()).isEqualTo(201L);
+        assertThat(row.getCells()).extracting(Cell::getColumnId).containsExactly(101L, 102L, 103L);
+        assertThat(row.getCells()).extracting(Cell::getValue).containsExactly("Build", 12, false);
+        assertThat(frame.toRow(2).getCells()).extracting(Cell::getColumnId).containsExactly(101L);
+    }
+
+    @Test
+    void testBuilderGrows() {
+        Sheet sheet = new Sheet();
+        sheet.setColumns(Collections.singletonList(new Column(7L)));
+        SheetFrame.Builder builder = new SheetFrame.Builder(sheet, 0);
+        for (int i = 0; i < 1000; i++) {
+            builder.startRow(i).addCell(7L, i % 3 == 0 ? null : i % 2 == 0 ? (Object) i : "row " + i, null, null);
+        }
+        SheetFrame large = builder.build();
+
+        assertThat(large.getRowCount()).isEqualTo(1000);
+        assertThat(large.getRowId(999)).isEqualTo(999L);
+        assertThat(large.isNull(999, 0)).isTrue();
+        assertThat(large.getValue(998, 0)).isEqualTo(998);
+        assertThat(large.getString(997, 0)).isEqualTo("row 997");
+        assertThatThrownBy(() -> large.getRowId(1000)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> large.getValue(0, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testAddCellWithoutRow() {
+        Sheet sheet = new Sheet();
+        sheet.setColumns(Collections.singletonList(new Column(1L)));
+        SheetFrame.Builder builder = new SheetFrame.Builder(sheet, 0);
+
+        assertThatThrownBy(() -> builder.addCell(1L, "x", null, null)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -41,4 +41,69 @@ class SheetTest {
         assertThat(new Sheet().getRowByRowNumber(0)).isNull();
     }
 
+    @Test
+    void testIndexedLookups() {
+        List<Column> columns = new ArrayList<>();
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            columns.add(new Column(1000L + i).setIndex(i).setTitle("Column " + i));
+            rows.add(new Row(2000L + i).setRowNumber(i + 1));
+        }
+        Sheet sheet = new Sheet().setColumns(columns).setRows(rows);
+
+        assertThat(sheet.getColumnById(1042L)).isSameAs(columns.get(42));
+        assertThat(sheet.getColumnByIndex(42)).isSameAs(columns.get(42));
+        assertThat(sheet.getColumnByTitle("Column 42")).isSameAs(columns.get(42));
+        assertThat(sheet.getRowById(2042L)).isSameAs(rows.get(42));
+        assertThat(sheet.getRowByRowNumber(43)).isSameAs(rows.get(42));
+        assertThat(sheet.getColumnById(1L)).isNull();
+        assertThat(sheet.getColumnByTitle(null)).isNull();
+        assertThat(sheet.getRowById(1L)).isNull();
+    }
+
+    @Test
+    void testIndexedLookupsFollowChanges() {
+        List<Row> rows = new ArrayList<>();
+        rows.add(new Row(1L).setRowNumber(1));
+        Sheet sheet = new Sheet().setRows(rows);
+        assertThat(sheet.getRowById(1L)).isSameAs(rows.get(0));
+
+        // list grows in place
+        Row added = new Row(2L).setRowNumber(2);
+        rows.add(added);
+        assertThat(sheet.getRowById(2L)).isSameAs(added);
+
+        // element replaced in place
+        Row replaced = new Row(3L).setRowNumber(1);
+        rows.set(0, replaced);
+        assertThat(sheet.getRowById(1L)).isNull();
+        assertThat(sheet.getRowById(3L)).isSameAs(replaced);
+        assertThat(sheet.getRowByRowNumber(1)).isSameAs(replaced);
+
+        // key changed on the element
+        added.setRowNumber(5);
+        assertThat(sheet.getRowByRowNumber(2)).isNull();
+        assertThat(sheet.getRowByRowNumber(5)).isSameAs(added);
+
+        // list replaced
+        Row other = new Row(4L);
+        sheet.setRows(List.of(other));
+        assertThat(sheet.getRowById(3L)).isNull();
+        assertThat(sheet.getRowById(4L)).isSameAs(other);
+    }
+
+    @Test
+    void testIndexedLookupFindsElementReplacedInPlace() {
+        Column c1 = new Column(1L);
+        Column c2 = new Column(2L);
+        Column c3 = new Column(3L);
+        List<Column> columns = new ArrayList<>(List.of(c1, c2));
+        Sheet sheet = new Sheet().setColumns(columns);
+        assertThat(sheet.getColumnById(1L)).isSameAs(c1);
+
+        // c3 got its id before the index was built, so only the scan on a miss can find it
+        columns.set(1, c3);
+        assertThat(sheet.getColumnById(3L)).isSameAs(c3);
+        assertThat(sheet.getColumnById(2L)).isNull();
+    }
 }
@@ -71,6 +71,19 @@ class FormatTest {
         }
     }
 
+    @Test
+    void testValueOfSharesInstances() {
+        Format first = Format.valueOf(",,1,1,1,,,,20,29,,,,,,");
+        Format second = Format.valueOf(",,1,1,1,,,,20,29,,,,,,");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).isEqualTo(new Format(",,1,1,1,,,,20,29,,,,,,")).hasSameHashCodeAs(new Format(",,1,1,1,,,,20,29,,,,,,"));
+        assertThat(first).isNotEqualTo(Format.valueOf(",,1,1,1,,,,20,28,,,,,,"));
+        assertThat(first.getBold()).isEqualTo(Bold.ON);
+        assertThat(first.getBackgroundColor()).isEqualTo(Color.values()[29]);
+        assertThat(Format.valueOf(null)).isNull();
+    }
+
     @Test
     void testFormatBuilderAllDefaults() throws IOException {
         Format actual = new Format.FormatBuilder()